@@ -0,0 +1,76 @@
+package io.github.lostblackknight.core.date;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 并行分桶统计的任务
+ * <p>超过阈值时一分为二并行执行，每个子任务统计到自己的 {@link TimeBuckets.Aggregation} 中，完成后用
+ * {@link TimeBuckets.Aggregation#merge} 合并。合并的开销与桶的数量成正比，所以子任务至少处理与桶数量相同的时刻。
+ * values 为 null 时只统计数量。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 15:40
+ * @version 1.0.0
+ */
+final class AggregateTask extends RecursiveTask<TimeBuckets.Aggregation> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 每个子任务至少处理的时刻数，低于该值时不再拆分
+     */
+    static final int THRESHOLD = 1 << 14;
+
+    private final TimeBuckets buckets;
+
+    private final long[] epochMillis;
+
+    private final long[] values;
+
+    private final int bucketCount;
+
+    private final int from;
+
+    private final int to;
+
+    AggregateTask(TimeBuckets buckets, long[] epochMillis, long[] values, int bucketCount, int from, int to) {
+        this.buckets = buckets;
+        this.epochMillis = epochMillis;
+        this.values = values;
+        this.bucketCount = bucketCount;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * 是否需要拆分
+     */
+    static boolean splittable(int size, int bucketCount) {
+        return size > Math.max(THRESHOLD, bucketCount);
+    }
+
+    @Override
+    protected TimeBuckets.Aggregation compute() {
+        if (!splittable(to - from, bucketCount)) {
+            return aggregateRange();
+        }
+        final int middle = (from + to) >>> 1;
+        final AggregateTask left = new AggregateTask(buckets, epochMillis, values, bucketCount, from, middle);
+        final AggregateTask right = new AggregateTask(buckets, epochMillis, values, bucketCount, middle, to);
+        left.fork();
+        final TimeBuckets.Aggregation rightResult = right.compute();
+        return left.join().merge(rightResult);
+    }
+
+    /**
+     * 顺序统计 [from, to) 的时刻
+     *
+     * @return 统计结果
+     */
+    TimeBuckets.Aggregation aggregateRange() {
+        final TimeBuckets.Aggregation aggregation = new TimeBuckets.Aggregation(bucketCount);
+        if (values == null) {
+            return buckets.countRange(epochMillis, from, to, aggregation);
+        }
+        return buckets.aggregate(epochMillis, values, from, to, aggregation);
+    }
+}
@@ -3,8 +3,6 @@ package io.github.lostblackknight.core.date;
 import java.time.*;
 import java.util.Date;
 
-import static java.time.Instant.EPOCH;
-
 /**
  * 日期基本工具类
  *
@@ -57,7 +55,18 @@ abstract class BaseUtils {
      * @return {@link Date}
      */
     public static Date toDate(LocalDate localDate) {
-        return Date.from(localDate.atStartOfDay().atZone(ZoneId.systemDefault()).toInstant());
+        return new Date(ZoneContext.system().toEpochMilli(localDate));
+    }
+
+    /**
+     * 转换成 {@link Date} 类型，使用指定的时区
+     *
+     * @param localDate {@link LocalDate}
+     * @param zoneId    时区
+     * @return {@link Date}
+     */
+    public static Date toDate(LocalDate localDate, ZoneId zoneId) {
+        return new Date(ZoneContext.of(zoneId).toEpochMilli(localDate));
     }
 
     /**
@@ -67,7 +76,18 @@ abstract class BaseUtils {
      * @return {@link Date}
      */
     public static Date toDate(LocalTime localTime) {
-        return Date.from(localTime.atDate(EPOCH.atZone(ZoneId.systemDefault()).toLocalDate()).atZone(ZoneId.systemDefault()).toInstant());
+        return new Date(ZoneContext.system().toEpochMilli(localTime));
+    }
+
+    /**
+     * 转换成 {@link Date} 类型，使用指定的时区
+     *
+     * @param localTime {@link LocalTime}
+     * @param zoneId    时区
+     * @return {@link Date}
+     */
+    public static Date toDate(LocalTime localTime, ZoneId zoneId) {
+        return new Date(ZoneContext.of(zoneId).toEpochMilli(localTime));
     }
 
     /**
@@ -77,7 +97,18 @@ abstract class BaseUtils {
      * @return {@link Date}
      */
     public static Date toDate(LocalDateTime localDateTime) {
-        return Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
+        return new Date(ZoneContext.system().toEpochMilli(localDateTime));
+    }
+
+    /**
+     * 转换成 {@link Date} 类型，使用指定的时区
+     *
+     * @param localDateTime {@link LocalDateTime}
+     * @param zoneId        时区
+     * @return {@link Date}
+     */
+    public static Date toDate(LocalDateTime localDateTime, ZoneId zoneId) {
+        return new Date(ZoneContext.of(zoneId).toEpochMilli(localDateTime));
     }
 
     /**
@@ -87,7 +118,18 @@ abstract class BaseUtils {
      * @return {@link LocalDate}
      */
     public static LocalDate toLocalDate(Date date) {
-        return LocalDate.from(date.toInstant().atZone(ZoneId.systemDefault()));
+        return ZoneContext.system().toLocalDate(date.getTime());
+    }
+
+    /**
+     * 转换成 {@link LocalDate} 类型，使用指定的时区
+     *
+     * @param date   {@link Date}
+     * @param zoneId 时区
+     * @return {@link LocalDate}
+     */
+    public static LocalDate toLocalDate(Date date, ZoneId zoneId) {
+        return ZoneContext.of(zoneId).toLocalDate(date.getTime());
     }
 
     /**
@@ -97,7 +139,18 @@ abstract class BaseUtils {
      * @return {@link LocalDate}
      */
     public static LocalDate toLocalDate(LocalTime localTime) {
-        return LocalDate.from(localTime.atDate(EPOCH.atZone(ZoneId.systemDefault()).toLocalDate()));
+        return ZoneContext.system().epochDate();
+    }
+
+    /**
+     * 转换成 {@link LocalDate} 类型，使用指定的时区
+     *
+     * @param localTime {@link LocalTime}
+     * @param zoneId    时区
+     * @return {@link LocalDate}
+     */
+    public static LocalDate toLocalDate(LocalTime localTime, ZoneId zoneId) {
+        return ZoneContext.of(zoneId).epochDate();
     }
 
     /**
@@ -107,7 +160,7 @@ abstract class BaseUtils {
      * @return {@link LocalDate}
      */
     public static LocalDate toLocalDate(LocalDateTime localDateTime) {
-        return LocalDate.from(localDateTime);
+        return localDateTime.toLocalDate();
     }
 
     /**
@@ -117,7 +170,18 @@ abstract class BaseUtils {
      * @return {@link LocalTime}
      */
     public static LocalTime toLocalTime(Date date) {
-        return LocalTime.from(date.toInstant().atZone(ZoneId.systemDefault()));
+        return ZoneContext.system().toLocalTime(date.getTime());
+    }
+
+    /**
+     * 转换成 {@link LocalTime} 类型，使用指定的时区
+     *
+     * @param date   {@link Date}
+     * @param zoneId 时区
+     * @return {@link LocalTime}
+     */
+    public static LocalTime toLocalTime(Date date, ZoneId zoneId) {
+        return ZoneContext.of(zoneId).toLocalTime(date.getTime());
     }
 
     /**
@@ -127,7 +191,18 @@ abstract class BaseUtils {
      * @return {@link LocalTime}
      */
     public static LocalTime toLocalTime(LocalDate localDate) {
-        return localDate.atStartOfDay().atZone(ZoneId.systemDefault()).toLocalTime();
+        return toLocalTime(localDate, ZoneContext.system());
+    }
+
+    /**
+     * 转换成 {@link LocalTime} 类型，使用指定的时区
+     *
+     * @param localDate {@link LocalDate}
+     * @param zoneId    时区
+     * @return {@link LocalTime}
+     */
+    public static LocalTime toLocalTime(LocalDate localDate, ZoneId zoneId) {
+        return toLocalTime(localDate, ZoneContext.of(zoneId));
     }
 
     /**
@@ -147,7 +222,18 @@ abstract class BaseUtils {
      * @return {@link LocalDateTime}
      */
     public static LocalDateTime toLocalDateTime(Date date) {
-        return LocalDateTime.from(date.toInstant().atZone(ZoneId.systemDefault()));
+        return ZoneContext.system().toLocalDateTime(date.getTime());
+    }
+
+    /**
+     * 转换成 {@link LocalDateTime} 类型，使用指定的时区
+     *
+     * @param date   {@link Date}
+     * @param zoneId 时区
+     * @return {@link LocalDateTime}
+     */
+    public static LocalDateTime toLocalDateTime(Date date, ZoneId zoneId) {
+        return ZoneContext.of(zoneId).toLocalDateTime(date.getTime());
     }
 
     /**
@@ -157,7 +243,18 @@ abstract class BaseUtils {
      * @return {@link LocalDateTime}
      */
     public static LocalDateTime toLocalDateTime(LocalDate localDate) {
-        return LocalDateTime.from(localDate.atStartOfDay().atZone(ZoneId.systemDefault()));
+        return toLocalDateTime(localDate, ZoneContext.system());
+    }
+
+    /**
+     * 转换成 {@link LocalDateTime} 类型，使用指定的时区
+     *
+     * @param localDate {@link LocalDate}
+     * @param zoneId    时区
+     * @return {@link LocalDateTime}
+     */
+    public static LocalDateTime toLocalDateTime(LocalDate localDate, ZoneId zoneId) {
+        return toLocalDateTime(localDate, ZoneContext.of(zoneId));
     }
 
     /**
@@ -167,7 +264,18 @@ abstract class BaseUtils {
      * @return {@link LocalDateTime}
      */
     public static LocalDateTime toLocalDateTime(LocalTime localTime) {
-        return LocalDateTime.from(localTime.atDate(EPOCH.atZone(ZoneId.systemDefault()).toLocalDate()));
+        return localTime.atDate(ZoneContext.system().epochDate());
+    }
+
+    /**
+     * 转换成 {@link LocalDateTime} 类型，使用指定的时区
+     *
+     * @param localTime {@link LocalTime}
+     * @param zoneId    时区
+     * @return {@link LocalDateTime}
+     */
+    public static LocalDateTime toLocalDateTime(LocalTime localTime, ZoneId zoneId) {
+        return localTime.atDate(ZoneContext.of(zoneId).epochDate());
     }
 
     /**
@@ -177,7 +285,7 @@ abstract class BaseUtils {
      * @return 毫秒
      */
     public static long toEpochMilli(Date date) {
-        return date.toInstant().toEpochMilli();
+        return date.getTime();
     }
 
     /**
@@ -187,7 +295,18 @@ abstract class BaseUtils {
      * @return 毫秒
      */
     public static long toEpochMilli(LocalDate localDate) {
-        return localDate.atStartOfDay().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return ZoneContext.system().toEpochMilli(localDate);
+    }
+
+    /**
+     * 转换成毫秒，使用指定的时区
+     *
+     * @param localDate {@link LocalDate}
+     * @param zoneId    时区
+     * @return 毫秒
+     */
+    public static long toEpochMilli(LocalDate localDate, ZoneId zoneId) {
+        return ZoneContext.of(zoneId).toEpochMilli(localDate);
     }
 
     /**
@@ -197,7 +316,18 @@ abstract class BaseUtils {
      * @return 毫秒
      */
     public static long toEpochMilli(LocalTime localTime) {
-        return localTime.atDate(EPOCH.atZone(ZoneId.systemDefault()).toLocalDate()).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return ZoneContext.system().toEpochMilli(localTime);
+    }
+
+    /**
+     * 转换成毫秒，使用指定的时区
+     *
+     * @param localTime {@link LocalTime}
+     * @param zoneId    时区
+     * @return 毫秒
+     */
+    public static long toEpochMilli(LocalTime localTime, ZoneId zoneId) {
+        return ZoneContext.of(zoneId).toEpochMilli(localTime);
     }
 
     /**
@@ -207,7 +337,29 @@ abstract class BaseUtils {
      * @return 毫秒
      */
     public static long toEpochMilli(LocalDateTime localDateTime) {
-        return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return ZoneContext.system().toEpochMilli(localDateTime);
+    }
+
+    /**
+     * 转换成毫秒，使用指定的时区
+     *
+     * @param localDateTime {@link LocalDateTime}
+     * @param zoneId        时区
+     * @return 毫秒
+     */
+    public static long toEpochMilli(LocalDateTime localDateTime, ZoneId zoneId) {
+        return ZoneContext.of(zoneId).toEpochMilli(localDateTime);
+    }
+
+    /**
+     * 当天开始的时刻在时区中的本地时间，午夜处于夏令时间隙时不是 00:00
+     */
+    private static LocalTime toLocalTime(LocalDate localDate, ZoneContext context) {
+        return context.toLocalTime(context.toEpochMilli(localDate));
+    }
+
+    private static LocalDateTime toLocalDateTime(LocalDate localDate, ZoneContext context) {
+        return context.toLocalDateTime(context.toEpochMilli(localDate));
     }
 
     //endregion
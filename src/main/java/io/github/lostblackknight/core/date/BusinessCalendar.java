@@ -0,0 +1,560 @@
+package io.github.lostblackknight.core.date;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+
+/**
+ * 工作日日历
+ * <p>默认周一到周五为工作日，周六、周日为休息日，可以再指定节假日和调休的工作日。指定的日期所在的年份会被编入位图，
+ * 每一天占一位，按年份连续存放；同时为每 64 天预先计算之前的工作日总数。查询时：
+ * <ul>
+ *     <li>{@link #isBusinessDay} 读取一位，O(1)</li>
+ *     <li>{@link #businessDaysBetween} 用两次 rank（某天之前的工作日数量）相减，每次 rank 为一次查表加一次 bitCount，O(1)</li>
+ *     <li>{@link #plusBusinessDays}、{@link #nextBusinessDay} 先 rank 再 select（第 n 个工作日），select 在前缀表上二分，O(log n)</li>
+ * </ul>
+ * 位图之外的日期只按星期计算，同样是 O(1)。日历不可变，可以在线程之间共享。
+ * <p>节假日可以从文件或 classpath 资源中加载，每行一条，{@code #} 之后为注释，结束日期可以省略：
+ * <pre>
+ * # 2022 年国庆节
+ * holiday 2022-10-01 2022-10-07
+ * workday 2022-10-08
+ * workday 2022-10-09
+ * </pre>
+ * 类型也可以写成 {@code 休}、{@code 班}。同一天被多次指定时以最后一次为准。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 15:10
+ * @version 1.0.0
+ */
+public final class BusinessCalendar {
+
+    private static final BusinessCalendar WEEKDAYS = new Builder().build();
+
+    /**
+     * 1970-01-05，周一
+     */
+    private static final long MONDAY = 4;
+
+    private static final int MAX_YEARS = 10000;
+
+    private final int firstYear;
+
+    private final int lastYear;
+
+    /**
+     * 位图覆盖的日期 [firstDay, endDay)
+     */
+    private final long firstDay;
+
+    private final long endDay;
+
+    private final long[] words;
+
+    /**
+     * ranks[i] 为 [firstDay, firstDay + 64 * i) 中工作日的数量
+     */
+    private final int[] ranks;
+
+    private final int total;
+
+    private BusinessCalendar(Builder builder) {
+        this.firstYear = builder.firstYear;
+        this.lastYear = builder.lastYear;
+        if (firstYear > lastYear) {
+            this.firstDay = 0;
+            this.endDay = 0;
+            this.words = new long[0];
+            this.ranks = new int[0];
+            this.total = 0;
+            return;
+        }
+        this.firstDay = LocalDate.of(firstYear, 1, 1).toEpochDay();
+        this.endDay = LocalDate.of(lastYear, 12, 31).toEpochDay() + 1;
+        final int days = (int) (endDay - firstDay);
+        this.words = new long[(days + 63) >>> 6];
+        for (int offset = 0; offset < days; offset++) {
+            if (isWeekday(firstDay + offset)) {
+                words[offset >>> 6] |= 1L << offset;
+            }
+        }
+        for (Map.Entry<Long, Boolean> entry : builder.overrides.entrySet()) {
+            final int offset = (int) (entry.getKey() - firstDay);
+            if (entry.getValue()) {
+                words[offset >>> 6] |= 1L << offset;
+            } else {
+                words[offset >>> 6] &= ~(1L << offset);
+            }
+        }
+        this.ranks = new int[words.length];
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            ranks[i] = count;
+            count += Long.bitCount(words[i]);
+        }
+        this.total = count;
+    }
+
+    /**
+     * 只区分周末的日历，周一到周五为工作日
+     *
+     * @return {@link BusinessCalendar}
+     */
+    public static BusinessCalendar weekdays() {
+        return WEEKDAYS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 从文件中加载节假日，使用 UTF-8 编码
+     *
+     * @param path 文件路径
+     * @return {@link BusinessCalendar}
+     */
+    public static BusinessCalendar load(Path path) {
+        return new Builder().load(path).build();
+    }
+
+    /**
+     * 从 classpath 资源中加载节假日，使用 UTF-8 编码
+     *
+     * @param name 资源名称，例如 {@code calendar/holidays-2022.txt}
+     * @return {@link BusinessCalendar}
+     */
+    public static BusinessCalendar loadResource(String name) {
+        return new Builder().loadResource(name).build();
+    }
+
+    //region 判断
+
+    /**
+     * 判断是否为工作日
+     *
+     * @param localDate 日期
+     * @return 是否为工作日
+     */
+    public boolean isBusinessDay(LocalDate localDate) {
+        return isBusinessDay(localDate.toEpochDay());
+    }
+
+    /**
+     * 判断是否为工作日
+     *
+     * @param epochDay 从 1970-01-01 开始的天数
+     * @return 是否为工作日
+     */
+    public boolean isBusinessDay(long epochDay) {
+        if (epochDay >= firstDay && epochDay < endDay) {
+            final int offset = (int) (epochDay - firstDay);
+            return (words[offset >>> 6] & 1L << offset) != 0;
+        }
+        return isWeekday(epochDay);
+    }
+
+    /**
+     * 判断是否为休息日，包括周末和节假日，不包括调休的工作日
+     *
+     * @param localDate 日期
+     * @return 是否为休息日
+     */
+    public boolean isHoliday(LocalDate localDate) {
+        return !isBusinessDay(localDate.toEpochDay());
+    }
+
+    //endregion
+
+    //region 计算
+
+    /**
+     * 获取两个日期之间工作日的数量，包含开始日期，不包含结束日期
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否取绝对值，否则结束日期早于开始日期时为负数
+     * @return 工作日的数量
+     */
+    public long businessDaysBetween(LocalDate begin, LocalDate end, boolean isAbs) {
+        final long between = businessDaysBetween(begin.toEpochDay(), end.toEpochDay());
+        return isAbs ? Math.abs(between) : between;
+    }
+
+    /**
+     * 获取两个日期之间工作日的数量，包含开始日期，不包含结束日期，取绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 工作日的数量
+     */
+    public long businessDaysBetween(LocalDate begin, LocalDate end) {
+        return businessDaysBetween(begin, end, true);
+    }
+
+    /**
+     * 获取两个日期之间工作日的数量，包含开始日期，不包含结束日期，结束日期早于开始日期时为负数
+     *
+     * @param beginEpochDay 开始日期，从 1970-01-01 开始的天数
+     * @param endEpochDay   结束日期，从 1970-01-01 开始的天数
+     * @return 工作日的数量
+     */
+    public long businessDaysBetween(long beginEpochDay, long endEpochDay) {
+        return rank(endEpochDay) - rank(beginEpochDay);
+    }
+
+    /**
+     * 加上指定数量的工作日，即之后的第 n 个工作日，n 为负数时为之前的第 n 个工作日，n 为 0 时返回原日期
+     *
+     * @param localDate    日期
+     * @param businessDays 工作日的数量
+     * @return 日期
+     */
+    public LocalDate plusBusinessDays(LocalDate localDate, long businessDays) {
+        if (businessDays == 0) {
+            return localDate;
+        }
+        return LocalDate.ofEpochDay(plusBusinessDays(localDate.toEpochDay(), businessDays));
+    }
+
+    /**
+     * 减去指定数量的工作日
+     *
+     * @param localDate    日期
+     * @param businessDays 工作日的数量
+     * @return 日期
+     */
+    public LocalDate minusBusinessDays(LocalDate localDate, long businessDays) {
+        return plusBusinessDays(localDate, Math.negateExact(businessDays));
+    }
+
+    /**
+     * 加上指定数量的工作日
+     *
+     * @param epochDay     从 1970-01-01 开始的天数
+     * @param businessDays 工作日的数量
+     * @return 从 1970-01-01 开始的天数
+     */
+    public long plusBusinessDays(long epochDay, long businessDays) {
+        if (businessDays > 0) {
+            return select(Math.addExact(rank(epochDay + 1), businessDays - 1));
+        }
+        if (businessDays < 0) {
+            return select(Math.addExact(rank(epochDay), businessDays));
+        }
+        return epochDay;
+    }
+
+    /**
+     * 获取下一个工作日，不包括当天
+     *
+     * @param localDate 日期
+     * @return 日期
+     */
+    public LocalDate nextBusinessDay(LocalDate localDate) {
+        return plusBusinessDays(localDate, 1);
+    }
+
+    /**
+     * 获取上一个工作日，不包括当天
+     *
+     * @param localDate 日期
+     * @return 日期
+     */
+    public LocalDate previousBusinessDay(LocalDate localDate) {
+        return plusBusinessDays(localDate, -1);
+    }
+
+    //endregion
+
+    /**
+     * 获取位图覆盖的第一年，没有指定节假日时为 {@link Integer#MAX_VALUE}
+     *
+     * @return 年份
+     */
+    public int firstYear() {
+        return firstYear;
+    }
+
+    /**
+     * 获取位图覆盖的最后一年，没有指定节假日时为 {@link Integer#MIN_VALUE}
+     *
+     * @return 年份
+     */
+    public int lastYear() {
+        return lastYear;
+    }
+
+    /**
+     * 获取 epochDay 之前的工作日数量，以 firstDay 为 0，更早的日期为负数
+     */
+    long rank(long epochDay) {
+        if (epochDay <= firstDay) {
+            return weekdayRank(epochDay) - weekdayRank(firstDay);
+        }
+        if (epochDay >= endDay) {
+            return total + weekdayRank(epochDay) - weekdayRank(endDay);
+        }
+        final int offset = (int) (epochDay - firstDay);
+        final int index = offset >>> 6;
+        return ranks[index] + Long.bitCount(words[index] & (1L << offset) - 1);
+    }
+
+    /**
+     * 获取 rank 为指定值的工作日
+     */
+    long select(long rank) {
+        if (rank < 0) {
+            return weekdaySelect(weekdayRank(firstDay) + rank);
+        }
+        if (rank >= total) {
+            return weekdaySelect(weekdayRank(endDay) + rank - total);
+        }
+        // 最后一个 ranks[index] <= rank 的位置，该位置的 word 中一定包含要找的工作日
+        int low = 0;
+        int high = ranks.length - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (ranks[mid] <= rank) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        long word = words[low];
+        for (long k = rank - ranks[low]; k > 0; k--) {
+            word &= word - 1;
+        }
+        return firstDay + ((long) low << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private static boolean isWeekday(long epochDay) {
+        return floorMod(epochDay - MONDAY, 7) < 5;
+    }
+
+    /**
+     * 1970-01-05 到 epochDay 之间（不包含 epochDay）周一到周五的数量
+     */
+    private static long weekdayRank(long epochDay) {
+        final long days = epochDay - MONDAY;
+        return floorDiv(days, 7) * 5 + Math.min(floorMod(days, 7), 5);
+    }
+
+    private static long weekdaySelect(long rank) {
+        return MONDAY + floorDiv(rank, 5) * 7 + floorMod(rank, 5);
+    }
+
+    @Override
+    public String toString() {
+        return firstYear > lastYear ? "BusinessCalendar{weekdays}"
+                : "BusinessCalendar{" + firstYear + '-' + lastYear + '}';
+    }
+
+    /**
+     * 构建 {@link BusinessCalendar}
+     */
+    public static final class Builder {
+
+        /**
+         * 指定的日期，true 为工作日，false 为休息日
+         */
+        private final Map<Long, Boolean> overrides = new HashMap<>();
+
+        private int firstYear = Integer.MAX_VALUE;
+
+        private int lastYear = Integer.MIN_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * 指定节假日
+         *
+         * @param localDate 日期
+         * @return this
+         */
+        public Builder holiday(LocalDate localDate) {
+            return put(localDate, false);
+        }
+
+        /**
+         * 指定一段连续的节假日，包含开始和结束日期
+         *
+         * @param begin 开始日期
+         * @param end   结束日期
+         * @return this
+         */
+        public Builder holidays(LocalDate begin, LocalDate end) {
+            return put(begin, end, false);
+        }
+
+        /**
+         * 指定调休的工作日
+         *
+         * @param localDate 日期
+         * @return this
+         */
+        public Builder workday(LocalDate localDate) {
+            return put(localDate, true);
+        }
+
+        /**
+         * 指定一段连续的工作日，包含开始和结束日期
+         *
+         * @param begin 开始日期
+         * @param end   结束日期
+         * @return this
+         */
+        public Builder workdays(LocalDate begin, LocalDate end) {
+            return put(begin, end, true);
+        }
+
+        /**
+         * 扩大位图覆盖的年份，只影响内存占用，不影响结果
+         *
+         * @param firstYear 第一年
+         * @param lastYear  最后一年
+         * @return this
+         */
+        public Builder years(int firstYear, int lastYear) {
+            if (firstYear > lastYear) {
+                throw new IllegalArgumentException("firstYear " + firstYear + " is greater than lastYear " + lastYear);
+            }
+            cover(firstYear);
+            cover(lastYear);
+            return this;
+        }
+
+        /**
+         * 从文件中加载，使用 UTF-8 编码
+         *
+         * @param path 文件路径
+         * @return this
+         */
+        public Builder load(Path path) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                return load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 从 classpath 资源中加载，使用 UTF-8 编码
+         *
+         * @param name 资源名称
+         * @return this
+         */
+        public Builder loadResource(String name) {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                classLoader = BusinessCalendar.class.getClassLoader();
+            }
+            final InputStream in = classLoader.getResourceAsStream(name);
+            if (in == null) {
+                throw new IllegalArgumentException("resource " + name + " is not found");
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 逐行读取节假日，不会关闭 reader
+         *
+         * @param reader 输入
+         * @return this
+         */
+        public Builder load(Reader reader) {
+            final BufferedReader buffered = reader instanceof BufferedReader
+                    ? (BufferedReader) reader : new BufferedReader(reader);
+            try {
+                String line;
+                int lineNumber = 0;
+                while ((line = buffered.readLine()) != null) {
+                    lineNumber++;
+                    parseLine(line, lineNumber);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        public BusinessCalendar build() {
+            return new BusinessCalendar(this);
+        }
+
+        private void parseLine(String line, int lineNumber) {
+            final int comment = line.indexOf('#');
+            final String content = (comment < 0 ? line : line.substring(0, comment)).trim();
+            if (content.isEmpty()) {
+                return;
+            }
+            final String[] tokens = content.split("\\s+");
+            if (tokens.length > 3) {
+                throw new IllegalArgumentException("line " + lineNumber + ": too many fields '" + line + "'");
+            }
+            final boolean businessDay;
+            switch (tokens[0].toLowerCase(Locale.ROOT)) {
+                case "workday":
+                case "班":
+                    businessDay = true;
+                    break;
+                case "holiday":
+                case "休":
+                    businessDay = false;
+                    break;
+                default:
+                    throw new IllegalArgumentException("line " + lineNumber + ": unknown type '" + tokens[0] + "'");
+            }
+            if (tokens.length == 1) {
+                throw new IllegalArgumentException("line " + lineNumber + ": missing date '" + line + "'");
+            }
+            try {
+                final LocalDate begin = LocalDate.parse(tokens[1]);
+                put(begin, tokens.length == 3 ? LocalDate.parse(tokens[2]) : begin, businessDay);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        private Builder put(LocalDate begin, LocalDate end, boolean businessDay) {
+            if (end.isBefore(begin)) {
+                throw new IllegalArgumentException("end " + end + " is before begin " + begin);
+            }
+            cover(begin.getYear());
+            cover(end.getYear());
+            for (long day = begin.toEpochDay(), last = end.toEpochDay(); day <= last; day++) {
+                overrides.put(day, businessDay);
+            }
+            return this;
+        }
+
+        private Builder put(LocalDate localDate, boolean businessDay) {
+            cover(localDate.getYear());
+            overrides.put(localDate.toEpochDay(), businessDay);
+            return this;
+        }
+
+        private void cover(int year) {
+            final int first = Math.min(firstYear, year);
+            final int last = Math.max(lastYear, year);
+            if ((long) last - first >= MAX_YEARS) {
+                throw new IllegalArgumentException("calendar spans more than " + MAX_YEARS + " years");
+            }
+            firstYear = first;
+            lastYear = last;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package io.github.lostblackknight.core.date;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.floorDiv;
+
+/**
+ * 工作时间
+ * <p>在 {@link BusinessCalendar} 的工作日上，只统计每天固定的几个时间段，例如 09:00-12:00 和 13:30-18:00。
+ * 每个时间段的开始包含在内，结束不包含在内，与 {@link LocalDateTimeUtils#betweenMillis} 一样按毫秒计算。
+ * <p>把从 1970-01-01 开始累计的工作时长作为时间轴上的位置：每个工作日的工作时长相同，某天之前的累计时长等于
+ * 日历的 rank（之前的工作日数量）乘以每天的工作时长；一天之内再加上预先计算的各时间段之前的累计时长。
+ * 于是 {@link #betweenMinutes} 等方法只是两个位置相减，{@link #plusHours} 等方法由位置反查日历的 select 和时间段，
+ * 每次查询为 O(log n)，不需要按天或按分钟循环。
+ * <p>加上正数的时长时，如果结果正好落在时间段的结束，返回该时间段的结束，例如 09:00 加上 3 小时为当天 12:00；
+ * 减去时长时返回下一个时间段的开始。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 16:20
+ * @version 1.0.0
+ */
+public final class BusinessHours {
+
+    private static final int MILLIS_PER_DAY = 86_400_000;
+
+    private final BusinessCalendar calendar;
+
+    /**
+     * 各时间段的开始和结束，从 0 点开始的毫秒数，按开始时间排序
+     */
+    private final int[] begins;
+
+    private final int[] ends;
+
+    /**
+     * before[i] 为当天第 i 个时间段之前的工作时长，最后一项为每天的工作时长
+     */
+    private final long[] before;
+
+    private final long millisPerDay;
+
+    private BusinessHours(BusinessCalendar calendar, List<int[]> windows) {
+        this.calendar = calendar;
+        windows.sort((first, second) -> Integer.compare(first[0], second[0]));
+        final int size = windows.size();
+        this.begins = new int[size];
+        this.ends = new int[size];
+        this.before = new long[size + 1];
+        for (int i = 0; i < size; i++) {
+            begins[i] = windows.get(i)[0];
+            ends[i] = windows.get(i)[1];
+            if (i > 0 && begins[i] < ends[i - 1]) {
+                throw new IllegalArgumentException("window " + format(begins[i], ends[i]) + " overlaps "
+                        + format(begins[i - 1], ends[i - 1]));
+            }
+            before[i + 1] = before[i] + ends[i] - begins[i];
+        }
+        this.millisPerDay = before[size];
+    }
+
+    public static Builder builder(BusinessCalendar calendar) {
+        return new Builder(calendar);
+    }
+
+    /**
+     * 创建工作时间
+     *
+     * @param calendar 工作日日历
+     * @param windows  每天的时间段，格式为 {@code HH:mm-HH:mm}，例如 {@code 09:00-12:00}
+     * @return {@link BusinessHours}
+     */
+    public static BusinessHours of(BusinessCalendar calendar, String... windows) {
+        final Builder builder = new Builder(calendar);
+        for (String window : windows) {
+            builder.window(window);
+        }
+        return builder.build();
+    }
+
+    //region 判断
+
+    /**
+     * 判断是否在工作时间内
+     *
+     * @param localDateTime 日期
+     * @return 是否在工作时间内
+     */
+    public boolean isWorkingTime(LocalDateTime localDateTime) {
+        if (!calendar.isBusinessDay(localDateTime.toLocalDate())) {
+            return false;
+        }
+        final int milliOfDay = milliOfDay(localDateTime.toLocalTime());
+        final int index = windowBefore(milliOfDay);
+        return index >= 0 && milliOfDay < ends[index];
+    }
+
+    //endregion
+
+    //region 计算
+
+    /**
+     * 计算从开始日期到结束日期之间的工作时长
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 小时数
+     */
+    public long betweenHours(LocalDateTime begin, LocalDateTime end, boolean isAbs) {
+        return betweenMillis(begin, end, isAbs) / 3_600_000;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的工作时长
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 分钟数
+     */
+    public long betweenMinutes(LocalDateTime begin, LocalDateTime end, boolean isAbs) {
+        return betweenMillis(begin, end, isAbs) / 60_000;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的工作时长
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 秒数
+     */
+    public long betweenSeconds(LocalDateTime begin, LocalDateTime end, boolean isAbs) {
+        return betweenMillis(begin, end, isAbs) / 1000;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的工作时长
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 毫秒数
+     */
+    public long betweenMillis(LocalDateTime begin, LocalDateTime end, boolean isAbs) {
+        final long between = position(end) - position(begin);
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的工作时长，取绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 小时数
+     */
+    public long betweenHours(LocalDateTime begin, LocalDateTime end) {
+        return betweenHours(begin, end, true);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的工作时长，取绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 分钟数
+     */
+    public long betweenMinutes(LocalDateTime begin, LocalDateTime end) {
+        return betweenMinutes(begin, end, true);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的工作时长，取绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 秒数
+     */
+    public long betweenSeconds(LocalDateTime begin, LocalDateTime end) {
+        return betweenSeconds(begin, end, true);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的工作时长，取绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 毫秒数
+     */
+    public long betweenMillis(LocalDateTime begin, LocalDateTime end) {
+        return betweenMillis(begin, end, true);
+    }
+
+    /**
+     * 加上指定的工作小时数，负数时为减去
+     *
+     * @param localDateTime 日期
+     * @param hours         小时数
+     * @return 日期
+     */
+    public LocalDateTime plusHours(LocalDateTime localDateTime, long hours) {
+        return plusMillis(localDateTime, Math.multiplyExact(hours, 3_600_000L));
+    }
+
+    /**
+     * 加上指定的工作分钟数，负数时为减去
+     *
+     * @param localDateTime 日期
+     * @param minutes       分钟数
+     * @return 日期
+     */
+    public LocalDateTime plusMinutes(LocalDateTime localDateTime, long minutes) {
+        return plusMillis(localDateTime, Math.multiplyExact(minutes, 60_000L));
+    }
+
+    /**
+     * 加上指定的工作秒数，负数时为减去
+     *
+     * @param localDateTime 日期
+     * @param seconds       秒数
+     * @return 日期
+     */
+    public LocalDateTime plusSeconds(LocalDateTime localDateTime, long seconds) {
+        return plusMillis(localDateTime, Math.multiplyExact(seconds, 1000L));
+    }
+
+    /**
+     * 加上指定的工作毫秒数，负数时为减去，为 0 时返回原日期
+     *
+     * @param localDateTime 日期
+     * @param millis        毫秒数
+     * @return 日期
+     */
+    public LocalDateTime plusMillis(LocalDateTime localDateTime, long millis) {
+        if (millis == 0) {
+            return localDateTime;
+        }
+        return locate(Math.addExact(position(localDateTime), millis), millis > 0);
+    }
+
+    /**
+     * 获取开始工作的时间，在工作时间内时返回原日期，否则返回下一个时间段的开始
+     *
+     * @param localDateTime 日期
+     * @return 日期
+     */
+    public LocalDateTime nextWorkingTime(LocalDateTime localDateTime) {
+        return isWorkingTime(localDateTime) ? localDateTime : locate(position(localDateTime), false);
+    }
+
+    //endregion
+
+    /**
+     * 获取每个工作日的工作时长
+     *
+     * @return 毫秒数
+     */
+    public long millisPerDay() {
+        return millisPerDay;
+    }
+
+    public BusinessCalendar calendar() {
+        return calendar;
+    }
+
+    /**
+     * 从 1970-01-01 开始累计的工作时长，不在工作时间内时等于之前最后一个工作时刻的值
+     */
+    private long position(LocalDateTime localDateTime) {
+        final long epochDay = localDateTime.toLocalDate().toEpochDay();
+        final long position = Math.multiplyExact(calendar.rank(epochDay), millisPerDay);
+        if (!calendar.isBusinessDay(epochDay)) {
+            return position;
+        }
+        final int milliOfDay = milliOfDay(localDateTime.toLocalTime());
+        final int index = windowBefore(milliOfDay);
+        if (index < 0) {
+            return position;
+        }
+        return position + before[index] + Math.min(milliOfDay, ends[index]) - begins[index];
+    }
+
+    /**
+     * 由位置反查日期，同一个位置对应多个时刻时，earliest 为 true 返回最早的时刻（时间段的结束），否则返回最晚的时刻（时间段的开始）
+     */
+    private LocalDateTime locate(long position, boolean earliest) {
+        final long rank = floorDiv(earliest ? position - 1 : position, millisPerDay);
+        // earliest 时为 (0, millisPerDay]，否则为 [0, millisPerDay)
+        final long remainder = position - rank * millisPerDay;
+        // 时间段很少，顺序查找即可
+        int index = 0;
+        while (earliest ? before[index + 1] < remainder : before[index + 1] <= remainder) {
+            index++;
+        }
+        final long milliOfDay = begins[index] + remainder - before[index];
+        final LocalDate localDate = LocalDate.ofEpochDay(calendar.select(rank));
+        if (milliOfDay == MILLIS_PER_DAY) {
+            return LocalDateTime.of(localDate.plusDays(1), LocalTime.MIN);
+        }
+        return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(milliOfDay * 1_000_000L));
+    }
+
+    /**
+     * 最后一个开始时间不晚于 milliOfDay 的时间段，没有时返回 -1
+     */
+    private int windowBefore(int milliOfDay) {
+        int low = 0;
+        int high = begins.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (begins[mid] <= milliOfDay) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    private static int milliOfDay(LocalTime localTime) {
+        return (int) (localTime.toNanoOfDay() / 1_000_000);
+    }
+
+    private static String format(int begin, int end) {
+        return LocalTime.ofNanoOfDay(begin * 1_000_000L) + "-"
+                + (end == MILLIS_PER_DAY ? "24:00" : LocalTime.ofNanoOfDay(end * 1_000_000L));
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("BusinessHours{");
+        for (int i = 0; i < begins.length; i++) {
+            builder.append(i == 0 ? "" : ", ").append(format(begins[i], ends[i]));
+        }
+        return builder.append(", ").append(calendar).append('}').toString();
+    }
+
+    /**
+     * 构建 {@link BusinessHours}
+     */
+    public static final class Builder {
+
+        private final BusinessCalendar calendar;
+
+        private final List<int[]> windows = new ArrayList<>();
+
+        private Builder(BusinessCalendar calendar) {
+            this.calendar = Objects.requireNonNull(calendar, "calendar");
+        }
+
+        /**
+         * 添加每天的一个时间段，结束时间为 {@link LocalTime#MAX} 时表示到 24 点
+         *
+         * @param begin 开始时间 (包含)
+         * @param end   结束时间 (不包含)
+         * @return this
+         */
+        public Builder window(LocalTime begin, LocalTime end) {
+            if (!begin.isBefore(end)) {
+                throw new IllegalArgumentException("window end " + end + " is not after begin " + begin);
+            }
+            windows.add(new int[]{milliOfDay(begin), LocalTime.MAX.equals(end) ? MILLIS_PER_DAY : milliOfDay(end)});
+            return this;
+        }
+
+        /**
+         * 添加每天的一个时间段
+         *
+         * @param window 格式为 {@code HH:mm-HH:mm}，例如 {@code 09:00-12:00}，结束时间可以为 {@code 24:00}，
+         *               与 {@link LocalTime#MAX} 相同表示到 24 点
+         * @return this
+         */
+        public Builder window(String window) {
+            final int separator = window.indexOf('-');
+            if (separator < 0) {
+                throw new IllegalArgumentException("window " + window + " is not in the format HH:mm-HH:mm");
+            }
+            final String end = window.substring(separator + 1).trim();
+            try {
+                return window(LocalTime.parse(window.substring(0, separator).trim()),
+                        "24:00".equals(end) ? LocalTime.MAX : LocalTime.parse(end));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("window " + window + " is not in the format HH:mm-HH:mm", e);
+            }
+        }
+
+        public BusinessHours build() {
+            if (windows.isEmpty()) {
+                throw new IllegalArgumentException("at least one window is required");
+            }
+            return new BusinessHours(calendar, new ArrayList<>(windows));
+        }
+    }
+}
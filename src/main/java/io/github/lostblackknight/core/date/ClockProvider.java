@@ -0,0 +1,92 @@
+package io.github.lostblackknight.core.date;
+
+import java.time.*;
+import java.util.Objects;
+
+/**
+ * 全局时钟
+ * <p>各工具类的 current* 方法都通过该类获取当前时间，默认使用系统时钟。可以替换为缓存的粗粒度时钟，
+ * 或在测试、压测中替换为可控制的时钟，例如 {@link Clock#fixed(Instant, ZoneId)}、{@link Clock#offset(Clock, Duration)}。
+ * <p>只使用时钟给出的时刻，精确到毫秒；换算为本地时间时仍使用 {@link ZoneContext#system()}，与其他方法保持一致，
+ * 时钟自带的时区会被忽略。时钟保存在 volatile 字段中，替换后对所有线程立即可见。
+ * <p>安装 {@link CoarseClock} 时，current 方法直接返回其快照中预先计算的值。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 9:20
+ * @version 1.0.0
+ */
+public final class ClockProvider {
+
+    private static final Clock SYSTEM = Clock.systemUTC();
+
+    private static volatile Clock clock = SYSTEM;
+
+    private ClockProvider() {
+    }
+
+    /**
+     * 获取当前使用的时钟
+     *
+     * @return {@link Clock}
+     */
+    public static Clock get() {
+        return clock;
+    }
+
+    /**
+     * 替换全局时钟
+     *
+     * @param clock 时钟
+     */
+    public static void set(Clock clock) {
+        ClockProvider.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /**
+     * 恢复为系统时钟
+     */
+    public static void reset() {
+        clock = SYSTEM;
+    }
+
+    /**
+     * 是否正在使用系统时钟
+     *
+     * @return 是否为系统时钟
+     */
+    public static boolean isSystem() {
+        return clock == SYSTEM;
+    }
+
+    /**
+     * 获取当前的毫秒时间戳
+     *
+     * @return 毫秒
+     */
+    public static long millis() {
+        return clock.millis();
+    }
+
+    static LocalDateTime localDateTime() {
+        final Clock current = clock;
+        if (current instanceof CoarseClock) {
+            return ((CoarseClock) current).snapshot().localDateTime();
+        }
+        return ZoneContext.system().toLocalDateTime(current.millis());
+    }
+
+    static LocalDate localDate() {
+        final Clock current = clock;
+        if (current instanceof CoarseClock) {
+            return ((CoarseClock) current).snapshot().localDate();
+        }
+        return ZoneContext.system().toLocalDate(current.millis());
+    }
+
+    static LocalTime localTime() {
+        final Clock current = clock;
+        if (current instanceof CoarseClock) {
+            return ((CoarseClock) current).snapshot().localTime();
+        }
+        return ZoneContext.system().toLocalTime(current.millis());
+    }
+}
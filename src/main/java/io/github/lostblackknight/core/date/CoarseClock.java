@@ -0,0 +1,297 @@
+package io.github.lostblackknight.core.date;
+
+import java.time.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.Math.floorDiv;
+
+/**
+ * 粗粒度时钟
+ * <p>由一个守护线程每隔固定的毫秒数读取一次系统时间，并发布一个不可变的 {@link Snapshot}，其中预先计算好了
+ * {@link LocalDateTime}、{@link LocalDate}、{@link LocalTime}、星期几以及当天开始和结束的时刻。
+ * 读取当前时间只需读取一个 volatile 字段，代价接近读取普通字段，适合每次请求都多次获取当前时间的场景。
+ * <p>通过 {@link ClockProvider#set(Clock)} 安装后，各工具类的 current* 方法直接返回快照中的值：
+ * <pre>
+ * ClockProvider.set(CoarseClock.start());
+ * </pre>
+ * 得到的时间最多落后一个周期（线程调度繁忙时可能更多），不能用于计算耗时等需要精确时间的场景。
+ * 本地时间按 {@link ZoneContext#system()} 计算，切换默认时区并调用 {@link ZoneContext#refresh()} 后，在下一次更新前会临时按新的时区实时计算。
+ * <p>{@link #close()} 停止更新线程，此后时钟退回到实时读取系统时间。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 10:05
+ * @version 1.0.0
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final Ticker ticker;
+
+    private final ZoneId zone;
+
+    private CoarseClock(Ticker ticker, ZoneId zone) {
+        this.ticker = ticker;
+        this.zone = zone;
+    }
+
+    /**
+     * 启动一个每毫秒更新一次的粗粒度时钟
+     *
+     * @return {@link CoarseClock}
+     */
+    public static CoarseClock start() {
+        return start(1);
+    }
+
+    /**
+     * 启动一个粗粒度时钟
+     *
+     * @param periodMillis 更新的周期，单位为毫秒
+     * @return {@link CoarseClock}
+     * @throws IllegalArgumentException 周期小于 1 时抛出
+     */
+    public static CoarseClock start(long periodMillis) {
+        if (periodMillis < 1) {
+            throw new IllegalArgumentException("periodMillis must be positive: " + periodMillis);
+        }
+        final Ticker ticker = new Ticker(periodMillis);
+        ticker.start();
+        return new CoarseClock(ticker, ZoneOffset.UTC);
+    }
+
+    /**
+     * 获取最近一次更新的快照，时钟停止后或系统默认时区变化后返回实时计算的快照
+     *
+     * @return {@link Snapshot}
+     */
+    public Snapshot snapshot() {
+        final Snapshot snapshot = ticker.snapshot;
+        if (snapshot != null && snapshot.context == ZoneContext.system()) {
+            return snapshot;
+        }
+        return Snapshot.of(System.currentTimeMillis(), ZoneContext.system(), null);
+    }
+
+    /**
+     * 获取更新的周期
+     *
+     * @return 周期，单位为毫秒
+     */
+    public long periodMillis() {
+        return ticker.periodMillis;
+    }
+
+    /**
+     * 是否正在更新
+     *
+     * @return 是否正在更新
+     */
+    public boolean isRunning() {
+        return ticker.running;
+    }
+
+    @Override
+    public long millis() {
+        final Snapshot snapshot = ticker.snapshot;
+        return snapshot != null ? snapshot.epochMilli : System.currentTimeMillis();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    /**
+     * 获取时区，只用于实现 {@link Clock}，工具类换算本地时间时使用 {@link ZoneContext#system()}
+     *
+     * @return 时区
+     */
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * 返回共享同一个更新线程、时区不同的时钟
+     *
+     * @param zone 时区
+     * @return {@link CoarseClock}
+     */
+    @Override
+    public CoarseClock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new CoarseClock(ticker, zone);
+    }
+
+    /**
+     * 停止更新线程，通过 {@link #withZone(ZoneId)} 得到的时钟也会一起停止
+     */
+    @Override
+    public void close() {
+        ticker.stop();
+    }
+
+    @Override
+    public String toString() {
+        return "CoarseClock{periodMillis=" + ticker.periodMillis + ", running=" + ticker.running + '}';
+    }
+
+    /**
+     * 某一毫秒的当前时间，各字段在创建时计算完成
+     */
+    public static final class Snapshot {
+
+        private final long epochMilli;
+
+        private final ZoneContext context;
+
+        private final int epochDay;
+
+        private final LocalDate localDate;
+
+        private final LocalTime localTime;
+
+        private final LocalDateTime localDateTime;
+
+        private final int dayOfWeek;
+
+        private final long beginOfDay;
+
+        private final long endOfDay;
+
+        private Snapshot(long epochMilli, ZoneContext context, int epochDay, LocalDate localDate, LocalTime localTime,
+                         int dayOfWeek, long beginOfDay, long endOfDay) {
+            this.epochMilli = epochMilli;
+            this.context = context;
+            this.epochDay = epochDay;
+            this.localDate = localDate;
+            this.localTime = localTime;
+            this.localDateTime = LocalDateTime.of(localDate, localTime);
+            this.dayOfWeek = dayOfWeek;
+            this.beginOfDay = beginOfDay;
+            this.endOfDay = endOfDay;
+        }
+
+        /**
+         * 创建快照，与上一个快照在同一天时复用日期相关的字段
+         */
+        private static Snapshot of(long epochMilli, ZoneContext context, Snapshot previous) {
+            final long localMilli = context.toLocalMilli(epochMilli);
+            final int epochDay = Math.toIntExact(floorDiv(localMilli, MILLIS_PER_DAY));
+            final LocalTime localTime = LocalTime.ofNanoOfDay((localMilli - epochDay * MILLIS_PER_DAY) * 1_000_000L);
+            if (previous != null && previous.context == context && previous.epochDay == epochDay) {
+                return new Snapshot(epochMilli, context, epochDay, previous.localDate, localTime,
+                        previous.dayOfWeek, previous.beginOfDay, previous.endOfDay);
+            }
+            return new Snapshot(epochMilli, context, epochDay, LocalDate.ofEpochDay(epochDay), localTime,
+                    EpochDayUtils.dayOfWeek(epochDay), context.toEpochMilli(epochDay * MILLIS_PER_DAY),
+                    context.toEpochMilli((epochDay + 1) * MILLIS_PER_DAY) - 1);
+        }
+
+        public long epochMilli() {
+            return epochMilli;
+        }
+
+        public LocalDateTime localDateTime() {
+            return localDateTime;
+        }
+
+        public LocalDate localDate() {
+            return localDate;
+        }
+
+        public LocalTime localTime() {
+            return localTime;
+        }
+
+        /**
+         * 获取星期几，范围为 [1, 7]
+         *
+         * @return 星期几
+         */
+        public int dayOfWeek() {
+            return dayOfWeek;
+        }
+
+        /**
+         * 获取当天开始的时刻
+         *
+         * @return 毫秒
+         */
+        public long beginOfDay() {
+            return beginOfDay;
+        }
+
+        /**
+         * 获取当天结束的时刻，即下一天开始的前一毫秒
+         *
+         * @return 毫秒
+         */
+        public long endOfDay() {
+            return endOfDay;
+        }
+
+        /**
+         * 获取计算本地时间时使用的时区
+         *
+         * @return 时区
+         */
+        public ZoneId zone() {
+            return context.zone();
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" + localDateTime + ", " + context.zone() + '}';
+        }
+    }
+
+    /**
+     * 更新线程，多个时区不同的 {@link CoarseClock} 共享同一个
+     */
+    private static final class Ticker implements Runnable {
+
+        private final long periodMillis;
+
+        private final Thread thread;
+
+        private volatile Snapshot snapshot;
+
+        private volatile boolean running = true;
+
+        private Ticker(long periodMillis) {
+            this.periodMillis = periodMillis;
+            this.thread = new Thread(this, "coarse-clock-ticker");
+            this.thread.setDaemon(true);
+            this.snapshot = Snapshot.of(System.currentTimeMillis(), ZoneContext.system(), null);
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        private void stop() {
+            running = false;
+            snapshot = null;
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            final long periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+            while (running) {
+                LockSupport.parkNanos(this, periodNanos);
+                final Snapshot previous = snapshot;
+                final long epochMilli = System.currentTimeMillis();
+                final ZoneContext context = ZoneContext.system();
+                if (!running || previous == null) {
+                    break;
+                }
+                if (epochMilli != previous.epochMilli || context != previous.context) {
+                    snapshot = Snapshot.of(epochMilli, context, previous);
+                }
+            }
+            snapshot = null;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.lostblackknight.core.date;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static java.time.LocalTime.MAX;
+import static java.time.LocalTime.MIN;
+
+/**
+ * 当前时间所在的今天、本周、本月、本年的起止时刻
+ * <p>构造查询条件时经常需要 {@code beginOfDay(current())}、{@code endOfMonth(current())} 等值，这些值只在跨天时才会变化。
+ * 该类把它们预先计算为毫秒、{@link LocalDateTime} 和 {@link Date} 三种形式，以不可变对象的形式通过 volatile 字段发布。
+ * {@link #get()} 读取时钟后与缓存的有效期比较，未过期时直接返回缓存；进入新的一天（周、月、年只会在某一天开始时变化）、
+ * 时钟回拨或系统默认时区变化后重新计算并替换整个对象，所以从同一个对象中读取的值总是一致的。
+ * <p>所有范围都按天对齐：开始为周期第一天的 00:00，即 {@code beginOfDay(beginOfWeek(..))}、{@code beginOfDay(beginOfMonth(..))}、
+ * {@code beginOfDay(beginOfYear(..))}，结束为周期最后一天的 {@link java.time.LocalTime#MAX}。
+ * 注意这与 {@link LocalDateTimeUtils#beginOfWeek(LocalDateTime)} 等方法直接作用于当前时间的结果不同，后者会保留当前的时分秒。
+ * 换算为毫秒时结束时刻为下一个开始的前一毫秒。时间取自 {@link ClockProvider}，本地时间按 {@link ZoneContext#system()} 计算。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 11:30
+ * @version 1.0.0
+ */
+public final class CurrentBoundaries {
+
+    private static volatile CurrentBoundaries current;
+
+    private final ZoneContext context;
+
+    /**
+     * 有效期 [day.begin, expiresAt)
+     */
+    private final long expiresAt;
+
+    private final Range day;
+
+    private final Range week;
+
+    private final Range month;
+
+    private final Range year;
+
+    private CurrentBoundaries(ZoneContext context, LocalDate date) {
+        final LocalDateTime beginOfDay = LocalDateTime.of(date, MIN);
+        final LocalDateTime endOfDay = LocalDateTime.of(date, MAX);
+        this.context = context;
+        this.expiresAt = context.toEpochMilli(LocalDateTimeUtils.beginOfNextDay(beginOfDay));
+        this.day = new Range(context, beginOfDay, endOfDay);
+        this.week = new Range(context, LocalDateTimeUtils.beginOfWeek(beginOfDay), LocalDateTimeUtils.endOfWeek(endOfDay));
+        this.month = new Range(context, LocalDateTimeUtils.beginOfMonth(beginOfDay), LocalDateTimeUtils.endOfMonth(endOfDay));
+        this.year = new Range(context, LocalDateTimeUtils.beginOfYear(beginOfDay), LocalDateTimeUtils.endOfYear(endOfDay));
+    }
+
+    /**
+     * 获取当前时间所在的起止时刻，未跨天时返回缓存的对象
+     *
+     * @return {@link CurrentBoundaries}
+     */
+    public static CurrentBoundaries get() {
+        final long now = ClockProvider.millis();
+        final CurrentBoundaries boundaries = current;
+        if (boundaries != null && now < boundaries.expiresAt && now >= boundaries.day.begin
+                && boundaries.context == ZoneContext.system()) {
+            return boundaries;
+        }
+        final ZoneContext context = ZoneContext.system();
+        final CurrentBoundaries created = new CurrentBoundaries(context, context.toLocalDate(now));
+        current = created;
+        return created;
+    }
+
+    /**
+     * 获取指定时刻在指定时区的起止时刻，不使用缓存
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return {@link CurrentBoundaries}
+     */
+    public static CurrentBoundaries of(long epochMilli, ZoneId zoneId) {
+        final ZoneContext context = ZoneContext.of(zoneId);
+        return new CurrentBoundaries(context, context.toLocalDate(epochMilli));
+    }
+
+    /**
+     * 今天
+     *
+     * @return {@link Range}
+     */
+    public Range day() {
+        return day;
+    }
+
+    /**
+     * 本周，从周一到周日
+     *
+     * @return {@link Range}
+     */
+    public Range week() {
+        return week;
+    }
+
+    /**
+     * 本月
+     *
+     * @return {@link Range}
+     */
+    public Range month() {
+        return month;
+    }
+
+    /**
+     * 本年
+     *
+     * @return {@link Range}
+     */
+    public Range year() {
+        return year;
+    }
+
+    public ZoneId zone() {
+        return context.zone();
+    }
+
+    @Override
+    public String toString() {
+        return "CurrentBoundaries{day=" + day + ", week=" + week + ", month=" + month + ", year=" + year + '}';
+    }
+
+    /**
+     * 一段时间的起止时刻，开始和结束都包含在内
+     */
+    public static final class Range {
+
+        private final long begin;
+
+        private final long end;
+
+        private final LocalDateTime beginLocalDateTime;
+
+        private final LocalDateTime endLocalDateTime;
+
+        private Range(ZoneContext context, LocalDateTime beginLocalDateTime, LocalDateTime endLocalDateTime) {
+            this.begin = context.toEpochMilli(beginLocalDateTime);
+            this.end = context.toEpochMilli(endLocalDateTime);
+            this.beginLocalDateTime = beginLocalDateTime;
+            this.endLocalDateTime = endLocalDateTime;
+        }
+
+        /**
+         * 获取开始的时刻
+         *
+         * @return 毫秒
+         */
+        public long begin() {
+            return begin;
+        }
+
+        /**
+         * 获取结束的时刻
+         *
+         * @return 毫秒
+         */
+        public long end() {
+            return end;
+        }
+
+        public LocalDateTime beginLocalDateTime() {
+            return beginLocalDateTime;
+        }
+
+        public LocalDateTime endLocalDateTime() {
+            return endLocalDateTime;
+        }
+
+        /**
+         * 获取开始的时刻，{@link Date} 是可变的，每次返回新的实例
+         *
+         * @return {@link Date}
+         */
+        public Date beginDate() {
+            return new Date(begin);
+        }
+
+        /**
+         * 获取结束的时刻，{@link Date} 是可变的，每次返回新的实例
+         *
+         * @return {@link Date}
+         */
+        public Date endDate() {
+            return new Date(end);
+        }
+
+        /**
+         * 判断指定时刻是否在范围内
+         *
+         * @param epochMilli 毫秒
+         * @return 是否在范围内
+         */
+        public boolean contains(long epochMilli) {
+            return epochMilli >= begin && epochMilli <= end;
+        }
+
+        /**
+         * 判断指定日期是否在范围内
+         *
+         * @param date 日期
+         * @return 是否在范围内
+         */
+        public boolean contains(Date date) {
+            return contains(date.getTime());
+        }
+
+        /**
+         * 判断指定日期是否在范围内
+         *
+         * @param localDateTime 日期
+         * @return 是否在范围内
+         */
+        public boolean contains(LocalDateTime localDateTime) {
+            return !localDateTime.isBefore(beginLocalDateTime) && !localDateTime.isAfter(endLocalDateTime);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + beginLocalDateTime + ", " + endLocalDateTime + "]";
+        }
+    }
+}
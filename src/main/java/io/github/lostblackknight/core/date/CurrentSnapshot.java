@@ -0,0 +1,350 @@
+package io.github.lostblackknight.core.date;
+
+import java.time.*;
+import java.util.Date;
+
+import static java.lang.Math.floorDiv;
+
+/**
+ * 当前时间的快照
+ * <p>连续调用 currentYear、currentMonth、currentDayOfMonth 等方法时，每次都会重新读取时钟，既有重复的计算，
+ * 在跨越午夜、月末时还可能得到互相矛盾的结果。快照只读取一次时钟，所有字段都来自同一时刻：
+ * <pre>
+ * CurrentSnapshot now = CurrentSnapshot.now();
+ * int year = now.year();
+ * int month = now.month();
+ * </pre>
+ * 年月日只在第一次使用时解码一次，{@link LocalDateTime} 等对象也在第一次使用时创建并缓存，其他字段由这些值直接计算。
+ * 快照不可变，可以在线程之间共享。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 10:50
+ * @version 1.0.0
+ */
+public final class CurrentSnapshot {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final long epochMilli;
+
+    private final ZoneContext context;
+
+    private final int epochDay;
+
+    private final int milliOfDay;
+
+    /**
+     * 按 {@link EpochDayUtils#pack} 打包的年月日，0 表示还未计算
+     */
+    private int packedDate;
+
+    private LocalDate localDate;
+
+    private LocalTime localTime;
+
+    private LocalDateTime localDateTime;
+
+    private CurrentSnapshot(long epochMilli, ZoneContext context) {
+        this.epochMilli = epochMilli;
+        this.context = context;
+        final long localMilli = context.toLocalMilli(epochMilli);
+        this.epochDay = Math.toIntExact(floorDiv(localMilli, MILLIS_PER_DAY));
+        this.milliOfDay = (int) (localMilli - epochDay * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 获取当前时间的快照，时间取自 {@link ClockProvider}，使用系统默认时区
+     *
+     * @return {@link CurrentSnapshot}
+     */
+    public static CurrentSnapshot now() {
+        final Clock clock = ClockProvider.get();
+        if (clock instanceof CoarseClock) {
+            final CoarseClock.Snapshot snapshot = ((CoarseClock) clock).snapshot();
+            final CurrentSnapshot current = new CurrentSnapshot(snapshot.epochMilli(), ZoneContext.system());
+            current.localDate = snapshot.localDate();
+            current.localTime = snapshot.localTime();
+            current.localDateTime = snapshot.localDateTime();
+            return current;
+        }
+        return new CurrentSnapshot(clock.millis(), ZoneContext.system());
+    }
+
+    /**
+     * 获取当前时间在指定时区的快照，时间取自 {@link ClockProvider}
+     *
+     * @param zoneId 时区
+     * @return {@link CurrentSnapshot}
+     */
+    public static CurrentSnapshot now(ZoneId zoneId) {
+        return new CurrentSnapshot(ClockProvider.millis(), ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 获取指定时刻的快照，使用系统默认时区
+     *
+     * @param epochMilli 毫秒
+     * @return {@link CurrentSnapshot}
+     */
+    public static CurrentSnapshot of(long epochMilli) {
+        return new CurrentSnapshot(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定时刻在指定时区的快照
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return {@link CurrentSnapshot}
+     */
+    public static CurrentSnapshot of(long epochMilli, ZoneId zoneId) {
+        return new CurrentSnapshot(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    //region 获取快照的时刻
+
+    public long epochMilli() {
+        return epochMilli;
+    }
+
+    public ZoneId zone() {
+        return context.zone();
+    }
+
+    /**
+     * 转换成 {@link Date} 类型，{@link Date} 是可变的，每次返回新的实例
+     *
+     * @return {@link Date}
+     */
+    public Date date() {
+        return new Date(epochMilli);
+    }
+
+    public LocalDateTime localDateTime() {
+        LocalDateTime result = localDateTime;
+        if (result == null) {
+            result = LocalDateTime.of(localDate(), localTime());
+            localDateTime = result;
+        }
+        return result;
+    }
+
+    public LocalDate localDate() {
+        LocalDate result = localDate;
+        if (result == null) {
+            result = LocalDate.of(year(), month(), dayOfMonth());
+            localDate = result;
+        }
+        return result;
+    }
+
+    public LocalTime localTime() {
+        LocalTime result = localTime;
+        if (result == null) {
+            result = LocalTime.ofNanoOfDay(milliOfDay * 1_000_000L);
+            localTime = result;
+        }
+        return result;
+    }
+
+    //endregion
+
+    //region 获取快照的基本信息
+
+    /**
+     * 获取所在的年份
+     *
+     * @return 年份
+     */
+    public int year() {
+        return EpochDayUtils.unpackYear(packedDate());
+    }
+
+    /**
+     * 获取所在的月份，范围为 [1, 12]
+     *
+     * @return 月份
+     */
+    public int month() {
+        return EpochDayUtils.unpackMonth(packedDate());
+    }
+
+    /**
+     * 获取是所在年份的第几周，范围为 [1, 53]
+     *
+     * @return 周
+     */
+    public int weekOfYear() {
+        return EpochDayUtils.weekOf(dayOfYear(), dayOfWeek());
+    }
+
+    /**
+     * 获取是所在年份的第几天，范围为 [1, 366]
+     *
+     * @return 天
+     */
+    public int dayOfYear() {
+        return EpochDayUtils.packedDayOfYear(packedDate());
+    }
+
+    /**
+     * 获取是所在月份的第几周，范围为 [1, 6]
+     *
+     * @return 周
+     */
+    public int weekOfMonth() {
+        return EpochDayUtils.weekOf(dayOfMonth(), dayOfWeek());
+    }
+
+    /**
+     * 获取是所在月份的第几天，范围为 [1, 31]
+     *
+     * @return 天
+     */
+    public int dayOfMonth() {
+        return EpochDayUtils.unpackDayOfMonth(packedDate());
+    }
+
+    /**
+     * 获取是所在星期的第几天，范围为 [1, 7]
+     *
+     * @return 天
+     */
+    public int dayOfWeek() {
+        return EpochDayUtils.dayOfWeek(epochDay);
+    }
+
+    /**
+     * 获取小时数，范围为 [0, 23]
+     *
+     * @return 小时
+     */
+    public int hourOf24() {
+        return milliOfDay / 3_600_000;
+    }
+
+    /**
+     * 获取小时数，范围为 [0, 11]
+     *
+     * @return 小时
+     */
+    public int hourOf12() {
+        return hourOf24() % 12;
+    }
+
+    /**
+     * 获取分钟数，范围为 [0, 59]
+     *
+     * @return 分钟
+     */
+    public int minute() {
+        return milliOfDay / 60_000 % 60;
+    }
+
+    /**
+     * 获取秒数，范围为 [0, 59]
+     *
+     * @return 秒
+     */
+    public int second() {
+        return milliOfDay / 1000 % 60;
+    }
+
+    /**
+     * 获取毫秒数，范围为 [0, 999]
+     *
+     * @return 毫秒
+     */
+    public int milli() {
+        return milliOfDay % 1000;
+    }
+
+    /**
+     * 判断所在的年份是否为闰年
+     *
+     * @return 是否为闰年
+     */
+    public boolean isLeapYear() {
+        return EpochDayUtils.isLeapYear(year());
+    }
+
+    /**
+     * 判断是否为周末
+     *
+     * @return 是否为周末
+     */
+    public boolean isWeekend() {
+        return dayOfWeek() >= 6;
+    }
+
+    /**
+     * 判断是否为上午
+     *
+     * @return 是否为上午
+     */
+    public boolean isAM() {
+        return milliOfDay < 43_200_000;
+    }
+
+    /**
+     * 判断是否为下午
+     *
+     * @return 是否为下午
+     */
+    public boolean isPM() {
+        return milliOfDay >= 43_200_000;
+    }
+
+    /**
+     * 获取所在年份的总天数
+     *
+     * @return 总天数
+     */
+    public int lengthOfYear() {
+        return isLeapYear() ? 366 : 365;
+    }
+
+    /**
+     * 获取所在月份的总天数
+     *
+     * @return 总天数
+     */
+    public int lengthOfMonth() {
+        return EpochDayUtils.lengthOfMonth(year(), month());
+    }
+
+    //endregion
+
+    /**
+     * 多个线程同时第一次调用时可能各自计算一次，结果相同，int 的写入是原子的
+     */
+    private int packedDate() {
+        int result = packedDate;
+        if (result == 0) {
+            result = EpochDayUtils.toPackedDate(epochDay);
+            packedDate = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CurrentSnapshot)) {
+            return false;
+        }
+        final CurrentSnapshot that = (CurrentSnapshot) o;
+        return epochMilli == that.epochMilli && context == that.context;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(epochMilli) * 31 + context.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CurrentSnapshot{" + localDateTime() + ", " + context.zone() + '}';
+    }
+}
@@ -0,0 +1,508 @@
+package io.github.lostblackknight.core.date;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.Math.multiplyExact;
+
+/**
+ * 日期范围
+ * <p>从开始日期按固定的步长前进，直到结束日期 (包含)。元素不会预先生成，第 i 个元素由开始日期直接计算，
+ * 即 {@code start.plus(i * amount, unit)}，所以按月步进时 1 月 31 日之后依次为 2 月 28 日、3 月 31 日，而不是 3 月 28 日。
+ * <p>{@code ofPeriods} 系列方法按 beginOfNext* 的方式步进：第一个元素为开始日期，之后依次为下一天、下一周、下一月、下一年的开始时刻。
+ * <p>范围的大小在创建时计算，{@link #spliterator()} 具有 SIZED 和 SUBSIZED 特性，按下标对半拆分，并行流中每次拆分都是 O(1) 的。
+ * <p>{@link Date} 和毫秒时间戳的范围：单位为 HOURS 及以下的固定长度时在时间线上步进，即 {@code start + i * 步长的毫秒数}，
+ * 夏令时切换时不会重复或跳过时刻，例如跨过夏令时开始的一小时间隙时相邻元素仍相差一个步长，夏令时结束时重复的一小时也会被遍历；
+ * 单位为 DAYS 及以上时按本地时间步进，与 {@link EpochMillisUtils} 的偏移操作相同，本地时间落在间隙中时向后推移间隙的长度，
+ * 落在重叠中时取较早的偏移，与 {@link LocalDateTime#atZone(ZoneId)} 相同。
+ * <p>元素默认不为 null，{@link #spliterator()} 具有 NONNULL 特性；{@link #map(Function)} 得到的范围不再具有该特性。
+ *
+ * @param <T> 元素的类型
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 14:30
+ * @version 1.0.0
+ */
+public final class DateRange<T> implements Iterable<T> {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+
+    private static final int NONNULL_CHARACTERISTICS = CHARACTERISTICS | Spliterator.NONNULL;
+
+    private final LongFunction<T> element;
+
+    private final long size;
+
+    /**
+     * 元素是否一定不为 null，经过调用方的 {@link #map(Function)} 后为 false
+     */
+    private final boolean nonNull;
+
+    private DateRange(LongFunction<T> element, long size, boolean nonNull) {
+        this.element = element;
+        this.size = size;
+        this.nonNull = nonNull;
+    }
+
+    //region 创建 LocalDate 的范围
+
+    /**
+     * 创建按天步进的范围
+     *
+     * @param start 开始日期 (包含)
+     * @param end   结束日期 (包含)
+     * @return {@link DateRange}
+     */
+    public static DateRange<LocalDate> of(LocalDate start, LocalDate end) {
+        return of(start, end, 1, ChronoUnit.DAYS);
+    }
+
+    /**
+     * 创建按固定步长步进的范围
+     *
+     * @param start  开始日期 (包含)
+     * @param end    结束日期 (包含)
+     * @param amount 步长
+     * @param unit   单位，支持 DAYS 及以上的单位
+     * @return {@link DateRange}
+     * @throws IllegalArgumentException 步长不是正数或不支持单位时抛出
+     */
+    public static DateRange<LocalDate> of(LocalDate start, LocalDate end, long amount, ChronoUnit unit) {
+        checkStep(start.isSupported(unit), amount, unit);
+        return create(i -> start.plus(multiplyExact(i, amount), unit), end, unit.between(start, end) / amount);
+    }
+
+    /**
+     * 创建按 beginOfNext* 步进的范围，第一个元素为开始日期，之后依次为下一周、下一月或下一年的第一天
+     *
+     * @param start 开始日期 (包含)
+     * @param end   结束日期 (包含)
+     * @param unit  单位，支持 DAYS、WEEKS、MONTHS、YEARS
+     * @return {@link DateRange}
+     * @throws IllegalArgumentException 不支持单位时抛出
+     */
+    public static DateRange<LocalDate> ofPeriods(LocalDate start, LocalDate end, ChronoUnit unit) {
+        final LocalDate base = truncate(start, unit);
+        return create(i -> i == 0 ? start : base.plus(i, unit), end, unit.between(base, end));
+    }
+
+    //endregion
+
+    //region 创建 LocalDateTime 的范围
+
+    /**
+     * 创建按固定步长步进的范围
+     *
+     * @param start  开始日期 (包含)
+     * @param end    结束日期 (包含)
+     * @param amount 步长
+     * @param unit   单位
+     * @return {@link DateRange}
+     * @throws IllegalArgumentException 步长不是正数或不支持单位时抛出
+     */
+    public static DateRange<LocalDateTime> of(LocalDateTime start, LocalDateTime end, long amount, ChronoUnit unit) {
+        checkStep(start.isSupported(unit), amount, unit);
+        return create(i -> start.plus(multiplyExact(i, amount), unit), end, unit.between(start, end) / amount);
+    }
+
+    /**
+     * 创建按 beginOfNext* 步进的范围，第一个元素为开始日期，之后依次为下一个单位的开始时刻
+     *
+     * @param start 开始日期 (包含)
+     * @param end   结束日期 (包含)
+     * @param unit  单位，支持 SECONDS、MINUTES、HOURS、DAYS、WEEKS、MONTHS、YEARS
+     * @return {@link DateRange}
+     * @throws IllegalArgumentException 不支持单位时抛出
+     */
+    public static DateRange<LocalDateTime> ofPeriods(LocalDateTime start, LocalDateTime end, ChronoUnit unit) {
+        final LocalDateTime base = truncate(start, unit);
+        return create(i -> i == 0 ? start : base.plus(i, unit), end, unit.between(base, end));
+    }
+
+    //endregion
+
+    //region 创建 Date 的范围
+
+    /**
+     * 创建按固定步长步进的范围，使用系统默认时区
+     *
+     * @param start  开始日期 (包含)
+     * @param end    结束日期 (包含)
+     * @param amount 步长
+     * @param unit   单位
+     * @return {@link DateRange}
+     * @throws IllegalArgumentException 步长不是正数或不支持单位时抛出
+     */
+    public static DateRange<Date> of(Date start, Date end, long amount, ChronoUnit unit) {
+        return ofEpochMillis(start.getTime(), end.getTime(), amount, unit, ZoneContext.system()).map(Date::new, true);
+    }
+
+    /**
+     * 创建按 beginOfNext* 步进的范围，使用系统默认时区
+     *
+     * @param start 开始日期 (包含)
+     * @param end   结束日期 (包含)
+     * @param unit  单位，支持 SECONDS、MINUTES、HOURS、DAYS、WEEKS、MONTHS、YEARS
+     * @return {@link DateRange}
+     * @throws IllegalArgumentException 不支持单位时抛出
+     */
+    public static DateRange<Date> ofPeriods(Date start, Date end, ChronoUnit unit) {
+        return ofEpochMilliPeriods(start.getTime(), end.getTime(), unit, ZoneContext.system()).map(Date::new, true);
+    }
+
+    //endregion
+
+    //region 创建毫秒时间戳的范围
+
+    /**
+     * 创建按固定步长步进的范围，使用系统默认时区
+     *
+     * @param start  开始的毫秒 (包含)
+     * @param end    结束的毫秒 (包含)
+     * @param amount 步长
+     * @param unit   单位
+     * @return {@link DateRange}
+     * @throws IllegalArgumentException 步长不是正数或不支持单位时抛出
+     */
+    public static DateRange<Long> ofEpochMillis(long start, long end, long amount, ChronoUnit unit) {
+        return ofEpochMillis(start, end, amount, unit, ZoneContext.system());
+    }
+
+    /**
+     * 创建按固定步长步进的范围，使用指定的时区
+     *
+     * @param start  开始的毫秒 (包含)
+     * @param end    结束的毫秒 (包含)
+     * @param amount 步长
+     * @param unit   单位
+     * @param zoneId 时区
+     * @return {@link DateRange}
+     * @throws IllegalArgumentException 步长不是正数或不支持单位时抛出
+     */
+    public static DateRange<Long> ofEpochMillis(long start, long end, long amount, ChronoUnit unit, ZoneId zoneId) {
+        return ofEpochMillis(start, end, amount, unit, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 创建按 beginOfNext* 步进的范围，使用系统默认时区
+     *
+     * @param start 开始的毫秒 (包含)
+     * @param end   结束的毫秒 (包含)
+     * @param unit  单位，支持 SECONDS、MINUTES、HOURS、DAYS、WEEKS、MONTHS、YEARS
+     * @return {@link DateRange}
+     * @throws IllegalArgumentException 不支持单位时抛出
+     */
+    public static DateRange<Long> ofEpochMilliPeriods(long start, long end, ChronoUnit unit) {
+        return ofEpochMilliPeriods(start, end, unit, ZoneContext.system());
+    }
+
+    /**
+     * 创建按 beginOfNext* 步进的范围，使用指定的时区
+     *
+     * @param start  开始的毫秒 (包含)
+     * @param end    结束的毫秒 (包含)
+     * @param unit   单位，支持 SECONDS、MINUTES、HOURS、DAYS、WEEKS、MONTHS、YEARS
+     * @param zoneId 时区
+     * @return {@link DateRange}
+     * @throws IllegalArgumentException 不支持单位时抛出
+     */
+    public static DateRange<Long> ofEpochMilliPeriods(long start, long end, ChronoUnit unit, ZoneId zoneId) {
+        return ofEpochMilliPeriods(start, end, unit, ZoneContext.of(zoneId));
+    }
+
+    private static DateRange<Long> ofEpochMillis(long start, long end, long amount, ChronoUnit unit, ZoneContext context) {
+        if (unit.isTimeBased()) {
+            checkStep(true, amount, unit);
+            final long step = stepMillis(amount, unit);
+            return new DateRange<>(i -> start + i * step, start > end ? 0 : (end - start) / step + 1, true);
+        }
+        return of(context.toLocalDateTime(start), context.toLocalDateTime(end), amount, unit).map(context::toEpochMilli, true);
+    }
+
+    private static DateRange<Long> ofEpochMilliPeriods(long start, long end, ChronoUnit unit, ZoneContext context) {
+        switch (unit) {
+            case SECONDS:
+            case MINUTES:
+            case HOURS:
+                // 第 0 个元素为 start，之后从 start 按本地时间截断后的边界开始在时间线上步进
+                final long step = stepMillis(1, unit);
+                final long localMilli = context.toLocalMilli(start);
+                final long base = Math.min(context.toEpochMilli(localMilli - Math.floorMod(localMilli, step)), start);
+                return new DateRange<>(i -> i == 0 ? start : base + i * step, start > end ? 0 : (end - base) / step + 1, true);
+            default:
+                return ofPeriods(context.toLocalDateTime(start), context.toLocalDateTime(end), unit).map(context::toEpochMilli, true);
+        }
+    }
+
+    //endregion
+
+    //region 访问元素
+
+    /**
+     * 获取元素的数量
+     *
+     * @return 数量
+     */
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 获取第 index 个元素
+     *
+     * @param index 下标
+     * @return 元素
+     * @throws IndexOutOfBoundsException 下标不在 [0, size) 内时抛出
+     */
+    public T get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return element.apply(index);
+    }
+
+    /**
+     * 获取第一个元素
+     *
+     * @return 元素
+     * @throws NoSuchElementException 范围为空时抛出
+     */
+    public T first() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return element.apply(0);
+    }
+
+    /**
+     * 获取最后一个元素
+     *
+     * @return 元素
+     * @throws NoSuchElementException 范围为空时抛出
+     */
+    public T last() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return element.apply(size - 1);
+    }
+
+    /**
+     * 转换元素的类型，转换在访问元素时进行
+     *
+     * @param mapper 转换函数
+     * @param <R>    转换后的类型
+     * @return {@link DateRange}
+     */
+    public <R> DateRange<R> map(Function<? super T, ? extends R> mapper) {
+        return map(mapper, false);
+    }
+
+    /**
+     * 转换元素的类型，nonNull 表示转换函数一定不会返回 null
+     */
+    private <R> DateRange<R> map(Function<? super T, ? extends R> mapper, boolean nonNull) {
+        final LongFunction<T> source = element;
+        return new DateRange<>(i -> mapper.apply(source.apply(i)), size, nonNull && this.nonNull);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (long i = 0; i < size; i++) {
+            action.accept(element.apply(i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexSpliterator<>(element, 0, size, nonNull ? NONNULL_CHARACTERISTICS : CHARACTERISTICS);
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * 生成所有元素的列表
+     *
+     * @return {@link List}
+     * @throws IllegalStateException 元素的数量超过 {@link Integer#MAX_VALUE} 时抛出
+     */
+    public List<T> toList() {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Range too large: " + size);
+        }
+        final List<T> list = new ArrayList<>((int) size);
+        forEach(list::add);
+        return list;
+    }
+
+    //endregion
+
+    @Override
+    public String toString() {
+        return size == 0 ? "DateRange[]" : "DateRange[" + first() + " .. " + last() + ", size=" + size + "]";
+    }
+
+    /**
+     * 计算范围的大小：先按 between / amount 估计最后一个元素的下标，再向前或向后修正
+     * (按月、年步进时日期会被调整到月末，估计值可能相差一个)
+     */
+    private static <T extends Comparable<? super T>> DateRange<T> create(LongFunction<T> element, T end, long estimate) {
+        if (element.apply(0).compareTo(end) > 0) {
+            return new DateRange<>(element, 0, true);
+        }
+        long last = Math.max(estimate, 0);
+        while (last > 0 && !isNotAfter(element, last, end)) {
+            last--;
+        }
+        while (isNotAfter(element, last + 1, end)) {
+            last++;
+        }
+        return new DateRange<>(element, last + 1, true);
+    }
+
+    /**
+     * 第 index 个元素是否不晚于 end，超出日期的范围时视为晚于 end
+     */
+    private static <T extends Comparable<? super T>> boolean isNotAfter(LongFunction<T> element, long index, T end) {
+        try {
+            return element.apply(index).compareTo(end) <= 0;
+        } catch (DateTimeException | ArithmeticException e) {
+            return false;
+        }
+    }
+
+    private static void checkStep(boolean supported, long amount, ChronoUnit unit) {
+        if (!supported) {
+            throw new IllegalArgumentException("Unsupported unit: " + unit);
+        }
+        if (amount <= 0) {
+            throw new IllegalArgumentException("amount must be positive: " + amount);
+        }
+    }
+
+    /**
+     * 固定长度的单位的步长，必须是整数毫秒
+     */
+    private static long stepMillis(long amount, ChronoUnit unit) {
+        final long nanos = multiplyExact(amount, unit.getDuration().toNanos());
+        if (nanos % 1_000_000L != 0) {
+            throw new IllegalArgumentException("step must be a whole number of milliseconds: " + amount + " " + unit);
+        }
+        return nanos / 1_000_000L;
+    }
+
+    private static LocalDate truncate(LocalDate localDate, ChronoUnit unit) {
+        switch (unit) {
+            case DAYS:
+                return localDate;
+            case WEEKS:
+                return LocalDateUtils.beginOfWeek(localDate);
+            case MONTHS:
+                return LocalDateUtils.beginOfMonth(localDate);
+            case YEARS:
+                return LocalDateUtils.beginOfYear(localDate);
+            default:
+                throw new IllegalArgumentException("Unsupported unit: " + unit);
+        }
+    }
+
+    private static LocalDateTime truncate(LocalDateTime localDateTime, ChronoUnit unit) {
+        switch (unit) {
+            case SECONDS:
+            case MINUTES:
+            case HOURS:
+            case DAYS:
+                return localDateTime.truncatedTo(unit);
+            case WEEKS:
+                return LocalDateTimeUtils.beginOfDay(LocalDateTimeUtils.beginOfWeek(localDateTime));
+            case MONTHS:
+                return LocalDateTimeUtils.beginOfDay(LocalDateTimeUtils.beginOfMonth(localDateTime));
+            case YEARS:
+                return LocalDateTimeUtils.beginOfDay(LocalDateTimeUtils.beginOfYear(localDateTime));
+            default:
+                throw new IllegalArgumentException("Unsupported unit: " + unit);
+        }
+    }
+
+    /**
+     * 按下标 [origin, fence) 访问元素，拆分时对半分
+     */
+    private static final class IndexSpliterator<T> implements Spliterator<T> {
+
+        private final LongFunction<T> element;
+
+        private long origin;
+
+        private final long fence;
+
+        private final int characteristics;
+
+        private IndexSpliterator(LongFunction<T> element, long origin, long fence, int characteristics) {
+            this.element = element;
+            this.origin = origin;
+            this.fence = fence;
+            this.characteristics = characteristics;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (origin >= fence) {
+                return false;
+            }
+            action.accept(element.apply(origin++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            final long end = fence;
+            for (long i = origin; i < end; i++) {
+                action.accept(element.apply(i));
+            }
+            origin = end;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final long mid = (origin + fence) >>> 1;
+            if (mid <= origin) {
+                return null;
+            }
+            final Spliterator<T> prefix = new IndexSpliterator<>(element, origin, mid, characteristics);
+            origin = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.lostblackknight.core.date;
 
+import io.github.lostblackknight.core.date.format.AutoDateParser;
 import io.github.lostblackknight.core.date.format.DatePattern;
 
+import java.text.ParsePosition;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -80,7 +82,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 年份
      */
     public static int year(Date date) {
-        return LocalDateTimeUtils.year(toLocalDateTime(date));
+        return EpochMillisUtils.year(date.getTime());
     }
 
     /**
@@ -90,7 +92,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 月份
      */
     public static int month(Date date) {
-        return LocalDateTimeUtils.month(toLocalDateTime(date));
+        return EpochMillisUtils.month(date.getTime());
     }
 
     /**
@@ -100,7 +102,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 周
      */
     public static int weekOfYear(Date date) {
-        return LocalDateTimeUtils.weekOfYear(toLocalDateTime(date));
+        return EpochMillisUtils.weekOfYear(date.getTime());
     }
 
     /**
@@ -110,7 +112,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 天
      */
     public static int dayOfYear(Date date) {
-        return LocalDateTimeUtils.dayOfYear(toLocalDateTime(date));
+        return EpochMillisUtils.dayOfYear(date.getTime());
     }
 
     /**
@@ -120,7 +122,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 周
      */
     public static int weekOfMonth(Date date) {
-        return LocalDateTimeUtils.weekOfMonth(toLocalDateTime(date));
+        return EpochMillisUtils.weekOfMonth(date.getTime());
     }
 
     /**
@@ -130,7 +132,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 天
      */
     public static int dayOfMonth(Date date) {
-        return LocalDateTimeUtils.dayOfMonth(toLocalDateTime(date));
+        return EpochMillisUtils.dayOfMonth(date.getTime());
     }
 
     /**
@@ -140,7 +142,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 天
      */
     public static int dayOfWeek(Date date) {
-        return LocalDateTimeUtils.dayOfWeek(toLocalDateTime(date));
+        return EpochMillisUtils.dayOfWeek(date.getTime());
     }
 
     /**
@@ -150,7 +152,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 小时
      */
     public static int hourOf24(Date date) {
-        return LocalDateTimeUtils.hourOf24(toLocalDateTime(date));
+        return EpochMillisUtils.hourOf24(date.getTime());
     }
 
     /**
@@ -160,7 +162,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 小时
      */
     public static int hourOf12(Date date) {
-        return LocalDateTimeUtils.hourOf12(toLocalDateTime(date));
+        return EpochMillisUtils.hourOf12(date.getTime());
     }
 
     /**
@@ -170,7 +172,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 分钟
      */
     public static int minute(Date date) {
-        return LocalDateTimeUtils.minute(toLocalDateTime(date));
+        return EpochMillisUtils.minute(date.getTime());
     }
 
     /**
@@ -180,7 +182,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 秒
      */
     public static int second(Date date) {
-        return LocalDateTimeUtils.second(toLocalDateTime(date));
+        return EpochMillisUtils.second(date.getTime());
     }
 
     /**
@@ -190,7 +192,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 毫秒数
      */
     public static int milli(Date date) {
-        return LocalDateTimeUtils.milli(toLocalDateTime(date));
+        return EpochMillisUtils.milli(date.getTime());
     }
 
     /**
@@ -200,7 +202,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 是否为闰年
      */
     public static boolean isLeapYear(Date date) {
-        return isLeapYear(year(date));
+        return EpochMillisUtils.isLeapYear(date.getTime());
     }
 
     /**
@@ -210,7 +212,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 是否为周末 (周六、 周日)
      */
     public static boolean isWeekend(Date date) {
-        return LocalDateTimeUtils.isWeekend(toLocalDateTime(date));
+        return EpochMillisUtils.isWeekend(date.getTime());
     }
 
     /**
@@ -220,7 +222,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 是否为上午
      */
     public static boolean isAM(Date date) {
-        return LocalDateTimeUtils.isAM(toLocalDateTime(date));
+        return EpochMillisUtils.isAM(date.getTime());
     }
 
     /**
@@ -230,7 +232,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 是否为上午
      */
     public static boolean isPM(Date date) {
-        return LocalDateTimeUtils.isPM(toLocalDateTime(date));
+        return EpochMillisUtils.isPM(date.getTime());
     }
 
     /**
@@ -240,7 +242,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 天
      */
     public static int lengthOfYear(Date date) {
-        return lengthOfYear(year(date));
+        return EpochMillisUtils.lengthOfYear(date.getTime());
     }
 
     /**
@@ -250,7 +252,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 天
      */
     public static int lengthOfMonth(Date date) {
-        return lengthOfMonth(month(date), isLeapYear(date));
+        return EpochMillisUtils.lengthOfMonth(date.getTime());
     }
 
     //endregion
@@ -258,12 +260,13 @@ public abstract class DateUtils extends BaseUtils {
     //region 获取当前日期的基本信息
 
     /**
-     * 获取当前日期
+     * 获取当前日期，时间取自 {@link ClockProvider}
+     * <p>需要同一时刻的多个字段时使用 {@link CurrentSnapshot}
      *
      * @return 当前日期
      */
     public static Date current() {
-        return Date.from(Instant.now());
+        return new Date(ClockProvider.millis());
     }
 
     /**
@@ -440,7 +443,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date plusYears(Date date, int years) {
-        return toDate(LocalDateTimeUtils.plusYears(toLocalDateTime(date), years));
+        return new Date(EpochMillisUtils.plusYears(date.getTime(), years));
     }
 
     /**
@@ -451,7 +454,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date plusMonths(Date date, int months) {
-        return toDate(LocalDateTimeUtils.plusMonths(toLocalDateTime(date), months));
+        return new Date(EpochMillisUtils.plusMonths(date.getTime(), months));
     }
 
     /**
@@ -462,7 +465,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date plusWeeks(Date date, int weeks) {
-        return toDate(LocalDateTimeUtils.plusWeeks(toLocalDateTime(date), weeks));
+        return new Date(EpochMillisUtils.plusWeeks(date.getTime(), weeks));
     }
 
     /**
@@ -473,7 +476,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date plusDays(Date date, int days) {
-        return toDate(LocalDateTimeUtils.plusDays(toLocalDateTime(date), days));
+        return new Date(EpochMillisUtils.plusDays(date.getTime(), days));
     }
 
     /**
@@ -484,7 +487,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date plusHours(Date date, int hours) {
-        return toDate(LocalDateTimeUtils.plusHours(toLocalDateTime(date), hours));
+        return new Date(EpochMillisUtils.plusHours(date.getTime(), hours));
     }
 
     /**
@@ -495,7 +498,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date plusMinutes(Date date, int minutes) {
-        return toDate(LocalDateTimeUtils.plusMinutes(toLocalDateTime(date), minutes));
+        return new Date(EpochMillisUtils.plusMinutes(date.getTime(), minutes));
     }
 
     /**
@@ -506,7 +509,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date plusSeconds(Date date, int seconds) {
-        return toDate(LocalDateTimeUtils.plusSeconds(toLocalDateTime(date), seconds));
+        return new Date(EpochMillisUtils.plusSeconds(date.getTime(), seconds));
     }
 
     /**
@@ -517,7 +520,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date plusMillis(Date date, int millis) {
-        return toDate(LocalDateTimeUtils.plusMillis(toLocalDateTime(date), millis));
+        return new Date(EpochMillisUtils.plusMillis(date.getTime(), millis));
     }
 
     /**
@@ -528,7 +531,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date minusYears(Date date, int years) {
-        return toDate(LocalDateTimeUtils.minusYears(toLocalDateTime(date), years));
+        return new Date(EpochMillisUtils.minusYears(date.getTime(), years));
     }
 
     /**
@@ -539,7 +542,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date minusMonths(Date date, int months) {
-        return toDate(LocalDateTimeUtils.minusMonths(toLocalDateTime(date), months));
+        return new Date(EpochMillisUtils.minusMonths(date.getTime(), months));
     }
 
     /**
@@ -550,7 +553,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date minusWeeks(Date date, int weeks) {
-        return toDate(LocalDateTimeUtils.minusWeeks(toLocalDateTime(date), weeks));
+        return new Date(EpochMillisUtils.minusWeeks(date.getTime(), weeks));
     }
 
     /**
@@ -561,7 +564,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date minusDays(Date date, int days) {
-        return toDate(LocalDateTimeUtils.minusDays(toLocalDateTime(date), days));
+        return new Date(EpochMillisUtils.minusDays(date.getTime(), days));
     }
 
     /**
@@ -572,7 +575,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date minusHours(Date date, int hours) {
-        return toDate(LocalDateTimeUtils.minusHours(toLocalDateTime(date), hours));
+        return new Date(EpochMillisUtils.minusHours(date.getTime(), hours));
     }
 
     /**
@@ -583,7 +586,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date minusMinutes(Date date, int minutes) {
-        return toDate(LocalDateTimeUtils.minusMinutes(toLocalDateTime(date), minutes));
+        return new Date(EpochMillisUtils.minusMinutes(date.getTime(), minutes));
     }
 
     /**
@@ -594,7 +597,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date minusSeconds(Date date, int seconds) {
-        return toDate(LocalDateTimeUtils.minusSeconds(toLocalDateTime(date), seconds));
+        return new Date(EpochMillisUtils.minusSeconds(date.getTime(), seconds));
     }
 
     /**
@@ -605,7 +608,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 修改后的日期
      */
     public static Date minusMillis(Date date, int millis) {
-        return toDate(LocalDateTimeUtils.minusMillis(toLocalDateTime(date), millis));
+        return new Date(EpochMillisUtils.minusMillis(date.getTime(), millis));
     }
 
     /**
@@ -615,7 +618,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfYear(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfYear(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfYear(date.getTime()));
     }
 
     /**
@@ -625,7 +628,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfYear(Date date) {
-        return toDate(LocalDateTimeUtils.endOfYear(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfYear(date.getTime()));
     }
 
     /**
@@ -635,7 +638,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfNextYear(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfNextYear(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfNextYear(date.getTime()));
     }
 
     /**
@@ -645,7 +648,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfNextYear(Date date) {
-        return toDate(LocalDateTimeUtils.endOfNextYear(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfNextYear(date.getTime()));
     }
 
     /**
@@ -655,7 +658,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfPrevYear(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfPrevYear(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfPrevYear(date.getTime()));
     }
 
     /**
@@ -665,7 +668,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfPrevYear(Date date) {
-        return toDate(LocalDateTimeUtils.endOfPrevYear(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfPrevYear(date.getTime()));
     }
 
     /**
@@ -675,7 +678,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfMonth(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfMonth(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfMonth(date.getTime()));
     }
 
     /**
@@ -685,7 +688,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfMonth(Date date) {
-        return toDate(LocalDateTimeUtils.endOfMonth(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfMonth(date.getTime()));
     }
 
     /**
@@ -695,7 +698,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfNextMonth(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfNextMonth(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfNextMonth(date.getTime()));
     }
 
     /**
@@ -705,7 +708,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfNextMonth(Date date) {
-        return toDate(LocalDateTimeUtils.endOfNextMonth(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfNextMonth(date.getTime()));
     }
 
     /**
@@ -715,7 +718,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfPrevMonth(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfPrevMonth(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfPrevMonth(date.getTime()));
     }
 
     /**
@@ -725,7 +728,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfPrevMonth(Date date) {
-        return toDate(LocalDateTimeUtils.endOfPrevMonth(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfPrevMonth(date.getTime()));
     }
 
     /**
@@ -735,7 +738,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfWeek(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfWeek(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfWeek(date.getTime()));
     }
 
     /**
@@ -745,7 +748,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfWeek(Date date) {
-        return toDate(LocalDateTimeUtils.endOfWeek(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfWeek(date.getTime()));
     }
 
     /**
@@ -755,7 +758,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfNextWeek(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfNextWeek(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfNextWeek(date.getTime()));
     }
 
     /**
@@ -765,7 +768,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfNextWeek(Date date) {
-        return toDate(LocalDateTimeUtils.endOfNextWeek(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfNextWeek(date.getTime()));
     }
 
     /**
@@ -775,7 +778,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfPrevWeek(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfPrevWeek(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfPrevWeek(date.getTime()));
     }
 
     /**
@@ -785,7 +788,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfPrevWeek(Date date) {
-        return toDate(LocalDateTimeUtils.endOfPrevWeek(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfPrevWeek(date.getTime()));
     }
 
     /**
@@ -795,7 +798,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfDay(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfDay(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfDay(date.getTime()));
     }
 
     /**
@@ -805,7 +808,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfDay(Date date) {
-        return toDate(LocalDateTimeUtils.endOfDay(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfDay(date.getTime()));
     }
 
     /**
@@ -815,7 +818,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfNextDay(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfNextDay(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfNextDay(date.getTime()));
     }
 
     /**
@@ -825,7 +828,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfNextDay(Date date) {
-        return toDate(LocalDateTimeUtils.endOfNextDay(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfNextDay(date.getTime()));
     }
 
     /**
@@ -835,7 +838,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfPrevDay(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfPrevDay(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfPrevDay(date.getTime()));
     }
 
     /**
@@ -845,7 +848,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfPrevDay(Date date) {
-        return toDate(LocalDateTimeUtils.endOfPrevDay(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfPrevDay(date.getTime()));
     }
 
     /**
@@ -855,7 +858,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfHour(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfHour(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfHour(date.getTime()));
     }
 
     /**
@@ -865,7 +868,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfHour(Date date) {
-        return toDate(LocalDateTimeUtils.endOfHour(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfHour(date.getTime()));
     }
 
     /**
@@ -875,7 +878,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfMinute(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfMinute(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfMinute(date.getTime()));
     }
 
     /**
@@ -885,7 +888,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfMinute(Date date) {
-        return toDate(LocalDateTimeUtils.endOfMinute(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfMinute(date.getTime()));
     }
 
     /**
@@ -895,7 +898,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date beginOfSecond(Date date) {
-        return toDate(LocalDateTimeUtils.beginOfSecond(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.beginOfSecond(date.getTime()));
     }
 
     /**
@@ -905,7 +908,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 日期
      */
     public static Date endOfSecond(Date date) {
-        return toDate(LocalDateTimeUtils.endOfSecond(toLocalDateTime(date)));
+        return new Date(EpochMillisUtils.endOfSecond(date.getTime()));
     }
 
     //endregion
@@ -921,7 +924,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量
      */
     public static long betweenYears(Date begin, Date end, boolean isAbs) {
-        return LocalDateTimeUtils.betweenYears(toLocalDateTime(begin), toLocalDateTime(end), isAbs);
+        return EpochMillisUtils.betweenYears(begin.getTime(), end.getTime(), isAbs);
     }
 
     /**
@@ -933,7 +936,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量
      */
     public static long betweenMonths(Date begin, Date end, boolean isAbs) {
-        return LocalDateTimeUtils.betweenMonths(toLocalDateTime(begin), toLocalDateTime(end), isAbs);
+        return EpochMillisUtils.betweenMonths(begin.getTime(), end.getTime(), isAbs);
     }
 
     /**
@@ -945,7 +948,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量
      */
     public static long betweenWeeks(Date begin, Date end, boolean isAbs) {
-        return LocalDateTimeUtils.betweenWeeks(toLocalDateTime(begin), toLocalDateTime(end), isAbs);
+        return EpochMillisUtils.betweenWeeks(begin.getTime(), end.getTime(), isAbs);
     }
 
     /**
@@ -957,7 +960,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量
      */
     public static long betweenDays(Date begin, Date end, boolean isAbs) {
-        return LocalDateTimeUtils.betweenDays(toLocalDateTime(begin), toLocalDateTime(end), isAbs);
+        return EpochMillisUtils.betweenDays(begin.getTime(), end.getTime(), isAbs);
     }
 
     /**
@@ -969,7 +972,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量
      */
     public static long betweenHours(Date begin, Date end, boolean isAbs) {
-        return LocalDateTimeUtils.betweenHours(toLocalDateTime(begin), toLocalDateTime(end), isAbs);
+        return EpochMillisUtils.betweenHours(begin.getTime(), end.getTime(), isAbs);
     }
 
     /**
@@ -981,7 +984,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量
      */
     public static long betweenMinutes(Date begin, Date end, boolean isAbs) {
-        return LocalDateTimeUtils.betweenMinutes(toLocalDateTime(begin), toLocalDateTime(end), isAbs);
+        return EpochMillisUtils.betweenMinutes(begin.getTime(), end.getTime(), isAbs);
     }
 
     /**
@@ -993,7 +996,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量
      */
     public static long betweenSeconds(Date begin, Date end, boolean isAbs) {
-        return LocalDateTimeUtils.betweenSeconds(toLocalDateTime(begin), toLocalDateTime(end), isAbs);
+        return EpochMillisUtils.betweenSeconds(begin.getTime(), end.getTime(), isAbs);
     }
 
     /**
@@ -1005,7 +1008,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量
      */
     public static long betweenMillis(Date begin, Date end, boolean isAbs) {
-        return LocalDateTimeUtils.betweenMillis(toLocalDateTime(begin), toLocalDateTime(end), isAbs);
+        return EpochMillisUtils.betweenMillis(begin.getTime(), end.getTime(), isAbs);
     }
 
     /**
@@ -1016,7 +1019,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量的绝对值
      */
     public static long betweenYears(Date begin, Date end) {
-        return betweenYears(begin, end, true);
+        return EpochMillisUtils.betweenYears(begin.getTime(), end.getTime());
     }
 
     /**
@@ -1027,7 +1030,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量的绝对值
      */
     public static long betweenMonths(Date begin, Date end) {
-        return betweenMonths(begin, end, true);
+        return EpochMillisUtils.betweenMonths(begin.getTime(), end.getTime());
     }
 
     /**
@@ -1038,7 +1041,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量的绝对值
      */
     public static long betweenWeeks(Date begin, Date end) {
-        return betweenWeeks(begin, end, true);
+        return EpochMillisUtils.betweenWeeks(begin.getTime(), end.getTime());
     }
 
     /**
@@ -1049,7 +1052,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量的绝对值
      */
     public static long betweenDays(Date begin, Date end) {
-        return betweenDays(begin, end, true);
+        return EpochMillisUtils.betweenDays(begin.getTime(), end.getTime());
     }
 
     /**
@@ -1060,7 +1063,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量的绝对值
      */
     public static long betweenHours(Date begin, Date end) {
-        return betweenHours(begin, end, true);
+        return EpochMillisUtils.betweenHours(begin.getTime(), end.getTime());
     }
 
     /**
@@ -1071,7 +1074,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量的绝对值
      */
     public static long betweenMinutes(Date begin, Date end) {
-        return betweenMinutes(begin, end, true);
+        return EpochMillisUtils.betweenMinutes(begin.getTime(), end.getTime());
     }
 
     /**
@@ -1082,7 +1085,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量的绝对值
      */
     public static long betweenSeconds(Date begin, Date end) {
-        return betweenSeconds(begin, end, true);
+        return EpochMillisUtils.betweenSeconds(begin.getTime(), end.getTime());
     }
 
     /**
@@ -1093,7 +1096,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 时间量绝对值
      */
     public static long betweenMillis(Date begin, Date end) {
-        return betweenMillis(begin, end, true);
+        return EpochMillisUtils.betweenMillis(begin.getTime(), end.getTime());
     }
 
     /**
@@ -1104,7 +1107,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 第一个小于第二个，返回 -1；第一个等于第二个返回 0；第一个大于第二个， 返回 1。
      */
     public static int compare(Date first, Date second) {
-        return LocalDateTimeUtils.compare(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.compare(first.getTime(), second.getTime());
     }
 
     /**
@@ -1115,7 +1118,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 第一个日期是不是在第二个日期之后
      */
     public static boolean isAfter(Date first, Date second) {
-        return LocalDateTimeUtils.isAfter(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.isAfter(first.getTime(), second.getTime());
     }
 
     /**
@@ -1126,7 +1129,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 第一个日期是不是在第二个日期之前
      */
     public static boolean isBefore(Date first, Date second) {
-        return LocalDateTimeUtils.isBefore(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.isBefore(first.getTime(), second.getTime());
     }
 
     /**
@@ -1137,7 +1140,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 第一个日期是不是和第二个日期相等
      */
     public static boolean isEqual(Date first, Date second) {
-        return LocalDateTimeUtils.isEqual(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.isEqual(first.getTime(), second.getTime());
     }
 
     /**
@@ -1148,7 +1151,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 两个日期是否是同一年
      */
     public static boolean isEqualYear(Date first, Date second) {
-        return LocalDateTimeUtils.isEqualYear(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.isEqualYear(first.getTime(), second.getTime());
     }
 
     /**
@@ -1159,7 +1162,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 两个日期是否是同一个月
      */
     public static boolean isEqualMonth(Date first, Date second) {
-        return LocalDateTimeUtils.isEqualMonth(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.isEqualMonth(first.getTime(), second.getTime());
     }
 
     /**
@@ -1170,7 +1173,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 两个日期是否是同一个星期
      */
     public static boolean isEqualWeek(Date first, Date second) {
-        return LocalDateTimeUtils.isEqualWeek(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.isEqualWeek(first.getTime(), second.getTime());
     }
 
     /**
@@ -1181,7 +1184,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 两个日期是否是同一天
      */
     public static boolean isEqualDay(Date first, Date second) {
-        return LocalDateTimeUtils.isEqualDay(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.isEqualDay(first.getTime(), second.getTime());
     }
 
     /**
@@ -1192,7 +1195,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 两个日期是否是同一小时
      */
     public static boolean isEqualHour(Date first, Date second) {
-        return LocalDateTimeUtils.isEqualHour(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.isEqualHour(first.getTime(), second.getTime());
     }
 
     /**
@@ -1203,7 +1206,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 两个日期是否是同一分钟
      */
     public static boolean isEqualMinute(Date first, Date second) {
-        return LocalDateTimeUtils.isEqualMinute(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.isEqualMinute(first.getTime(), second.getTime());
     }
 
     /**
@@ -1214,7 +1217,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 两个日期是否是同一秒
      */
     public static boolean isEqualSecond(Date first, Date second) {
-        return LocalDateTimeUtils.isEqualSecond(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.isEqualSecond(first.getTime(), second.getTime());
     }
 
     /**
@@ -1225,7 +1228,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 两个日期是否是同一毫秒
      */
     public static boolean isEqualMilli(Date first, Date second) {
-        return LocalDateTimeUtils.isEqualMilli(toLocalDateTime(first), toLocalDateTime(second));
+        return EpochMillisUtils.isEqualMilli(first.getTime(), second.getTime());
     }
 
     /**
@@ -1237,7 +1240,7 @@ public abstract class DateUtils extends BaseUtils {
      * @return 是否在指定的范围内
      */
     public static boolean isIn(Date date, Date begin, Date end) {
-        return LocalDateTimeUtils.isIn(toLocalDateTime(date), toLocalDateTime(begin), toLocalDateTime(end));
+        return EpochMillisUtils.isIn(date.getTime(), begin.getTime(), end.getTime());
     }
 
     /**
@@ -1251,8 +1254,7 @@ public abstract class DateUtils extends BaseUtils {
      */
     public static boolean isOverlap(Date firstBegin, Date firstEnd,
                                     Date secondBegin, Date secondEnd) {
-        return LocalDateTimeUtils.isOverlap(toLocalDateTime(firstBegin), toLocalDateTime(firstEnd),
-                toLocalDateTime(secondBegin), toLocalDateTime(secondEnd));
+        return EpochMillisUtils.isOverlap(firstBegin.getTime(), firstEnd.getTime(), secondBegin.getTime(), secondEnd.getTime());
     }
 
     //endregion
@@ -1393,6 +1395,164 @@ public abstract class DateUtils extends BaseUtils {
         return LocalDateTimeUtils.formatTimeOfChinese(toLocalDateTime(date));
     }
 
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     *
+     * @param date       日期
+     * @param pattern    格式
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     * @see DatePattern
+     */
+    public static <A extends Appendable> A formatTo(Date date, String pattern, A appendable) {
+        return LocalDateTimeUtils.formatTo(toLocalDateTime(date), pattern, appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     *
+     * @param date        日期
+     * @param datePattern 格式
+     * @param appendable  输出目标，例如 {@link StringBuilder}
+     * @param <A>         输出目标的类型
+     * @return appendable
+     * @see DatePattern
+     */
+    public static <A extends Appendable> A formatTo(Date date, DatePattern datePattern, A appendable) {
+        return LocalDateTimeUtils.formatTo(toLocalDateTime(date), datePattern, appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     *
+     * @param date              日期
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @param appendable        输出目标，例如 {@link StringBuilder}
+     * @param <A>               输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTo(Date date, DateTimeFormatter dateTimeFormatter, A appendable) {
+        return LocalDateTimeUtils.formatTo(toLocalDateTime(date), dateTimeFormatter, appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     * <p>格式：yyyy-MM-dd HH:mm:ss
+     *
+     * @param date       日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTo(Date date, A appendable) {
+        return LocalDateTimeUtils.formatTo(toLocalDateTime(date), appendable);
+    }
+
+    /**
+     * 格式化日期部分，并追加到 appendable 中
+     * <p>格式：yyyy-MM-dd
+     *
+     * @param date       日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatDateTo(Date date, A appendable) {
+        return LocalDateTimeUtils.formatDateTo(toLocalDateTime(date), appendable);
+    }
+
+    /**
+     * 格式化时间部分，并追加到 appendable 中
+     * <p>格式：HH:mm:ss
+     *
+     * @param date       日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTimeTo(Date date, A appendable) {
+        return LocalDateTimeUtils.formatTimeTo(toLocalDateTime(date), appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     * <p>格式：yyyyMMddHHmmss
+     *
+     * @param date       日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatOfSimpleTo(Date date, A appendable) {
+        return LocalDateTimeUtils.formatOfSimpleTo(toLocalDateTime(date), appendable);
+    }
+
+    /**
+     * 格式化日期部分，并追加到 appendable 中
+     * <p>格式：yyyyMMdd
+     *
+     * @param date       日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatDateOfSimpleTo(Date date, A appendable) {
+        return LocalDateTimeUtils.formatDateOfSimpleTo(toLocalDateTime(date), appendable);
+    }
+
+    /**
+     * 格式化时间部分，并追加到 appendable 中
+     * <p>格式：HHmmss
+     *
+     * @param date       日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTimeOfSimpleTo(Date date, A appendable) {
+        return LocalDateTimeUtils.formatTimeOfSimpleTo(toLocalDateTime(date), appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     * <p>格式：yyyy年MM月dd日HH时mm分ss秒
+     *
+     * @param date       日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatOfChineseTo(Date date, A appendable) {
+        return LocalDateTimeUtils.formatOfChineseTo(toLocalDateTime(date), appendable);
+    }
+
+    /**
+     * 格式化日期部分，并追加到 appendable 中
+     * <p>格式：yyyy年MM月dd日
+     *
+     * @param date       日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatDateOfChineseTo(Date date, A appendable) {
+        return LocalDateTimeUtils.formatDateOfChineseTo(toLocalDateTime(date), appendable);
+    }
+
+    /**
+     * 格式化时间部分，并追加到 appendable 中
+     * <p>格式：HH时mm分ss秒
+     *
+     * @param date       日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTimeOfChineseTo(Date date, A appendable) {
+        return LocalDateTimeUtils.formatTimeOfChineseTo(toLocalDateTime(date), appendable);
+    }
+
     //endregion
 
     //region 日期解析
@@ -1531,5 +1691,121 @@ public abstract class DateUtils extends BaseUtils {
         return toDate(LocalDateTimeUtils.parseTimeOfChinese(text));
     }
 
+    /**
+     * 尝试解析日期时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return {@link Date}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static Date tryParse(CharSequence text, String pattern) {
+        return toDateOrNull(LocalDateTimeUtils.tryParse(text, pattern));
+    }
+
+    /**
+     * 尝试解析日期时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return {@link Date}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static Date tryParse(CharSequence text, DatePattern datePattern) {
+        return toDateOrNull(LocalDateTimeUtils.tryParse(text, datePattern));
+    }
+
+    /**
+     * 尝试解析日期时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text              文本
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return {@link Date}，解析失败时返回 null
+     */
+    public static Date tryParse(CharSequence text, DateTimeFormatter dateTimeFormatter) {
+        return toDateOrNull(LocalDateTimeUtils.tryParse(text, dateTimeFormatter));
+    }
+
+    /**
+     * 尝试解析日期时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     * <p>格式：yyyy-MM-dd HH:mm:ss
+     *
+     * @param text 文本
+     * @return {@link Date}，解析失败时返回 null
+     */
+    public static Date tryParse(CharSequence text) {
+        return tryParse(text, DatePattern.NORMAL_DATE_TIME_SECOND);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析日期时间，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text     文本
+     * @param position 解析位置
+     * @param pattern  格式
+     * @return {@link Date}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static Date tryParse(CharSequence text, ParsePosition position, String pattern) {
+        return toDateOrNull(LocalDateTimeUtils.tryParse(text, position, pattern));
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析日期时间，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text        文本
+     * @param position    解析位置
+     * @param datePattern 格式
+     * @return {@link Date}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static Date tryParse(CharSequence text, ParsePosition position, DatePattern datePattern) {
+        return toDateOrNull(LocalDateTimeUtils.tryParse(text, position, datePattern));
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析日期时间，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text              文本
+     * @param position          解析位置
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return {@link Date}，解析失败时返回 null
+     */
+    public static Date tryParse(CharSequence text, ParsePosition position, DateTimeFormatter dateTimeFormatter) {
+        return toDateOrNull(LocalDateTimeUtils.tryParse(text, position, dateTimeFormatter));
+    }
+
+    /**
+     * 自动识别格式并解析日期时间，支持 {@link DatePattern} 中的所有格式，缺失的字段使用默认值
+     *
+     * @param text 文本
+     * @return {@link Date}
+     * @see AutoDateParser
+     */
+    public static Date parseAuto(CharSequence text) {
+        return toDate(LocalDateTimeUtils.parseAuto(text));
+    }
+
+    /**
+     * 自动识别格式并解析日期时间，没有匹配的格式时返回 null，不会抛出异常
+     *
+     * @param text 文本
+     * @return {@link Date}，没有匹配的格式时返回 null
+     * @see AutoDateParser
+     */
+    public static Date tryParseAuto(CharSequence text) {
+        return toDateOrNull(LocalDateTimeUtils.tryParseAuto(text));
+    }
+
+    private static Date toDateOrNull(LocalDateTime localDateTime) {
+        return localDateTime == null ? null : toDate(localDateTime);
+    }
+
     //endregion
 }
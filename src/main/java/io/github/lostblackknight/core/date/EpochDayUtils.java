@@ -0,0 +1,372 @@
+package io.github.lostblackknight.core.date;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+
+/**
+ * 天数工具类
+ * <p>日期以 1970-01-01 起的天数（epochDay，即 {@link java.time.LocalDate#toEpochDay()}）表示，年月日打包为一个 int
+ * （packedDate）：年份占高位，月份占 4 位，日占 5 位，打包后的值与日期的先后顺序一致，可以直接比较。
+ * <p>天数与年月日之间的换算使用 Neri 和 Schneider 的欧几里得仿射函数算法（Euclidean affine functions）：
+ * 先把天数平移到以 3 月 1 日为年初、足够早的一个 400 年周期的起点，之后全部是非负数的运算，除数都是常量，
+ * 没有 floorDiv 的符号修正，也没有数组查表，不会创建对象，适合对大量的天数做批量运算。
+ * <p>支持的年份范围为 [{@value #MIN_YEAR}, {@value #MAX_YEAR}]，为了速度不做范围检查，超出范围时结果不确定。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/18 22:10
+ * @version 1.0.0
+ */
+public abstract class EpochDayUtils {
+
+    /**
+     * 支持的最小年份
+     */
+    public static final int MIN_YEAR = -999_999;
+
+    /**
+     * 支持的最大年份
+     */
+    public static final int MAX_YEAR = 999_999;
+
+    /**
+     * 平移的年数，400 年的整数倍，平移后公元前一百万年（-1000000 年）的 3 月 1 日为第 0 天
+     */
+    private static final long SHIFT_YEARS = 1_000_000L;
+
+    /**
+     * 平移的天数，即 {@link #SHIFT_YEARS} 个年份的天数加上 0000-03-01 到 1970-01-01 的天数
+     */
+    private static final long SHIFT_DAYS = SHIFT_YEARS / 400 * 146_097 + 719_468;
+
+    /**
+     * 星期几的平移，7 的倍数加上 1970-01-01（星期四）的偏移 3，保证 int 范围内的天数平移后非负
+     */
+    private static final long SHIFT_DAY_OF_WEEK = 7L * 400_000_000 + 3;
+
+    private static final int[] DAYS_BEFORE_MONTH = {0, 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+    //region 天数与年月日的换算
+
+    /**
+     * 将天数换算为打包的年月日
+     *
+     * @param epochDay 天数
+     * @return 打包的年月日
+     */
+    public static int toPackedDate(int epochDay) {
+        final long n = epochDay + SHIFT_DAYS;
+        // 世纪
+        final long n1 = 4 * n + 3;
+        final long century = n1 / 146_097;
+        final long dayOfCentury = n1 % 146_097 / 4;
+        // 年，2939745 / 2^32 ≈ 4 / 1461
+        final long n2 = 4 * dayOfCentury + 3;
+        final long p2 = 2_939_745L * n2;
+        final long yearOfCentury = p2 >>> 32;
+        final long dayOfYear = (p2 & 0xFFFF_FFFFL) / 2_939_745 / 4;
+        // 月和日，2141 / 2^16 ≈ 5 / 153
+        final long n3 = 2141 * dayOfYear + 197_913;
+        final int month = (int) (n3 >>> 16);
+        final int day = (int) ((n3 & 0xFFFF) / 2141) + 1;
+        // 从 3 月开始的年换算回 1 月开始的年
+        final int january = dayOfYear >= 306 ? 1 : 0;
+        final int year = (int) (100 * century + yearOfCentury - SHIFT_YEARS) + january;
+        return pack(year, month - 12 * january, day);
+    }
+
+    /**
+     * 将年月日换算为天数
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @return 天数
+     */
+    public static int epochDay(int year, int month, int dayOfMonth) {
+        final int january = month <= 2 ? 1 : 0;
+        final long y = year + SHIFT_YEARS - january;
+        final long m = month + 12 * january;
+        final long century = y / 100;
+        final long yearDays = 1461 * y / 4 - century + century / 4;
+        final long monthDays = (979 * m - 2919) / 32;
+        return (int) (yearDays + monthDays + dayOfMonth - 1 - SHIFT_DAYS);
+    }
+
+    /**
+     * 将打包的年月日换算为天数
+     *
+     * @param packedDate 打包的年月日
+     * @return 天数
+     */
+    public static int toEpochDay(int packedDate) {
+        return epochDay(unpackYear(packedDate), unpackMonth(packedDate), unpackDayOfMonth(packedDate));
+    }
+
+    /**
+     * 打包年月日，不检查日期是否有效
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @return 打包的年月日
+     */
+    public static int pack(int year, int month, int dayOfMonth) {
+        return year << 9 | month << 5 | dayOfMonth;
+    }
+
+    /**
+     * 获取打包的年月日中的年份
+     *
+     * @param packedDate 打包的年月日
+     * @return 年份
+     */
+    public static int unpackYear(int packedDate) {
+        return packedDate >> 9;
+    }
+
+    /**
+     * 获取打包的年月日中的月份，范围为 [1, 12]
+     *
+     * @param packedDate 打包的年月日
+     * @return 月份
+     */
+    public static int unpackMonth(int packedDate) {
+        return packedDate >>> 5 & 0xF;
+    }
+
+    /**
+     * 获取打包的年月日中的日，范围为 [1, 31]
+     *
+     * @param packedDate 打包的年月日
+     * @return 日
+     */
+    public static int unpackDayOfMonth(int packedDate) {
+        return packedDate & 0x1F;
+    }
+
+    //endregion
+
+    //region 获取指定日期的基本信息
+
+    /**
+     * 获取指定日期所在的年份
+     *
+     * @param epochDay 天数
+     * @return 年份
+     */
+    public static int year(int epochDay) {
+        return unpackYear(toPackedDate(epochDay));
+    }
+
+    /**
+     * 获取指定日期所在的月份，范围为 [1, 12]
+     *
+     * @param epochDay 天数
+     * @return 月份
+     */
+    public static int month(int epochDay) {
+        return unpackMonth(toPackedDate(epochDay));
+    }
+
+    /**
+     * 获取指定日期是所在月份的第几天，范围为 [1, 31]
+     *
+     * @param epochDay 天数
+     * @return 天
+     */
+    public static int dayOfMonth(int epochDay) {
+        return unpackDayOfMonth(toPackedDate(epochDay));
+    }
+
+    /**
+     * 获取指定日期是所在年份的第几天，范围为 [1, 366]
+     *
+     * @param epochDay 天数
+     * @return 天
+     */
+    public static int dayOfYear(int epochDay) {
+        return packedDayOfYear(toPackedDate(epochDay));
+    }
+
+    /**
+     * 获取指定日期是所在星期的第几天，范围为 [1, 7]，周一为 1
+     *
+     * @param epochDay 天数
+     * @return 天
+     */
+    public static int dayOfWeek(int epochDay) {
+        return (int) ((epochDay + SHIFT_DAY_OF_WEEK) % 7) + 1;
+    }
+
+    /**
+     * 获取指定日期是所在年份的第几周，范围为 [1, 53]，以周一为一周的开始，包含 1 月 1 日的周为第一周
+     *
+     * @param epochDay 天数
+     * @return 周
+     */
+    public static int weekOfYear(int epochDay) {
+        return weekOf(packedDayOfYear(toPackedDate(epochDay)), dayOfWeek(epochDay));
+    }
+
+    /**
+     * 获取指定日期是所在月份的第几周，范围为 [1, 6]，以周一为一周的开始，包含 1 日的周为第一周
+     *
+     * @param epochDay 天数
+     * @return 周
+     */
+    public static int weekOfMonth(int epochDay) {
+        return weekOf(unpackDayOfMonth(toPackedDate(epochDay)), dayOfWeek(epochDay));
+    }
+
+    /**
+     * 获取指定日期所在月份的总天数
+     *
+     * @param epochDay 天数
+     * @return 总天数
+     */
+    public static int lengthOfMonth(int epochDay) {
+        final int packedDate = toPackedDate(epochDay);
+        return lengthOfMonth(unpackYear(packedDate), unpackMonth(packedDate));
+    }
+
+    /**
+     * 判断指定年份是否为闰年
+     *
+     * @param year 年份
+     * @return 是否为闰年
+     */
+    public static boolean isLeapYear(int year) {
+        // 不能被 100 整除时看能否被 4 整除，否则看能否被 400 整除，能被 100 整除时能被 400 整除等价于能被 16 整除
+        return year % 100 != 0 ? (year & 3) == 0 : (year & 15) == 0;
+    }
+
+    /**
+     * 获取指定年月的总天数
+     *
+     * @param year  年
+     * @param month 月
+     * @return 总天数
+     */
+    public static int lengthOfMonth(int year, int month) {
+        // 1 - 7 月单数月为 31 天，8 - 12 月双数月为 31 天
+        return month == 2 ? (isLeapYear(year) ? 29 : 28) : 30 + ((month + (month >> 3)) & 1);
+    }
+
+    //endregion
+
+    //region 对指定日期的偏移操作
+
+    /**
+     * 将指定日期加上指定的月数，日超过目标月份的天数时取该月最后一天
+     *
+     * @param epochDay 天数
+     * @param months   月数
+     * @return 修改后的天数
+     */
+    public static int plusMonths(int epochDay, long months) {
+        return toEpochDay(packedPlusMonths(toPackedDate(epochDay), months));
+    }
+
+    /**
+     * 将指定日期加上指定的年数，2 月 29 日在目标年份不是闰年时取 2 月 28 日
+     *
+     * @param epochDay 天数
+     * @param years    年数
+     * @return 修改后的天数
+     */
+    public static int plusYears(int epochDay, long years) {
+        return plusMonths(epochDay, years * 12);
+    }
+
+    /**
+     * 获取指定日期所在年份的第一天
+     *
+     * @param epochDay 天数
+     * @return 天数
+     */
+    public static int beginOfYear(int epochDay) {
+        return epochDay - dayOfYear(epochDay) + 1;
+    }
+
+    /**
+     * 获取指定日期所在年份的最后一天
+     *
+     * @param epochDay 天数
+     * @return 天数
+     */
+    public static int endOfYear(int epochDay) {
+        final int packedDate = toPackedDate(epochDay);
+        return epochDay - packedDayOfYear(packedDate) + (isLeapYear(unpackYear(packedDate)) ? 366 : 365);
+    }
+
+    /**
+     * 获取指定日期所在月份的第一天
+     *
+     * @param epochDay 天数
+     * @return 天数
+     */
+    public static int beginOfMonth(int epochDay) {
+        return epochDay - dayOfMonth(epochDay) + 1;
+    }
+
+    /**
+     * 获取指定日期所在月份的最后一天
+     *
+     * @param epochDay 天数
+     * @return 天数
+     */
+    public static int endOfMonth(int epochDay) {
+        final int packedDate = toPackedDate(epochDay);
+        return epochDay - unpackDayOfMonth(packedDate) + lengthOfMonth(unpackYear(packedDate), unpackMonth(packedDate));
+    }
+
+    /**
+     * 获取指定日期所在星期的周一
+     *
+     * @param epochDay 天数
+     * @return 天数
+     */
+    public static int beginOfWeek(int epochDay) {
+        return epochDay - dayOfWeek(epochDay) + 1;
+    }
+
+    /**
+     * 获取指定日期所在星期的周日
+     *
+     * @param epochDay 天数
+     * @return 天数
+     */
+    public static int endOfWeek(int epochDay) {
+        return epochDay - dayOfWeek(epochDay) + 7;
+    }
+
+    //endregion
+
+    /**
+     * 在打包的年月日上加月数，日超过目标月份的天数时取该月最后一天
+     */
+    static int packedPlusMonths(int packedDate, long months) {
+        final long total = unpackYear(packedDate) * 12L + (unpackMonth(packedDate) - 1) + months;
+        final int year = Math.toIntExact(floorDiv(total, 12));
+        final int month = (int) floorMod(total, 12L) + 1;
+        return pack(year, month, Math.min(unpackDayOfMonth(packedDate), lengthOfMonth(year, month)));
+    }
+
+    /**
+     * 打包的年月日是所在年份的第几天
+     */
+    static int packedDayOfYear(int packedDate) {
+        final int year = unpackYear(packedDate);
+        final int month = unpackMonth(packedDate);
+        return DAYS_BEFORE_MONTH[month] + unpackDayOfMonth(packedDate) + (month > 2 && isLeapYear(year) ? 1 : 0);
+    }
+
+    /**
+     * 以周一为一周的开始、包含第一天的周为第一周时，day（一年或一月中的第几天）所在的周数，
+     * 与 {@code WeekFields.of(MONDAY, 1)} 的 weekOfYear / weekOfMonth 相同
+     */
+    static int weekOf(int day, int dayOfWeek) {
+        final int weekStart = floorMod(day - dayOfWeek, 7);
+        final int offset = weekStart > 0 ? 7 - weekStart : 0;
+        return (7 + offset + (day - 1)) / 7;
+    }
+}
@@ -0,0 +1,3347 @@
+package io.github.lostblackknight.core.date;
+
+import io.github.lostblackknight.core.date.format.DatePattern;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+import static java.lang.Math.*;
+
+/**
+ * 毫秒时间戳工具类
+ * <p>与 {@link LocalDateTimeUtils} 提供相同的操作，参数和返回值都是 1970-01-01T00:00:00Z 起的毫秒数。
+ * 时间戳先按时区换算为本地时间的毫秒数，再拆分为天数和当天的毫秒数做整数运算，除格式化和解析外不会创建对象。
+ * 每个方法都有使用系统默认时区和使用指定时区的两个版本，时区的偏移由 {@link ZoneContext} 缓存。
+ * <p>与 {@link LocalDateTimeUtils} 相同，日期的偏移、比较和计算时间量都是对本地时间进行的，
+ * 例如加一天得到的是本地时间的下一天的同一时刻，跨越夏令时切换时与加 24 小时的结果不同。
+ * <p>beginOfYears、endOfDays 等批量截断的方法原地修改 long[] 的一段，适合对大量时间戳分组前的预处理。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/18 21:10
+ * @version 1.0.0
+ */
+public abstract class EpochMillisUtils extends BaseUtils {
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+
+    private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+
+    private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+    private static final long MILLIS_PER_WEEK = 7 * MILLIS_PER_DAY;
+
+    //region 创建毫秒时间戳
+
+    /**
+     * 创建毫秒时间戳，取当天开始的时刻
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @return 毫秒
+     */
+    public static long of(int year, int month, int dayOfMonth) {
+        return of(year, month, dayOfMonth, ZoneContext.system());
+    }
+
+    /**
+     * 创建毫秒时间戳，取当天开始的时刻，使用指定的时区
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @param zoneId     时区
+     * @return 毫秒
+     */
+    public static long of(int year, int month, int dayOfMonth, ZoneId zoneId) {
+        return of(year, month, dayOfMonth, ZoneContext.of(zoneId));
+    }
+
+    private static long of(int year, int month, int dayOfMonth, ZoneContext context) {
+        return context.toEpochMilli(EpochDayUtils.epochDay(checkDate(year, month, dayOfMonth), month, dayOfMonth) * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 创建毫秒时间戳
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @param hour       时
+     * @param minute     分
+     * @return 毫秒
+     */
+    public static long of(int year, int month, int dayOfMonth, int hour, int minute) {
+        return of(year, month, dayOfMonth, hour, minute, ZoneContext.system());
+    }
+
+    /**
+     * 创建毫秒时间戳，使用指定的时区
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @param hour       时
+     * @param minute     分
+     * @param zoneId     时区
+     * @return 毫秒
+     */
+    public static long of(int year, int month, int dayOfMonth, int hour, int minute, ZoneId zoneId) {
+        return of(year, month, dayOfMonth, hour, minute, ZoneContext.of(zoneId));
+    }
+
+    private static long of(int year, int month, int dayOfMonth, int hour, int minute, ZoneContext context) {
+        return of(year, month, dayOfMonth, hour, minute, 0, context);
+    }
+
+    /**
+     * 创建毫秒时间戳
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @param hour       时
+     * @param minute     分
+     * @param second     秒
+     * @return 毫秒
+     */
+    public static long of(int year, int month, int dayOfMonth, int hour, int minute, int second) {
+        return of(year, month, dayOfMonth, hour, minute, second, ZoneContext.system());
+    }
+
+    /**
+     * 创建毫秒时间戳，使用指定的时区
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @param hour       时
+     * @param minute     分
+     * @param second     秒
+     * @param zoneId     时区
+     * @return 毫秒
+     */
+    public static long of(int year, int month, int dayOfMonth, int hour, int minute, int second, ZoneId zoneId) {
+        return of(year, month, dayOfMonth, hour, minute, second, ZoneContext.of(zoneId));
+    }
+
+    private static long of(int year, int month, int dayOfMonth, int hour, int minute, int second, ZoneContext context) {
+        final long epochDay = EpochDayUtils.epochDay(checkDate(year, month, dayOfMonth), month, dayOfMonth);
+        return context.toEpochMilli(epochDay * MILLIS_PER_DAY + checkTime(hour, minute, second));
+    }
+
+    /**
+     * 获取当前的毫秒时间戳，时间取自 {@link ClockProvider}
+     *
+     * @return 毫秒
+     */
+    public static long current() {
+        return ClockProvider.millis();
+    }
+
+    //endregion
+
+    //region 获取指定日期的基本信息
+
+    /**
+     * 获取指定日期所在的年份
+     *
+     * @param epochMilli 毫秒
+     * @return 年份
+     */
+    public static int year(long epochMilli) {
+        return year(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在的年份，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 年份
+     */
+    public static int year(long epochMilli, ZoneId zoneId) {
+        return year(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int year(long epochMilli, ZoneContext context) {
+        return EpochDayUtils.year(epochDay(context.toLocalMilli(epochMilli)));
+    }
+
+    /**
+     * 获取指定日期所在的月份，范围为 [1, 12]
+     *
+     * @param epochMilli 毫秒
+     * @return 月份
+     */
+    public static int month(long epochMilli) {
+        return month(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在的月份，范围为 [1, 12]，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 月份
+     */
+    public static int month(long epochMilli, ZoneId zoneId) {
+        return month(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int month(long epochMilli, ZoneContext context) {
+        return EpochDayUtils.month(epochDay(context.toLocalMilli(epochMilli)));
+    }
+
+    /**
+     * 获取指定日期是所在年份的第几周，范围为 [1, 53]
+     *
+     * @param epochMilli 毫秒
+     * @return 周
+     */
+    public static int weekOfYear(long epochMilli) {
+        return weekOfYear(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期是所在年份的第几周，范围为 [1, 53]，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 周
+     */
+    public static int weekOfYear(long epochMilli, ZoneId zoneId) {
+        return weekOfYear(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int weekOfYear(long epochMilli, ZoneContext context) {
+        return EpochDayUtils.weekOfYear(epochDay(context.toLocalMilli(epochMilli)));
+    }
+
+    /**
+     * 获取指定日期是所在年份的第几天，范围为 [1, 366]
+     *
+     * @param epochMilli 毫秒
+     * @return 天
+     */
+    public static int dayOfYear(long epochMilli) {
+        return dayOfYear(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期是所在年份的第几天，范围为 [1, 366]，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 天
+     */
+    public static int dayOfYear(long epochMilli, ZoneId zoneId) {
+        return dayOfYear(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int dayOfYear(long epochMilli, ZoneContext context) {
+        return EpochDayUtils.dayOfYear(epochDay(context.toLocalMilli(epochMilli)));
+    }
+
+    /**
+     * 获取指定日期是所在月份的第几周，范围为 [1, 5]
+     *
+     * @param epochMilli 毫秒
+     * @return 周
+     */
+    public static int weekOfMonth(long epochMilli) {
+        return weekOfMonth(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期是所在月份的第几周，范围为 [1, 5]，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 周
+     */
+    public static int weekOfMonth(long epochMilli, ZoneId zoneId) {
+        return weekOfMonth(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int weekOfMonth(long epochMilli, ZoneContext context) {
+        return EpochDayUtils.weekOfMonth(epochDay(context.toLocalMilli(epochMilli)));
+    }
+
+    /**
+     * 获取指定日期是所在月份的第几天，范围为 [1, 31]
+     *
+     * @param epochMilli 毫秒
+     * @return 天
+     */
+    public static int dayOfMonth(long epochMilli) {
+        return dayOfMonth(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期是所在月份的第几天，范围为 [1, 31]，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 天
+     */
+    public static int dayOfMonth(long epochMilli, ZoneId zoneId) {
+        return dayOfMonth(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int dayOfMonth(long epochMilli, ZoneContext context) {
+        return EpochDayUtils.dayOfMonth(epochDay(context.toLocalMilli(epochMilli)));
+    }
+
+    /**
+     * 获取指定日期是所在星期的第几天，范围为 [1, 7]
+     *
+     * @param epochMilli 毫秒
+     * @return 天
+     */
+    public static int dayOfWeek(long epochMilli) {
+        return dayOfWeek(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期是所在星期的第几天，范围为 [1, 7]，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 天
+     */
+    public static int dayOfWeek(long epochMilli, ZoneId zoneId) {
+        return dayOfWeek(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int dayOfWeek(long epochMilli, ZoneContext context) {
+        return EpochDayUtils.dayOfWeek(epochDay(context.toLocalMilli(epochMilli)));
+    }
+
+    /**
+     * 获取指定日期的小时数，范围为 [0, 23]
+     *
+     * @param epochMilli 毫秒
+     * @return 小时
+     */
+    public static int hourOf24(long epochMilli) {
+        return hourOf24(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的小时数，范围为 [0, 23]，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 小时
+     */
+    public static int hourOf24(long epochMilli, ZoneId zoneId) {
+        return hourOf24(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int hourOf24(long epochMilli, ZoneContext context) {
+        return (int) (milliOfDay(context.toLocalMilli(epochMilli)) / MILLIS_PER_HOUR);
+    }
+
+    /**
+     * 获取指定日期的小时数，范围为 [0, 11]
+     *
+     * @param epochMilli 毫秒
+     * @return 小时
+     */
+    public static int hourOf12(long epochMilli) {
+        return hourOf12(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的小时数，范围为 [0, 11]，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 小时
+     */
+    public static int hourOf12(long epochMilli, ZoneId zoneId) {
+        return hourOf12(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int hourOf12(long epochMilli, ZoneContext context) {
+        return hourOf24(epochMilli, context) % 12;
+    }
+
+    /**
+     * 获取指定日期的分钟数，范围为 [0, 59]
+     *
+     * @param epochMilli 毫秒
+     * @return 分钟
+     */
+    public static int minute(long epochMilli) {
+        return minute(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的分钟数，范围为 [0, 59]，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 分钟
+     */
+    public static int minute(long epochMilli, ZoneId zoneId) {
+        return minute(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int minute(long epochMilli, ZoneContext context) {
+        return (int) (milliOfDay(context.toLocalMilli(epochMilli)) / MILLIS_PER_MINUTE % 60);
+    }
+
+    /**
+     * 获取指定日期的秒数，范围为 [0, 59]
+     *
+     * @param epochMilli 毫秒
+     * @return 秒
+     */
+    public static int second(long epochMilli) {
+        return second(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的秒数，范围为 [0, 59]，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 秒
+     */
+    public static int second(long epochMilli, ZoneId zoneId) {
+        return second(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int second(long epochMilli, ZoneContext context) {
+        return (int) (milliOfDay(context.toLocalMilli(epochMilli)) / MILLIS_PER_SECOND % 60);
+    }
+
+    /**
+     * 获取指定日期的毫秒数，范围为 [0, 999]
+     *
+     * @param epochMilli 毫秒
+     * @return 毫秒
+     */
+    public static int milli(long epochMilli) {
+        return milli(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的毫秒数，范围为 [0, 999]，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 毫秒
+     */
+    public static int milli(long epochMilli, ZoneId zoneId) {
+        return milli(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int milli(long epochMilli, ZoneContext context) {
+        return (int) (milliOfDay(context.toLocalMilli(epochMilli)) % MILLIS_PER_SECOND);
+    }
+
+    /**
+     * 判断指定日期所在的年份是否为闰年
+     *
+     * @param epochMilli 毫秒
+     * @return 是否为闰年
+     */
+    public static boolean isLeapYear(long epochMilli) {
+        return isLeapYear(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 判断指定日期所在的年份是否为闰年，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 是否为闰年
+     */
+    public static boolean isLeapYear(long epochMilli, ZoneId zoneId) {
+        return isLeapYear(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isLeapYear(long epochMilli, ZoneContext context) {
+        return EpochDayUtils.isLeapYear(year(epochMilli, context));
+    }
+
+    /**
+     * 判断指定日期是否为周末
+     *
+     * @param epochMilli 毫秒
+     * @return 是否为周末
+     */
+    public static boolean isWeekend(long epochMilli) {
+        return isWeekend(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 判断指定日期是否为周末，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 是否为周末
+     */
+    public static boolean isWeekend(long epochMilli, ZoneId zoneId) {
+        return isWeekend(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isWeekend(long epochMilli, ZoneContext context) {
+        return dayOfWeek(epochMilli, context) >= 6;
+    }
+
+    /**
+     * 判断指定日期是否为上午
+     *
+     * @param epochMilli 毫秒
+     * @return 是否为上午
+     */
+    public static boolean isAM(long epochMilli) {
+        return isAM(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 判断指定日期是否为上午，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 是否为上午
+     */
+    public static boolean isAM(long epochMilli, ZoneId zoneId) {
+        return isAM(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isAM(long epochMilli, ZoneContext context) {
+        return hourOf24(epochMilli, context) < 12;
+    }
+
+    /**
+     * 判断指定日期是否为下午
+     *
+     * @param epochMilli 毫秒
+     * @return 是否为下午
+     */
+    public static boolean isPM(long epochMilli) {
+        return isPM(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 判断指定日期是否为下午，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 是否为下午
+     */
+    public static boolean isPM(long epochMilli, ZoneId zoneId) {
+        return isPM(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isPM(long epochMilli, ZoneContext context) {
+        return hourOf24(epochMilli, context) >= 12;
+    }
+
+    /**
+     * 获取指定日期所在年份的总天数
+     *
+     * @param epochMilli 毫秒
+     * @return 总天数
+     */
+    public static int lengthOfYear(long epochMilli) {
+        return lengthOfYear(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在年份的总天数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 总天数
+     */
+    public static int lengthOfYear(long epochMilli, ZoneId zoneId) {
+        return lengthOfYear(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int lengthOfYear(long epochMilli, ZoneContext context) {
+        return EpochDayUtils.isLeapYear(year(epochMilli, context)) ? 366 : 365;
+    }
+
+    /**
+     * 获取指定日期所在月份的总天数
+     *
+     * @param epochMilli 毫秒
+     * @return 总天数
+     */
+    public static int lengthOfMonth(long epochMilli) {
+        return lengthOfMonth(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在月份的总天数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 总天数
+     */
+    public static int lengthOfMonth(long epochMilli, ZoneId zoneId) {
+        return lengthOfMonth(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static int lengthOfMonth(long epochMilli, ZoneContext context) {
+        return EpochDayUtils.lengthOfMonth(epochDay(context.toLocalMilli(epochMilli)));
+    }
+
+    //endregion
+
+    //region 对指定日期的偏移操作
+
+    /**
+     * 将指定日期加上指定的年数
+     *
+     * @param epochMilli 毫秒
+     * @param years      年数
+     * @return 修改后的毫秒
+     */
+    public static long plusYears(long epochMilli, int years) {
+        return plusYears(epochMilli, years, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期加上指定的年数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param years      年数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long plusYears(long epochMilli, int years, ZoneId zoneId) {
+        return plusYears(epochMilli, years, ZoneContext.of(zoneId));
+    }
+
+    private static long plusYears(long epochMilli, int years, ZoneContext context) {
+        return addMonths(epochMilli, years * 12L, context);
+    }
+
+    /**
+     * 将指定日期加上指定的月数
+     *
+     * @param epochMilli 毫秒
+     * @param months     月数
+     * @return 修改后的毫秒
+     */
+    public static long plusMonths(long epochMilli, int months) {
+        return plusMonths(epochMilli, months, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期加上指定的月数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param months     月数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long plusMonths(long epochMilli, int months, ZoneId zoneId) {
+        return plusMonths(epochMilli, months, ZoneContext.of(zoneId));
+    }
+
+    private static long plusMonths(long epochMilli, int months, ZoneContext context) {
+        return addMonths(epochMilli, (long) months, context);
+    }
+
+    /**
+     * 将指定日期加上指定的周数
+     *
+     * @param epochMilli 毫秒
+     * @param weeks      周数
+     * @return 修改后的毫秒
+     */
+    public static long plusWeeks(long epochMilli, int weeks) {
+        return plusWeeks(epochMilli, weeks, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期加上指定的周数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param weeks      周数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long plusWeeks(long epochMilli, int weeks, ZoneId zoneId) {
+        return plusWeeks(epochMilli, weeks, ZoneContext.of(zoneId));
+    }
+
+    private static long plusWeeks(long epochMilli, int weeks, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) + weeks * MILLIS_PER_WEEK);
+    }
+
+    /**
+     * 将指定日期加上指定的天数
+     *
+     * @param epochMilli 毫秒
+     * @param days       天数
+     * @return 修改后的毫秒
+     */
+    public static long plusDays(long epochMilli, int days) {
+        return plusDays(epochMilli, days, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期加上指定的天数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param days       天数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long plusDays(long epochMilli, int days, ZoneId zoneId) {
+        return plusDays(epochMilli, days, ZoneContext.of(zoneId));
+    }
+
+    private static long plusDays(long epochMilli, int days, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) + days * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 将指定日期加上指定的小时数
+     *
+     * @param epochMilli 毫秒
+     * @param hours      小时数
+     * @return 修改后的毫秒
+     */
+    public static long plusHours(long epochMilli, int hours) {
+        return plusHours(epochMilli, hours, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期加上指定的小时数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param hours      小时数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long plusHours(long epochMilli, int hours, ZoneId zoneId) {
+        return plusHours(epochMilli, hours, ZoneContext.of(zoneId));
+    }
+
+    private static long plusHours(long epochMilli, int hours, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) + hours * MILLIS_PER_HOUR);
+    }
+
+    /**
+     * 将指定日期加上指定的分钟数
+     *
+     * @param epochMilli 毫秒
+     * @param minutes    分钟数
+     * @return 修改后的毫秒
+     */
+    public static long plusMinutes(long epochMilli, int minutes) {
+        return plusMinutes(epochMilli, minutes, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期加上指定的分钟数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param minutes    分钟数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long plusMinutes(long epochMilli, int minutes, ZoneId zoneId) {
+        return plusMinutes(epochMilli, minutes, ZoneContext.of(zoneId));
+    }
+
+    private static long plusMinutes(long epochMilli, int minutes, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) + minutes * MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * 将指定日期加上指定的秒数
+     *
+     * @param epochMilli 毫秒
+     * @param seconds    秒数
+     * @return 修改后的毫秒
+     */
+    public static long plusSeconds(long epochMilli, int seconds) {
+        return plusSeconds(epochMilli, seconds, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期加上指定的秒数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param seconds    秒数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long plusSeconds(long epochMilli, int seconds, ZoneId zoneId) {
+        return plusSeconds(epochMilli, seconds, ZoneContext.of(zoneId));
+    }
+
+    private static long plusSeconds(long epochMilli, int seconds, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) + seconds * MILLIS_PER_SECOND);
+    }
+
+    /**
+     * 将指定日期加上指定的毫秒数
+     *
+     * @param epochMilli 毫秒
+     * @param millis     毫秒数
+     * @return 修改后的毫秒
+     */
+    public static long plusMillis(long epochMilli, int millis) {
+        return plusMillis(epochMilli, millis, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期加上指定的毫秒数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param millis     毫秒数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long plusMillis(long epochMilli, int millis, ZoneId zoneId) {
+        return plusMillis(epochMilli, millis, ZoneContext.of(zoneId));
+    }
+
+    private static long plusMillis(long epochMilli, int millis, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) + millis);
+    }
+
+    /**
+     * 将指定日期减去指定的年数
+     *
+     * @param epochMilli 毫秒
+     * @param years      年数
+     * @return 修改后的毫秒
+     */
+    public static long minusYears(long epochMilli, int years) {
+        return minusYears(epochMilli, years, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期减去指定的年数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param years      年数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long minusYears(long epochMilli, int years, ZoneId zoneId) {
+        return minusYears(epochMilli, years, ZoneContext.of(zoneId));
+    }
+
+    private static long minusYears(long epochMilli, int years, ZoneContext context) {
+        return addMonths(epochMilli, -years * 12L, context);
+    }
+
+    /**
+     * 将指定日期减去指定的月数
+     *
+     * @param epochMilli 毫秒
+     * @param months     月数
+     * @return 修改后的毫秒
+     */
+    public static long minusMonths(long epochMilli, int months) {
+        return minusMonths(epochMilli, months, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期减去指定的月数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param months     月数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long minusMonths(long epochMilli, int months, ZoneId zoneId) {
+        return minusMonths(epochMilli, months, ZoneContext.of(zoneId));
+    }
+
+    private static long minusMonths(long epochMilli, int months, ZoneContext context) {
+        return addMonths(epochMilli, -(long) months, context);
+    }
+
+    /**
+     * 将指定日期减去指定的周数
+     *
+     * @param epochMilli 毫秒
+     * @param weeks      周数
+     * @return 修改后的毫秒
+     */
+    public static long minusWeeks(long epochMilli, int weeks) {
+        return minusWeeks(epochMilli, weeks, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期减去指定的周数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param weeks      周数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long minusWeeks(long epochMilli, int weeks, ZoneId zoneId) {
+        return minusWeeks(epochMilli, weeks, ZoneContext.of(zoneId));
+    }
+
+    private static long minusWeeks(long epochMilli, int weeks, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) - weeks * MILLIS_PER_WEEK);
+    }
+
+    /**
+     * 将指定日期减去指定的天数
+     *
+     * @param epochMilli 毫秒
+     * @param days       天数
+     * @return 修改后的毫秒
+     */
+    public static long minusDays(long epochMilli, int days) {
+        return minusDays(epochMilli, days, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期减去指定的天数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param days       天数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long minusDays(long epochMilli, int days, ZoneId zoneId) {
+        return minusDays(epochMilli, days, ZoneContext.of(zoneId));
+    }
+
+    private static long minusDays(long epochMilli, int days, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) - days * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 将指定日期减去指定的小时数
+     *
+     * @param epochMilli 毫秒
+     * @param hours      小时数
+     * @return 修改后的毫秒
+     */
+    public static long minusHours(long epochMilli, int hours) {
+        return minusHours(epochMilli, hours, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期减去指定的小时数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param hours      小时数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long minusHours(long epochMilli, int hours, ZoneId zoneId) {
+        return minusHours(epochMilli, hours, ZoneContext.of(zoneId));
+    }
+
+    private static long minusHours(long epochMilli, int hours, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) - hours * MILLIS_PER_HOUR);
+    }
+
+    /**
+     * 将指定日期减去指定的分钟数
+     *
+     * @param epochMilli 毫秒
+     * @param minutes    分钟数
+     * @return 修改后的毫秒
+     */
+    public static long minusMinutes(long epochMilli, int minutes) {
+        return minusMinutes(epochMilli, minutes, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期减去指定的分钟数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param minutes    分钟数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long minusMinutes(long epochMilli, int minutes, ZoneId zoneId) {
+        return minusMinutes(epochMilli, minutes, ZoneContext.of(zoneId));
+    }
+
+    private static long minusMinutes(long epochMilli, int minutes, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) - minutes * MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * 将指定日期减去指定的秒数
+     *
+     * @param epochMilli 毫秒
+     * @param seconds    秒数
+     * @return 修改后的毫秒
+     */
+    public static long minusSeconds(long epochMilli, int seconds) {
+        return minusSeconds(epochMilli, seconds, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期减去指定的秒数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param seconds    秒数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long minusSeconds(long epochMilli, int seconds, ZoneId zoneId) {
+        return minusSeconds(epochMilli, seconds, ZoneContext.of(zoneId));
+    }
+
+    private static long minusSeconds(long epochMilli, int seconds, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) - seconds * MILLIS_PER_SECOND);
+    }
+
+    /**
+     * 将指定日期减去指定的毫秒数
+     *
+     * @param epochMilli 毫秒
+     * @param millis     毫秒数
+     * @return 修改后的毫秒
+     */
+    public static long minusMillis(long epochMilli, int millis) {
+        return minusMillis(epochMilli, millis, ZoneContext.system());
+    }
+
+    /**
+     * 将指定日期减去指定的毫秒数，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param millis     毫秒数
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long minusMillis(long epochMilli, int millis, ZoneId zoneId) {
+        return minusMillis(epochMilli, millis, ZoneContext.of(zoneId));
+    }
+
+    private static long minusMillis(long epochMilli, int millis, ZoneContext context) {
+        return context.toEpochMilli(context.toLocalMilli(epochMilli) - millis);
+    }
+
+    /**
+     * 获取指定日期所在年份的第一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfYear(long epochMilli) {
+        return beginOfYear(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在年份的第一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfYear(long epochMilli, ZoneId zoneId) {
+        return beginOfYear(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfYear(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.beginOfYear(epochDay(local)), context);
+    }
+
+    /**
+     * 获取指定日期所在年份的最后一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfYear(long epochMilli) {
+        return endOfYear(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在年份的最后一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfYear(long epochMilli, ZoneId zoneId) {
+        return endOfYear(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfYear(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.endOfYear(epochDay(local)), context);
+    }
+
+    /**
+     * 获取指定日期的下一年的第一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfNextYear(long epochMilli) {
+        return beginOfNextYear(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的下一年的第一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfNextYear(long epochMilli, ZoneId zoneId) {
+        return beginOfNextYear(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfNextYear(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.beginOfYear(EpochDayUtils.plusYears(epochDay(local), 1)), context);
+    }
+
+    /**
+     * 获取指定日期的下一年的最后一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfNextYear(long epochMilli) {
+        return endOfNextYear(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的下一年的最后一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfNextYear(long epochMilli, ZoneId zoneId) {
+        return endOfNextYear(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfNextYear(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.endOfYear(EpochDayUtils.plusYears(epochDay(local), 1)), context);
+    }
+
+    /**
+     * 获取指定日期的上一年的第一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfPrevYear(long epochMilli) {
+        return beginOfPrevYear(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的上一年的第一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfPrevYear(long epochMilli, ZoneId zoneId) {
+        return beginOfPrevYear(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfPrevYear(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.beginOfYear(EpochDayUtils.plusYears(epochDay(local), -1)), context);
+    }
+
+    /**
+     * 获取指定日期的上一年的最后一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfPrevYear(long epochMilli) {
+        return endOfPrevYear(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的上一年的最后一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfPrevYear(long epochMilli, ZoneId zoneId) {
+        return endOfPrevYear(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfPrevYear(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.endOfYear(EpochDayUtils.plusYears(epochDay(local), -1)), context);
+    }
+
+    /**
+     * 获取指定日期所在月份的第一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfMonth(long epochMilli) {
+        return beginOfMonth(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在月份的第一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfMonth(long epochMilli, ZoneId zoneId) {
+        return beginOfMonth(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfMonth(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.beginOfMonth(epochDay(local)), context);
+    }
+
+    /**
+     * 获取指定日期所在月份的最后一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfMonth(long epochMilli) {
+        return endOfMonth(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在月份的最后一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfMonth(long epochMilli, ZoneId zoneId) {
+        return endOfMonth(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfMonth(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.endOfMonth(epochDay(local)), context);
+    }
+
+    /**
+     * 获取指定日期的下一个月的第一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfNextMonth(long epochMilli) {
+        return beginOfNextMonth(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的下一个月的第一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfNextMonth(long epochMilli, ZoneId zoneId) {
+        return beginOfNextMonth(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfNextMonth(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.beginOfMonth(EpochDayUtils.plusMonths(epochDay(local), 1)), context);
+    }
+
+    /**
+     * 获取指定日期的下一个月的最后一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfNextMonth(long epochMilli) {
+        return endOfNextMonth(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的下一个月的最后一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfNextMonth(long epochMilli, ZoneId zoneId) {
+        return endOfNextMonth(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfNextMonth(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.endOfMonth(EpochDayUtils.plusMonths(epochDay(local), 1)), context);
+    }
+
+    /**
+     * 获取指定日期的上一个月的第一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfPrevMonth(long epochMilli) {
+        return beginOfPrevMonth(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的上一个月的第一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfPrevMonth(long epochMilli, ZoneId zoneId) {
+        return beginOfPrevMonth(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfPrevMonth(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.beginOfMonth(EpochDayUtils.plusMonths(epochDay(local), -1)), context);
+    }
+
+    /**
+     * 获取指定日期的上一个月的最后一天，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfPrevMonth(long epochMilli) {
+        return endOfPrevMonth(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的上一个月的最后一天，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfPrevMonth(long epochMilli, ZoneId zoneId) {
+        return endOfPrevMonth(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfPrevMonth(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.endOfMonth(EpochDayUtils.plusMonths(epochDay(local), -1)), context);
+    }
+
+    /**
+     * 获取指定日期所在星期的周一，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfWeek(long epochMilli) {
+        return beginOfWeek(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在星期的周一，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfWeek(long epochMilli, ZoneId zoneId) {
+        return beginOfWeek(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfWeek(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.beginOfWeek(epochDay(local)), context);
+    }
+
+    /**
+     * 获取指定日期所在星期的周日，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfWeek(long epochMilli) {
+        return endOfWeek(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在星期的周日，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfWeek(long epochMilli, ZoneId zoneId) {
+        return endOfWeek(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfWeek(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.endOfWeek(epochDay(local)), context);
+    }
+
+    /**
+     * 获取指定日期的下一周的周一，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfNextWeek(long epochMilli) {
+        return beginOfNextWeek(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的下一周的周一，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfNextWeek(long epochMilli, ZoneId zoneId) {
+        return beginOfNextWeek(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfNextWeek(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.beginOfWeek(epochDay(local)) + 7, context);
+    }
+
+    /**
+     * 获取指定日期的下一周的周日，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfNextWeek(long epochMilli) {
+        return endOfNextWeek(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的下一周的周日，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfNextWeek(long epochMilli, ZoneId zoneId) {
+        return endOfNextWeek(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfNextWeek(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.endOfWeek(epochDay(local)) + 7, context);
+    }
+
+    /**
+     * 获取指定日期的上一周的周一，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfPrevWeek(long epochMilli) {
+        return beginOfPrevWeek(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的上一周的周一，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfPrevWeek(long epochMilli, ZoneId zoneId) {
+        return beginOfPrevWeek(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfPrevWeek(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.beginOfWeek(epochDay(local)) - 7, context);
+    }
+
+    /**
+     * 获取指定日期的上一周的周日，时间不变
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfPrevWeek(long epochMilli) {
+        return endOfPrevWeek(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的上一周的周日，时间不变，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfPrevWeek(long epochMilli, ZoneId zoneId) {
+        return endOfPrevWeek(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfPrevWeek(long epochMilli, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.endOfWeek(epochDay(local)) - 7, context);
+    }
+
+    /**
+     * 获取指定日期当天的开始时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfDay(long epochMilli) {
+        return beginOfDay(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期当天的开始时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfDay(long epochMilli, ZoneId zoneId) {
+        return beginOfDay(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfDay(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli((epochDay(context.toLocalMilli(epochMilli))) * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 获取指定日期当天的结束时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfDay(long epochMilli) {
+        return endOfDay(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期当天的结束时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfDay(long epochMilli, ZoneId zoneId) {
+        return endOfDay(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfDay(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli((epochDay(context.toLocalMilli(epochMilli))) * MILLIS_PER_DAY + MILLIS_PER_DAY - 1);
+    }
+
+    /**
+     * 获取指定日期的下一天的开始时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfNextDay(long epochMilli) {
+        return beginOfNextDay(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的下一天的开始时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfNextDay(long epochMilli, ZoneId zoneId) {
+        return beginOfNextDay(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfNextDay(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli((epochDay(context.toLocalMilli(epochMilli)) + 1) * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 获取指定日期的下一天的结束时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfNextDay(long epochMilli) {
+        return endOfNextDay(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的下一天的结束时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfNextDay(long epochMilli, ZoneId zoneId) {
+        return endOfNextDay(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfNextDay(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli((epochDay(context.toLocalMilli(epochMilli)) + 1) * MILLIS_PER_DAY + MILLIS_PER_DAY - 1);
+    }
+
+    /**
+     * 获取指定日期的上一天的开始时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfPrevDay(long epochMilli) {
+        return beginOfPrevDay(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的上一天的开始时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfPrevDay(long epochMilli, ZoneId zoneId) {
+        return beginOfPrevDay(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfPrevDay(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli((epochDay(context.toLocalMilli(epochMilli)) - 1) * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 获取指定日期的上一天的结束时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfPrevDay(long epochMilli) {
+        return endOfPrevDay(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期的上一天的结束时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfPrevDay(long epochMilli, ZoneId zoneId) {
+        return endOfPrevDay(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfPrevDay(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli((epochDay(context.toLocalMilli(epochMilli)) - 1) * MILLIS_PER_DAY + MILLIS_PER_DAY - 1);
+    }
+
+    /**
+     * 获取指定日期所在小时的开始时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfHour(long epochMilli) {
+        return beginOfHour(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在小时的开始时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfHour(long epochMilli, ZoneId zoneId) {
+        return beginOfHour(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfHour(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli(floorDiv(context.toLocalMilli(epochMilli), MILLIS_PER_HOUR) * MILLIS_PER_HOUR);
+    }
+
+    /**
+     * 获取指定日期所在小时的结束时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfHour(long epochMilli) {
+        return endOfHour(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在小时的结束时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfHour(long epochMilli, ZoneId zoneId) {
+        return endOfHour(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfHour(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli(floorDiv(context.toLocalMilli(epochMilli), MILLIS_PER_HOUR) * MILLIS_PER_HOUR + MILLIS_PER_HOUR - 1);
+    }
+
+    /**
+     * 获取指定日期所在分钟的开始时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfMinute(long epochMilli) {
+        return beginOfMinute(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在分钟的开始时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfMinute(long epochMilli, ZoneId zoneId) {
+        return beginOfMinute(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfMinute(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli(floorDiv(context.toLocalMilli(epochMilli), MILLIS_PER_MINUTE) * MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * 获取指定日期所在分钟的结束时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfMinute(long epochMilli) {
+        return endOfMinute(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在分钟的结束时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfMinute(long epochMilli, ZoneId zoneId) {
+        return endOfMinute(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfMinute(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli(floorDiv(context.toLocalMilli(epochMilli), MILLIS_PER_MINUTE) * MILLIS_PER_MINUTE + MILLIS_PER_MINUTE - 1);
+    }
+
+    /**
+     * 获取指定日期所在秒的开始时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long beginOfSecond(long epochMilli) {
+        return beginOfSecond(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在秒的开始时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long beginOfSecond(long epochMilli, ZoneId zoneId) {
+        return beginOfSecond(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long beginOfSecond(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli(floorDiv(context.toLocalMilli(epochMilli), MILLIS_PER_SECOND) * MILLIS_PER_SECOND);
+    }
+
+    /**
+     * 获取指定日期所在秒的结束时刻
+     *
+     * @param epochMilli 毫秒
+     * @return 修改后的毫秒
+     */
+    public static long endOfSecond(long epochMilli) {
+        return endOfSecond(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 获取指定日期所在秒的结束时刻，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 修改后的毫秒
+     */
+    public static long endOfSecond(long epochMilli, ZoneId zoneId) {
+        return endOfSecond(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static long endOfSecond(long epochMilli, ZoneContext context) {
+        return context.toEpochMilli(floorDiv(context.toLocalMilli(epochMilli), MILLIS_PER_SECOND) * MILLIS_PER_SECOND + MILLIS_PER_SECOND - 1);
+    }
+
+    //endregion
+
+    //region 批量截断
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在年份的第一天，时间不变
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void beginOfYears(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.YEARS, false, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在年份的第一天，时间不变，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void beginOfYears(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.YEARS, false, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在年份的最后一天，时间不变
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void endOfYears(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.YEARS, true, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在年份的最后一天，时间不变，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void endOfYears(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.YEARS, true, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在月份的第一天，时间不变
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void beginOfMonths(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.MONTHS, false, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在月份的第一天，时间不变，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void beginOfMonths(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.MONTHS, false, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在月份的最后一天，时间不变
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void endOfMonths(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.MONTHS, true, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在月份的最后一天，时间不变，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void endOfMonths(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.MONTHS, true, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在星期的周一，时间不变
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void beginOfWeeks(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.WEEKS, false, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在星期的周一，时间不变，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void beginOfWeeks(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.WEEKS, false, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在星期的周日，时间不变
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void endOfWeeks(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.WEEKS, true, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在星期的周日，时间不变，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void endOfWeeks(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.WEEKS, true, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在天的开始时刻
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void beginOfDays(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.DAYS, false, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在天的开始时刻，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void beginOfDays(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.DAYS, false, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在天的结束时刻
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void endOfDays(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.DAYS, true, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在天的结束时刻，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void endOfDays(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.DAYS, true, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在小时的开始时刻
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void beginOfHours(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.HOURS, false, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在小时的开始时刻，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void beginOfHours(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.HOURS, false, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在小时的结束时刻
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void endOfHours(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.HOURS, true, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在小时的结束时刻，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void endOfHours(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.HOURS, true, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在分钟的开始时刻
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void beginOfMinutes(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.MINUTES, false, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在分钟的开始时刻，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void beginOfMinutes(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.MINUTES, false, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在分钟的结束时刻
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void endOfMinutes(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.MINUTES, true, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在分钟的结束时刻，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void endOfMinutes(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.MINUTES, true, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在秒的开始时刻
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void beginOfSeconds(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.SECONDS, false, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在秒的开始时刻，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void beginOfSeconds(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.SECONDS, false, ZoneContext.of(zoneId));
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在秒的结束时刻
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     */
+    public static void endOfSeconds(long[] epochMillis, int fromIndex, int toIndex) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.SECONDS, true, ZoneContext.system());
+    }
+
+    /**
+     * 将数组 [fromIndex, toIndex) 范围内的每个时刻替换为所在秒的结束时刻，使用指定的时区
+     *
+     * @param epochMillis 毫秒
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param zoneId      时区
+     */
+    public static void endOfSeconds(long[] epochMillis, int fromIndex, int toIndex, ZoneId zoneId) {
+        truncate(epochMillis, fromIndex, toIndex, ChronoUnit.SECONDS, true, ZoneContext.of(zoneId));
+    }
+
+    private static void truncate(long[] epochMillis, int fromIndex, int toIndex, ChronoUnit unit, boolean end, ZoneContext context) {
+        checkRange(epochMillis.length, fromIndex, toIndex);
+        switch (unit) {
+            case YEARS:
+            case MONTHS:
+            case WEEKS:
+                truncateToPeriod(epochMillis, fromIndex, toIndex, unit, end, context);
+                break;
+            default:
+                truncateToMillis(epochMillis, fromIndex, toIndex, unit.getDuration().toMillis(), end, context);
+                break;
+        }
+    }
+
+    /**
+     * 截断到天及以下的单位，本地时间按单位的毫秒数取整；固定偏移的时区直接加减偏移
+     */
+    private static void truncateToMillis(long[] epochMillis, int fromIndex, int toIndex, long unitMillis, boolean end, ZoneContext context) {
+        final long adjust = end ? unitMillis - 1 : 0;
+        if (context.isFixedOffset()) {
+            final long offset = context.toLocalMilli(0);
+            for (int i = fromIndex; i < toIndex; i++) {
+                epochMillis[i] = floorDiv(epochMillis[i] + offset, unitMillis) * unitMillis + adjust - offset;
+            }
+            return;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            epochMillis[i] = context.toEpochMilli(floorDiv(context.toLocalMilli(epochMillis[i]), unitMillis) * unitMillis + adjust);
+        }
+    }
+
+    /**
+     * 截断到周、月、年，时间不变
+     * <p>缓存最近一次计算的周期 [firstDay, lastDay] 和目标日期，相邻的时刻落在同一周期时不再解码日期
+     */
+    private static void truncateToPeriod(long[] epochMillis, int fromIndex, int toIndex, ChronoUnit unit, boolean end, ZoneContext context) {
+        int firstDay = 1;
+        int lastDay = 0;
+        int targetDay = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            final long local = context.toLocalMilli(epochMillis[i]);
+            final int epochDay = epochDay(local);
+            if (epochDay < firstDay || epochDay > lastDay) {
+                if (unit == ChronoUnit.YEARS) {
+                    firstDay = EpochDayUtils.beginOfYear(epochDay);
+                    lastDay = EpochDayUtils.endOfYear(epochDay);
+                } else if (unit == ChronoUnit.MONTHS) {
+                    firstDay = EpochDayUtils.beginOfMonth(epochDay);
+                    lastDay = EpochDayUtils.endOfMonth(epochDay);
+                } else {
+                    firstDay = EpochDayUtils.beginOfWeek(epochDay);
+                    lastDay = firstDay + 6;
+                }
+                targetDay = end ? lastDay : firstDay;
+            }
+            epochMillis[i] = context.toEpochMilli(local + (targetDay - epochDay) * MILLIS_PER_DAY);
+        }
+    }
+
+    private static void checkRange(int length, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    //endregion
+
+    //region 多个日期之间的操作
+
+    /**
+     * 计算从开始日期到结束日期之间的年数，不足一年的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenYears(long begin, long end, boolean isAbs) {
+        return betweenYears(begin, end, isAbs, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的年数，不足一年的部分舍去，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param isAbs  是否是绝对值
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenYears(long begin, long end, boolean isAbs, ZoneId zoneId) {
+        return betweenYears(begin, end, isAbs, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenYears(long begin, long end, boolean isAbs, ZoneContext context) {
+        final long between = monthsBetween(context.toLocalMilli(begin), context.toLocalMilli(end)) / 12;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的月数，不足一个月的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenMonths(long begin, long end, boolean isAbs) {
+        return betweenMonths(begin, end, isAbs, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的月数，不足一个月的部分舍去，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param isAbs  是否是绝对值
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenMonths(long begin, long end, boolean isAbs, ZoneId zoneId) {
+        return betweenMonths(begin, end, isAbs, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenMonths(long begin, long end, boolean isAbs, ZoneContext context) {
+        final long between = monthsBetween(context.toLocalMilli(begin), context.toLocalMilli(end));
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的周数，不足一周的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenWeeks(long begin, long end, boolean isAbs) {
+        return betweenWeeks(begin, end, isAbs, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的周数，不足一周的部分舍去，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param isAbs  是否是绝对值
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenWeeks(long begin, long end, boolean isAbs, ZoneId zoneId) {
+        return betweenWeeks(begin, end, isAbs, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenWeeks(long begin, long end, boolean isAbs, ZoneContext context) {
+        final long between = (context.toLocalMilli(end) - context.toLocalMilli(begin)) / MILLIS_PER_WEEK;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的天数，不足一天的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenDays(long begin, long end, boolean isAbs) {
+        return betweenDays(begin, end, isAbs, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的天数，不足一天的部分舍去，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param isAbs  是否是绝对值
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenDays(long begin, long end, boolean isAbs, ZoneId zoneId) {
+        return betweenDays(begin, end, isAbs, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenDays(long begin, long end, boolean isAbs, ZoneContext context) {
+        final long between = (context.toLocalMilli(end) - context.toLocalMilli(begin)) / MILLIS_PER_DAY;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的小时数，不足一小时的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenHours(long begin, long end, boolean isAbs) {
+        return betweenHours(begin, end, isAbs, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的小时数，不足一小时的部分舍去，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param isAbs  是否是绝对值
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenHours(long begin, long end, boolean isAbs, ZoneId zoneId) {
+        return betweenHours(begin, end, isAbs, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenHours(long begin, long end, boolean isAbs, ZoneContext context) {
+        final long between = (context.toLocalMilli(end) - context.toLocalMilli(begin)) / MILLIS_PER_HOUR;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的分钟数，不足一分钟的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenMinutes(long begin, long end, boolean isAbs) {
+        return betweenMinutes(begin, end, isAbs, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的分钟数，不足一分钟的部分舍去，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param isAbs  是否是绝对值
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenMinutes(long begin, long end, boolean isAbs, ZoneId zoneId) {
+        return betweenMinutes(begin, end, isAbs, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenMinutes(long begin, long end, boolean isAbs, ZoneContext context) {
+        final long between = (context.toLocalMilli(end) - context.toLocalMilli(begin)) / MILLIS_PER_MINUTE;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的秒数，不足一秒的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenSeconds(long begin, long end, boolean isAbs) {
+        return betweenSeconds(begin, end, isAbs, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的秒数，不足一秒的部分舍去，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param isAbs  是否是绝对值
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenSeconds(long begin, long end, boolean isAbs, ZoneId zoneId) {
+        return betweenSeconds(begin, end, isAbs, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenSeconds(long begin, long end, boolean isAbs, ZoneContext context) {
+        final long between = (context.toLocalMilli(end) - context.toLocalMilli(begin)) / MILLIS_PER_SECOND;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的毫秒数，不足一毫秒的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenMillis(long begin, long end, boolean isAbs) {
+        return betweenMillis(begin, end, isAbs, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的毫秒数，不足一毫秒的部分舍去，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param isAbs  是否是绝对值
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenMillis(long begin, long end, boolean isAbs, ZoneId zoneId) {
+        return betweenMillis(begin, end, isAbs, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenMillis(long begin, long end, boolean isAbs, ZoneContext context) {
+        final long between = (context.toLocalMilli(end) - context.toLocalMilli(begin));
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的年数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenYears(long begin, long end) {
+        return betweenYears(begin, end, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的年数，返回绝对值，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenYears(long begin, long end, ZoneId zoneId) {
+        return betweenYears(begin, end, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenYears(long begin, long end, ZoneContext context) {
+        return betweenYears(begin, end, true, context);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的月数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenMonths(long begin, long end) {
+        return betweenMonths(begin, end, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的月数，返回绝对值，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenMonths(long begin, long end, ZoneId zoneId) {
+        return betweenMonths(begin, end, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenMonths(long begin, long end, ZoneContext context) {
+        return betweenMonths(begin, end, true, context);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的周数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenWeeks(long begin, long end) {
+        return betweenWeeks(begin, end, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的周数，返回绝对值，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenWeeks(long begin, long end, ZoneId zoneId) {
+        return betweenWeeks(begin, end, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenWeeks(long begin, long end, ZoneContext context) {
+        return betweenWeeks(begin, end, true, context);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的天数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenDays(long begin, long end) {
+        return betweenDays(begin, end, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的天数，返回绝对值，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenDays(long begin, long end, ZoneId zoneId) {
+        return betweenDays(begin, end, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenDays(long begin, long end, ZoneContext context) {
+        return betweenDays(begin, end, true, context);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的小时数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenHours(long begin, long end) {
+        return betweenHours(begin, end, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的小时数，返回绝对值，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenHours(long begin, long end, ZoneId zoneId) {
+        return betweenHours(begin, end, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenHours(long begin, long end, ZoneContext context) {
+        return betweenHours(begin, end, true, context);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的分钟数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenMinutes(long begin, long end) {
+        return betweenMinutes(begin, end, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的分钟数，返回绝对值，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenMinutes(long begin, long end, ZoneId zoneId) {
+        return betweenMinutes(begin, end, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenMinutes(long begin, long end, ZoneContext context) {
+        return betweenMinutes(begin, end, true, context);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的秒数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenSeconds(long begin, long end) {
+        return betweenSeconds(begin, end, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的秒数，返回绝对值，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenSeconds(long begin, long end, ZoneId zoneId) {
+        return betweenSeconds(begin, end, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenSeconds(long begin, long end, ZoneContext context) {
+        return betweenSeconds(begin, end, true, context);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的毫秒数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenMillis(long begin, long end) {
+        return betweenMillis(begin, end, ZoneContext.system());
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的毫秒数，返回绝对值，使用指定的时区
+     *
+     * @param begin  开始日期
+     * @param end    结束日期
+     * @param zoneId 时区
+     * @return 时间量
+     */
+    public static long betweenMillis(long begin, long end, ZoneId zoneId) {
+        return betweenMillis(begin, end, ZoneContext.of(zoneId));
+    }
+
+    private static long betweenMillis(long begin, long end, ZoneContext context) {
+        return betweenMillis(begin, end, true, context);
+    }
+
+    /**
+     * 比较两个日期的先后
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 第一个日期在前时小于 0，相同时为 0，在后时大于 0
+     */
+    public static int compare(long first, long second) {
+        return compare(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 比较两个日期的先后，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 第一个日期在前时小于 0，相同时为 0，在后时大于 0
+     */
+    public static int compare(long first, long second, ZoneId zoneId) {
+        return compare(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static int compare(long first, long second, ZoneContext context) {
+        return Long.compare(context.toLocalMilli(first), context.toLocalMilli(second));
+    }
+
+    /**
+     * 判断第一个日期是否在第二个日期之后
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 是否在之后
+     */
+    public static boolean isAfter(long first, long second) {
+        return isAfter(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 判断第一个日期是否在第二个日期之后，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 是否在之后
+     */
+    public static boolean isAfter(long first, long second, ZoneId zoneId) {
+        return isAfter(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isAfter(long first, long second, ZoneContext context) {
+        return context.toLocalMilli(first) > context.toLocalMilli(second);
+    }
+
+    /**
+     * 判断第一个日期是否在第二个日期之前
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 是否在之前
+     */
+    public static boolean isBefore(long first, long second) {
+        return isBefore(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 判断第一个日期是否在第二个日期之前，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 是否在之前
+     */
+    public static boolean isBefore(long first, long second, ZoneId zoneId) {
+        return isBefore(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isBefore(long first, long second, ZoneContext context) {
+        return context.toLocalMilli(first) < context.toLocalMilli(second);
+    }
+
+    /**
+     * 判断两个日期的本地时间是否相同
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 是否相同
+     */
+    public static boolean isEqual(long first, long second) {
+        return isEqual(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 判断两个日期的本地时间是否相同，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 是否相同
+     */
+    public static boolean isEqual(long first, long second, ZoneId zoneId) {
+        return isEqual(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isEqual(long first, long second, ZoneContext context) {
+        return context.toLocalMilli(first) == context.toLocalMilli(second);
+    }
+
+    /**
+     * 判断两个日期是否是同一年，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一年
+     */
+    public static boolean isEqualYear(long first, long second) {
+        return isEqualYear(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 判断两个日期是否是同一年，只比较该字段，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 两个日期是否是同一年
+     */
+    public static boolean isEqualYear(long first, long second, ZoneId zoneId) {
+        return isEqualYear(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isEqualYear(long first, long second, ZoneContext context) {
+        return year(first, context) == year(second, context);
+    }
+
+    /**
+     * 判断两个日期是否是同一月，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一月
+     */
+    public static boolean isEqualMonth(long first, long second) {
+        return isEqualMonth(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 判断两个日期是否是同一月，只比较该字段，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 两个日期是否是同一月
+     */
+    public static boolean isEqualMonth(long first, long second, ZoneId zoneId) {
+        return isEqualMonth(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isEqualMonth(long first, long second, ZoneContext context) {
+        return month(first, context) == month(second, context);
+    }
+
+    /**
+     * 判断两个日期是否是同一个星期几，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一个星期几
+     */
+    public static boolean isEqualWeek(long first, long second) {
+        return isEqualWeek(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 判断两个日期是否是同一个星期几，只比较该字段，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 两个日期是否是同一个星期几
+     */
+    public static boolean isEqualWeek(long first, long second, ZoneId zoneId) {
+        return isEqualWeek(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isEqualWeek(long first, long second, ZoneContext context) {
+        return dayOfWeek(first, context) == dayOfWeek(second, context);
+    }
+
+    /**
+     * 判断两个日期是否是同一天，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一天
+     */
+    public static boolean isEqualDay(long first, long second) {
+        return isEqualDay(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 判断两个日期是否是同一天，只比较该字段，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 两个日期是否是同一天
+     */
+    public static boolean isEqualDay(long first, long second, ZoneId zoneId) {
+        return isEqualDay(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isEqualDay(long first, long second, ZoneContext context) {
+        final int firstDate = EpochDayUtils.toPackedDate(epochDay(context.toLocalMilli(first)));
+        final int secondDate = EpochDayUtils.toPackedDate(epochDay(context.toLocalMilli(second)));
+        // 打包的年月日的低 9 位是月和日
+        return (firstDate & 0x1FF) == (secondDate & 0x1FF);
+    }
+
+    /**
+     * 判断两个日期是否是同一小时，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一小时
+     */
+    public static boolean isEqualHour(long first, long second) {
+        return isEqualHour(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 判断两个日期是否是同一小时，只比较该字段，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 两个日期是否是同一小时
+     */
+    public static boolean isEqualHour(long first, long second, ZoneId zoneId) {
+        return isEqualHour(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isEqualHour(long first, long second, ZoneContext context) {
+        return hourOf24(first, context) == hourOf24(second, context);
+    }
+
+    /**
+     * 判断两个日期是否是同一分钟，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一分钟
+     */
+    public static boolean isEqualMinute(long first, long second) {
+        return isEqualMinute(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 判断两个日期是否是同一分钟，只比较该字段，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 两个日期是否是同一分钟
+     */
+    public static boolean isEqualMinute(long first, long second, ZoneId zoneId) {
+        return isEqualMinute(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isEqualMinute(long first, long second, ZoneContext context) {
+        return minute(first, context) == minute(second, context);
+    }
+
+    /**
+     * 判断两个日期是否是同一秒，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一秒
+     */
+    public static boolean isEqualSecond(long first, long second) {
+        return isEqualSecond(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 判断两个日期是否是同一秒，只比较该字段，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 两个日期是否是同一秒
+     */
+    public static boolean isEqualSecond(long first, long second, ZoneId zoneId) {
+        return isEqualSecond(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isEqualSecond(long first, long second, ZoneContext context) {
+        return second(first, context) == second(second, context);
+    }
+
+    /**
+     * 判断两个日期是否是同一毫秒，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一毫秒
+     */
+    public static boolean isEqualMilli(long first, long second) {
+        return isEqualMilli(first, second, ZoneContext.system());
+    }
+
+    /**
+     * 判断两个日期是否是同一毫秒，只比较该字段，使用指定的时区
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @param zoneId 时区
+     * @return 两个日期是否是同一毫秒
+     */
+    public static boolean isEqualMilli(long first, long second, ZoneId zoneId) {
+        return isEqualMilli(first, second, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isEqualMilli(long first, long second, ZoneContext context) {
+        return milli(first, context) == milli(second, context);
+    }
+
+    /**
+     * 判断指定日期是否在指定的范围内
+     *
+     * @param epochMilli 毫秒
+     * @param begin      开始日期 (包含)
+     * @param end        结束日期 (包含)
+     * @return 是否在指定的范围内
+     */
+    public static boolean isIn(long epochMilli, long begin, long end) {
+        return isIn(epochMilli, begin, end, ZoneContext.system());
+    }
+
+    /**
+     * 判断指定日期是否在指定的范围内，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param begin      开始日期 (包含)
+     * @param end        结束日期 (包含)
+     * @param zoneId     时区
+     * @return 是否在指定的范围内
+     */
+    public static boolean isIn(long epochMilli, long begin, long end, ZoneId zoneId) {
+        return isIn(epochMilli, begin, end, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isIn(long epochMilli, long begin, long end, ZoneContext context) {
+        // 与 LocalDateTimeUtils 相同，先换算为本地时间再换算回时刻，夏令时重叠中较晚的时刻会归到较早的一个
+        final long beginEpochMilli = context.toEpochMilli(context.toLocalMilli(begin));
+        final long endEpochMilli = context.toEpochMilli(context.toLocalMilli(end));
+        final long normalized = context.toEpochMilli(context.toLocalMilli(epochMilli));
+        return normalized >= min(beginEpochMilli, endEpochMilli) && normalized <= max(beginEpochMilli, endEpochMilli);
+    }
+
+    /**
+     * 判断两个日期范围是否有交集
+     * <pre>
+     * 无交集：sb > fe || se < fb
+     * 有交集：sb <= fe && se >= fb
+     * </pre>
+     *
+     * @param firstBegin  第一个开始
+     * @param firstEnd    第一个结束
+     * @param secondBegin 第二个开始
+     * @param secondEnd   第二个结束
+     * @return 两个日期范围是否有交集
+     */
+    public static boolean isOverlap(long firstBegin, long firstEnd, long secondBegin, long secondEnd) {
+        return isOverlap(firstBegin, firstEnd, secondBegin, secondEnd, ZoneContext.system());
+    }
+
+    /**
+     * 判断两个日期范围是否有交集，使用指定的时区
+     * <pre>
+     * 无交集：sb > fe || se < fb
+     * 有交集：sb <= fe && se >= fb
+     * </pre>
+     *
+     * @param firstBegin  第一个开始
+     * @param firstEnd    第一个结束
+     * @param secondBegin 第二个开始
+     * @param secondEnd   第二个结束
+     * @param zoneId      时区
+     * @return 两个日期范围是否有交集
+     */
+    public static boolean isOverlap(long firstBegin, long firstEnd, long secondBegin, long secondEnd, ZoneId zoneId) {
+        return isOverlap(firstBegin, firstEnd, secondBegin, secondEnd, ZoneContext.of(zoneId));
+    }
+
+    private static boolean isOverlap(long firstBegin, long firstEnd, long secondBegin, long secondEnd, ZoneContext context) {
+        return context.toLocalMilli(secondBegin) <= context.toLocalMilli(firstEnd) && context.toLocalMilli(secondEnd) >= context.toLocalMilli(firstBegin);
+    }
+
+    //endregion
+
+    //region 日期格式化
+
+    /**
+     * 格式化日期时间
+     *
+     * @param epochMilli 毫秒
+     * @param pattern    格式
+     * @return 格式化后的字符串
+     * @see DatePattern
+     */
+    public static String format(long epochMilli, String pattern) {
+        return format(epochMilli, pattern, ZoneContext.system());
+    }
+
+    /**
+     * 格式化日期时间，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param pattern    格式
+     * @param zoneId     时区
+     * @return 格式化后的字符串
+     * @see DatePattern
+     */
+    public static String format(long epochMilli, String pattern, ZoneId zoneId) {
+        return format(epochMilli, pattern, ZoneContext.of(zoneId));
+    }
+
+    private static String format(long epochMilli, String pattern, ZoneContext context) {
+        return LocalDateTimeUtils.format(context.toLocalDateTime(epochMilli), pattern);
+    }
+
+    /**
+     * 格式化日期时间
+     *
+     * @param epochMilli  毫秒
+     * @param datePattern 格式
+     * @return 格式化后的字符串
+     * @see DatePattern
+     */
+    public static String format(long epochMilli, DatePattern datePattern) {
+        return format(epochMilli, datePattern, ZoneContext.system());
+    }
+
+    /**
+     * 格式化日期时间，使用指定的时区
+     *
+     * @param epochMilli  毫秒
+     * @param datePattern 格式
+     * @param zoneId      时区
+     * @return 格式化后的字符串
+     * @see DatePattern
+     */
+    public static String format(long epochMilli, DatePattern datePattern, ZoneId zoneId) {
+        return format(epochMilli, datePattern, ZoneContext.of(zoneId));
+    }
+
+    private static String format(long epochMilli, DatePattern datePattern, ZoneContext context) {
+        return LocalDateTimeUtils.format(context.toLocalDateTime(epochMilli), datePattern);
+    }
+
+    /**
+     * 格式化日期时间
+     *
+     * @param epochMilli        毫秒
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return 格式化后的字符串
+     */
+    public static String format(long epochMilli, DateTimeFormatter dateTimeFormatter) {
+        return format(epochMilli, dateTimeFormatter, ZoneContext.system());
+    }
+
+    /**
+     * 格式化日期时间，使用指定的时区
+     *
+     * @param epochMilli        毫秒
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @param zoneId            时区
+     * @return 格式化后的字符串
+     */
+    public static String format(long epochMilli, DateTimeFormatter dateTimeFormatter, ZoneId zoneId) {
+        return format(epochMilli, dateTimeFormatter, ZoneContext.of(zoneId));
+    }
+
+    private static String format(long epochMilli, DateTimeFormatter dateTimeFormatter, ZoneContext context) {
+        return LocalDateTimeUtils.format(context.toLocalDateTime(epochMilli), dateTimeFormatter);
+    }
+
+    /**
+     * 格式化日期时间，格式为 yyyy-MM-dd HH:mm:ss
+     *
+     * @param epochMilli 毫秒
+     * @return 格式化后的字符串
+     */
+    public static String format(long epochMilli) {
+        return format(epochMilli, ZoneContext.system());
+    }
+
+    /**
+     * 格式化日期时间，格式为 yyyy-MM-dd HH:mm:ss，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 格式化后的字符串
+     */
+    public static String format(long epochMilli, ZoneId zoneId) {
+        return format(epochMilli, ZoneContext.of(zoneId));
+    }
+
+    private static String format(long epochMilli, ZoneContext context) {
+        return LocalDateTimeUtils.format(context.toLocalDateTime(epochMilli));
+    }
+
+    //endregion
+
+    //region 日期解析
+
+    /**
+     * 解析日期时间
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return 毫秒
+     * @see DatePattern
+     */
+    public static long parse(CharSequence text, String pattern) {
+        return parse(text, pattern, ZoneContext.system());
+    }
+
+    /**
+     * 解析日期时间，使用指定的时区
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @param zoneId  时区
+     * @return 毫秒
+     * @see DatePattern
+     */
+    public static long parse(CharSequence text, String pattern, ZoneId zoneId) {
+        return parse(text, pattern, ZoneContext.of(zoneId));
+    }
+
+    private static long parse(CharSequence text, String pattern, ZoneContext context) {
+        return context.toEpochMilli(LocalDateTimeUtils.parse(text, pattern));
+    }
+
+    /**
+     * 解析日期时间
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return 毫秒
+     * @see DatePattern
+     */
+    public static long parse(CharSequence text, DatePattern datePattern) {
+        return parse(text, datePattern, ZoneContext.system());
+    }
+
+    /**
+     * 解析日期时间，使用指定的时区
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @param zoneId      时区
+     * @return 毫秒
+     * @see DatePattern
+     */
+    public static long parse(CharSequence text, DatePattern datePattern, ZoneId zoneId) {
+        return parse(text, datePattern, ZoneContext.of(zoneId));
+    }
+
+    private static long parse(CharSequence text, DatePattern datePattern, ZoneContext context) {
+        return context.toEpochMilli(LocalDateTimeUtils.parse(text, datePattern));
+    }
+
+    /**
+     * 解析日期时间
+     *
+     * @param text              文本
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return 毫秒
+     */
+    public static long parse(CharSequence text, DateTimeFormatter dateTimeFormatter) {
+        return parse(text, dateTimeFormatter, ZoneContext.system());
+    }
+
+    /**
+     * 解析日期时间，使用指定的时区
+     *
+     * @param text              文本
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @param zoneId            时区
+     * @return 毫秒
+     */
+    public static long parse(CharSequence text, DateTimeFormatter dateTimeFormatter, ZoneId zoneId) {
+        return parse(text, dateTimeFormatter, ZoneContext.of(zoneId));
+    }
+
+    private static long parse(CharSequence text, DateTimeFormatter dateTimeFormatter, ZoneContext context) {
+        return context.toEpochMilli(LocalDateTimeUtils.parse(text, dateTimeFormatter));
+    }
+
+    /**
+     * 解析日期时间，格式为 yyyy-MM-dd HH:mm:ss
+     *
+     * @param text 文本
+     * @return 毫秒
+     */
+    public static long parse(CharSequence text) {
+        return parse(text, ZoneContext.system());
+    }
+
+    /**
+     * 解析日期时间，格式为 yyyy-MM-dd HH:mm:ss，使用指定的时区
+     *
+     * @param text   文本
+     * @param zoneId 时区
+     * @return 毫秒
+     */
+    public static long parse(CharSequence text, ZoneId zoneId) {
+        return parse(text, ZoneContext.of(zoneId));
+    }
+
+    private static long parse(CharSequence text, ZoneContext context) {
+        return context.toEpochMilli(LocalDateTimeUtils.parse(text));
+    }
+
+    //endregion
+
+    //region 本地时间换算
+
+    /*
+     * 以下方法的 localMilli 是 ZoneContext#toLocalMilli 换算得到的本地时间的毫秒数
+     */
+
+    private static int epochDay(long localMilli) {
+        return toIntExact(floorDiv(localMilli, MILLIS_PER_DAY));
+    }
+
+    private static long milliOfDay(long localMilli) {
+        return floorMod(localMilli, MILLIS_PER_DAY);
+    }
+
+    /**
+     * 将本地时间的日期替换为 epochDay，时间不变
+     */
+    private static long withEpochDay(long localMilli, int epochDay, ZoneContext context) {
+        return context.toEpochMilli(epochDay * MILLIS_PER_DAY + milliOfDay(localMilli));
+    }
+
+    private static long addMonths(long epochMilli, long months, ZoneContext context) {
+        final long local = context.toLocalMilli(epochMilli);
+        return withEpochDay(local, EpochDayUtils.plusMonths(epochDay(local), months), context);
+    }
+
+    /**
+     * 与 {@link java.time.LocalDateTime#until} 按月计算的结果相同：结束时间的时分秒小于开始时间时，结束日期先退一天，再比较年月日
+     */
+    static long monthsBetween(long beginLocal, long endLocal) {
+        int endDay = epochDay(endLocal);
+        if (endLocal > beginLocal && milliOfDay(endLocal) < milliOfDay(beginLocal)) {
+            endDay--;
+        } else if (endLocal < beginLocal && milliOfDay(endLocal) > milliOfDay(beginLocal)) {
+            endDay++;
+        }
+        final int begin = EpochDayUtils.toPackedDate(epochDay(beginLocal));
+        final int end = EpochDayUtils.toPackedDate(endDay);
+        final long beginMonths = (EpochDayUtils.unpackYear(begin) * 12L + EpochDayUtils.unpackMonth(begin) - 1) * 32 + EpochDayUtils.unpackDayOfMonth(begin);
+        final long endMonths = (EpochDayUtils.unpackYear(end) * 12L + EpochDayUtils.unpackMonth(end) - 1) * 32 + EpochDayUtils.unpackDayOfMonth(end);
+        return (endMonths - beginMonths) / 32;
+    }
+
+    private static int checkDate(int year, int month, int dayOfMonth) {
+        if (month < 1 || month > 12 || dayOfMonth < 1 || dayOfMonth > EpochDayUtils.lengthOfMonth(year, month)) {
+            throw new DateTimeException("Invalid date: " + year + "-" + month + "-" + dayOfMonth);
+        }
+        return year;
+    }
+
+    private static long checkTime(int hour, int minute, int second) {
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            throw new DateTimeException("Invalid time: " + hour + ":" + minute + ":" + second);
+        }
+        return hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE + second * MILLIS_PER_SECOND;
+    }
+
+    //endregion
+}
@@ -1,9 +1,12 @@
 package io.github.lostblackknight.core.date;
 
+import io.github.lostblackknight.core.date.format.AutoDateParser;
+import io.github.lostblackknight.core.date.format.CurrentTimeFormatter;
 import io.github.lostblackknight.core.date.format.DateFormatter;
 import io.github.lostblackknight.core.date.format.DateParser;
 import io.github.lostblackknight.core.date.format.DatePattern;
 
+import java.text.ParsePosition;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.WeekFields;
@@ -33,7 +36,18 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return {@link LocalDateTime}
      */
     public static LocalDateTime of(long epochMilli) {
-        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+        return ZoneContext.system().toLocalDateTime(epochMilli);
+    }
+
+    /**
+     * 创建 {@link LocalDateTime} 对象，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return {@link LocalDateTime}
+     */
+    public static LocalDateTime of(long epochMilli, ZoneId zoneId) {
+        return ZoneContext.of(zoneId).toLocalDateTime(epochMilli);
     }
 
     //endregion
@@ -230,12 +244,13 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
     //region 获取当前日期的基本信息
 
     /**
-     * 获取当前日期
+     * 获取当前日期，时间取自 {@link ClockProvider}
+     * <p>需要同一时刻的多个字段时使用 {@link CurrentSnapshot}
      *
      * @return 当前日期
      */
     public static LocalDateTime current() {
-        return LocalDateTime.now();
+        return ClockProvider.localDateTime();
     }
 
     /**
@@ -1269,7 +1284,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @see DatePattern
      */
     public static String format(LocalDateTime localDateTime, String pattern) {
-        return DateFormatter.ofPattern(pattern).format(localDateTime);
+        return DateFormatter.format(localDateTime, pattern);
     }
 
     /**
@@ -1281,7 +1296,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @see DatePattern
      */
     public static String format(LocalDateTime localDateTime, DatePattern datePattern) {
-        return DateFormatter.ofDatePattern(datePattern).format(localDateTime);
+        return DateFormatter.format(localDateTime, datePattern);
     }
 
     /**
@@ -1303,7 +1318,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String format(LocalDateTime localDateTime) {
-        return DateFormatter.NORMAL_DATE_TIME_SECOND.format(localDateTime);
+        return DateFormatter.format(localDateTime, DatePattern.NORMAL_DATE_TIME_SECOND);
     }
 
     /**
@@ -1314,7 +1329,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatDate(LocalDateTime localDateTime) {
-        return DateFormatter.NORMAL_DATE.format(localDateTime);
+        return DateFormatter.format(localDateTime, DatePattern.NORMAL_DATE);
     }
 
     /**
@@ -1325,7 +1340,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatTime(LocalDateTime localDateTime) {
-        return DateFormatter.NORMAL_TIME.format(localDateTime);
+        return DateFormatter.format(localDateTime, DatePattern.NORMAL_TIME);
     }
 
     /**
@@ -1336,7 +1351,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatOfSimple(LocalDateTime localDateTime) {
-        return DateFormatter.SIMPLE_DATE_TIME_SECOND.format(localDateTime);
+        return DateFormatter.format(localDateTime, DatePattern.SIMPLE_DATE_TIME_SECOND);
     }
 
     /**
@@ -1347,7 +1362,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatDateOfSimple(LocalDateTime localDateTime) {
-        return DateFormatter.SIMPLE_DATE.format(localDateTime);
+        return DateFormatter.format(localDateTime, DatePattern.SIMPLE_DATE);
     }
 
     /**
@@ -1358,7 +1373,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatTimeOfSimple(LocalDateTime localDateTime) {
-        return DateFormatter.SIMPLE_TIME.format(localDateTime);
+        return DateFormatter.format(localDateTime, DatePattern.SIMPLE_TIME);
     }
 
     /**
@@ -1369,7 +1384,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatOfChinese(LocalDateTime localDateTime) {
-        return DateFormatter.CHINESE_DATE_TIME_SECOND.format(localDateTime);
+        return DateFormatter.format(localDateTime, DatePattern.CHINESE_DATE_TIME_SECOND);
     }
 
     /**
@@ -1380,7 +1395,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatDateOfChinese(LocalDateTime localDateTime) {
-        return DateFormatter.CHINESE_DATE.format(localDateTime);
+        return DateFormatter.format(localDateTime, DatePattern.CHINESE_DATE);
     }
 
     /**
@@ -1391,7 +1406,186 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatTimeOfChinese(LocalDateTime localDateTime) {
-        return DateFormatter.CHINESE_TIME.format(localDateTime);
+        return DateFormatter.format(localDateTime, DatePattern.CHINESE_TIME);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     *
+     * @param localDateTime 日期
+     * @param pattern       格式
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     * @see DatePattern
+     */
+    public static <A extends Appendable> A formatTo(LocalDateTime localDateTime, String pattern, A appendable) {
+        return DateFormatter.formatTo(localDateTime, pattern, appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     *
+     * @param localDateTime 日期
+     * @param datePattern   格式
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     * @see DatePattern
+     */
+    public static <A extends Appendable> A formatTo(LocalDateTime localDateTime, DatePattern datePattern, A appendable) {
+        return DateFormatter.formatTo(localDateTime, datePattern, appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     *
+     * @param localDateTime     日期
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @param appendable        输出目标，例如 {@link StringBuilder}
+     * @param <A>               输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTo(LocalDateTime localDateTime, DateTimeFormatter dateTimeFormatter, A appendable) {
+        return DateFormatter.formatTo(localDateTime, dateTimeFormatter, appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     * <p>格式：yyyy-MM-dd HH:mm:ss
+     *
+     * @param localDateTime 日期
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTo(LocalDateTime localDateTime, A appendable) {
+        return DateFormatter.formatTo(localDateTime, DatePattern.NORMAL_DATE_TIME_SECOND, appendable);
+    }
+
+    /**
+     * 格式化日期部分，并追加到 appendable 中
+     * <p>格式：yyyy-MM-dd
+     *
+     * @param localDateTime 日期
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatDateTo(LocalDateTime localDateTime, A appendable) {
+        return DateFormatter.formatTo(localDateTime, DatePattern.NORMAL_DATE, appendable);
+    }
+
+    /**
+     * 格式化时间部分，并追加到 appendable 中
+     * <p>格式：HH:mm:ss
+     *
+     * @param localDateTime 日期
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTimeTo(LocalDateTime localDateTime, A appendable) {
+        return DateFormatter.formatTo(localDateTime, DatePattern.NORMAL_TIME, appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     * <p>格式：yyyyMMddHHmmss
+     *
+     * @param localDateTime 日期
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatOfSimpleTo(LocalDateTime localDateTime, A appendable) {
+        return DateFormatter.formatTo(localDateTime, DatePattern.SIMPLE_DATE_TIME_SECOND, appendable);
+    }
+
+    /**
+     * 格式化日期部分，并追加到 appendable 中
+     * <p>格式：yyyyMMdd
+     *
+     * @param localDateTime 日期
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatDateOfSimpleTo(LocalDateTime localDateTime, A appendable) {
+        return DateFormatter.formatTo(localDateTime, DatePattern.SIMPLE_DATE, appendable);
+    }
+
+    /**
+     * 格式化时间部分，并追加到 appendable 中
+     * <p>格式：HHmmss
+     *
+     * @param localDateTime 日期
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTimeOfSimpleTo(LocalDateTime localDateTime, A appendable) {
+        return DateFormatter.formatTo(localDateTime, DatePattern.SIMPLE_TIME, appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     * <p>格式：yyyy年MM月dd日HH时mm分ss秒
+     *
+     * @param localDateTime 日期
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatOfChineseTo(LocalDateTime localDateTime, A appendable) {
+        return DateFormatter.formatTo(localDateTime, DatePattern.CHINESE_DATE_TIME_SECOND, appendable);
+    }
+
+    /**
+     * 格式化日期部分，并追加到 appendable 中
+     * <p>格式：yyyy年MM月dd日
+     *
+     * @param localDateTime 日期
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatDateOfChineseTo(LocalDateTime localDateTime, A appendable) {
+        return DateFormatter.formatTo(localDateTime, DatePattern.CHINESE_DATE, appendable);
+    }
+
+    /**
+     * 格式化时间部分，并追加到 appendable 中
+     * <p>格式：HH时mm分ss秒
+     *
+     * @param localDateTime 日期
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTimeOfChineseTo(LocalDateTime localDateTime, A appendable) {
+        return DateFormatter.formatTo(localDateTime, DatePattern.CHINESE_TIME, appendable);
+    }
+
+    /**
+     * 格式化当前时间，同一秒内重复调用直接使用缓存的结果
+     *
+     * @param datePattern 格式
+     * @return 格式化后的字符串
+     * @see CurrentTimeFormatter
+     */
+    public static String formatCurrent(DatePattern datePattern) {
+        return CurrentTimeFormatter.of(datePattern).format();
+    }
+
+    /**
+     * 格式化当前时间，格式为 yyyy-MM-dd HH:mm:ss
+     *
+     * @return 格式化后的字符串
+     * @see CurrentTimeFormatter
+     */
+    public static String formatCurrent() {
+        return formatCurrent(DatePattern.NORMAL_DATE_TIME_SECOND);
     }
 
     //endregion
@@ -1407,7 +1601,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @see DatePattern
      */
     public static LocalDateTime parse(CharSequence text, String pattern) {
-        return DateParser.parseLocalDateTime(text, DateFormatter.ofPattern(pattern));
+        return DateParser.parseLocalDateTime(text, pattern);
     }
 
     /**
@@ -1419,7 +1613,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @see DatePattern
      */
     public static LocalDateTime parse(CharSequence text, DatePattern datePattern) {
-        return DateParser.parseLocalDateTime(text, DateFormatter.ofDatePattern(datePattern));
+        return DateParser.parseLocalDateTime(text, datePattern);
     }
 
     /**
@@ -1441,7 +1635,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return {@link LocalDateTime}
      */
     public static LocalDateTime parse(CharSequence text) {
-        return DateParser.parseLocalDateTime(text, DateFormatter.NORMAL_DATE_TIME_SECOND);
+        return DateParser.parseLocalDateTime(text, DatePattern.NORMAL_DATE_TIME_SECOND);
     }
 
     /**
@@ -1452,7 +1646,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return {@link LocalDate}
      */
     public static LocalDate parseDate(CharSequence text) {
-        return DateParser.parseLocalDate(text, DateFormatter.NORMAL_DATE);
+        return DateParser.parseLocalDate(text, DatePattern.NORMAL_DATE);
     }
 
     /**
@@ -1463,7 +1657,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return {@link LocalTime}
      */
     public static LocalTime parseTime(CharSequence text) {
-        return DateParser.parseLocalTime(text, DateFormatter.NORMAL_TIME);
+        return DateParser.parseLocalTime(text, DatePattern.NORMAL_TIME);
     }
 
     /**
@@ -1474,7 +1668,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return {@link LocalDateTime}
      */
     public static LocalDateTime parseOfSimple(CharSequence text) {
-        return DateParser.parseLocalDateTime(text, DateFormatter.SIMPLE_DATE_TIME_SECOND);
+        return DateParser.parseLocalDateTime(text, DatePattern.SIMPLE_DATE_TIME_SECOND);
     }
 
     /**
@@ -1485,7 +1679,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return {@link LocalDate}
      */
     public static LocalDate parseDateOfSimple(CharSequence text) {
-        return DateParser.parseLocalDate(text, DateFormatter.SIMPLE_DATE);
+        return DateParser.parseLocalDate(text, DatePattern.SIMPLE_DATE);
     }
 
     /**
@@ -1496,7 +1690,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return {@link LocalTime}
      */
     public static LocalTime parseTimeOfSimple(CharSequence text) {
-        return DateParser.parseLocalTime(text, DateFormatter.SIMPLE_TIME);
+        return DateParser.parseLocalTime(text, DatePattern.SIMPLE_TIME);
     }
 
     /**
@@ -1507,7 +1701,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return {@link LocalDateTime}
      */
     public static LocalDateTime parseOfChinese(CharSequence text) {
-        return DateParser.parseLocalDateTime(text, DateFormatter.CHINESE_DATE_TIME_SECOND);
+        return DateParser.parseLocalDateTime(text, DatePattern.CHINESE_DATE_TIME_SECOND);
     }
 
     /**
@@ -1518,7 +1712,7 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return {@link LocalDate}
      */
     public static LocalDate parseDateOfChinese(CharSequence text) {
-        return DateParser.parseLocalDate(text, DateFormatter.CHINESE_DATE);
+        return DateParser.parseLocalDate(text, DatePattern.CHINESE_DATE);
     }
 
     /**
@@ -1529,7 +1723,119 @@ public abstract class LocalDateTimeUtils extends BaseUtils {
      * @return {@link LocalTime}
      */
     public static LocalTime parseTimeOfChinese(CharSequence text) {
-        return DateParser.parseLocalTime(text, DateFormatter.CHINESE_TIME);
+        return DateParser.parseLocalTime(text, DatePattern.CHINESE_TIME);
+    }
+
+    /**
+     * 尝试解析日期时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalDateTime tryParse(CharSequence text, String pattern) {
+        return DateParser.tryParseLocalDateTime(text, pattern);
+    }
+
+    /**
+     * 尝试解析日期时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalDateTime tryParse(CharSequence text, DatePattern datePattern) {
+        return DateParser.tryParseLocalDateTime(text, datePattern);
+    }
+
+    /**
+     * 尝试解析日期时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text              文本
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     */
+    public static LocalDateTime tryParse(CharSequence text, DateTimeFormatter dateTimeFormatter) {
+        return DateParser.tryParseLocalDateTime(text, dateTimeFormatter);
+    }
+
+    /**
+     * 尝试解析日期时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     * <p>格式：yyyy-MM-dd HH:mm:ss
+     *
+     * @param text 文本
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     */
+    public static LocalDateTime tryParse(CharSequence text) {
+        return tryParse(text, DatePattern.NORMAL_DATE_TIME_SECOND);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析日期时间，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text     文本
+     * @param position 解析位置
+     * @param pattern  格式
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalDateTime tryParse(CharSequence text, ParsePosition position, String pattern) {
+        return DateParser.tryParseLocalDateTime(text, position, pattern);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析日期时间，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text        文本
+     * @param position    解析位置
+     * @param datePattern 格式
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalDateTime tryParse(CharSequence text, ParsePosition position, DatePattern datePattern) {
+        return DateParser.tryParseLocalDateTime(text, position, datePattern);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析日期时间，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text              文本
+     * @param position          解析位置
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     */
+    public static LocalDateTime tryParse(CharSequence text, ParsePosition position, DateTimeFormatter dateTimeFormatter) {
+        return DateParser.tryParseLocalDateTime(text, position, dateTimeFormatter);
+    }
+
+    /**
+     * 自动识别格式并解析日期时间，支持 {@link DatePattern} 中的所有格式，缺失的字段使用默认值
+     *
+     * @param text 文本
+     * @return {@link LocalDateTime}
+     * @see AutoDateParser
+     */
+    public static LocalDateTime parseAuto(CharSequence text) {
+        return DateParser.parseAuto(text);
+    }
+
+    /**
+     * 自动识别格式并解析日期时间，没有匹配的格式时返回 null，不会抛出异常
+     *
+     * @param text 文本
+     * @return {@link LocalDateTime}，没有匹配的格式时返回 null
+     * @see AutoDateParser
+     */
+    public static LocalDateTime tryParseAuto(CharSequence text) {
+        return DateParser.tryParseAuto(text);
     }
 
     //endregion
@@ -4,9 +4,9 @@ import io.github.lostblackknight.core.date.format.DateFormatter;
 import io.github.lostblackknight.core.date.format.DateParser;
 import io.github.lostblackknight.core.date.format.DatePattern;
 
+import java.text.ParsePosition;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.WeekFields;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
@@ -32,7 +32,18 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @return {@link LocalDate}
      */
     public static LocalDate of(long epochMilli) {
-        return LocalDate.from(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault()));
+        return ZoneContext.system().toLocalDate(epochMilli);
+    }
+
+    /**
+     * 创建 {@link LocalDate} 对象，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return {@link LocalDate}
+     */
+    public static LocalDate of(long epochMilli, ZoneId zoneId) {
+        return ZoneContext.of(zoneId).toLocalDate(epochMilli);
     }
 
     //endregion
@@ -66,7 +77,7 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @return 周
      */
     public static int weekOfYear(LocalDate localDate) {
-        return localDate.get(WeekFields.of(MONDAY, 1).weekOfYear());
+        return EpochDayUtils.weekOf(localDate.getDayOfYear(), localDate.getDayOfWeek().getValue());
     }
 
     /**
@@ -86,7 +97,7 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @return 周
      */
     public static int weekOfMonth(LocalDate localDate) {
-        return localDate.get(WeekFields.of(MONDAY, 1).weekOfMonth());
+        return EpochDayUtils.weekOf(localDate.getDayOfMonth(), localDate.getDayOfWeek().getValue());
     }
 
     /**
@@ -155,12 +166,13 @@ public abstract class LocalDateUtils extends BaseUtils {
     //region 获取当前日期的基本信息
 
     /**
-     * 获取当前日期
+     * 获取当前日期，时间取自 {@link ClockProvider}
+     * <p>需要同一时刻的多个字段时使用 {@link CurrentSnapshot}
      *
      * @return 当前日期
      */
     public static LocalDate current() {
-        return LocalDate.now();
+        return ClockProvider.localDate();
     }
 
     /**
@@ -764,6 +776,225 @@ public abstract class LocalDateUtils extends BaseUtils {
 
     //endregion
 
+    //region 基于天数的批量操作
+
+    /**
+     * 批量转换成 1970-01-01 起的天数
+     *
+     * @param localDates 日期
+     * @param dst        保存结果的数组，长度不能小于 localDates
+     * @throws IllegalArgumentException dst 的长度小于 localDates 时抛出
+     * @throws ArithmeticException      天数超出 int 的范围时抛出
+     */
+    public static void toEpochDays(LocalDate[] localDates, int[] dst) {
+        checkLength(localDates.length, dst.length);
+        for (int i = 0; i < localDates.length; i++) {
+            dst[i] = Math.toIntExact(localDates[i].toEpochDay());
+        }
+    }
+
+    /**
+     * 批量将 1970-01-01 起的天数转换成 {@link LocalDate}
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     */
+    public static void ofEpochDays(int[] epochDays, LocalDate[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = LocalDate.ofEpochDay(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量将天数换算为打包的年月日
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#toPackedDate(int)
+     */
+    public static void toPackedDates(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.toPackedDate(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量获取天数所在的年份
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#year(int)
+     */
+    public static void years(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.year(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量获取天数所在的月份
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#month(int)
+     */
+    public static void months(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.month(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量获取天数是所在月份的第几天
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#dayOfMonth(int)
+     */
+    public static void daysOfMonth(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.dayOfMonth(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量获取天数是所在年份的第几天
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#dayOfYear(int)
+     */
+    public static void daysOfYear(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.dayOfYear(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量获取天数是所在星期的第几天
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#dayOfWeek(int)
+     */
+    public static void daysOfWeek(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.dayOfWeek(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量获取天数所在年份的第一天
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#beginOfYear(int)
+     */
+    public static void beginOfYears(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.beginOfYear(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量获取天数所在年份的最后一天
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#endOfYear(int)
+     */
+    public static void endOfYears(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.endOfYear(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量获取天数所在月份的第一天
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#beginOfMonth(int)
+     */
+    public static void beginOfMonths(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.beginOfMonth(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量获取天数所在月份的最后一天
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#endOfMonth(int)
+     */
+    public static void endOfMonths(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.endOfMonth(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量获取天数所在星期的周一
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#beginOfWeek(int)
+     */
+    public static void beginOfWeeks(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.beginOfWeek(epochDays[i]);
+        }
+    }
+
+    /**
+     * 批量获取天数所在星期的周日
+     *
+     * @param epochDays 天数
+     * @param dst       保存结果的数组，长度不能小于 epochDays
+     * @throws IllegalArgumentException dst 的长度小于 epochDays 时抛出
+     * @see EpochDayUtils#endOfWeek(int)
+     */
+    public static void endOfWeeks(int[] epochDays, int[] dst) {
+        checkLength(epochDays.length, dst.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = EpochDayUtils.endOfWeek(epochDays[i]);
+        }
+    }
+
+    private static void checkLength(int srcLength, int dstLength) {
+        if (dstLength < srcLength) {
+            throw new IllegalArgumentException("dst length " + dstLength + " is less than " + srcLength);
+        }
+    }
+
+    //endregion
+
     //region 日期格式化
 
     /**
@@ -775,7 +1006,7 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @see DatePattern
      */
     public static String format(LocalDate localDate, String pattern) {
-        return DateFormatter.ofPattern(pattern).format(localDate);
+        return DateFormatter.format(localDate, pattern);
     }
 
     /**
@@ -787,7 +1018,7 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @see DatePattern
      */
     public static String format(LocalDate localDate, DatePattern datePattern) {
-        return DateFormatter.ofDatePattern(datePattern).format(localDate);
+        return DateFormatter.format(localDate, datePattern);
     }
 
     /**
@@ -809,7 +1040,7 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String format(LocalDate localDate) {
-        return DateFormatter.NORMAL_DATE.format(localDate);
+        return DateFormatter.format(localDate, DatePattern.NORMAL_DATE);
     }
 
     /**
@@ -820,7 +1051,7 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatOfSimple(LocalDate localDate) {
-        return DateFormatter.SIMPLE_DATE.format(localDate);
+        return DateFormatter.format(localDate, DatePattern.SIMPLE_DATE);
     }
 
     /**
@@ -831,7 +1062,87 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatOfChinese(LocalDate localDate) {
-        return DateFormatter.CHINESE_DATE.format(localDate);
+        return DateFormatter.format(localDate, DatePattern.CHINESE_DATE);
+    }
+
+    /**
+     * 格式化日期，并追加到 appendable 中
+     *
+     * @param localDate  日期
+     * @param pattern    格式
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     * @see DatePattern
+     */
+    public static <A extends Appendable> A formatTo(LocalDate localDate, String pattern, A appendable) {
+        return DateFormatter.formatTo(localDate, pattern, appendable);
+    }
+
+    /**
+     * 格式化日期，并追加到 appendable 中
+     *
+     * @param localDate   日期
+     * @param datePattern 格式
+     * @param appendable  输出目标，例如 {@link StringBuilder}
+     * @param <A>         输出目标的类型
+     * @return appendable
+     * @see DatePattern
+     */
+    public static <A extends Appendable> A formatTo(LocalDate localDate, DatePattern datePattern, A appendable) {
+        return DateFormatter.formatTo(localDate, datePattern, appendable);
+    }
+
+    /**
+     * 格式化日期，并追加到 appendable 中
+     *
+     * @param localDate         日期
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @param appendable        输出目标，例如 {@link StringBuilder}
+     * @param <A>               输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTo(LocalDate localDate, DateTimeFormatter dateTimeFormatter, A appendable) {
+        return DateFormatter.formatTo(localDate, dateTimeFormatter, appendable);
+    }
+
+    /**
+     * 格式化日期，并追加到 appendable 中
+     * <p>格式：yyyy-MM-dd
+     *
+     * @param localDate  日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTo(LocalDate localDate, A appendable) {
+        return DateFormatter.formatTo(localDate, DatePattern.NORMAL_DATE, appendable);
+    }
+
+    /**
+     * 格式化日期，并追加到 appendable 中
+     * <p>格式：yyyyMMdd
+     *
+     * @param localDate  日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatOfSimpleTo(LocalDate localDate, A appendable) {
+        return DateFormatter.formatTo(localDate, DatePattern.SIMPLE_DATE, appendable);
+    }
+
+    /**
+     * 格式化日期，并追加到 appendable 中
+     * <p>格式：yyyy年MM月dd日
+     *
+     * @param localDate  日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatOfChineseTo(LocalDate localDate, A appendable) {
+        return DateFormatter.formatTo(localDate, DatePattern.CHINESE_DATE, appendable);
     }
 
     //endregion
@@ -847,7 +1158,7 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @see DatePattern
      */
     public static LocalDate parse(CharSequence text, String pattern) {
-        return DateParser.parseLocalDate(text, DateFormatter.ofPattern(pattern));
+        return DateParser.parseLocalDate(text, pattern);
     }
 
     /**
@@ -859,7 +1170,7 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @see DatePattern
      */
     public static LocalDate parse(CharSequence text, DatePattern datePattern) {
-        return DateParser.parseLocalDate(text, DateFormatter.ofDatePattern(datePattern));
+        return DateParser.parseLocalDate(text, datePattern);
     }
 
     /**
@@ -881,7 +1192,7 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @return {@link LocalDate}
      */
     public static LocalDate parse(CharSequence text) {
-        return DateParser.parseLocalDate(text, DateFormatter.NORMAL_DATE);
+        return DateParser.parseLocalDate(text, DatePattern.NORMAL_DATE);
     }
 
     /**
@@ -892,7 +1203,7 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @return {@link LocalDate}
      */
     public static LocalDate parseOfSimple(CharSequence text) {
-        return DateParser.parseLocalDate(text, DateFormatter.SIMPLE_DATE);
+        return DateParser.parseLocalDate(text, DatePattern.SIMPLE_DATE);
     }
 
     /**
@@ -903,7 +1214,97 @@ public abstract class LocalDateUtils extends BaseUtils {
      * @return {@link LocalDate}
      */
     public static LocalDate parseOfChinese(CharSequence text) {
-        return DateParser.parseLocalDate(text, DateFormatter.CHINESE_DATE);
+        return DateParser.parseLocalDate(text, DatePattern.CHINESE_DATE);
+    }
+
+    /**
+     * 尝试解析日期，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return {@link LocalDate}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalDate tryParse(CharSequence text, String pattern) {
+        return DateParser.tryParseLocalDate(text, pattern);
+    }
+
+    /**
+     * 尝试解析日期，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return {@link LocalDate}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalDate tryParse(CharSequence text, DatePattern datePattern) {
+        return DateParser.tryParseLocalDate(text, datePattern);
+    }
+
+    /**
+     * 尝试解析日期，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text              文本
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return {@link LocalDate}，解析失败时返回 null
+     */
+    public static LocalDate tryParse(CharSequence text, DateTimeFormatter dateTimeFormatter) {
+        return DateParser.tryParseLocalDate(text, dateTimeFormatter);
+    }
+
+    /**
+     * 尝试解析日期，解析失败或有多余的文本时返回 null，不会抛出异常
+     * <p>格式：yyyy-MM-dd
+     *
+     * @param text 文本
+     * @return {@link LocalDate}，解析失败时返回 null
+     */
+    public static LocalDate tryParse(CharSequence text) {
+        return tryParse(text, DatePattern.NORMAL_DATE);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析日期，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text     文本
+     * @param position 解析位置
+     * @param pattern  格式
+     * @return {@link LocalDate}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalDate tryParse(CharSequence text, ParsePosition position, String pattern) {
+        return DateParser.tryParseLocalDate(text, position, pattern);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析日期，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text        文本
+     * @param position    解析位置
+     * @param datePattern 格式
+     * @return {@link LocalDate}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalDate tryParse(CharSequence text, ParsePosition position, DatePattern datePattern) {
+        return DateParser.tryParseLocalDate(text, position, datePattern);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析日期，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text              文本
+     * @param position          解析位置
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return {@link LocalDate}，解析失败时返回 null
+     */
+    public static LocalDate tryParse(CharSequence text, ParsePosition position, DateTimeFormatter dateTimeFormatter) {
+        return DateParser.tryParseLocalDate(text, position, dateTimeFormatter);
     }
 
     //endregion
@@ -4,7 +4,7 @@ import io.github.lostblackknight.core.date.format.DateFormatter;
 import io.github.lostblackknight.core.date.format.DateParser;
 import io.github.lostblackknight.core.date.format.DatePattern;
 
-import java.time.Instant;
+import java.text.ParsePosition;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -33,7 +33,18 @@ public class LocalTimeUtils extends BaseUtils {
      * @return {@link LocalTime}
      */
     public static LocalTime of(long epochMilli) {
-        return LocalTime.from(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault()));
+        return ZoneContext.system().toLocalTime(epochMilli);
+    }
+
+    /**
+     * 创建 {@link LocalTime} 对象，使用指定的时区
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return {@link LocalTime}
+     */
+    public static LocalTime of(long epochMilli, ZoneId zoneId) {
+        return ZoneContext.of(zoneId).toLocalTime(epochMilli);
     }
 
     //endregion
@@ -119,12 +130,12 @@ public class LocalTimeUtils extends BaseUtils {
     //region 获取当前日期的基本信息
 
     /**
-     * 获取当前日期
+     * 获取当前日期，时间取自 {@link ClockProvider}
      *
      * @return 当前日期
      */
     public static LocalTime current() {
-        return LocalTime.now();
+        return ClockProvider.localTime();
     }
 
     /**
@@ -622,7 +633,7 @@ public class LocalTimeUtils extends BaseUtils {
      * @see DatePattern
      */
     public static String format(LocalTime localTime, String pattern) {
-        return DateFormatter.ofPattern(pattern).format(localTime);
+        return DateFormatter.format(localTime, pattern);
     }
 
     /**
@@ -634,7 +645,7 @@ public class LocalTimeUtils extends BaseUtils {
      * @see DatePattern
      */
     public static String format(LocalTime localTime, DatePattern datePattern) {
-        return DateFormatter.ofDatePattern(datePattern).format(localTime);
+        return DateFormatter.format(localTime, datePattern);
     }
 
     /**
@@ -656,7 +667,7 @@ public class LocalTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String format(LocalTime localTime) {
-        return DateFormatter.NORMAL_TIME.format(localTime);
+        return DateFormatter.format(localTime, DatePattern.NORMAL_TIME);
     }
 
     /**
@@ -667,7 +678,7 @@ public class LocalTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatOfSimple(LocalTime localTime) {
-        return DateFormatter.SIMPLE_TIME.format(localTime);
+        return DateFormatter.format(localTime, DatePattern.SIMPLE_TIME);
     }
 
     /**
@@ -678,7 +689,87 @@ public class LocalTimeUtils extends BaseUtils {
      * @return 格式化后的字符串
      */
     public static String formatOfChinese(LocalTime localTime) {
-        return DateFormatter.CHINESE_TIME.format(localTime);
+        return DateFormatter.format(localTime, DatePattern.CHINESE_TIME);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     *
+     * @param localTime  日期
+     * @param pattern    格式
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     * @see DatePattern
+     */
+    public static <A extends Appendable> A formatTo(LocalTime localTime, String pattern, A appendable) {
+        return DateFormatter.formatTo(localTime, pattern, appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     *
+     * @param localTime   日期
+     * @param datePattern 格式
+     * @param appendable  输出目标，例如 {@link StringBuilder}
+     * @param <A>         输出目标的类型
+     * @return appendable
+     * @see DatePattern
+     */
+    public static <A extends Appendable> A formatTo(LocalTime localTime, DatePattern datePattern, A appendable) {
+        return DateFormatter.formatTo(localTime, datePattern, appendable);
+    }
+
+    /**
+     * 格式化日期时间，并追加到 appendable 中
+     *
+     * @param localTime         日期
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @param appendable        输出目标，例如 {@link StringBuilder}
+     * @param <A>               输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTo(LocalTime localTime, DateTimeFormatter dateTimeFormatter, A appendable) {
+        return DateFormatter.formatTo(localTime, dateTimeFormatter, appendable);
+    }
+
+    /**
+     * 格式化时间，并追加到 appendable 中
+     * <p>格式：HH:mm:ss
+     *
+     * @param localTime  日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatTo(LocalTime localTime, A appendable) {
+        return DateFormatter.formatTo(localTime, DatePattern.NORMAL_TIME, appendable);
+    }
+
+    /**
+     * 格式化时间，并追加到 appendable 中
+     * <p>格式：HHmmss
+     *
+     * @param localTime  日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatOfSimpleTo(LocalTime localTime, A appendable) {
+        return DateFormatter.formatTo(localTime, DatePattern.SIMPLE_TIME, appendable);
+    }
+
+    /**
+     * 格式化时间，并追加到 appendable 中
+     * <p>格式：HH时mm分ss秒
+     *
+     * @param localTime  日期
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     */
+    public static <A extends Appendable> A formatOfChineseTo(LocalTime localTime, A appendable) {
+        return DateFormatter.formatTo(localTime, DatePattern.CHINESE_TIME, appendable);
     }
 
     //endregion
@@ -694,7 +785,7 @@ public class LocalTimeUtils extends BaseUtils {
      * @see DatePattern
      */
     public static LocalTime parse(CharSequence text, String pattern) {
-        return DateParser.parseLocalTime(text, DateFormatter.ofPattern(pattern));
+        return DateParser.parseLocalTime(text, pattern);
     }
 
     /**
@@ -706,7 +797,7 @@ public class LocalTimeUtils extends BaseUtils {
      * @see DatePattern
      */
     public static LocalTime parse(CharSequence text, DatePattern datePattern) {
-        return DateParser.parseLocalTime(text, DateFormatter.ofDatePattern(datePattern));
+        return DateParser.parseLocalTime(text, datePattern);
     }
 
     /**
@@ -728,7 +819,7 @@ public class LocalTimeUtils extends BaseUtils {
      * @return {@link LocalTime}
      */
     public static LocalTime parse(CharSequence text) {
-        return DateParser.parseLocalTime(text, DateFormatter.NORMAL_TIME);
+        return DateParser.parseLocalTime(text, DatePattern.NORMAL_TIME);
     }
 
     /**
@@ -739,7 +830,7 @@ public class LocalTimeUtils extends BaseUtils {
      * @return {@link LocalTime}
      */
     public static LocalTime parseOfSimple(CharSequence text) {
-        return DateParser.parseLocalTime(text, DateFormatter.SIMPLE_TIME);
+        return DateParser.parseLocalTime(text, DatePattern.SIMPLE_TIME);
     }
 
     /**
@@ -750,7 +841,97 @@ public class LocalTimeUtils extends BaseUtils {
      * @return {@link LocalTime}
      */
     public static LocalTime parseOfChinese(CharSequence text) {
-        return DateParser.parseLocalTime(text, DateFormatter.CHINESE_TIME);
+        return DateParser.parseLocalTime(text, DatePattern.CHINESE_TIME);
+    }
+
+    /**
+     * 尝试解析时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return {@link LocalTime}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalTime tryParse(CharSequence text, String pattern) {
+        return DateParser.tryParseLocalTime(text, pattern);
+    }
+
+    /**
+     * 尝试解析时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return {@link LocalTime}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalTime tryParse(CharSequence text, DatePattern datePattern) {
+        return DateParser.tryParseLocalTime(text, datePattern);
+    }
+
+    /**
+     * 尝试解析时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text              文本
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return {@link LocalTime}，解析失败时返回 null
+     */
+    public static LocalTime tryParse(CharSequence text, DateTimeFormatter dateTimeFormatter) {
+        return DateParser.tryParseLocalTime(text, dateTimeFormatter);
+    }
+
+    /**
+     * 尝试解析时间，解析失败或有多余的文本时返回 null，不会抛出异常
+     * <p>格式：HH:mm:ss
+     *
+     * @param text 文本
+     * @return {@link LocalTime}，解析失败时返回 null
+     */
+    public static LocalTime tryParse(CharSequence text) {
+        return tryParse(text, DatePattern.NORMAL_TIME);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析时间，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text     文本
+     * @param position 解析位置
+     * @param pattern  格式
+     * @return {@link LocalTime}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalTime tryParse(CharSequence text, ParsePosition position, String pattern) {
+        return DateParser.tryParseLocalTime(text, position, pattern);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析时间，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text        文本
+     * @param position    解析位置
+     * @param datePattern 格式
+     * @return {@link LocalTime}，解析失败时返回 null
+     * @see DatePattern
+     */
+    public static LocalTime tryParse(CharSequence text, ParsePosition position, DatePattern datePattern) {
+        return DateParser.tryParseLocalTime(text, position, datePattern);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析时间，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，之后可以继续解析后面的文本；
+     * 失败时 index 保持不变，errorIndex 为出错的位置
+     *
+     * @param text              文本
+     * @param position          解析位置
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return {@link LocalTime}，解析失败时返回 null
+     */
+    public static LocalTime tryParse(CharSequence text, ParsePosition position, DateTimeFormatter dateTimeFormatter) {
+        return DateParser.tryParseLocalTime(text, position, dateTimeFormatter);
     }
 
     //endregion
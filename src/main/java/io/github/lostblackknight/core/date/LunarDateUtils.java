@@ -0,0 +1,382 @@
+package io.github.lostblackknight.core.date;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * 农历工具类
+ * <p>支持农历 [{@value #MIN_YEAR}, {@value #MAX_YEAR}] 年，即公历 1900-01-31 到 2100-02-08。每个农历年的信息打包为一个 int：
+ * <pre>
+ * 位 0-12   按顺序排列的各月（闰月排在同名的月份之后）是否为大月（30 天），否则为小月（29 天）
+ * 位 13-16  闰几月，0 表示没有闰月
+ * 位 17-21  正月初一与公历同年 1 月 21 日相差的天数，范围为 [0, 30]
+ * </pre>
+ * 正月初一由一次 {@link EpochDayUtils#epochDay} 加上偏移得到，某月之前的天数为 29 乘以月数加上大月标志的 bitCount，
+ * 所以农历转公历是查表加常数次运算；公历转农历在查表之后最多再逐月比较 13 次，都不会创建对象。
+ * <p>农历日期打包为一个 int（packedLunar）：年份占高位，月份占 4 位，是否为闰月占 1 位，日占 5 位，
+ * 闰月排在同名的月份之后，打包后的值与日期的先后顺序一致，可以直接比较。
+ * <p>干支纪年和生肖按农历年计算，即以正月初一而不是立春为界。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 17:30
+ * @version 1.0.0
+ */
+public abstract class LunarDateUtils {
+
+    /**
+     * 支持的最小农历年份
+     */
+    public static final int MIN_YEAR = 1900;
+
+    /**
+     * 支持的最大农历年份
+     */
+    public static final int MAX_YEAR = 2099;
+
+    private static final int[] YEAR_INFO = {
+            0x1516d2, 0x3a0752, 0x240ea5, 0x10b64a, 0x34064b, 0x1c0a9b, 0x089556, 0x2e056a, 0x180b59, 0x025752, // 1900-1909
+            0x280752, 0x12db25, 0x380b25, 0x200a4b, 0x0ab4ab, 0x3002ad, 0x1a056b, 0x044b69, 0x2a0da9, 0x16fd92, // 1910-1919
+            0x3c0e92, 0x240d25, 0x0eba4d, 0x340a56, 0x1e02b6, 0x0695b5, 0x2e06d4, 0x180ea9, 0x045e92, 0x280e92, // 1920-1929
+            0x12cd26, 0x36052b, 0x200a57, 0x0ab2b6, 0x300b5a, 0x1c06d4, 0x066ec9, 0x2a0749, 0x14f693, 0x3a0a93, // 1930-1939
+            0x24052b, 0x0cca5b, 0x320aad, 0x1e056a, 0x089b55, 0x2e0ba4, 0x180b49, 0x025a93, 0x280a95, 0x10f52d, // 1940-1949
+            0x360536, 0x200aad, 0x0cb5aa, 0x3005b2, 0x1a0da5, 0x067d4a, 0x2c0d4a, 0x150a95, 0x380a97, 0x240556, // 1950-1959
+            0x0ecab5, 0x320ad5, 0x1e06d2, 0x088ea5, 0x2e0ea5, 0x18064a, 0x006c97, 0x260a9b, 0x12f55a, 0x36056a, // 1960-1969
+            0x200b69, 0x0cb752, 0x320b52, 0x1a0b25, 0x04964b, 0x2a0a4b, 0x1514ab, 0x3802ad, 0x22056d, 0x0ecb69, // 1970-1979
+            0x340da9, 0x1e0d92, 0x089d25, 0x2e0d25, 0x195a4d, 0x3c0a56, 0x2602b6, 0x10c5b5, 0x3606d5, 0x200ea9, // 1980-1989
+            0x0cbe92, 0x320e92, 0x1c0d26, 0x046a56, 0x280a57, 0x1514d6, 0x3a035a, 0x2206d5, 0x0eb6c9, 0x340749, // 1990-1999
+            0x1e0693, 0x06952b, 0x2c052b, 0x160a5b, 0x02555a, 0x26056a, 0x10fb55, 0x380ba4, 0x220b49, 0x0aba93, // 2000-2009
+            0x300a95, 0x1a052d, 0x048aad, 0x280ab5, 0x1535aa, 0x3a05d2, 0x240da5, 0x0edd4a, 0x340d4a, 0x1e0c95, // 2010-2019
+            0x08952e, 0x2c0556, 0x160ab5, 0x0255b2, 0x2806d2, 0x10cea5, 0x360725, 0x20064b, 0x0aac97, 0x2e0cab, // 2020-2029
+            0x1a055a, 0x046ad6, 0x2a0b69, 0x157752, 0x3a0b52, 0x240b25, 0x0eda4b, 0x320a4b, 0x1c04ab, 0x06a55b, // 2030-2039
+            0x2c05ad, 0x160b6a, 0x025b52, 0x280d92, 0x12fd25, 0x360d25, 0x200a55, 0x0ab4ad, 0x3004b6, 0x1805b5, // 2040-2049
+            0x046daa, 0x2a0ec9, 0x171e92, 0x3a0e92, 0x240d26, 0x0eca56, 0x320a57, 0x1c04d6, 0x0686d5, 0x2c0755, // 2050-2059
+            0x180749, 0x006e93, 0x260693, 0x10f52b, 0x36052b, 0x1e0a5b, 0x0ab55a, 0x30056a, 0x1a0b65, 0x04974a, // 2060-2069
+            0x2a0b4a, 0x151a95, 0x3a0a95, 0x22052d, 0x0ccaad, 0x320ab5, 0x1e05aa, 0x068ba5, 0x2c0da5, 0x180d4a, // 2070-2079
+            0x027c95, 0x260c96, 0x10f94e, 0x360556, 0x200ab5, 0x0ab5b2, 0x3006d2, 0x1a0ea5, 0x068e4a, 0x28068b, // 2080-2089
+            0x130c97, 0x3804ab, 0x22055b, 0x0ccad6, 0x320b6a, 0x1e0752, 0x089725, 0x2c0b45, 0x160a8b, 0x00549b // 2090-2099
+    };
+
+    private static final int LEAP_MONTH_SHIFT = 13;
+
+    private static final int NEW_YEAR_SHIFT = 17;
+
+    /**
+     * 支持的第一天，即 {@value #MIN_YEAR} 年的正月初一
+     */
+    private static final int FIRST_EPOCH_DAY = newYear(MIN_YEAR);
+
+    /**
+     * 支持的最后一天的下一天，即 {@value #MAX_YEAR} 年的正月初一加上当年的天数
+     */
+    private static final int END_EPOCH_DAY = newYear(MAX_YEAR) + lengthOfYear(MAX_YEAR);
+
+    private static final String STEMS = "甲乙丙丁戊己庚辛壬癸";
+
+    private static final String BRANCHES = "子丑寅卯辰巳午未申酉戌亥";
+
+    private static final String ZODIACS = "鼠牛虎兔龙蛇马羊猴鸡狗猪";
+
+    private static final String[] MONTH_NAMES = {"正", "二", "三", "四", "五", "六", "七", "八", "九", "十", "冬", "腊"};
+
+    private static final String NUMBERS = "一二三四五六七八九十";
+
+    //region 公历与农历的转换
+
+    /**
+     * 公历转换为农历
+     *
+     * @param localDate 公历日期
+     * @return packedLunar
+     */
+    public static int toLunar(LocalDate localDate) {
+        return toLunar(Math.toIntExact(localDate.toEpochDay()));
+    }
+
+    /**
+     * 公历转换为农历
+     *
+     * @param epochDay 从 1970-01-01 开始的天数
+     * @return packedLunar
+     * @throws DateTimeException 超出支持的范围
+     */
+    public static int toLunar(int epochDay) {
+        if (epochDay < FIRST_EPOCH_DAY || epochDay >= END_EPOCH_DAY) {
+            throw outOfRange(epochDay);
+        }
+        // 范围内的公历年份为 [MIN_YEAR, MAX_YEAR + 1]，MAX_YEAR + 1 年的日期都在 MAX_YEAR 年的腊月之前
+        int year = Math.min(EpochDayUtils.year(epochDay), MAX_YEAR);
+        int newYear = newYear(year);
+        if (epochDay < newYear) {
+            year--;
+            newYear = newYear(year);
+        }
+        final int info = YEAR_INFO[year - MIN_YEAR];
+        final int leapMonth = info >>> LEAP_MONTH_SHIFT & 0xF;
+        int offset = epochDay - newYear;
+        int index = 0;
+        for (int length = 29 + (info & 1); offset >= length; length = 29 + (info >>> ++index & 1)) {
+            offset -= length;
+        }
+        if (leapMonth == 0 || index < leapMonth) {
+            return pack(year, index + 1, offset + 1, false);
+        }
+        return pack(year, index, offset + 1, index == leapMonth);
+    }
+
+    /**
+     * 农历转换为公历
+     *
+     * @param packedLunar 农历
+     * @return 从 1970-01-01 开始的天数
+     */
+    public static int toEpochDay(int packedLunar) {
+        return toEpochDay(unpackYear(packedLunar), unpackMonth(packedLunar), unpackDay(packedLunar), isLeapMonth(packedLunar));
+    }
+
+    /**
+     * 农历转换为公历
+     *
+     * @param year        农历年份
+     * @param month       农历月份，范围为 [1, 12]
+     * @param day         农历日，范围为 [1, 30]
+     * @param isLeapMonth 是否为闰月
+     * @return 从 1970-01-01 开始的天数
+     * @throws DateTimeException 日期不存在或超出支持的范围
+     */
+    public static int toEpochDay(int year, int month, int day, boolean isLeapMonth) {
+        final int index = monthIndex(year, month, isLeapMonth);
+        final int info = YEAR_INFO[year - MIN_YEAR];
+        if (day < 1 || day > 29 + (info >>> index & 1)) {
+            throw new DateTimeException("Invalid lunar date " + year + "-" + (isLeapMonth ? "leap " : "") + month + "-" + day);
+        }
+        return newYear(year) + index * 29 + Integer.bitCount(info & (1 << index) - 1) + day - 1;
+    }
+
+    /**
+     * 农历转换为公历
+     *
+     * @param packedLunar 农历
+     * @return 公历日期
+     */
+    public static LocalDate toLocalDate(int packedLunar) {
+        return LocalDate.ofEpochDay(toEpochDay(packedLunar));
+    }
+
+    /**
+     * 农历转换为公历
+     *
+     * @param year        农历年份
+     * @param month       农历月份，范围为 [1, 12]
+     * @param day         农历日，范围为 [1, 30]
+     * @param isLeapMonth 是否为闰月
+     * @return 公历日期
+     */
+    public static LocalDate toLocalDate(int year, int month, int day, boolean isLeapMonth) {
+        return LocalDate.ofEpochDay(toEpochDay(year, month, day, isLeapMonth));
+    }
+
+    //endregion
+
+    //region 打包与解包
+
+    /**
+     * 打包农历日期，不做检查
+     *
+     * @param year        农历年份
+     * @param month       农历月份
+     * @param day         农历日
+     * @param isLeapMonth 是否为闰月
+     * @return packedLunar
+     */
+    public static int pack(int year, int month, int day, boolean isLeapMonth) {
+        return year << 10 | month << 6 | (isLeapMonth ? 1 << 5 : 0) | day;
+    }
+
+    /**
+     * 获取农历年份
+     *
+     * @param packedLunar 农历
+     * @return 年份
+     */
+    public static int unpackYear(int packedLunar) {
+        return packedLunar >> 10;
+    }
+
+    /**
+     * 获取农历月份，范围为 [1, 12]
+     *
+     * @param packedLunar 农历
+     * @return 月份
+     */
+    public static int unpackMonth(int packedLunar) {
+        return packedLunar >>> 6 & 0xF;
+    }
+
+    /**
+     * 获取农历日，范围为 [1, 30]
+     *
+     * @param packedLunar 农历
+     * @return 日
+     */
+    public static int unpackDay(int packedLunar) {
+        return packedLunar & 0x1F;
+    }
+
+    /**
+     * 判断是否为闰月
+     *
+     * @param packedLunar 农历
+     * @return 是否为闰月
+     */
+    public static boolean isLeapMonth(int packedLunar) {
+        return (packedLunar & 1 << 5) != 0;
+    }
+
+    //endregion
+
+    //region 农历年的信息
+
+    /**
+     * 获取闰几月
+     *
+     * @param year 农历年份
+     * @return 闰月，没有闰月时为 0
+     */
+    public static int leapMonth(int year) {
+        return info(year) >>> LEAP_MONTH_SHIFT & 0xF;
+    }
+
+    /**
+     * 获取农历月份的天数
+     *
+     * @param year        农历年份
+     * @param month       农历月份
+     * @param isLeapMonth 是否为闰月
+     * @return 29 或 30
+     * @throws DateTimeException 年份超出支持的范围或月份无效
+     */
+    public static int lengthOfMonth(int year, int month, boolean isLeapMonth) {
+        final int index = monthIndex(year, month, isLeapMonth);
+        return 29 + (info(year) >>> index & 1);
+    }
+
+    /**
+     * 获取农历年的天数
+     *
+     * @param year 农历年份
+     * @return 天数
+     */
+    public static int lengthOfYear(int year) {
+        final int info = info(year);
+        final int months = (info >>> LEAP_MONTH_SHIFT & 0xF) == 0 ? 12 : 13;
+        return months * 29 + Integer.bitCount(info & (1 << months) - 1);
+    }
+
+    /**
+     * 获取正月初一
+     *
+     * @param year 农历年份
+     * @return 从 1970-01-01 开始的天数
+     */
+    public static int newYearEpochDay(int year) {
+        info(year);
+        return newYear(year);
+    }
+
+    /**
+     * 获取干支纪年，例如 2022 年为壬寅
+     *
+     * @param year 农历年份
+     * @return 干支
+     */
+    public static String ganZhiYear(int year) {
+        final int offset = year - 4;
+        return new String(new char[]{STEMS.charAt(Math.floorMod(offset, 10)), BRANCHES.charAt(Math.floorMod(offset, 12))});
+    }
+
+    /**
+     * 获取生肖，例如 2022 年为虎
+     *
+     * @param year 农历年份
+     * @return 生肖
+     */
+    public static String zodiac(int year) {
+        return String.valueOf(ZODIACS.charAt(Math.floorMod(year - 4, 12)));
+    }
+
+    //endregion
+
+    //region 中文名称
+
+    /**
+     * 获取月份的中文名称，例如正月、闰二月、冬月、腊月
+     *
+     * @param month       农历月份
+     * @param isLeapMonth 是否为闰月
+     * @return 名称
+     * @throws DateTimeException 月份不在 [1, 12] 中
+     */
+    public static String monthName(int month, boolean isLeapMonth) {
+        if (month < 1 || month > 12) {
+            throw new DateTimeException("Invalid lunar month " + month);
+        }
+        return (isLeapMonth ? "闰" : "") + MONTH_NAMES[month - 1] + "月";
+    }
+
+    /**
+     * 获取日的中文名称，例如初一、十五、廿一、三十
+     *
+     * @param day 农历日
+     * @return 名称
+     * @throws DateTimeException 日不在 [1, 30] 中
+     */
+    public static String dayName(int day) {
+        if (day < 1 || day > 30) {
+            throw new DateTimeException("Invalid lunar day " + day);
+        }
+        if (day == 20 || day == 30) {
+            return NUMBERS.charAt(day / 10 - 1) + "十";
+        }
+        final char prefix = "初十廿".charAt((day - 1) / 10);
+        return new String(new char[]{prefix, NUMBERS.charAt((day - 1) % 10)});
+    }
+
+    /**
+     * 格式化为干支纪年加月日，例如 壬寅年八月初一
+     *
+     * @param packedLunar 农历
+     * @return 字符串
+     */
+    public static String format(int packedLunar) {
+        return ganZhiYear(unpackYear(packedLunar)) + "年"
+                + monthName(unpackMonth(packedLunar), isLeapMonth(packedLunar)) + dayName(unpackDay(packedLunar));
+    }
+
+    //endregion
+
+    /**
+     * 月份在当年按顺序排列的各月中的位置
+     */
+    private static int monthIndex(int year, int month, boolean isLeapMonth) {
+        final int leapMonth = leapMonth(year);
+        if (month < 1 || month > 12 || isLeapMonth && month != leapMonth) {
+            throw new DateTimeException("Invalid lunar month " + year + "-" + (isLeapMonth ? "leap " : "") + month);
+        }
+        return leapMonth != 0 && (month > leapMonth || isLeapMonth) ? month : month - 1;
+    }
+
+    private static int info(int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new DateTimeException("Lunar year " + year + " is out of range [" + MIN_YEAR + ", " + MAX_YEAR + "]");
+        }
+        return YEAR_INFO[year - MIN_YEAR];
+    }
+
+    private static int newYear(int year) {
+        return EpochDayUtils.epochDay(year, 1, 21) + (YEAR_INFO[year - MIN_YEAR] >>> NEW_YEAR_SHIFT);
+    }
+
+    private static DateTimeException outOfRange(int epochDay) {
+        return new DateTimeException(LocalDate.ofEpochDay(epochDay) + " is out of the lunar range ["
+                + MIN_YEAR + ", " + MAX_YEAR + "]");
+    }
+}
@@ -0,0 +1,1378 @@
+package io.github.lostblackknight.core.date;
+
+import io.github.lostblackknight.core.date.format.DateFormatter;
+import io.github.lostblackknight.core.date.format.DateParser;
+import io.github.lostblackknight.core.date.format.DatePattern;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import static java.lang.Math.*;
+
+/**
+ * 打包的日期时间工具类
+ * <p>把不带时区的日期时间按位打包在一个 long 中，从高位到低位依次为：
+ * <pre>
+ * 年 (36 位起，有符号) | 月 (4 位) | 日 (5 位) | 时 (5 位) | 分 (6 位) | 秒 (6 位) | 毫秒 (10 位)
+ * </pre>
+ * 打包后的值的大小顺序与时间的先后顺序一致，可以直接比较、排序，或作为 long 类型的键使用，
+ * 保存在 long[] 中时每个值只占 8 个字节。布局与 {@link DateParser} 定长解析的结果相同，
+ * 使用内置格式解析和格式化时不经过 {@link LocalDateTime}。
+ * <p>提供与 {@link LocalDateTimeUtils} 相同的操作，偏移和计算时间量都是对本地时间进行的，与时区无关；
+ * 只有和毫秒时间戳之间的转换需要时区。方法不检查参数是否为有效的打包值，除 {@link #of} 系列方法外不抛出异常。
+ * 年份范围与 {@link EpochDayUtils} 相同。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/18 23:10
+ * @version 1.0.0
+ */
+public abstract class PackedDateTimeUtils extends BaseUtils {
+
+    private static final int MILLI_SHIFT = 0;
+
+    private static final int SECOND_SHIFT = 10;
+
+    private static final int MINUTE_SHIFT = 16;
+
+    private static final int HOUR_SHIFT = 22;
+
+    private static final int DAY_SHIFT = 27;
+
+    private static final int MONTH_SHIFT = 32;
+
+    private static final int YEAR_SHIFT = 36;
+
+    /**
+     * 时、分、秒、毫秒所占的位
+     */
+    private static final long TIME_MASK = (1L << DAY_SHIFT) - 1;
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+
+    private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+
+    private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+    private static final long MILLIS_PER_WEEK = 7 * MILLIS_PER_DAY;
+
+    /**
+     * 23:59:59.999
+     */
+    private static final long END_OF_DAY = (23L << HOUR_SHIFT) | (59L << MINUTE_SHIFT) | (59L << SECOND_SHIFT) | 999L;
+
+    //region 创建打包的日期时间
+
+    /**
+     * 创建打包的日期时间，时间为 00:00
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @return 打包的日期时间
+     * @throws DateTimeException 日期无效时抛出
+     */
+    public static long of(int year, int month, int dayOfMonth) {
+        return of(year, month, dayOfMonth, 0, 0, 0, 0);
+    }
+
+    /**
+     * 创建打包的日期时间
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @param hour       时
+     * @param minute     分
+     * @return 打包的日期时间
+     * @throws DateTimeException 日期或时间无效时抛出
+     */
+    public static long of(int year, int month, int dayOfMonth, int hour, int minute) {
+        return of(year, month, dayOfMonth, hour, minute, 0, 0);
+    }
+
+    /**
+     * 创建打包的日期时间
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @param hour       时
+     * @param minute     分
+     * @param second     秒
+     * @return 打包的日期时间
+     * @throws DateTimeException 日期或时间无效时抛出
+     */
+    public static long of(int year, int month, int dayOfMonth, int hour, int minute, int second) {
+        return of(year, month, dayOfMonth, hour, minute, second, 0);
+    }
+
+    /**
+     * 创建打包的日期时间
+     *
+     * @param year       年
+     * @param month      月
+     * @param dayOfMonth 日
+     * @param hour       时
+     * @param minute     分
+     * @param second     秒
+     * @param milli      毫秒
+     * @return 打包的日期时间
+     * @throws DateTimeException 日期或时间无效时抛出
+     */
+    public static long of(int year, int month, int dayOfMonth, int hour, int minute, int second, int milli) {
+        if (year < EpochDayUtils.MIN_YEAR || year > EpochDayUtils.MAX_YEAR || month < 1 || month > 12
+                || dayOfMonth < 1 || dayOfMonth > EpochDayUtils.lengthOfMonth(year, month)) {
+            throw new DateTimeException("Invalid date: " + year + "-" + month + "-" + dayOfMonth);
+        }
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || milli < 0 || milli > 999) {
+            throw new DateTimeException("Invalid time: " + hour + ":" + minute + ":" + second + "." + milli);
+        }
+        return pack(year, month, dayOfMonth, hour, minute, second, milli);
+    }
+
+    /**
+     * 将 {@link LocalDateTime} 打包，毫秒以下的部分舍去
+     *
+     * @param localDateTime {@link LocalDateTime}
+     * @return 打包的日期时间
+     * @throws DateTimeException 年份超出范围时抛出
+     */
+    public static long of(LocalDateTime localDateTime) {
+        return of(localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+                localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(), localDateTime.getNano() / 1_000_000);
+    }
+
+    /**
+     * 将毫秒时间戳换算为系统默认时区的打包的日期时间
+     *
+     * @param epochMilli 毫秒
+     * @return 打包的日期时间
+     */
+    public static long ofEpochMilli(long epochMilli) {
+        return ofLocalMilli(ZoneContext.system().toLocalMilli(epochMilli));
+    }
+
+    /**
+     * 将毫秒时间戳换算为指定时区的打包的日期时间
+     *
+     * @param epochMilli 毫秒
+     * @param zoneId     时区
+     * @return 打包的日期时间
+     */
+    public static long ofEpochMilli(long epochMilli, ZoneId zoneId) {
+        return ofLocalMilli(ZoneContext.of(zoneId).toLocalMilli(epochMilli));
+    }
+
+    /**
+     * 转换成 {@link LocalDateTime} 类型
+     *
+     * @param packed 打包的日期时间
+     * @return {@link LocalDateTime}
+     */
+    public static LocalDateTime toLocalDateTime(long packed) {
+        return LocalDateTime.of(year(packed), month(packed), dayOfMonth(packed), hourOf24(packed), minute(packed), second(packed), milli(packed) * 1_000_000);
+    }
+
+    /**
+     * 按系统默认时区转换成毫秒时间戳
+     *
+     * @param packed 打包的日期时间
+     * @return 毫秒
+     */
+    public static long toEpochMilli(long packed) {
+        return ZoneContext.system().toEpochMilli(localMilli(packed));
+    }
+
+    /**
+     * 按指定时区转换成毫秒时间戳
+     *
+     * @param packed 打包的日期时间
+     * @param zoneId 时区
+     * @return 毫秒
+     */
+    public static long toEpochMilli(long packed, ZoneId zoneId) {
+        return ZoneContext.of(zoneId).toEpochMilli(localMilli(packed));
+    }
+
+    /**
+     * 获取系统默认时区的当前日期时间，时间取自 {@link ClockProvider}
+     *
+     * @return 打包的日期时间
+     */
+    public static long current() {
+        return ofEpochMilli(ClockProvider.millis());
+    }
+
+    //endregion
+
+    //region 获取指定日期的基本信息
+
+    /**
+     * 获取指定日期所在的年份
+     *
+     * @param packed 打包的日期时间
+     * @return 年份
+     */
+    public static int year(long packed) {
+        return (int) (packed >> YEAR_SHIFT);
+    }
+
+    /**
+     * 获取指定日期所在的月份，范围为 [1, 12]
+     *
+     * @param packed 打包的日期时间
+     * @return 月份
+     */
+    public static int month(long packed) {
+        return (int) (packed >>> MONTH_SHIFT) & 0xF;
+    }
+
+    /**
+     * 获取指定日期是所在年份的第几周，范围为 [1, 53]
+     *
+     * @param packed 打包的日期时间
+     * @return 周
+     */
+    public static int weekOfYear(long packed) {
+        return EpochDayUtils.weekOf(dayOfYear(packed), dayOfWeek(packed));
+    }
+
+    /**
+     * 获取指定日期是所在年份的第几天，范围为 [1, 366]
+     *
+     * @param packed 打包的日期时间
+     * @return 天
+     */
+    public static int dayOfYear(long packed) {
+        return EpochDayUtils.packedDayOfYear(EpochDayUtils.pack(year(packed), month(packed), dayOfMonth(packed)));
+    }
+
+    /**
+     * 获取指定日期是所在月份的第几周，范围为 [1, 6]
+     *
+     * @param packed 打包的日期时间
+     * @return 周
+     */
+    public static int weekOfMonth(long packed) {
+        return EpochDayUtils.weekOf(dayOfMonth(packed), dayOfWeek(packed));
+    }
+
+    /**
+     * 获取指定日期是所在月份的第几天，范围为 [1, 31]
+     *
+     * @param packed 打包的日期时间
+     * @return 天
+     */
+    public static int dayOfMonth(long packed) {
+        return (int) (packed >>> DAY_SHIFT) & 0x1F;
+    }
+
+    /**
+     * 获取指定日期是所在星期的第几天，范围为 [1, 7]
+     *
+     * @param packed 打包的日期时间
+     * @return 天
+     */
+    public static int dayOfWeek(long packed) {
+        return EpochDayUtils.dayOfWeek(epochDay(packed));
+    }
+
+    /**
+     * 获取指定日期的小时数，范围为 [0, 23]
+     *
+     * @param packed 打包的日期时间
+     * @return 小时
+     */
+    public static int hourOf24(long packed) {
+        return (int) (packed >>> HOUR_SHIFT) & 0x1F;
+    }
+
+    /**
+     * 获取指定日期的小时数，范围为 [0, 11]
+     *
+     * @param packed 打包的日期时间
+     * @return 小时
+     */
+    public static int hourOf12(long packed) {
+        return hourOf24(packed) % 12;
+    }
+
+    /**
+     * 获取指定日期的分钟数，范围为 [0, 59]
+     *
+     * @param packed 打包的日期时间
+     * @return 分钟
+     */
+    public static int minute(long packed) {
+        return (int) (packed >>> MINUTE_SHIFT) & 0x3F;
+    }
+
+    /**
+     * 获取指定日期的秒数，范围为 [0, 59]
+     *
+     * @param packed 打包的日期时间
+     * @return 秒
+     */
+    public static int second(long packed) {
+        return (int) (packed >>> SECOND_SHIFT) & 0x3F;
+    }
+
+    /**
+     * 获取指定日期的毫秒数，范围为 [0, 999]
+     *
+     * @param packed 打包的日期时间
+     * @return 毫秒
+     */
+    public static int milli(long packed) {
+        return (int) (packed >>> MILLI_SHIFT) & 0x3FF;
+    }
+
+    /**
+     * 判断指定日期所在的年份是否为闰年
+     *
+     * @param packed 打包的日期时间
+     * @return 是否为闰年
+     */
+    public static boolean isLeapYear(long packed) {
+        return EpochDayUtils.isLeapYear(year(packed));
+    }
+
+    /**
+     * 判断指定日期是否为周末
+     *
+     * @param packed 打包的日期时间
+     * @return 是否为周末
+     */
+    public static boolean isWeekend(long packed) {
+        return dayOfWeek(packed) >= 6;
+    }
+
+    /**
+     * 判断指定日期是否为上午
+     *
+     * @param packed 打包的日期时间
+     * @return 是否为上午
+     */
+    public static boolean isAM(long packed) {
+        return hourOf24(packed) < 12;
+    }
+
+    /**
+     * 判断指定日期是否为下午
+     *
+     * @param packed 打包的日期时间
+     * @return 是否为下午
+     */
+    public static boolean isPM(long packed) {
+        return hourOf24(packed) >= 12;
+    }
+
+    /**
+     * 获取指定日期所在年份的总天数
+     *
+     * @param packed 打包的日期时间
+     * @return 总天数
+     */
+    public static int lengthOfYear(long packed) {
+        return EpochDayUtils.isLeapYear(year(packed)) ? 366 : 365;
+    }
+
+    /**
+     * 获取指定日期所在月份的总天数
+     *
+     * @param packed 打包的日期时间
+     * @return 总天数
+     */
+    public static int lengthOfMonth(long packed) {
+        return EpochDayUtils.lengthOfMonth(year(packed), month(packed));
+    }
+
+    //endregion
+
+    //region 对指定日期的偏移操作
+
+    /**
+     * 将指定日期加上指定的年数
+     *
+     * @param packed 打包的日期时间
+     * @param years  年数
+     * @return 修改后的日期
+     */
+    public static long plusYears(long packed, int years) {
+        return addMonths(packed, years * 12L);
+    }
+
+    /**
+     * 将指定日期加上指定的月数
+     *
+     * @param packed 打包的日期时间
+     * @param months 月数
+     * @return 修改后的日期
+     */
+    public static long plusMonths(long packed, int months) {
+        return addMonths(packed, (long) months);
+    }
+
+    /**
+     * 将指定日期加上指定的周数
+     *
+     * @param packed 打包的日期时间
+     * @param weeks  周数
+     * @return 修改后的日期
+     */
+    public static long plusWeeks(long packed, int weeks) {
+        return ofLocalMilli(localMilli(packed) + weeks * MILLIS_PER_WEEK);
+    }
+
+    /**
+     * 将指定日期加上指定的天数
+     *
+     * @param packed 打包的日期时间
+     * @param days   天数
+     * @return 修改后的日期
+     */
+    public static long plusDays(long packed, int days) {
+        return withEpochDay(packed, epochDay(packed) + days);
+    }
+
+    /**
+     * 将指定日期加上指定的小时数
+     *
+     * @param packed 打包的日期时间
+     * @param hours  小时数
+     * @return 修改后的日期
+     */
+    public static long plusHours(long packed, int hours) {
+        return ofLocalMilli(localMilli(packed) + hours * MILLIS_PER_HOUR);
+    }
+
+    /**
+     * 将指定日期加上指定的分钟数
+     *
+     * @param packed  打包的日期时间
+     * @param minutes 分钟数
+     * @return 修改后的日期
+     */
+    public static long plusMinutes(long packed, int minutes) {
+        return ofLocalMilli(localMilli(packed) + minutes * MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * 将指定日期加上指定的秒数
+     *
+     * @param packed  打包的日期时间
+     * @param seconds 秒数
+     * @return 修改后的日期
+     */
+    public static long plusSeconds(long packed, int seconds) {
+        return ofLocalMilli(localMilli(packed) + seconds * MILLIS_PER_SECOND);
+    }
+
+    /**
+     * 将指定日期加上指定的毫秒数
+     *
+     * @param packed 打包的日期时间
+     * @param millis 毫秒数
+     * @return 修改后的日期
+     */
+    public static long plusMillis(long packed, int millis) {
+        return ofLocalMilli(localMilli(packed) + millis);
+    }
+
+    /**
+     * 将指定日期减去指定的年数
+     *
+     * @param packed 打包的日期时间
+     * @param years  年数
+     * @return 修改后的日期
+     */
+    public static long minusYears(long packed, int years) {
+        return addMonths(packed, -years * 12L);
+    }
+
+    /**
+     * 将指定日期减去指定的月数
+     *
+     * @param packed 打包的日期时间
+     * @param months 月数
+     * @return 修改后的日期
+     */
+    public static long minusMonths(long packed, int months) {
+        return addMonths(packed, -(long) months);
+    }
+
+    /**
+     * 将指定日期减去指定的周数
+     *
+     * @param packed 打包的日期时间
+     * @param weeks  周数
+     * @return 修改后的日期
+     */
+    public static long minusWeeks(long packed, int weeks) {
+        return ofLocalMilli(localMilli(packed) - weeks * MILLIS_PER_WEEK);
+    }
+
+    /**
+     * 将指定日期减去指定的天数
+     *
+     * @param packed 打包的日期时间
+     * @param days   天数
+     * @return 修改后的日期
+     */
+    public static long minusDays(long packed, int days) {
+        return withEpochDay(packed, epochDay(packed) - days);
+    }
+
+    /**
+     * 将指定日期减去指定的小时数
+     *
+     * @param packed 打包的日期时间
+     * @param hours  小时数
+     * @return 修改后的日期
+     */
+    public static long minusHours(long packed, int hours) {
+        return ofLocalMilli(localMilli(packed) - hours * MILLIS_PER_HOUR);
+    }
+
+    /**
+     * 将指定日期减去指定的分钟数
+     *
+     * @param packed  打包的日期时间
+     * @param minutes 分钟数
+     * @return 修改后的日期
+     */
+    public static long minusMinutes(long packed, int minutes) {
+        return ofLocalMilli(localMilli(packed) - minutes * MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * 将指定日期减去指定的秒数
+     *
+     * @param packed  打包的日期时间
+     * @param seconds 秒数
+     * @return 修改后的日期
+     */
+    public static long minusSeconds(long packed, int seconds) {
+        return ofLocalMilli(localMilli(packed) - seconds * MILLIS_PER_SECOND);
+    }
+
+    /**
+     * 将指定日期减去指定的毫秒数
+     *
+     * @param packed 打包的日期时间
+     * @param millis 毫秒数
+     * @return 修改后的日期
+     */
+    public static long minusMillis(long packed, int millis) {
+        return ofLocalMilli(localMilli(packed) - millis);
+    }
+
+    /**
+     * 获取指定日期所在年份的第一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfYear(long packed) {
+        return withEpochDay(packed, EpochDayUtils.beginOfYear(epochDay(packed)));
+    }
+
+    /**
+     * 获取指定日期所在年份的最后一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfYear(long packed) {
+        return withEpochDay(packed, EpochDayUtils.endOfYear(epochDay(packed)));
+    }
+
+    /**
+     * 获取指定日期的下一年的第一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfNextYear(long packed) {
+        return withEpochDay(packed, EpochDayUtils.beginOfYear(EpochDayUtils.plusYears(epochDay(packed), 1)));
+    }
+
+    /**
+     * 获取指定日期的下一年的最后一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfNextYear(long packed) {
+        return withEpochDay(packed, EpochDayUtils.endOfYear(EpochDayUtils.plusYears(epochDay(packed), 1)));
+    }
+
+    /**
+     * 获取指定日期的上一年的第一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfPrevYear(long packed) {
+        return withEpochDay(packed, EpochDayUtils.beginOfYear(EpochDayUtils.plusYears(epochDay(packed), -1)));
+    }
+
+    /**
+     * 获取指定日期的上一年的最后一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfPrevYear(long packed) {
+        return withEpochDay(packed, EpochDayUtils.endOfYear(EpochDayUtils.plusYears(epochDay(packed), -1)));
+    }
+
+    /**
+     * 获取指定日期所在月份的第一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfMonth(long packed) {
+        return withEpochDay(packed, EpochDayUtils.beginOfMonth(epochDay(packed)));
+    }
+
+    /**
+     * 获取指定日期所在月份的最后一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfMonth(long packed) {
+        return withEpochDay(packed, EpochDayUtils.endOfMonth(epochDay(packed)));
+    }
+
+    /**
+     * 获取指定日期的下一个月的第一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfNextMonth(long packed) {
+        return withEpochDay(packed, EpochDayUtils.beginOfMonth(EpochDayUtils.plusMonths(epochDay(packed), 1)));
+    }
+
+    /**
+     * 获取指定日期的下一个月的最后一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfNextMonth(long packed) {
+        return withEpochDay(packed, EpochDayUtils.endOfMonth(EpochDayUtils.plusMonths(epochDay(packed), 1)));
+    }
+
+    /**
+     * 获取指定日期的上一个月的第一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfPrevMonth(long packed) {
+        return withEpochDay(packed, EpochDayUtils.beginOfMonth(EpochDayUtils.plusMonths(epochDay(packed), -1)));
+    }
+
+    /**
+     * 获取指定日期的上一个月的最后一天，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfPrevMonth(long packed) {
+        return withEpochDay(packed, EpochDayUtils.endOfMonth(EpochDayUtils.plusMonths(epochDay(packed), -1)));
+    }
+
+    /**
+     * 获取指定日期所在星期的周一，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfWeek(long packed) {
+        return withEpochDay(packed, EpochDayUtils.beginOfWeek(epochDay(packed)));
+    }
+
+    /**
+     * 获取指定日期所在星期的周日，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfWeek(long packed) {
+        return withEpochDay(packed, EpochDayUtils.endOfWeek(epochDay(packed)));
+    }
+
+    /**
+     * 获取指定日期的下一周的周一，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfNextWeek(long packed) {
+        return withEpochDay(packed, EpochDayUtils.beginOfWeek(epochDay(packed)) + 7);
+    }
+
+    /**
+     * 获取指定日期的下一周的周日，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfNextWeek(long packed) {
+        return withEpochDay(packed, EpochDayUtils.endOfWeek(epochDay(packed)) + 7);
+    }
+
+    /**
+     * 获取指定日期的上一周的周一，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfPrevWeek(long packed) {
+        return withEpochDay(packed, EpochDayUtils.beginOfWeek(epochDay(packed)) - 7);
+    }
+
+    /**
+     * 获取指定日期的上一周的周日，时间不变
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfPrevWeek(long packed) {
+        return withEpochDay(packed, EpochDayUtils.endOfWeek(epochDay(packed)) - 7);
+    }
+
+    /**
+     * 获取指定日期当天的开始时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfDay(long packed) {
+        return (packed & ~TIME_MASK);
+    }
+
+    /**
+     * 获取指定日期当天的结束时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfDay(long packed) {
+        return (packed & ~TIME_MASK) | END_OF_DAY;
+    }
+
+    /**
+     * 获取指定日期的下一天的开始时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfNextDay(long packed) {
+        return (withEpochDay(packed, epochDay(packed) + 1) & ~TIME_MASK);
+    }
+
+    /**
+     * 获取指定日期的下一天的结束时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfNextDay(long packed) {
+        return (withEpochDay(packed, epochDay(packed) + 1) & ~TIME_MASK) | END_OF_DAY;
+    }
+
+    /**
+     * 获取指定日期的上一天的开始时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfPrevDay(long packed) {
+        return (withEpochDay(packed, epochDay(packed) - 1) & ~TIME_MASK);
+    }
+
+    /**
+     * 获取指定日期的上一天的结束时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfPrevDay(long packed) {
+        return (withEpochDay(packed, epochDay(packed) - 1) & ~TIME_MASK) | END_OF_DAY;
+    }
+
+    /**
+     * 获取指定日期所在小时的开始时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfHour(long packed) {
+        return packed & ~((1L << HOUR_SHIFT) - 1);
+    }
+
+    /**
+     * 获取指定日期所在小时的结束时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfHour(long packed) {
+        final long mask = (1L << HOUR_SHIFT) - 1;
+        return (packed & ~mask) | (END_OF_DAY & mask);
+    }
+
+    /**
+     * 获取指定日期所在分钟的开始时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfMinute(long packed) {
+        return packed & ~((1L << MINUTE_SHIFT) - 1);
+    }
+
+    /**
+     * 获取指定日期所在分钟的结束时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfMinute(long packed) {
+        final long mask = (1L << MINUTE_SHIFT) - 1;
+        return (packed & ~mask) | (END_OF_DAY & mask);
+    }
+
+    /**
+     * 获取指定日期所在秒的开始时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long beginOfSecond(long packed) {
+        return packed & ~((1L << SECOND_SHIFT) - 1);
+    }
+
+    /**
+     * 获取指定日期所在秒的结束时刻
+     *
+     * @param packed 打包的日期时间
+     * @return 修改后的日期
+     */
+    public static long endOfSecond(long packed) {
+        final long mask = (1L << SECOND_SHIFT) - 1;
+        return (packed & ~mask) | (END_OF_DAY & mask);
+    }
+
+    //endregion
+
+    //region 多个日期之间的操作
+
+    /**
+     * 计算从开始日期到结束日期之间的年数，不足的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenYears(long begin, long end, boolean isAbs) {
+        final long between = EpochMillisUtils.monthsBetween(localMilli(begin), localMilli(end)) / 12;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的月数，不足的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenMonths(long begin, long end, boolean isAbs) {
+        final long between = EpochMillisUtils.monthsBetween(localMilli(begin), localMilli(end));
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的周数，不足的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenWeeks(long begin, long end, boolean isAbs) {
+        final long between = (localMilli(end) - localMilli(begin)) / MILLIS_PER_WEEK;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的天数，不足的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenDays(long begin, long end, boolean isAbs) {
+        final long between = (localMilli(end) - localMilli(begin)) / MILLIS_PER_DAY;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的小时数，不足的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenHours(long begin, long end, boolean isAbs) {
+        final long between = (localMilli(end) - localMilli(begin)) / MILLIS_PER_HOUR;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的分钟数，不足的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenMinutes(long begin, long end, boolean isAbs) {
+        final long between = (localMilli(end) - localMilli(begin)) / MILLIS_PER_MINUTE;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的秒数，不足的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenSeconds(long begin, long end, boolean isAbs) {
+        final long between = (localMilli(end) - localMilli(begin)) / MILLIS_PER_SECOND;
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的毫秒数，不足的部分舍去
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @param isAbs 是否是绝对值
+     * @return 时间量
+     */
+    public static long betweenMillis(long begin, long end, boolean isAbs) {
+        final long between = (localMilli(end) - localMilli(begin));
+        return isAbs ? abs(between) : between;
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的年数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenYears(long begin, long end) {
+        return betweenYears(begin, end, true);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的月数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenMonths(long begin, long end) {
+        return betweenMonths(begin, end, true);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的周数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenWeeks(long begin, long end) {
+        return betweenWeeks(begin, end, true);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的天数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenDays(long begin, long end) {
+        return betweenDays(begin, end, true);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的小时数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenHours(long begin, long end) {
+        return betweenHours(begin, end, true);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的分钟数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenMinutes(long begin, long end) {
+        return betweenMinutes(begin, end, true);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的秒数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenSeconds(long begin, long end) {
+        return betweenSeconds(begin, end, true);
+    }
+
+    /**
+     * 计算从开始日期到结束日期之间的毫秒数，返回绝对值
+     *
+     * @param begin 开始日期
+     * @param end   结束日期
+     * @return 时间量
+     */
+    public static long betweenMillis(long begin, long end) {
+        return betweenMillis(begin, end, true);
+    }
+
+    /**
+     * 比较两个日期的先后，打包的值可以直接比较
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 第一个日期在前时小于 0，相同时为 0，在后时大于 0
+     */
+    public static int compare(long first, long second) {
+        return Long.compare(first, second);
+    }
+
+    /**
+     * 判断第一个日期是否在第二个日期之后
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 是否在之后
+     */
+    public static boolean isAfter(long first, long second) {
+        return first > second;
+    }
+
+    /**
+     * 判断第一个日期是否在第二个日期之前
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 是否在之前
+     */
+    public static boolean isBefore(long first, long second) {
+        return first < second;
+    }
+
+    /**
+     * 判断两个日期是否相同
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 是否相同
+     */
+    public static boolean isEqual(long first, long second) {
+        return first == second;
+    }
+
+    /**
+     * 判断两个日期是否是同一年，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一年
+     */
+    public static boolean isEqualYear(long first, long second) {
+        return year(first) == year(second);
+    }
+
+    /**
+     * 判断两个日期是否是同一月，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一月
+     */
+    public static boolean isEqualMonth(long first, long second) {
+        return month(first) == month(second);
+    }
+
+    /**
+     * 判断两个日期是否是同一个星期几，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一个星期几
+     */
+    public static boolean isEqualWeek(long first, long second) {
+        return dayOfWeek(first) == dayOfWeek(second);
+    }
+
+    /**
+     * 判断两个日期是否是同一天，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一天
+     */
+    public static boolean isEqualDay(long first, long second) {
+        return month(first) == month(second) && dayOfMonth(first) == dayOfMonth(second);
+    }
+
+    /**
+     * 判断两个日期是否是同一小时，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一小时
+     */
+    public static boolean isEqualHour(long first, long second) {
+        return hourOf24(first) == hourOf24(second);
+    }
+
+    /**
+     * 判断两个日期是否是同一分钟，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一分钟
+     */
+    public static boolean isEqualMinute(long first, long second) {
+        return minute(first) == minute(second);
+    }
+
+    /**
+     * 判断两个日期是否是同一秒，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一秒
+     */
+    public static boolean isEqualSecond(long first, long second) {
+        return second(first) == second(second);
+    }
+
+    /**
+     * 判断两个日期是否是同一毫秒，只比较该字段
+     *
+     * @param first  第一个日期
+     * @param second 第二个日期
+     * @return 两个日期是否是同一毫秒
+     */
+    public static boolean isEqualMilli(long first, long second) {
+        return milli(first) == milli(second);
+    }
+
+    /**
+     * 判断指定日期是否在指定的范围内
+     *
+     * @param packed 打包的日期时间
+     * @param begin  开始日期 (包含)
+     * @param end    结束日期 (包含)
+     * @return 是否在指定的范围内
+     */
+    public static boolean isIn(long packed, long begin, long end) {
+        return packed >= min(begin, end) && packed <= max(begin, end);
+    }
+
+    /**
+     * 判断两个日期范围是否有交集
+     * <pre>
+     * 无交集：sb > fe || se < fb
+     * 有交集：sb <= fe && se >= fb
+     * </pre>
+     *
+     * @param firstBegin  第一个开始
+     * @param firstEnd    第一个结束
+     * @param secondBegin 第二个开始
+     * @param secondEnd   第二个结束
+     * @return 两个日期范围是否有交集
+     */
+    public static boolean isOverlap(long firstBegin, long firstEnd, long secondBegin, long secondEnd) {
+        return secondBegin <= firstEnd && secondEnd >= firstBegin;
+    }
+
+    //endregion
+
+    //region 日期格式化
+
+    /**
+     * 格式化日期时间
+     *
+     * @param packed  打包的日期时间
+     * @param pattern 格式
+     * @return 格式化后的字符串
+     * @see DatePattern
+     */
+    public static String format(long packed, String pattern) {
+        return DateFormatter.formatPackedDateTime(packed, pattern);
+    }
+
+    /**
+     * 格式化日期时间
+     *
+     * @param packed      打包的日期时间
+     * @param datePattern 格式
+     * @return 格式化后的字符串
+     * @see DatePattern
+     */
+    public static String format(long packed, DatePattern datePattern) {
+        return DateFormatter.formatPackedDateTime(packed, datePattern);
+    }
+
+    /**
+     * 格式化日期时间
+     *
+     * @param packed            打包的日期时间
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return 格式化后的字符串
+     */
+    public static String format(long packed, DateTimeFormatter dateTimeFormatter) {
+        return dateTimeFormatter.format(toLocalDateTime(packed));
+    }
+
+    /**
+     * 格式化日期时间，格式为 yyyy-MM-dd HH:mm:ss
+     *
+     * @param packed 打包的日期时间
+     * @return 格式化后的字符串
+     */
+    public static String format(long packed) {
+        return format(packed, DatePattern.NORMAL_DATE_TIME_SECOND);
+    }
+
+    //endregion
+
+    //region 日期解析
+
+    /**
+     * 解析日期时间
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return 打包的日期时间
+     * @see DatePattern
+     */
+    public static long parse(CharSequence text, String pattern) {
+        return DateParser.parsePackedDateTime(text, pattern);
+    }
+
+    /**
+     * 解析日期时间
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return 打包的日期时间
+     * @see DatePattern
+     */
+    public static long parse(CharSequence text, DatePattern datePattern) {
+        return DateParser.parsePackedDateTime(text, datePattern);
+    }
+
+    /**
+     * 解析日期时间
+     *
+     * @param text              文本
+     * @param dateTimeFormatter {@link DateTimeFormatter}
+     * @return 打包的日期时间
+     */
+    public static long parse(CharSequence text, DateTimeFormatter dateTimeFormatter) {
+        return of(LocalDateTimeUtils.parse(text, dateTimeFormatter));
+    }
+
+    /**
+     * 解析日期时间，格式为 yyyy-MM-dd HH:mm:ss
+     *
+     * @param text 文本
+     * @return 打包的日期时间
+     */
+    public static long parse(CharSequence text) {
+        return parse(text, DatePattern.NORMAL_DATE_TIME_SECOND);
+    }
+
+    //endregion
+
+    //region 打包和换算
+
+    private static long pack(int year, int month, int dayOfMonth, int hour, int minute, int second, int milli) {
+        return ((long) year << YEAR_SHIFT) | ((long) month << MONTH_SHIFT) | ((long) dayOfMonth << DAY_SHIFT)
+                | ((long) hour << HOUR_SHIFT) | ((long) minute << MINUTE_SHIFT) | ((long) second << SECOND_SHIFT)
+                | ((long) milli << MILLI_SHIFT);
+    }
+
+    private static int epochDay(long packed) {
+        return EpochDayUtils.epochDay(year(packed), month(packed), dayOfMonth(packed));
+    }
+
+    private static long milliOfDay(long packed) {
+        return hourOf24(packed) * MILLIS_PER_HOUR + minute(packed) * MILLIS_PER_MINUTE
+                + second(packed) * MILLIS_PER_SECOND + milli(packed);
+    }
+
+    /**
+     * 本地时间的毫秒数，即把本地时间当作 UTC 时的毫秒数
+     */
+    private static long localMilli(long packed) {
+        return epochDay(packed) * MILLIS_PER_DAY + milliOfDay(packed);
+    }
+
+    private static long ofLocalMilli(long localMilli) {
+        final int packedDate = EpochDayUtils.toPackedDate(toIntExact(floorDiv(localMilli, MILLIS_PER_DAY)));
+        final int milliOfDay = (int) floorMod(localMilli, MILLIS_PER_DAY);
+        return pack(EpochDayUtils.unpackYear(packedDate), EpochDayUtils.unpackMonth(packedDate), EpochDayUtils.unpackDayOfMonth(packedDate),
+                milliOfDay / 3_600_000, milliOfDay / 60_000 % 60, milliOfDay / 1000 % 60, milliOfDay % 1000);
+    }
+
+    /**
+     * 将日期替换为 epochDay，时间不变
+     */
+    private static long withEpochDay(long packed, int epochDay) {
+        final int packedDate = EpochDayUtils.toPackedDate(epochDay);
+        return ((long) packedDate << DAY_SHIFT) | (packed & TIME_MASK);
+    }
+
+    private static long addMonths(long packed, long months) {
+        final int packedDate = EpochDayUtils.packedPlusMonths(EpochDayUtils.pack(year(packed), month(packed), dayOfMonth(packed)), months);
+        return ((long) packedDate << DAY_SHIFT) | (packed & TIME_MASK);
+    }
+
+    //endregion
+}
@@ -0,0 +1,110 @@
+package io.github.lostblackknight.core.date;
+
+/**
+ * 二十四节气，按在公历年中的先后顺序排列，每个公历月份有两个节气
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 18:40
+ * @version 1.0.0
+ */
+public enum SolarTerm {
+
+    XIAO_HAN("小寒"),
+
+    DA_HAN("大寒"),
+
+    LI_CHUN("立春"),
+
+    YU_SHUI("雨水"),
+
+    JING_ZHE("惊蛰"),
+
+    CHUN_FEN("春分"),
+
+    QING_MING("清明"),
+
+    GU_YU("谷雨"),
+
+    LI_XIA("立夏"),
+
+    XIAO_MAN("小满"),
+
+    MANG_ZHONG("芒种"),
+
+    XIA_ZHI("夏至"),
+
+    XIAO_SHU("小暑"),
+
+    DA_SHU("大暑"),
+
+    LI_QIU("立秋"),
+
+    CHU_SHU("处暑"),
+
+    BAI_LU("白露"),
+
+    QIU_FEN("秋分"),
+
+    HAN_LU("寒露"),
+
+    SHUANG_JIANG("霜降"),
+
+    LI_DONG("立冬"),
+
+    XIAO_XUE("小雪"),
+
+    DA_XUE("大雪"),
+
+    DONG_ZHI("冬至");
+
+    private static final SolarTerm[] ENUMS = SolarTerm.values();
+
+    private final String chineseName;
+
+    SolarTerm(String chineseName) {
+        this.chineseName = chineseName;
+    }
+
+    /**
+     * 根据中文名称获取节气
+     *
+     * @param chineseName 中文名称，例如 清明
+     * @return {@link SolarTerm}
+     * @throws IllegalArgumentException 没有匹配的节气
+     */
+    public static SolarTerm of(String chineseName) {
+        for (SolarTerm term : ENUMS) {
+            if (term.chineseName.equals(chineseName)) {
+                return term;
+            }
+        }
+        throw new IllegalArgumentException("unknown solar term " + chineseName);
+    }
+
+    /**
+     * 根据顺序获取节气
+     *
+     * @param index 顺序，范围为 [0, 23]，0 为小寒
+     * @return {@link SolarTerm}
+     */
+    public static SolarTerm of(int index) {
+        return ENUMS[index];
+    }
+
+    public final String chineseName() {
+        return chineseName;
+    }
+
+    /**
+     * 获取节气所在的公历月份
+     *
+     * @return 月份，范围为 [1, 12]
+     */
+    public final int month() {
+        return ordinal() / 2 + 1;
+    }
+
+    @Override
+    public String toString() {
+        return chineseName;
+    }
+}
@@ -0,0 +1,270 @@
+package io.github.lostblackknight.core.date;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.function.BiConsumer;
+
+import static java.lang.Math.floorDiv;
+
+/**
+ * 节气工具类
+ * <p>支持公历 [{@value #MIN_YEAR}, {@value #MAX_YEAR}] 年的节气（按东八区计算的日期）。同一个节气每年的时刻近似线性地推移，
+ * 所以不必为每年每个节气保存日期：为每个节气保存 1900 年的时刻和每年推移的长度（都以百万分之一天为单位），
+ * 某年该节气的 epochDay 为 {@code floorDiv(BASE + (year - 1900) * STEP, 1_000_000)}，再加上极少数年份的修正值。
+ * 系数与修正值由 hutool 的节气表拟合得到，并逐年逐个节气校验，整张表只有 24 对系数和 3 个修正值，
+ * 平均每年不到 2 个字节。
+ * <p>由日期查询所在的节气时，只需计算所在月份的两个节气（必要时再加上一个月的最后一个节气），是 O(1) 的；
+ * 对一段连续的日期标注节气时只在进入下一个节气时才计算一次，整段只遍历一遍。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 18:50
+ * @version 1.0.0
+ */
+public abstract class SolarTermUtils {
+
+    /**
+     * 支持的最小年份
+     */
+    public static final int MIN_YEAR = 1900;
+
+    /**
+     * 支持的最大年份
+     */
+    public static final int MAX_YEAR = 2100;
+
+    private static final long SCALE = 1_000_000L;
+
+    /**
+     * 1900 年各节气的 epochDay，单位为百万分之一天
+     */
+    private static final long[] BASE = {
+            -25561893378L, -25547169966L, -25532408084L, -25517587429L, -25502650731L, -25487574286L,
+            -25472410186L, -25457110505L, -25441656855L, -25426114375L, -25410462536L, -25394770867L,
+            -25379038437L, -25363312415L, -25347629196L, -25332027444L, -25316540376L, -25301137037L,
+            -25285902297L, -25270803004L, -25255803004L, -25240893916L, -25226130125L, -25211373834L
+    };
+
+    /**
+     * 各节气每年推移的天数，单位为百万分之一天
+     */
+    private static final int[] STEP = {
+            365242647, 365242719, 365242647, 365242719, 365242647, 365242188,
+            365242188, 365242105, 365241830, 365241830, 365241667, 365241667,
+            365241758, 365241666, 365241667, 365241758, 365241936, 365241935,
+            365242187, 365242424, 365242424, 365242424, 365242775, 365242719
+    };
+
+    /**
+     * 线性推算不准确的年份：{年份, 节气, 修正的天数}
+     */
+    private static final int[][] CORRECTIONS = {
+            {1945, 21, -1},
+            {1975, 17, -1},
+            {2097, 8, 1}
+    };
+
+    //region 节气的日期
+
+    /**
+     * 获取指定年份的节气的日期
+     *
+     * @param year 年份
+     * @param term 节气
+     * @return 日期
+     */
+    public static LocalDate dateOf(int year, SolarTerm term) {
+        return LocalDate.ofEpochDay(epochDayOf(year, term));
+    }
+
+    /**
+     * 获取指定年份的节气的日期
+     *
+     * @param year 年份
+     * @param term 节气
+     * @return 从 1970-01-01 开始的天数
+     * @throws DateTimeException 超出支持的范围
+     */
+    public static int epochDayOf(int year, SolarTerm term) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new DateTimeException("Year " + year + " is out of the solar term range [" + MIN_YEAR + ", " + MAX_YEAR + "]");
+        }
+        return epochDayOf(year, term.ordinal());
+    }
+
+    /**
+     * 获取指定日期之后（不包括当天）的第一个指定节气，例如下一个清明
+     *
+     * @param localDate 日期
+     * @param term      节气
+     * @return 日期
+     */
+    public static LocalDate next(LocalDate localDate, SolarTerm term) {
+        final int year = localDate.getYear();
+        final int epochDay = epochDayOf(year, term);
+        return LocalDate.ofEpochDay(epochDay > localDate.toEpochDay() ? epochDay : epochDayOf(year + 1, term));
+    }
+
+    /**
+     * 获取指定日期之前（不包括当天）的最后一个指定节气
+     *
+     * @param localDate 日期
+     * @param term      节气
+     * @return 日期
+     */
+    public static LocalDate previous(LocalDate localDate, SolarTerm term) {
+        final int year = localDate.getYear();
+        final int epochDay = epochDayOf(year, term);
+        return LocalDate.ofEpochDay(epochDay < localDate.toEpochDay() ? epochDay : epochDayOf(year - 1, term));
+    }
+
+    //endregion
+
+    //region 日期所在的节气
+
+    /**
+     * 获取当天交节的节气
+     *
+     * @param localDate 日期
+     * @return 节气，当天不是节气时为 null
+     */
+    public static SolarTerm termOn(LocalDate localDate) {
+        final int year = localDate.getYear();
+        final int index = (localDate.getMonthValue() - 1) * 2;
+        final int epochDay = Math.toIntExact(localDate.toEpochDay());
+        if (epochDay == epochDayOf(year, SolarTerm.of(index))) {
+            return SolarTerm.of(index);
+        }
+        if (epochDay == epochDayOf(year, SolarTerm.of(index + 1))) {
+            return SolarTerm.of(index + 1);
+        }
+        return null;
+    }
+
+    /**
+     * 获取日期所在的节气，即当天或之前最近的一个节气
+     *
+     * @param localDate 日期
+     * @return 节气
+     */
+    public static SolarTerm termOf(LocalDate localDate) {
+        return termOf(Math.toIntExact(localDate.toEpochDay()));
+    }
+
+    /**
+     * 获取日期所在的节气，即当天或之前最近的一个节气
+     *
+     * @param epochDay 从 1970-01-01 开始的天数
+     * @return 节气
+     * @throws DateTimeException 超出支持的范围，即早于 1900 年的小寒或晚于 2100 年
+     */
+    public static SolarTerm termOf(int epochDay) {
+        final int packedDate = EpochDayUtils.toPackedDate(epochDay);
+        final int year = EpochDayUtils.unpackYear(packedDate);
+        final int index = (EpochDayUtils.unpackMonth(packedDate) - 1) * 2;
+        checkYear(year, epochDay);
+        if (epochDay >= epochDayOf(year, index + 1)) {
+            return SolarTerm.of(index + 1);
+        }
+        if (epochDay >= epochDayOf(year, index)) {
+            return SolarTerm.of(index);
+        }
+        if (index == 0) {
+            checkYear(year - 1, epochDay);
+            return SolarTerm.DONG_ZHI;
+        }
+        return SolarTerm.of(index - 1);
+    }
+
+    //endregion
+
+    //region 批量标注
+
+    /**
+     * 标注一段连续日期所在的节气
+     *
+     * @param begin 开始日期 (包含)
+     * @param end   结束日期 (包含)
+     * @return 每天所在的节气，结束日期早于开始日期时为空数组
+     */
+    public static SolarTerm[] termsOf(LocalDate begin, LocalDate end) {
+        final long days = end.toEpochDay() - begin.toEpochDay() + 1;
+        final SolarTerm[] terms = new SolarTerm[(int) Math.max(0, days)];
+        termsOf(Math.toIntExact(begin.toEpochDay()), terms);
+        return terms;
+    }
+
+    /**
+     * 从指定日期开始，标注 dst.length 个连续日期所在的节气
+     *
+     * @param fromEpochDay 开始日期，从 1970-01-01 开始的天数
+     * @param dst          存放结果
+     */
+    public static void termsOf(int fromEpochDay, SolarTerm[] dst) {
+        if (dst.length == 0) {
+            return;
+        }
+        // 先检查最后一天，之后不会超出范围
+        termOf(fromEpochDay + dst.length - 1);
+        SolarTerm term = termOf(fromEpochDay);
+        int year = EpochDayUtils.year(fromEpochDay);
+        if (term == SolarTerm.DONG_ZHI && EpochDayUtils.month(fromEpochDay) == 1) {
+            year--;
+        }
+        int next = nextEpochDay(year, term);
+        for (int i = 0; i < dst.length; i++) {
+            final int epochDay = fromEpochDay + i;
+            if (epochDay == next) {
+                if (term == SolarTerm.DONG_ZHI) {
+                    year++;
+                }
+                term = SolarTerm.of((term.ordinal() + 1) % 24);
+                next = nextEpochDay(year, term);
+            }
+            dst[i] = term;
+        }
+    }
+
+    /**
+     * 遍历一段连续的日期及其所在的节气
+     *
+     * @param begin  开始日期 (包含)
+     * @param end    结束日期 (包含)
+     * @param action 对每一天执行的操作
+     */
+    public static void forEach(LocalDate begin, LocalDate end, BiConsumer<LocalDate, SolarTerm> action) {
+        final SolarTerm[] terms = termsOf(begin, end);
+        LocalDate localDate = begin;
+        for (SolarTerm term : terms) {
+            action.accept(localDate, term);
+            localDate = localDate.plusDays(1);
+        }
+    }
+
+    //endregion
+
+    /**
+     * 获取 year 年的 term 之后的下一个节气，2100 年的冬至之后返回 {@link Integer#MAX_VALUE}
+     */
+    private static int nextEpochDay(int year, SolarTerm term) {
+        if (term == SolarTerm.DONG_ZHI) {
+            return year < MAX_YEAR ? epochDayOf(year + 1, 0) : Integer.MAX_VALUE;
+        }
+        return epochDayOf(year, term.ordinal() + 1);
+    }
+
+    private static int epochDayOf(int year, int index) {
+        int epochDay = (int) floorDiv(BASE[index] + (long) (year - MIN_YEAR) * STEP[index], SCALE);
+        for (int[] correction : CORRECTIONS) {
+            if (correction[0] == year && correction[1] == index) {
+                epochDay += correction[2];
+            }
+        }
+        return epochDay;
+    }
+
+    private static void checkYear(int year, int epochDay) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new DateTimeException(LocalDate.ofEpochDay(epochDay) + " is out of the solar term range ["
+                    + MIN_YEAR + ", " + MAX_YEAR + "]");
+        }
+    }
+}
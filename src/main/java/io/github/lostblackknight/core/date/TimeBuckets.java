@@ -0,0 +1,457 @@
+package io.github.lostblackknight.core.date;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.toIntExact;
+
+/**
+ * 时间分桶
+ * <p>把毫秒时间戳按分钟、小时、天、周、月、年映射为从 0 开始的连续整数下标，下标为 0 的桶从起点所在单位的开始时刻开始，
+ * 例如起点为 2022-08-21 16:54 时，按天分桶的第 0 个桶是 2022-08-21，第 1 个桶是 2022-08-22。
+ * 分组统计时可以直接用下标访问数组，不需要把每个时刻截断为 {@link LocalDateTime} 再放入 HashMap。
+ * <p>分桶按本地时间进行，桶的开始时刻与 {@link LocalDateTimeUtils} 的 {@code beginOfHour(..)}、{@code beginOfDay(..)}、
+ * {@code beginOfDay(beginOfWeek(..))}、{@code beginOfDay(beginOfMonth(..))}、{@code beginOfDay(beginOfYear(..))} 一致，
+ * 即周、月、年的桶都从 00:00 开始，而 beginOfWeek 等方法本身会保留时分秒；
+ * 夏令时结束时重复的一小时会落在同一个桶中。周从周一开始。
+ * <p>{@link Aggregation} 在与桶对应的数组中累计数量、和、最小值和最大值，多个线程可以各自统计数组的一段，最后合并，
+ * {@code parallelCount(..)} 和 {@code parallelAggregate(..)} 即按这种方式在 {@link ForkJoinPool#commonPool()} 中统计。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/19 13:20
+ * @version 1.0.0
+ */
+public final class TimeBuckets {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final ChronoUnit unit;
+
+    private final ZoneContext context;
+
+    /**
+     * 第 0 个桶的开始时刻，本地时间的毫秒数
+     */
+    private final long originLocal;
+
+    /**
+     * 第 0 个桶的开始日期
+     */
+    private final int originDay;
+
+    /**
+     * 分钟、小时、天、周的毫秒数，月和年为 0
+     */
+    private final long unitMillis;
+
+    /**
+     * 第 0 个桶的 年 * 12 + 月 - 1，只用于月和年
+     */
+    private final long originMonth;
+
+    private TimeBuckets(long origin, ChronoUnit unit, ZoneContext context) {
+        this.unit = unit;
+        this.context = context;
+        final long local = context.toLocalMilli(origin);
+        final int day = toIntExact(floorDiv(local, MILLIS_PER_DAY));
+        switch (unit) {
+            case MINUTES:
+            case HOURS:
+            case DAYS:
+                this.unitMillis = unit.getDuration().toMillis();
+                this.originLocal = floorDiv(local, unitMillis) * unitMillis;
+                this.originDay = toIntExact(floorDiv(originLocal, MILLIS_PER_DAY));
+                this.originMonth = 0;
+                break;
+            case WEEKS:
+                this.unitMillis = 7 * MILLIS_PER_DAY;
+                this.originDay = EpochDayUtils.beginOfWeek(day);
+                this.originLocal = originDay * MILLIS_PER_DAY;
+                this.originMonth = 0;
+                break;
+            case MONTHS:
+            case YEARS:
+                this.unitMillis = 0;
+                this.originDay = unit == ChronoUnit.MONTHS ? EpochDayUtils.beginOfMonth(day) : EpochDayUtils.beginOfYear(day);
+                this.originLocal = originDay * MILLIS_PER_DAY;
+                this.originMonth = monthIndex(EpochDayUtils.toPackedDate(originDay));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported unit: " + unit);
+        }
+    }
+
+    /**
+     * 创建分桶，使用系统默认时区
+     *
+     * @param origin 起点，第 0 个桶从起点所在单位的开始时刻开始
+     * @param unit   单位，支持 MINUTES、HOURS、DAYS、WEEKS、MONTHS、YEARS
+     * @return {@link TimeBuckets}
+     * @throws IllegalArgumentException 不支持的单位时抛出
+     */
+    public static TimeBuckets of(long origin, ChronoUnit unit) {
+        return new TimeBuckets(origin, unit, ZoneContext.system());
+    }
+
+    /**
+     * 创建分桶，使用指定的时区
+     *
+     * @param origin 起点，第 0 个桶从起点所在单位的开始时刻开始
+     * @param unit   单位，支持 MINUTES、HOURS、DAYS、WEEKS、MONTHS、YEARS
+     * @param zoneId 时区
+     * @return {@link TimeBuckets}
+     * @throws IllegalArgumentException 不支持的单位时抛出
+     */
+    public static TimeBuckets of(long origin, ChronoUnit unit, ZoneId zoneId) {
+        return new TimeBuckets(origin, unit, ZoneContext.of(zoneId));
+    }
+
+    //region 计算下标
+
+    /**
+     * 获取时刻所在的桶的下标，早于起点时为负数
+     *
+     * @param epochMilli 毫秒
+     * @return 下标
+     * @throws ArithmeticException 下标超出 int 的范围时抛出
+     */
+    public int index(long epochMilli) {
+        final long local = context.toLocalMilli(epochMilli);
+        if (unitMillis != 0) {
+            return toIntExact(floorDiv(local - originLocal, unitMillis));
+        }
+        return toIntExact(periodIndex(EpochDayUtils.toPackedDate(toIntExact(floorDiv(local, MILLIS_PER_DAY)))));
+    }
+
+    /**
+     * 批量计算下标，结果写入 dst 的相同位置
+     *
+     * @param epochMillis 毫秒
+     * @param dst         下标
+     * @throws IllegalArgumentException dst 的长度小于 epochMillis 时抛出
+     * @throws ArithmeticException      下标超出 int 的范围时抛出
+     */
+    public void indexes(long[] epochMillis, int[] dst) {
+        if (dst.length < epochMillis.length) {
+            throw new IllegalArgumentException("dst length " + dst.length + " is less than " + epochMillis.length);
+        }
+        if (unitMillis != 0) {
+            for (int i = 0; i < epochMillis.length; i++) {
+                dst[i] = toIntExact(floorDiv(context.toLocalMilli(epochMillis[i]) - originLocal, unitMillis));
+            }
+            return;
+        }
+        final PeriodCache cache = new PeriodCache();
+        for (int i = 0; i < epochMillis.length; i++) {
+            dst[i] = toIntExact(cache.index(context.toLocalMilli(epochMillis[i])));
+        }
+    }
+
+    //endregion
+
+    //region 桶的范围
+
+    /**
+     * 获取桶的开始时刻
+     *
+     * @param index 下标
+     * @return 毫秒
+     */
+    public long begin(int index) {
+        return context.toEpochMilli(beginLocal(index));
+    }
+
+    /**
+     * 获取桶的结束时刻，即下一个桶开始的前一毫秒
+     *
+     * @param index 下标
+     * @return 毫秒
+     */
+    public long end(int index) {
+        return context.toEpochMilli(beginLocal(index + 1L)) - 1;
+    }
+
+    /**
+     * 获取桶的开始时刻
+     *
+     * @param index 下标
+     * @return {@link LocalDateTime}
+     */
+    public LocalDateTime beginLocalDateTime(int index) {
+        return LocalDateTime.ofEpochSecond(floorDiv(beginLocal(index), 1000L), 0, ZoneOffset.UTC);
+    }
+
+    public ChronoUnit unit() {
+        return unit;
+    }
+
+    public ZoneId zone() {
+        return context.zone();
+    }
+
+    //endregion
+
+    //region 统计
+
+    /**
+     * 统计每个桶中的时刻数量，下标不在 [0, bucketCount) 内的时刻被忽略
+     *
+     * @param epochMillis 毫秒
+     * @param bucketCount 桶的数量
+     * @return 每个桶的数量
+     */
+    public long[] count(long[] epochMillis, int bucketCount) {
+        return countRange(epochMillis, 0, epochMillis.length, new Aggregation(bucketCount)).counts;
+    }
+
+    /**
+     * 并行统计每个桶中的时刻数量，下标不在 [0, bucketCount) 内的时刻被忽略
+     * <p>时刻数超过阈值时在 {@link ForkJoinPool#commonPool()} 中分段统计后合并，结果与 {@link #count(long[], int)} 相同
+     *
+     * @param epochMillis 毫秒
+     * @param bucketCount 桶的数量
+     * @return 每个桶的数量
+     */
+    public long[] parallelCount(long[] epochMillis, int bucketCount) {
+        return parallel(epochMillis, null, bucketCount).counts;
+    }
+
+    /**
+     * 按时刻所在的桶统计对应的值，下标不在 [0, bucketCount) 内的时刻被忽略
+     *
+     * @param epochMillis 毫秒
+     * @param values      与时刻一一对应的值
+     * @param bucketCount 桶的数量
+     * @return {@link Aggregation}
+     */
+    public Aggregation aggregate(long[] epochMillis, long[] values, int bucketCount) {
+        return aggregate(epochMillis, values, 0, epochMillis.length, new Aggregation(bucketCount));
+    }
+
+    /**
+     * 统计 [fromIndex, toIndex) 范围内的时刻和值，累加到 aggregation 中，可以由多个线程分段统计后用 {@link Aggregation#merge} 合并
+     *
+     * @param epochMillis 毫秒
+     * @param values      与时刻一一对应的值
+     * @param fromIndex   开始位置 (包含)
+     * @param toIndex     结束位置 (不包含)
+     * @param aggregation 累加的目标
+     * @return aggregation
+     */
+    /**
+     * 并行按时刻所在的桶统计对应的值，下标不在 [0, bucketCount) 内的时刻被忽略
+     * <p>时刻数超过阈值时在 {@link ForkJoinPool#commonPool()} 中分段统计后用 {@link Aggregation#merge} 合并，
+     * 结果与 {@link #aggregate(long[], long[], int)} 相同
+     *
+     * @param epochMillis 毫秒
+     * @param values      与时刻一一对应的值
+     * @param bucketCount 桶的数量
+     * @return {@link Aggregation}
+     */
+    public Aggregation parallelAggregate(long[] epochMillis, long[] values, int bucketCount) {
+        if (values.length < epochMillis.length) {
+            throw new IllegalArgumentException("values length " + values.length + " is less than " + epochMillis.length);
+        }
+        return parallel(epochMillis, values, bucketCount);
+    }
+
+    public Aggregation aggregate(long[] epochMillis, long[] values, int fromIndex, int toIndex, Aggregation aggregation) {
+        if (values.length < epochMillis.length) {
+            throw new IllegalArgumentException("values length " + values.length + " is less than " + epochMillis.length);
+        }
+        if (fromIndex < 0 || toIndex > epochMillis.length || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("[" + fromIndex + ", " + toIndex + ") of " + epochMillis.length);
+        }
+        final PeriodCache cache = unitMillis != 0 ? null : new PeriodCache();
+        for (int i = fromIndex; i < toIndex; i++) {
+            final long local = context.toLocalMilli(epochMillis[i]);
+            aggregation.add(cache == null ? floorDiv(local - originLocal, unitMillis) : cache.index(local), values[i]);
+        }
+        return aggregation;
+    }
+
+    /**
+     * 统计 [fromIndex, toIndex) 范围内的时刻数量，只累加 aggregation 的数量
+     */
+    Aggregation countRange(long[] epochMillis, int fromIndex, int toIndex, Aggregation aggregation) {
+        final long[] counts = aggregation.counts;
+        final PeriodCache cache = unitMillis != 0 ? null : new PeriodCache();
+        for (int i = fromIndex; i < toIndex; i++) {
+            final long local = context.toLocalMilli(epochMillis[i]);
+            final long index = cache == null ? floorDiv(local - originLocal, unitMillis) : cache.index(local);
+            if (index >= 0 && index < counts.length) {
+                counts[(int) index]++;
+            } else {
+                aggregation.dropped++;
+            }
+        }
+        return aggregation;
+    }
+
+    private Aggregation parallel(long[] epochMillis, long[] values, int bucketCount) {
+        final AggregateTask task = new AggregateTask(this, epochMillis, values, bucketCount, 0, epochMillis.length);
+        return AggregateTask.splittable(epochMillis.length, bucketCount) ? ForkJoinPool.commonPool().invoke(task) : task.aggregateRange();
+    }
+
+    //endregion
+
+    private long beginLocal(long index) {
+        if (unitMillis != 0) {
+            return originLocal + index * unitMillis;
+        }
+        final long months = unit == ChronoUnit.MONTHS ? index : index * 12;
+        return EpochDayUtils.plusMonths(originDay, months) * MILLIS_PER_DAY;
+    }
+
+    private long periodIndex(int packedDate) {
+        final long months = monthIndex(packedDate) - originMonth;
+        return unit == ChronoUnit.MONTHS ? months : floorDiv(months, 12);
+    }
+
+    private static long monthIndex(int packedDate) {
+        return EpochDayUtils.unpackYear(packedDate) * 12L + EpochDayUtils.unpackMonth(packedDate) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeBuckets{" + unit + " from " + beginLocalDateTime(0) + ", " + context.zone() + '}';
+    }
+
+    /**
+     * 按月、年分桶时缓存最近一次计算的月份 [firstDay, lastDay]，相邻的时刻落在同一月时不再解码日期
+     */
+    private final class PeriodCache {
+
+        private long firstDay = 1;
+
+        private long lastDay = 0;
+
+        private long index;
+
+        private long index(long local) {
+            final long day = floorDiv(local, MILLIS_PER_DAY);
+            if (day < firstDay || day > lastDay) {
+                final int epochDay = toIntExact(day);
+                firstDay = EpochDayUtils.beginOfMonth(epochDay);
+                lastDay = EpochDayUtils.endOfMonth(epochDay);
+                index = periodIndex(EpochDayUtils.toPackedDate(epochDay));
+            }
+            return index;
+        }
+    }
+
+    /**
+     * 与桶一一对应的统计结果，没有值的桶的最小值为 {@link Long#MAX_VALUE}，最大值为 {@link Long#MIN_VALUE}
+     * <p>不是线程安全的，多个线程应各自使用一个实例，最后合并
+     */
+    public static final class Aggregation {
+
+        private final long[] counts;
+
+        private final long[] sums;
+
+        private final long[] mins;
+
+        private final long[] maxs;
+
+        /**
+         * 下标不在 [0, bucketCount) 内而被忽略的数量
+         */
+        private long dropped;
+
+        public Aggregation(int bucketCount) {
+            this.counts = new long[bucketCount];
+            this.sums = new long[bucketCount];
+            this.mins = new long[bucketCount];
+            this.maxs = new long[bucketCount];
+            Arrays.fill(mins, Long.MAX_VALUE);
+            Arrays.fill(maxs, Long.MIN_VALUE);
+        }
+
+        /**
+         * 向指定的桶中添加一个值，下标不在范围内时忽略
+         *
+         * @param index 下标
+         * @param value 值
+         */
+        public void add(long index, long value) {
+            if (index < 0 || index >= counts.length) {
+                dropped++;
+                return;
+            }
+            final int i = (int) index;
+            counts[i]++;
+            sums[i] += value;
+            if (value < mins[i]) {
+                mins[i] = value;
+            }
+            if (value > maxs[i]) {
+                maxs[i] = value;
+            }
+        }
+
+        /**
+         * 把另一个统计结果合并到当前的结果中
+         *
+         * @param other 桶的数量相同的统计结果
+         * @return this
+         * @throws IllegalArgumentException 桶的数量不同时抛出
+         */
+        public Aggregation merge(Aggregation other) {
+            if (other.counts.length != counts.length) {
+                throw new IllegalArgumentException("bucket count " + other.counts.length + " is not " + counts.length);
+            }
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+                sums[i] += other.sums[i];
+                mins[i] = Math.min(mins[i], other.mins[i]);
+                maxs[i] = Math.max(maxs[i], other.maxs[i]);
+            }
+            dropped += other.dropped;
+            return this;
+        }
+
+        public int bucketCount() {
+            return counts.length;
+        }
+
+        public long count(int index) {
+            return counts[index];
+        }
+
+        public long sum(int index) {
+            return sums[index];
+        }
+
+        public long min(int index) {
+            return mins[index];
+        }
+
+        public long max(int index) {
+            return maxs[index];
+        }
+
+        /**
+         * 获取平均值，没有值的桶返回 {@link Double#NaN}
+         *
+         * @param index 下标
+         * @return 平均值
+         */
+        public double average(int index) {
+            return counts[index] == 0 ? Double.NaN : (double) sums[index] / counts[index];
+        }
+
+        public long dropped() {
+            return dropped;
+        }
+
+        @Override
+        public String toString() {
+            return "Aggregation{counts=" + Arrays.toString(counts) + ", dropped=" + dropped + '}';
+        }
+    }
+}
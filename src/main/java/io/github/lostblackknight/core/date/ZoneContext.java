@@ -0,0 +1,319 @@
+package io.github.lostblackknight.core.date;
+
+import java.time.*;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+
+/**
+ * 时区上下文
+ * <p>缓存解析后的 {@link ZoneId} 和 {@link ZoneRules}，避免每次转换都调用 {@link ZoneId#systemDefault()} 并创建
+ * {@link ZonedDateTime}。固定偏移的时区直接加减偏移；有夏令时的时区缓存最近一段偏移不变的区间，区间内同样只需加减偏移，
+ * 区间外才按 {@link LocalDateTime#atZone(ZoneId)} 的规则计算，夏令时切换造成的间隙和重叠的处理方式与其相同。
+ * <p>{@link #system()} 在第一次使用时读取系统默认时区并缓存，修改默认时区（例如 {@link java.util.TimeZone#setDefault}）后
+ * 需要调用 {@link #refresh()}。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/18 19:05
+ * @version 1.0.0
+ */
+public final class ZoneContext {
+
+    private static final ConcurrentHashMap<ZoneId, ZoneContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    private static volatile ZoneContext system = of(ZoneId.systemDefault());
+
+    private final ZoneId zone;
+
+    private final ZoneRules rules;
+
+    /**
+     * 固定的偏移，非固定偏移的时区为 null
+     */
+    private final ZoneOffset fixedOffset;
+
+    private final long fixedOffsetMilli;
+
+    /**
+     * {@link Instant#EPOCH} 在该时区的日期，{@link LocalTime} 转换为日期时间时使用
+     */
+    private final LocalDate epochDate;
+
+    /**
+     * 最近使用的区间，各保留两个，交替访问夏令时和标准时间的两个值（例如计算冬夏两个日期之间的时间量）时不会反复重建
+     */
+    private volatile LocalWindow localWindow;
+
+    private volatile LocalWindow previousLocalWindow;
+
+    private volatile InstantWindow instantWindow;
+
+    private volatile InstantWindow previousInstantWindow;
+
+    private ZoneContext(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.fixedOffset = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null;
+        this.fixedOffsetMilli = fixedOffset == null ? 0 : fixedOffset.getTotalSeconds() * 1000L;
+        this.epochDate = Instant.EPOCH.atZone(zone).toLocalDate();
+    }
+
+    /**
+     * 获取系统默认时区的上下文
+     *
+     * @return {@link ZoneContext}
+     */
+    public static ZoneContext system() {
+        return system;
+    }
+
+    /**
+     * 重新读取系统默认时区，修改默认时区后调用
+     *
+     * @return 新的系统默认时区的上下文
+     */
+    public static ZoneContext refresh() {
+        final ZoneContext context = of(ZoneId.systemDefault());
+        system = context;
+        return context;
+    }
+
+    /**
+     * 获取指定时区的上下文，同一时区共享一个实例
+     *
+     * @param zone 时区
+     * @return {@link ZoneContext}
+     */
+    public static ZoneContext of(ZoneId zone) {
+        final ZoneContext context = CONTEXTS.get(zone);
+        return context != null ? context : CONTEXTS.computeIfAbsent(zone, ZoneContext::new);
+    }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    public ZoneRules rules() {
+        return rules;
+    }
+
+    /**
+     * 是否为固定偏移的时区
+     *
+     * @return 是否为固定偏移
+     */
+    public boolean isFixedOffset() {
+        return fixedOffset != null;
+    }
+
+    /**
+     * 获取 {@link Instant#EPOCH} 在该时区的日期
+     *
+     * @return {@link LocalDate}
+     */
+    public LocalDate epochDate() {
+        return epochDate;
+    }
+
+    /**
+     * 获取指定时刻的偏移
+     *
+     * @param epochMilli 毫秒
+     * @return {@link ZoneOffset}
+     */
+    public ZoneOffset offsetOf(long epochMilli) {
+        if (fixedOffset != null) {
+            return fixedOffset;
+        }
+        return instantWindow(epochMilli).offset;
+    }
+
+    //region 时刻 -> 本地时间
+
+    /**
+     * 将毫秒时间戳换算为本地时间的毫秒数，即把本地时间当作 UTC 时的毫秒数
+     *
+     * @param epochMilli 毫秒
+     * @return 本地时间的毫秒数
+     */
+    public long toLocalMilli(long epochMilli) {
+        if (fixedOffset != null) {
+            return epochMilli + fixedOffsetMilli;
+        }
+        return epochMilli + instantWindow(epochMilli).offsetMilli;
+    }
+
+    /**
+     * 转换成 {@link LocalDateTime} 类型
+     *
+     * @param epochMilli 毫秒
+     * @return {@link LocalDateTime}
+     */
+    public LocalDateTime toLocalDateTime(long epochMilli) {
+        final long localMilli = toLocalMilli(epochMilli);
+        return LocalDateTime.ofEpochSecond(floorDiv(localMilli, 1000L), (int) floorMod(localMilli, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 转换成 {@link LocalDate} 类型
+     *
+     * @param epochMilli 毫秒
+     * @return {@link LocalDate}
+     */
+    public LocalDate toLocalDate(long epochMilli) {
+        return LocalDate.ofEpochDay(floorDiv(toLocalMilli(epochMilli), 86_400_000L));
+    }
+
+    /**
+     * 转换成 {@link LocalTime} 类型
+     *
+     * @param epochMilli 毫秒
+     * @return {@link LocalTime}
+     */
+    public LocalTime toLocalTime(long epochMilli) {
+        return LocalTime.ofNanoOfDay(floorMod(toLocalMilli(epochMilli), 86_400_000L) * 1_000_000L);
+    }
+
+    //endregion
+
+    //region 本地时间 -> 时刻
+
+    /**
+     * 将本地时间的毫秒数换算为毫秒时间戳
+     *
+     * @param localMilli 本地时间的毫秒数，即把本地时间当作 UTC 时的毫秒数
+     * @return 毫秒
+     */
+    public long toEpochMilli(long localMilli) {
+        if (fixedOffset != null) {
+            return localMilli - fixedOffsetMilli;
+        }
+        final LocalWindow window = localWindow;
+        if (window != null && localMilli >= window.start && localMilli < window.end) {
+            return localMilli - window.offsetMilli;
+        }
+        final LocalWindow previous = previousLocalWindow;
+        if (previous != null && localMilli >= previous.start && localMilli < previous.end) {
+            return localMilli - previous.offsetMilli;
+        }
+        return toEpochMilliSlow(localMilli);
+    }
+
+    /**
+     * 转换成毫秒
+     *
+     * @param localDateTime {@link LocalDateTime}
+     * @return 毫秒
+     */
+    public long toEpochMilli(LocalDateTime localDateTime) {
+        return toEpochMilli(localDateTime.toEpochSecond(ZoneOffset.UTC) * 1000L + localDateTime.getNano() / 1_000_000);
+    }
+
+    /**
+     * 转换成毫秒，取当天开始的时刻
+     *
+     * @param localDate {@link LocalDate}
+     * @return 毫秒
+     */
+    public long toEpochMilli(LocalDate localDate) {
+        return toEpochMilli(localDate.toEpochDay() * 86_400_000L);
+    }
+
+    /**
+     * 转换成毫秒，日期取 {@link #epochDate()}
+     *
+     * @param localTime {@link LocalTime}
+     * @return 毫秒
+     */
+    public long toEpochMilli(LocalTime localTime) {
+        return toEpochMilli(epochDate.toEpochDay() * 86_400_000L + localTime.toNanoOfDay() / 1_000_000L);
+    }
+
+    //endregion
+
+    private InstantWindow instantWindow(long epochMilli) {
+        final InstantWindow window = instantWindow;
+        if (window != null && epochMilli >= window.start && epochMilli < window.end) {
+            return window;
+        }
+        final InstantWindow previousWindow = previousInstantWindow;
+        if (previousWindow != null && epochMilli >= previousWindow.start && epochMilli < previousWindow.end) {
+            return previousWindow;
+        }
+        final Instant instant = Instant.ofEpochMilli(epochMilli);
+        // 切换总是发生在整秒，previousTransition 返回严格早于参数的切换，传入下一秒以包含恰好发生在当前秒的切换
+        final ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(floorDiv(epochMilli, 1000L) + 1));
+        final ZoneOffsetTransition next = rules.nextTransition(instant);
+        final InstantWindow created = new InstantWindow(
+                previous == null ? Long.MIN_VALUE : previous.toEpochSecond() * 1000L,
+                next == null ? Long.MAX_VALUE : next.toEpochSecond() * 1000L,
+                rules.getOffset(instant));
+        previousInstantWindow = window;
+        instantWindow = created;
+        return created;
+    }
+
+    private long toEpochMilliSlow(long localMilli) {
+        final LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(floorDiv(localMilli, 1000L), 0, ZoneOffset.UTC);
+        final ZonedDateTime zonedDateTime = localDateTime.atZone(zone);
+        final long epochSecond = zonedDateTime.toEpochSecond();
+        final ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond + 1));
+        final ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(epochSecond));
+        // 区间的两端排除切换前后两个偏移之间的本地时间，即间隙和重叠
+        final long start = previous == null ? Long.MIN_VALUE : (previous.toEpochSecond()
+                + Math.max(previous.getOffsetBefore().getTotalSeconds(), previous.getOffsetAfter().getTotalSeconds())) * 1000L;
+        final long end = next == null ? Long.MAX_VALUE : (next.toEpochSecond()
+                + Math.min(next.getOffsetBefore().getTotalSeconds(), next.getOffsetAfter().getTotalSeconds())) * 1000L;
+        if (localMilli >= start && localMilli < end) {
+            previousLocalWindow = localWindow;
+            localWindow = new LocalWindow(start, end, zonedDateTime.getOffset().getTotalSeconds() * 1000L);
+        }
+        return epochSecond * 1000L + floorMod(localMilli, 1000L);
+    }
+
+    @Override
+    public String toString() {
+        return "ZoneContext{" + zone + '}';
+    }
+
+    /**
+     * 偏移不变的本地时间区间 [start, end)
+     */
+    private static final class LocalWindow {
+
+        private final long start;
+
+        private final long end;
+
+        private final long offsetMilli;
+
+        private LocalWindow(long start, long end, long offsetMilli) {
+            this.start = start;
+            this.end = end;
+            this.offsetMilli = offsetMilli;
+        }
+    }
+
+    /**
+     * 偏移不变的时刻区间 [start, end)
+     */
+    private static final class InstantWindow {
+
+        private final long start;
+
+        private final long end;
+
+        private final ZoneOffset offset;
+
+        private final long offsetMilli;
+
+        private InstantWindow(long start, long end, ZoneOffset offset) {
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+            this.offsetMilli = offset.getTotalSeconds() * 1000L;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package io.github.lostblackknight.core.date.format;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 自动识别格式的日期解析
+ * <p>默认识别 {@link DatePattern} 中的所有格式，也可以注册自定义的格式。定长格式按形状（长度、分隔符及其位置、
+ * 年月日时分秒等标记）分组，解析时只扫描一遍文本计算形状，直接找到对应的格式解析，不需要逐个尝试并捕获异常。
+ * <p>同一形状对应多个格式时按注册的顺序尝试，内置格式按 {@link DatePattern} 的声明顺序，例如 6 位数字先按 yyyyMM 解析，
+ * 失败后再按 HHmmss 解析。非定长的格式（例如 yyyy/M/d）在定长格式都不匹配后按注册的顺序尝试。
+ * <p>识别规则在注册时构建，以不可变对象的形式发布，解析时不加锁。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/18 17:20
+ * @version 1.0.0
+ */
+public final class AutoDateParser {
+
+    private static final AutoDateParser DEFAULT = new AutoDateParser();
+
+    private volatile Rules rules;
+
+    /**
+     * 创建一个识别所有 {@link DatePattern} 的解析器
+     */
+    public AutoDateParser() {
+        final List<String> patterns = new ArrayList<>();
+        for (DatePattern datePattern : DatePattern.values()) {
+            if (!patterns.contains(datePattern.pattern())) {
+                patterns.add(datePattern.pattern());
+            }
+        }
+        this.rules = new Rules(patterns);
+    }
+
+    /**
+     * 获取全局共享的解析器，{@link DateParser#parseAuto(CharSequence)} 使用该解析器
+     *
+     * @return {@link AutoDateParser}
+     */
+    public static AutoDateParser getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 注册自定义的格式，已注册的格式不会重复添加
+     *
+     * @param pattern 格式
+     * @return this
+     * @throws IllegalArgumentException pattern 无效时抛出
+     */
+    public synchronized AutoDateParser register(String pattern) {
+        final Rules current = rules;
+        if (!current.patterns.contains(pattern)) {
+            DateFormatter.ofPattern(pattern);
+            final List<String> patterns = new ArrayList<>(current.patterns);
+            patterns.add(pattern);
+            rules = new Rules(patterns);
+        }
+        return this;
+    }
+
+    /**
+     * 获取已注册的格式，按尝试的顺序排列
+     *
+     * @return 格式
+     */
+    public List<String> patterns() {
+        return rules.patterns;
+    }
+
+    /**
+     * 自动识别格式并解析 {@link LocalDateTime}，缺失的字段使用默认值
+     *
+     * @param text 文本
+     * @return {@link LocalDateTime}
+     * @throws DateTimeParseException 没有匹配的格式时抛出
+     */
+    public LocalDateTime parse(CharSequence text) {
+        final LocalDateTime result = tryParse(text);
+        if (result == null) {
+            throw new DateTimeParseException("Text '" + text + "' does not match any registered pattern", text, 0);
+        }
+        return result;
+    }
+
+    /**
+     * 自动识别格式并解析 {@link LocalDateTime}，没有匹配的格式时返回 null，不会抛出异常
+     *
+     * @param text 文本
+     * @return {@link LocalDateTime}，没有匹配的格式时返回 null
+     */
+    public LocalDateTime tryParse(CharSequence text) {
+        final Rules current = rules;
+        final DateLayout[] candidates = current.candidates(text);
+        if (candidates != null) {
+            for (DateLayout layout : candidates) {
+                final long packed = layout.parse(text, 0);
+                if (packed >= 0) {
+                    return DateLayout.toLocalDateTime(packed);
+                }
+            }
+            // 形状相符但字段值超出范围，交给 DateTimeFormatter 按 SMART 规则解析，与 DateParser 的行为保持一致
+            for (DateLayout layout : candidates) {
+                final LocalDateTime result = DateParser.tryParseLocalDateTime(text, layout.pattern());
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        for (DateTimeFormatter formatter : current.variable) {
+            final LocalDateTime result = DateParser.tryParseLocalDateTime(text, formatter);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 识别文本的格式
+     *
+     * @param text 文本
+     * @return 能够解析该文本的格式，没有匹配的格式时返回 null
+     */
+    public String detect(CharSequence text) {
+        final Rules current = rules;
+        final DateLayout[] candidates = current.candidates(text);
+        if (candidates != null) {
+            for (DateLayout layout : candidates) {
+                if (layout.parse(text, 0) >= 0) {
+                    return layout.pattern();
+                }
+            }
+            for (DateLayout layout : candidates) {
+                if (DateParser.tryParseLocalDateTime(text, layout.pattern()) != null) {
+                    return layout.pattern();
+                }
+            }
+        }
+        for (int i = 0; i < current.variable.length; i++) {
+            if (DateParser.tryParseLocalDateTime(text, current.variable[i]) != null) {
+                return current.variablePatterns[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 不可变的识别规则，定长格式放入按形状哈希索引的开放寻址表
+     */
+    private static final class Rules {
+
+        private final List<String> patterns;
+
+        private final int[] hashes;
+
+        private final int[] lengths;
+
+        private final DateLayout[][] layouts;
+
+        private final int mask;
+
+        private final DateTimeFormatter[] variable;
+
+        private final String[] variablePatterns;
+
+        private Rules(List<String> patterns) {
+            this.patterns = Collections.unmodifiableList(patterns);
+            final List<DateLayout> fixed = new ArrayList<>();
+            final List<String> others = new ArrayList<>();
+            for (String pattern : patterns) {
+                final DateLayout layout = DateLayout.compile(pattern);
+                if (layout != null) {
+                    fixed.add(layout);
+                } else {
+                    others.add(pattern);
+                }
+            }
+            int capacity = 16;
+            while (capacity < fixed.size() * 2) {
+                capacity <<= 1;
+            }
+            this.mask = capacity - 1;
+            this.hashes = new int[capacity];
+            this.lengths = new int[capacity];
+            this.layouts = new DateLayout[capacity][];
+            for (DateLayout layout : fixed) {
+                final int hash = layout.shapeHash();
+                int slot = spread(hash) & mask;
+                while (layouts[slot] != null && (hashes[slot] != hash || lengths[slot] != layout.length())) {
+                    slot = (slot + 1) & mask;
+                }
+                if (layouts[slot] == null) {
+                    hashes[slot] = hash;
+                    lengths[slot] = layout.length();
+                    layouts[slot] = new DateLayout[]{layout};
+                } else if (!containsPattern(layouts[slot], layout.pattern())) {
+                    // 同一形状的多个格式按注册顺序排列，例如 yyyyMM 与 HHmmss；完全相同的格式只保留一个
+                    layouts[slot] = Arrays.copyOf(layouts[slot], layouts[slot].length + 1);
+                    layouts[slot][layouts[slot].length - 1] = layout;
+                }
+            }
+            this.variablePatterns = others.toArray(new String[0]);
+            this.variable = new DateTimeFormatter[variablePatterns.length];
+            for (int i = 0; i < variablePatterns.length; i++) {
+                variable[i] = DateFormatter.ofPattern(variablePatterns[i]);
+            }
+        }
+
+        /**
+         * 扫描一遍文本，返回形状相同的定长格式
+         */
+        private DateLayout[] candidates(CharSequence text) {
+            final int hash = DateLayout.shapeHash(text);
+            final int length = text.length();
+            int slot = spread(hash) & mask;
+            DateLayout[] found;
+            while ((found = layouts[slot]) != null) {
+                if (hashes[slot] == hash && lengths[slot] == length) {
+                    return found;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private static boolean containsPattern(DateLayout[] layouts, String pattern) {
+            for (DateLayout layout : layouts) {
+                if (layout.pattern().equals(pattern)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.lostblackknight.core.date.format;
+
+import io.github.lostblackknight.core.date.EpochDayUtils;
+import io.github.lostblackknight.core.date.ZoneContext;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.BitSet;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+
+/**
+ * 批量解析毫秒时间戳的任务
+ * <p>超过阈值时一分为二并行执行，每个子任务只在遇到无效行时才创建自己的 {@link BitSet}，完成后按位或合并。
+ * 定长格式直接读取数字并用整数运算换算为毫秒，时区偏移由 {@link ZoneContext} 换算，整个过程不会为有效行创建任何对象。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/18 18:10
+ * @version 1.0.0
+ */
+final class BulkParseTask extends RecursiveTask<BitSet> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 每个子任务至少处理的行数，低于该值时不再拆分
+     */
+    static final int THRESHOLD = 4096;
+
+    private final IntFunction<? extends CharSequence> source;
+
+    private final DateLayout layout;
+
+    private final DateTimeFormatter formatter;
+
+    private final ZoneContext context;
+
+    private final long[] dst;
+
+    private final int from;
+
+    private final int to;
+
+    BulkParseTask(IntFunction<? extends CharSequence> source, DateLayout layout, DateTimeFormatter formatter,
+                  ZoneContext context, long[] dst, int from, int to) {
+        this.source = source;
+        this.layout = layout;
+        this.formatter = formatter;
+        this.context = context;
+        this.dst = dst;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected BitSet compute() {
+        if (to - from <= THRESHOLD) {
+            return parseRange();
+        }
+        final int middle = (from + to) >>> 1;
+        final BulkParseTask left = new BulkParseTask(source, layout, formatter, context, dst, from, middle);
+        final BulkParseTask right = new BulkParseTask(source, layout, formatter, context, dst, middle, to);
+        left.fork();
+        final BitSet rightBad = right.compute();
+        final BitSet leftBad = left.join();
+        if (leftBad == null) {
+            return rightBad;
+        }
+        if (rightBad != null) {
+            leftBad.or(rightBad);
+        }
+        return leftBad;
+    }
+
+    /**
+     * 顺序解析 [from, to) 的行
+     *
+     * @return 无效行，没有无效行时返回 null
+     */
+    BitSet parseRange() {
+        BitSet bad = null;
+        for (int i = from; i < to; i++) {
+            final CharSequence text = source.apply(i);
+            long localMilli = Long.MIN_VALUE;
+            if (text != null) {
+                if (layout != null && text.length() == layout.length()) {
+                    final long packed = layout.parse(text, 0);
+                    if (packed >= 0) {
+                        localMilli = localEpochMilli(packed);
+                    }
+                }
+                if (localMilli == Long.MIN_VALUE) {
+                    final LocalDateTime localDateTime = DateParser.tryParseLocalDateTime(text, layout, formatter);
+                    if (localDateTime != null) {
+                        localMilli = localDateTime.toEpochSecond(ZoneOffset.UTC) * 1000L + localDateTime.getNano() / 1_000_000;
+                    }
+                }
+            }
+            if (localMilli == Long.MIN_VALUE) {
+                if (bad == null) {
+                    bad = new BitSet();
+                }
+                bad.set(i);
+            } else {
+                dst[i] = context.toEpochMilli(localMilli);
+            }
+        }
+        return bad;
+    }
+
+    /**
+     * 将打包的日期时间换算为本地时间的毫秒数，即把本地时间当作 UTC 时的毫秒数
+     */
+    private static long localEpochMilli(long packed) {
+        final long epochDay = EpochDayUtils.epochDay(DateLayout.year(packed), DateLayout.month(packed), DateLayout.day(packed));
+        final long secondOfDay = DateLayout.hour(packed) * 3600L + DateLayout.minute(packed) * 60L + DateLayout.second(packed);
+        return (epochDay * 86400L + secondOfDay) * 1000L + DateLayout.milli(packed);
+    }
+}
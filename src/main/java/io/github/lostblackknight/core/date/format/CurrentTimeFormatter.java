@@ -0,0 +1,138 @@
+package io.github.lostblackknight.core.date.format;
+
+import io.github.lostblackknight.core.date.ClockProvider;
+import io.github.lostblackknight.core.date.ZoneContext;
+
+import java.time.LocalDateTime;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+
+/**
+ * 当前时间格式化
+ * <p>日志、访问记录等场景会频繁格式化当前时间，但格式化结果每秒才变化一次。
+ * 该类按秒缓存格式化结果，同一秒内直接返回缓存的字符串，包含毫秒的格式只替换毫秒部分的三位数字。
+ * <p>缓存以不可变快照的形式通过 volatile 字段发布，读写都不加锁。时区取 {@link ZoneContext#system()}，
+ * 只在进入新的一秒时读取。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/18 15:40
+ * @version 1.0.0
+ */
+public final class CurrentTimeFormatter {
+
+    private static final CurrentTimeFormatter[] FORMATTERS;
+
+    static {
+        final DatePattern[] datePatterns = DatePattern.values();
+        FORMATTERS = new CurrentTimeFormatter[datePatterns.length];
+        for (DatePattern datePattern : datePatterns) {
+            FORMATTERS[datePattern.ordinal()] = new CurrentTimeFormatter(datePattern);
+        }
+    }
+
+    private final DatePattern datePattern;
+
+    private final DateLayout layout;
+
+    private volatile Snapshot snapshot;
+
+    private CurrentTimeFormatter(DatePattern datePattern) {
+        this.datePattern = datePattern;
+        this.layout = DateLayout.of(datePattern);
+    }
+
+    /**
+     * 获取 {@link DatePattern} 对应的 {@link CurrentTimeFormatter}，每种格式只有一个实例
+     *
+     * @param datePattern 格式
+     * @return {@link CurrentTimeFormatter}
+     */
+    public static CurrentTimeFormatter of(DatePattern datePattern) {
+        return FORMATTERS[datePattern.ordinal()];
+    }
+
+    /**
+     * 格式化当前时间，时间取自 {@link ClockProvider}
+     *
+     * @return 格式化后的字符串
+     */
+    public String format() {
+        return format(ClockProvider.millis());
+    }
+
+    /**
+     * 格式化毫秒时间戳，使用系统默认的时区
+     * <p>与上一次格式化的时间戳在同一秒内时直接使用缓存
+     *
+     * @param epochMilli 毫秒
+     * @return 格式化后的字符串
+     */
+    public String format(long epochMilli) {
+        final long epochSecond = floorDiv(epochMilli, 1000L);
+        Snapshot current = snapshot;
+        if (current == null || current.epochSecond != epochSecond) {
+            current = createSnapshot(epochSecond);
+            if (current == null) {
+                return DateFormatter.ofDatePattern(datePattern)
+                        .format(ZoneContext.system().toLocalDateTime(epochMilli));
+            }
+            snapshot = current;
+        }
+        final int milliOffset = layout.milliOffset();
+        if (milliOffset < 0) {
+            return current.text;
+        }
+        final char[] chars = current.chars.clone();
+        final int milli = (int) floorMod(epochMilli, 1000L);
+        chars[milliOffset] = (char) ('0' + milli / 100);
+        chars[milliOffset + 1] = (char) ('0' + milli / 10 % 10);
+        chars[milliOffset + 2] = (char) ('0' + milli % 10);
+        return new String(chars);
+    }
+
+    /**
+     * 获取格式
+     *
+     * @return 格式
+     */
+    public DatePattern datePattern() {
+        return datePattern;
+    }
+
+    /**
+     * 创建某一秒的快照，年份超出四位数字时返回 null
+     */
+    private Snapshot createSnapshot(long epochSecond) {
+        final LocalDateTime localDateTime = ZoneContext.system().toLocalDateTime(epochSecond * 1000L);
+        if (!layout.canPrintYear(localDateTime.getYear())) {
+            return null;
+        }
+        final char[] chars = new char[layout.length()];
+        layout.print(localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+                localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(), 0, chars, 0);
+        return new Snapshot(epochSecond, chars);
+    }
+
+    @Override
+    public String toString() {
+        return "CurrentTimeFormatter{" + datePattern.pattern() + '}';
+    }
+
+    private static final class Snapshot {
+
+        private final long epochSecond;
+
+        /**
+         * 毫秒部分为 000 的格式化结果
+         */
+        private final char[] chars;
+
+        private final String text;
+
+        private Snapshot(long epochSecond, char[] chars) {
+            this.epochSecond = epochSecond;
+            this.chars = chars;
+            this.text = new String(chars);
+        }
+    }
+}
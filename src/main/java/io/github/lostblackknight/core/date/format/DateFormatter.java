@@ -1,8 +1,23 @@
 package io.github.lostblackknight.core.date.format;
 
+import io.github.lostblackknight.core.date.EpochDayUtils;
+import io.github.lostblackknight.core.date.ZoneContext;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.Locale;
 
-import static java.time.ZoneId.systemDefault;
+import static java.lang.Math.floorDiv;
 import static java.util.Locale.getDefault;
 
 /**
@@ -13,6 +28,10 @@ import static java.util.Locale.getDefault;
  */
 public class DateFormatter {
 
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final FormatterCache CACHE = new FormatterCache(FormatterCache.DEFAULT_MAXIMUM_SIZE);
+
     public static final DateTimeFormatter NORMAL_YEAR = ofDatePattern(DatePattern.NORMAL_YEAR);
 
     public static final DateTimeFormatter NORMAL_MONTH = ofDatePattern(DatePattern.NORMAL_MONTH);
@@ -66,14 +85,457 @@ public class DateFormatter {
     }
 
     /**
-     * 根据 pattern 创建一个 {@link DateTimeFormatter}
+     * 根据 pattern 获取一个 {@link DateTimeFormatter}，使用系统默认的时区和区域
+     * <p>结果会被缓存，相同的 pattern 不会重复编译
      *
      * @param pattern 格式
      * @return {@link DateTimeFormatter}
      */
     public static DateTimeFormatter ofPattern(String pattern) {
-        return DateTimeFormatter.ofPattern(pattern)
-                .withZone(systemDefault())
-                .withLocale(getDefault());
+        return ofPattern(pattern, ZoneContext.system().zone(), getDefault());
+    }
+
+    /**
+     * 根据 pattern、时区和区域获取一个 {@link DateTimeFormatter}
+     * <p>结果会被缓存，相同的 pattern、时区和区域不会重复编译
+     *
+     * @param pattern 格式
+     * @param zone    时区
+     * @param locale  区域
+     * @return {@link DateTimeFormatter}
+     */
+    public static DateTimeFormatter ofPattern(String pattern, ZoneId zone, Locale locale) {
+        return CACHE.get(pattern, zone, locale);
+    }
+
+    /**
+     * 获取 {@link #ofPattern(String)} 使用的缓存，可用于查看命中率等统计信息
+     *
+     * @return {@link FormatterCache}
+     */
+    public static FormatterCache cache() {
+        return CACHE;
+    }
+
+    /**
+     * 格式化 {@link LocalDateTime}，内置格式直接按定长布局输出
+     *
+     * @param localDateTime 日期
+     * @param datePattern   格式
+     * @return 格式化后的字符串
+     */
+    public static String format(LocalDateTime localDateTime, DatePattern datePattern) {
+        final DateLayout layout = DateLayout.of(datePattern);
+        if (layout.canPrintYear(localDateTime.getYear())) {
+            return layout.format(localDateTime);
+        }
+        return ofDatePattern(datePattern).format(localDateTime);
+    }
+
+    /**
+     * 格式化 {@link LocalDateTime}，与内置格式相同的 pattern 直接按定长布局输出
+     *
+     * @param localDateTime 日期
+     * @param pattern       格式
+     * @return 格式化后的字符串
+     */
+    public static String format(LocalDateTime localDateTime, String pattern) {
+        final DateLayout layout = DateLayout.of(pattern);
+        if (layout != null && layout.canPrintYear(localDateTime.getYear())) {
+            return layout.format(localDateTime);
+        }
+        return ofPattern(pattern).format(localDateTime);
+    }
+
+    /**
+     * 格式化 {@link LocalDate}，内置格式直接按定长布局输出
+     *
+     * @param localDate   日期
+     * @param datePattern 格式
+     * @return 格式化后的字符串
+     */
+    public static String format(LocalDate localDate, DatePattern datePattern) {
+        final DateLayout layout = DateLayout.of(datePattern);
+        if (!layout.hasTime() && layout.canPrintYear(localDate.getYear())) {
+            return layout.format(localDate);
+        }
+        return ofDatePattern(datePattern).format(localDate);
+    }
+
+    /**
+     * 格式化 {@link LocalDate}，与内置格式相同的 pattern 直接按定长布局输出
+     *
+     * @param localDate 日期
+     * @param pattern   格式
+     * @return 格式化后的字符串
+     */
+    public static String format(LocalDate localDate, String pattern) {
+        final DateLayout layout = DateLayout.of(pattern);
+        if (layout != null && !layout.hasTime() && layout.canPrintYear(localDate.getYear())) {
+            return layout.format(localDate);
+        }
+        return ofPattern(pattern).format(localDate);
+    }
+
+    /**
+     * 格式化 {@link LocalTime}，内置格式直接按定长布局输出
+     *
+     * @param localTime   时间
+     * @param datePattern 格式
+     * @return 格式化后的字符串
+     */
+    public static String format(LocalTime localTime, DatePattern datePattern) {
+        final DateLayout layout = DateLayout.of(datePattern);
+        if (!layout.hasDate()) {
+            return layout.format(localTime);
+        }
+        return ofDatePattern(datePattern).format(localTime);
+    }
+
+    /**
+     * 格式化 {@link LocalTime}，与内置格式相同的 pattern 直接按定长布局输出
+     *
+     * @param localTime 时间
+     * @param pattern   格式
+     * @return 格式化后的字符串
+     */
+    public static String format(LocalTime localTime, String pattern) {
+        final DateLayout layout = DateLayout.of(pattern);
+        if (layout != null && !layout.hasDate()) {
+            return layout.format(localTime);
+        }
+        return ofPattern(pattern).format(localTime);
+    }
+
+    /**
+     * 按内置格式格式化打包的日期时间，定长布局直接读取各字段输出，不会创建 {@link LocalDateTime}
+     *
+     * @param packedDateTime 打包的日期时间
+     * @param datePattern    格式
+     * @return 格式化后的字符串
+     * @see io.github.lostblackknight.core.date.PackedDateTimeUtils
+     */
+    public static String formatPackedDateTime(long packedDateTime, DatePattern datePattern) {
+        return formatPackedDateTime(packedDateTime, DateLayout.of(datePattern), ofDatePattern(datePattern));
+    }
+
+    /**
+     * 格式化打包的日期时间，与内置格式相同的 pattern 直接按定长布局输出
+     *
+     * @param packedDateTime 打包的日期时间
+     * @param pattern        格式
+     * @return 格式化后的字符串
+     * @see io.github.lostblackknight.core.date.PackedDateTimeUtils
+     */
+    public static String formatPackedDateTime(long packedDateTime, String pattern) {
+        final DateLayout layout = DateLayout.of(pattern);
+        return formatPackedDateTime(packedDateTime, layout, layout == null ? ofPattern(pattern) : null);
+    }
+
+    private static String formatPackedDateTime(long packed, DateLayout layout, DateTimeFormatter formatter) {
+        final int year = DateLayout.year(packed);
+        if (layout != null && layout.canPrintYear(year)) {
+            return layout.format(year, DateLayout.month(packed), DateLayout.day(packed),
+                    DateLayout.hour(packed), DateLayout.minute(packed), DateLayout.second(packed), DateLayout.milli(packed));
+        }
+        return (formatter != null ? formatter : ofPattern(layout.pattern())).format(DateLayout.toLocalDateTime(packed));
+    }
+
+    /**
+     * 格式化 {@link LocalDateTime}，并追加到 appendable 中，内置格式直接按定长布局逐字符写入
+     *
+     * @param localDateTime 日期
+     * @param datePattern   格式
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     * @throws DateTimeException 写入 appendable 失败时抛出
+     */
+    public static <A extends Appendable> A formatTo(LocalDateTime localDateTime, DatePattern datePattern, A appendable) {
+        return formatTo(localDateTime, DateLayout.of(datePattern), appendable);
+    }
+
+    /**
+     * 格式化 {@link LocalDateTime}，并追加到 appendable 中，与内置格式相同的 pattern 直接按定长布局逐字符写入
+     *
+     * @param localDateTime 日期
+     * @param pattern       格式
+     * @param appendable    输出目标，例如 {@link StringBuilder}
+     * @param <A>           输出目标的类型
+     * @return appendable
+     * @throws DateTimeException 写入 appendable 失败时抛出
+     */
+    public static <A extends Appendable> A formatTo(LocalDateTime localDateTime, String pattern, A appendable) {
+        final DateLayout layout = DateLayout.of(pattern);
+        if (layout != null) {
+            return formatTo(localDateTime, layout, appendable);
+        }
+        return formatTo(localDateTime, ofPattern(pattern), appendable);
+    }
+
+    private static <A extends Appendable> A formatTo(LocalDateTime localDateTime, DateLayout layout, A appendable) {
+        if (layout.canPrintYear(localDateTime.getYear())) {
+            try {
+                layout.printTo(localDateTime, appendable);
+            } catch (IOException e) {
+                throw new DateTimeException(e.getMessage(), e);
+            }
+            return appendable;
+        }
+        return formatTo(localDateTime, ofPattern(layout.pattern()), appendable);
+    }
+
+    /**
+     * 格式化 {@link LocalDate}，并追加到 appendable 中，内置格式直接按定长布局逐字符写入
+     *
+     * @param localDate   日期
+     * @param datePattern 格式
+     * @param appendable  输出目标，例如 {@link StringBuilder}
+     * @param <A>         输出目标的类型
+     * @return appendable
+     * @throws DateTimeException 写入 appendable 失败时抛出
+     */
+    public static <A extends Appendable> A formatTo(LocalDate localDate, DatePattern datePattern, A appendable) {
+        return formatTo(localDate, DateLayout.of(datePattern), appendable);
+    }
+
+    /**
+     * 格式化 {@link LocalDate}，并追加到 appendable 中，与内置格式相同的 pattern 直接按定长布局逐字符写入
+     *
+     * @param localDate  日期
+     * @param pattern    格式
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     * @throws DateTimeException 写入 appendable 失败时抛出
+     */
+    public static <A extends Appendable> A formatTo(LocalDate localDate, String pattern, A appendable) {
+        final DateLayout layout = DateLayout.of(pattern);
+        if (layout != null) {
+            return formatTo(localDate, layout, appendable);
+        }
+        return formatTo(localDate, ofPattern(pattern), appendable);
+    }
+
+    private static <A extends Appendable> A formatTo(LocalDate localDate, DateLayout layout, A appendable) {
+        if (!layout.hasTime() && layout.canPrintYear(localDate.getYear())) {
+            try {
+                layout.printTo(localDate, appendable);
+            } catch (IOException e) {
+                throw new DateTimeException(e.getMessage(), e);
+            }
+            return appendable;
+        }
+        return formatTo(localDate, ofPattern(layout.pattern()), appendable);
+    }
+
+    /**
+     * 格式化 {@link LocalTime}，并追加到 appendable 中，内置格式直接按定长布局逐字符写入
+     *
+     * @param localTime   时间
+     * @param datePattern 格式
+     * @param appendable  输出目标，例如 {@link StringBuilder}
+     * @param <A>         输出目标的类型
+     * @return appendable
+     * @throws DateTimeException 写入 appendable 失败时抛出
+     */
+    public static <A extends Appendable> A formatTo(LocalTime localTime, DatePattern datePattern, A appendable) {
+        return formatTo(localTime, DateLayout.of(datePattern), appendable);
+    }
+
+    /**
+     * 格式化 {@link LocalTime}，并追加到 appendable 中，与内置格式相同的 pattern 直接按定长布局逐字符写入
+     *
+     * @param localTime  时间
+     * @param pattern    格式
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     * @throws DateTimeException 写入 appendable 失败时抛出
+     */
+    public static <A extends Appendable> A formatTo(LocalTime localTime, String pattern, A appendable) {
+        final DateLayout layout = DateLayout.of(pattern);
+        if (layout != null) {
+            return formatTo(localTime, layout, appendable);
+        }
+        return formatTo(localTime, ofPattern(pattern), appendable);
+    }
+
+    private static <A extends Appendable> A formatTo(LocalTime localTime, DateLayout layout, A appendable) {
+        if (!layout.hasDate()) {
+            try {
+                layout.printTo(localTime, appendable);
+            } catch (IOException e) {
+                throw new DateTimeException(e.getMessage(), e);
+            }
+            return appendable;
+        }
+        return formatTo(localTime, ofPattern(layout.pattern()), appendable);
+    }
+
+    /**
+     * 使用 {@link DateTimeFormatter} 格式化，并追加到 appendable 中
+     *
+     * @param temporal   日期
+     * @param formatter  {@link DateTimeFormatter}
+     * @param appendable 输出目标，例如 {@link StringBuilder}
+     * @param <A>        输出目标的类型
+     * @return appendable
+     * @throws DateTimeException 格式化或写入 appendable 失败时抛出
+     */
+    public static <A extends Appendable> A formatTo(TemporalAccessor temporal, DateTimeFormatter formatter, A appendable) {
+        formatter.formatTo(temporal, appendable);
+        return appendable;
+    }
+
+    /**
+     * 格式化 {@link LocalDateTime}，以 ASCII 写入字节数组
+     * <p>只支持 ASCII 格式，即 NORMAL_* 和 SIMPLE_* 格式
+     *
+     * @param localDateTime 日期
+     * @param datePattern   格式
+     * @param dst           目标数组
+     * @param offset        写入的起始位置
+     * @return 写入后的位置
+     * @throws IllegalArgumentException  格式包含非 ASCII 字符时抛出
+     * @throws IndexOutOfBoundsException 目标数组空间不足时抛出
+     */
+    public static int formatTo(LocalDateTime localDateTime, DatePattern datePattern, byte[] dst, int offset) {
+        final DateLayout layout = asciiLayout(datePattern);
+        if (layout.canPrintYear(localDateTime.getYear())) {
+            return layout.print(localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+                    localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(),
+                    localDateTime.getNano() / 1_000_000, dst, offset);
+        }
+        final byte[] bytes = ofDatePattern(datePattern).format(localDateTime).getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, dst, offset, bytes.length);
+        return offset + bytes.length;
+    }
+
+    /**
+     * 格式化 {@link Date}，以 ASCII 写入字节数组
+     * <p>只支持 ASCII 格式，即 NORMAL_* 和 SIMPLE_* 格式
+     *
+     * @param date        日期
+     * @param datePattern 格式
+     * @param dst         目标数组
+     * @param offset      写入的起始位置
+     * @return 写入后的位置
+     * @throws IllegalArgumentException  格式包含非 ASCII 字符时抛出
+     * @throws IndexOutOfBoundsException 目标数组空间不足时抛出
+     */
+    public static int formatTo(Date date, DatePattern datePattern, byte[] dst, int offset) {
+        return formatTo(date.getTime(), datePattern, dst, offset);
+    }
+
+    /**
+     * 格式化毫秒时间戳，以 ASCII 写入字节数组，使用系统默认的时区
+     * <p>只支持 ASCII 格式，即 NORMAL_* 和 SIMPLE_* 格式
+     *
+     * @param epochMilli  毫秒
+     * @param datePattern 格式
+     * @param dst         目标数组
+     * @param offset      写入的起始位置
+     * @return 写入后的位置
+     * @throws IllegalArgumentException  格式包含非 ASCII 字符时抛出
+     * @throws IndexOutOfBoundsException 目标数组空间不足时抛出
+     */
+    public static int formatTo(long epochMilli, DatePattern datePattern, byte[] dst, int offset) {
+        final DateLayout layout = asciiLayout(datePattern);
+        final long localMilli = ZoneContext.system().toLocalMilli(epochMilli);
+        final long epochDay = floorDiv(localMilli, MILLIS_PER_DAY);
+        if (epochDay == (int) epochDay) {
+            final int packedDate = EpochDayUtils.toPackedDate((int) epochDay);
+            final int year = EpochDayUtils.unpackYear(packedDate);
+            if (layout.canPrintYear(year)) {
+                final int milliOfDay = (int) (localMilli - epochDay * MILLIS_PER_DAY);
+                return layout.print(year, EpochDayUtils.unpackMonth(packedDate), EpochDayUtils.unpackDayOfMonth(packedDate),
+                        milliOfDay / 3_600_000, milliOfDay / 60_000 % 60, milliOfDay / 1000 % 60, milliOfDay % 1000, dst, offset);
+            }
+        }
+        return formatTo(toLocalDateTime(epochMilli), datePattern, dst, offset);
+    }
+
+    /**
+     * 格式化 {@link LocalDateTime}，以 ASCII 写入 {@link ByteBuffer} 的当前位置，并前移 position
+     * <p>只支持 ASCII 格式，即 NORMAL_* 和 SIMPLE_* 格式，堆内和直接内存的 {@link ByteBuffer} 都可以使用
+     *
+     * @param localDateTime 日期
+     * @param datePattern   格式
+     * @param dst           目标
+     * @return dst
+     * @throws IllegalArgumentException 格式包含非 ASCII 字符时抛出
+     * @throws BufferOverflowException  剩余空间不足时抛出，此时 dst 不会被修改
+     */
+    public static ByteBuffer formatTo(LocalDateTime localDateTime, DatePattern datePattern, ByteBuffer dst) {
+        final DateLayout layout = asciiLayout(datePattern);
+        if (layout.canPrintYear(localDateTime.getYear())) {
+            if (dst.remaining() < layout.length()) {
+                throw new BufferOverflowException();
+            }
+            layout.print(localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+                    localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(),
+                    localDateTime.getNano() / 1_000_000, dst);
+            return dst;
+        }
+        return dst.put(ofDatePattern(datePattern).format(localDateTime).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 格式化 {@link Date}，以 ASCII 写入 {@link ByteBuffer} 的当前位置，并前移 position
+     * <p>只支持 ASCII 格式，即 NORMAL_* 和 SIMPLE_* 格式，堆内和直接内存的 {@link ByteBuffer} 都可以使用
+     *
+     * @param date        日期
+     * @param datePattern 格式
+     * @param dst         目标
+     * @return dst
+     * @throws IllegalArgumentException 格式包含非 ASCII 字符时抛出
+     * @throws BufferOverflowException  剩余空间不足时抛出，此时 dst 不会被修改
+     */
+    public static ByteBuffer formatTo(Date date, DatePattern datePattern, ByteBuffer dst) {
+        return formatTo(date.getTime(), datePattern, dst);
+    }
+
+    /**
+     * 格式化毫秒时间戳，以 ASCII 写入 {@link ByteBuffer} 的当前位置，并前移 position，使用系统默认的时区
+     * <p>只支持 ASCII 格式，即 NORMAL_* 和 SIMPLE_* 格式，堆内和直接内存的 {@link ByteBuffer} 都可以使用
+     *
+     * @param epochMilli  毫秒
+     * @param datePattern 格式
+     * @param dst         目标
+     * @return dst
+     * @throws IllegalArgumentException 格式包含非 ASCII 字符时抛出
+     * @throws BufferOverflowException  剩余空间不足时抛出，此时 dst 不会被修改
+     */
+    public static ByteBuffer formatTo(long epochMilli, DatePattern datePattern, ByteBuffer dst) {
+        final DateLayout layout = asciiLayout(datePattern);
+        final long localMilli = ZoneContext.system().toLocalMilli(epochMilli);
+        final long epochDay = floorDiv(localMilli, MILLIS_PER_DAY);
+        if (epochDay == (int) epochDay) {
+            final int packedDate = EpochDayUtils.toPackedDate((int) epochDay);
+            final int year = EpochDayUtils.unpackYear(packedDate);
+            if (layout.canPrintYear(year)) {
+                if (dst.remaining() < layout.length()) {
+                    throw new BufferOverflowException();
+                }
+                final int milliOfDay = (int) (localMilli - epochDay * MILLIS_PER_DAY);
+                layout.print(year, EpochDayUtils.unpackMonth(packedDate), EpochDayUtils.unpackDayOfMonth(packedDate),
+                        milliOfDay / 3_600_000, milliOfDay / 60_000 % 60, milliOfDay / 1000 % 60, milliOfDay % 1000, dst);
+                return dst;
+            }
+        }
+        return formatTo(toLocalDateTime(epochMilli), datePattern, dst);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return ZoneContext.system().toLocalDateTime(epochMilli);
+    }
+
+    static DateLayout asciiLayout(DatePattern datePattern) {
+        final DateLayout layout = DateLayout.of(datePattern);
+        if (!layout.isAscii()) {
+            throw new IllegalArgumentException("Not an ASCII pattern: " + datePattern.pattern());
+        }
+        return layout;
     }
 }
@@ -0,0 +1,648 @@
+package io.github.lostblackknight.core.date.format;
+
+import io.github.lostblackknight.core.date.ZoneContext;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * 定长日期布局
+ * <p>把只包含定长数字字段 (yyyy、MM、dd、HH、mm、ss、SSS) 和普通字符的格式编译为固定偏移量的布局，
+ * 格式化和解析时直接按偏移量读写数字，不经过 {@link java.time.format.DateTimeFormatter}。
+ * <p>解析结果按位打包在一个 long 中，布局与 {@link io.github.lostblackknight.core.date.PackedDateTimeUtils} 相同，
+ * 非负数表示成功；失败时返回 {@code ~错误位置}，即一个负数，
+ * 整个过程不创建对象、不抛出异常。调用方在失败时可以通过 {@link #isLenient(CharSequence, int, int)} 判断是否需要回退到
+ * {@link java.time.format.DateTimeFormatter}，以保持原有的宽松解析规则和异常信息。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/18 13:10
+ * @version 1.0.0
+ */
+final class DateLayout {
+
+    private static final int MILLI_SHIFT = 0;
+
+    private static final int SECOND_SHIFT = 10;
+
+    private static final int MINUTE_SHIFT = 16;
+
+    private static final int HOUR_SHIFT = 22;
+
+    private static final int DAY_SHIFT = 27;
+
+    private static final int MONTH_SHIFT = 32;
+
+    private static final int YEAR_SHIFT = 36;
+
+    /**
+     * 各字段的宽度，顺序为年、月、日、时、分、秒、毫秒
+     */
+    private static final int[] WIDTHS = {4, 2, 2, 2, 2, 2, 3};
+
+    private static final DateLayout[] LAYOUTS;
+
+    private static final Map<String, DateLayout> BY_PATTERN = new HashMap<>();
+
+    static {
+        final DatePattern[] datePatterns = DatePattern.values();
+        LAYOUTS = new DateLayout[datePatterns.length];
+        for (DatePattern datePattern : datePatterns) {
+            final DateLayout layout = compile(datePattern.pattern());
+            LAYOUTS[datePattern.ordinal()] = layout;
+            BY_PATTERN.putIfAbsent(datePattern.pattern(), layout);
+        }
+    }
+
+    private final String pattern;
+
+    /**
+     * 格式化模板，普通字符已就位，数字位置为 '0'
+     */
+    private final char[] template;
+
+    /**
+     * ASCII 格式化模板，格式包含非 ASCII 字符时为 null
+     */
+    private final byte[] asciiTemplate;
+
+    /**
+     * 每个位置对应的字段，普通字符为 -1
+     */
+    private final byte[] fields;
+
+    /**
+     * 每个位置在所属字段中的位权，例如年份的第一位为 1000
+     */
+    private final int[] scales;
+
+    private final int yearOffset;
+
+    private final int monthOffset;
+
+    private final int dayOffset;
+
+    private final int hourOffset;
+
+    private final int minuteOffset;
+
+    private final int secondOffset;
+
+    private final int milliOffset;
+
+    private DateLayout(String pattern, char[] template, int[] offsets) {
+        this.pattern = pattern;
+        this.template = template;
+        this.yearOffset = offsets[0];
+        this.monthOffset = offsets[1];
+        this.dayOffset = offsets[2];
+        this.hourOffset = offsets[3];
+        this.minuteOffset = offsets[4];
+        this.secondOffset = offsets[5];
+        this.milliOffset = offsets[6];
+        this.asciiTemplate = toAscii(template);
+        this.fields = new byte[template.length];
+        this.scales = new int[template.length];
+        Arrays.fill(fields, (byte) -1);
+        for (int field = 0; field < offsets.length; field++) {
+            if (offsets[field] >= 0) {
+                final int width = WIDTHS[field];
+                for (int i = 0, scale = 1; i < width; i++, scale *= 10) {
+                    fields[offsets[field] + width - 1 - i] = (byte) field;
+                    scales[offsets[field] + width - 1 - i] = scale;
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取 {@link DatePattern} 对应的布局
+     *
+     * @param datePattern 日期格式
+     * @return 布局
+     */
+    static DateLayout of(DatePattern datePattern) {
+        return LAYOUTS[datePattern.ordinal()];
+    }
+
+    /**
+     * 获取与 pattern 相同的 {@link DatePattern} 的布局
+     *
+     * @param pattern 格式
+     * @return 布局，pattern 不是内置格式时返回 null
+     */
+    static DateLayout of(String pattern) {
+        return BY_PATTERN.get(pattern);
+    }
+
+    /**
+     * 编译 pattern
+     *
+     * @param pattern 格式
+     * @return 布局，pattern 包含非定长字段、数字、引号或其他保留字符时返回 null
+     */
+    static DateLayout compile(String pattern) {
+        final int[] offsets = {-1, -1, -1, -1, -1, -1, -1};
+        final char[] template = new char[pattern.length()];
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                int end = i;
+                while (end < pattern.length() && pattern.charAt(end) == c) {
+                    end++;
+                }
+                final int field = fieldOf(c, end - i);
+                if (field < 0 || offsets[field] >= 0) {
+                    return null;
+                }
+                offsets[field] = i;
+                for (int j = i; j < end; j++) {
+                    template[j] = '0';
+                }
+                i = end;
+            } else if ((c >= '0' && c <= '9') || c == '\'' || c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                return null;
+            } else {
+                template[i++] = c;
+            }
+        }
+        return new DateLayout(pattern, template, offsets);
+    }
+
+    private static byte[] toAscii(char[] template) {
+        final byte[] ascii = new byte[template.length];
+        for (int i = 0; i < template.length; i++) {
+            if (template[i] >= 0x80) {
+                return null;
+            }
+            ascii[i] = (byte) template[i];
+        }
+        return ascii;
+    }
+
+    private static int fieldOf(char letter, int width) {
+        switch (letter) {
+            case 'y':
+                return width == 4 ? 0 : -1;
+            case 'M':
+                return width == 2 ? 1 : -1;
+            case 'd':
+                return width == 2 ? 2 : -1;
+            case 'H':
+                return width == 2 ? 3 : -1;
+            case 'm':
+                return width == 2 ? 4 : -1;
+            case 's':
+                return width == 2 ? 5 : -1;
+            case 'S':
+                return width == 3 ? 6 : -1;
+            default:
+                return -1;
+        }
+    }
+
+    //region 基本信息
+
+    String pattern() {
+        return pattern;
+    }
+
+    int length() {
+        return template.length;
+    }
+
+    /**
+     * 布局的形状哈希，数字位置按 '0' 计算，与符合该布局的文本的 {@link #shapeHash(CharSequence)} 相同
+     */
+    int shapeHash() {
+        int hash = 0;
+        for (char c : template) {
+            hash = 31 * hash + c;
+        }
+        return hash;
+    }
+
+    /**
+     * 计算文本的形状哈希，所有数字都按 '0' 计算
+     *
+     * @param text 文本
+     * @return 形状哈希
+     */
+    static int shapeHash(CharSequence text) {
+        int hash = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            final char c = text.charAt(i);
+            hash = 31 * hash + (c >= '0' && c <= '9' ? '0' : c);
+        }
+        return hash;
+    }
+
+    /**
+     * 是否包含年、月、日中的任意字段
+     */
+    boolean hasDate() {
+        return yearOffset >= 0 || monthOffset >= 0 || dayOffset >= 0;
+    }
+
+    /**
+     * 是否包含时、分、秒、毫秒中的任意字段
+     */
+    boolean hasTime() {
+        return hourOffset >= 0 || minuteOffset >= 0 || secondOffset >= 0 || milliOffset >= 0;
+    }
+
+    /**
+     * 毫秒字段的位置，不包含毫秒字段时为 -1
+     */
+    int milliOffset() {
+        return milliOffset;
+    }
+
+    /**
+     * 是否只包含 ASCII 字符，只有 ASCII 格式才能直接读写字节
+     */
+    boolean isAscii() {
+        return asciiTemplate != null;
+    }
+
+    //endregion
+
+    //region 格式化
+
+    /**
+     * 是否可以按定长格式输出该年份，四位数字之外的年份需要交给 {@link java.time.format.DateTimeFormatter} 处理
+     */
+    boolean canPrintYear(int year) {
+        return yearOffset < 0 || (year >= 1 && year <= 9999);
+    }
+
+    /**
+     * 将各字段写入字符数组，调用方需保证 dst 从 offset 开始至少有 {@link #length()} 个位置
+     *
+     * @return 写入后的位置
+     */
+    int print(int year, int month, int day, int hour, int minute, int second, int milli, char[] dst, int offset) {
+        System.arraycopy(template, 0, dst, offset, template.length);
+        if (yearOffset >= 0) {
+            printDigits(year, 4, dst, offset + yearOffset);
+        }
+        if (monthOffset >= 0) {
+            printDigits(month, 2, dst, offset + monthOffset);
+        }
+        if (dayOffset >= 0) {
+            printDigits(day, 2, dst, offset + dayOffset);
+        }
+        if (hourOffset >= 0) {
+            printDigits(hour, 2, dst, offset + hourOffset);
+        }
+        if (minuteOffset >= 0) {
+            printDigits(minute, 2, dst, offset + minuteOffset);
+        }
+        if (secondOffset >= 0) {
+            printDigits(second, 2, dst, offset + secondOffset);
+        }
+        if (milliOffset >= 0) {
+            printDigits(milli, 3, dst, offset + milliOffset);
+        }
+        return offset + template.length;
+    }
+
+    /**
+     * 将各字段以 ASCII 写入字节数组，调用方需保证布局为 ASCII 且 dst 从 offset 开始至少有 {@link #length()} 个位置
+     *
+     * @return 写入后的位置
+     */
+    int print(int year, int month, int day, int hour, int minute, int second, int milli, byte[] dst, int offset) {
+        System.arraycopy(asciiTemplate, 0, dst, offset, asciiTemplate.length);
+        for (int i = 0; i < asciiTemplate.length; i++) {
+            final int field = fields[i];
+            if (field >= 0) {
+                final int value = valueOf(field, year, month, day, hour, minute, second, milli);
+                dst[offset + i] = (byte) ('0' + value / scales[i] % 10);
+            }
+        }
+        return offset + asciiTemplate.length;
+    }
+
+    /**
+     * 将各字段以 ASCII 写入 {@link ByteBuffer} 的当前位置并前移 position，调用方需保证布局为 ASCII 且剩余空间足够
+     */
+    void print(int year, int month, int day, int hour, int minute, int second, int milli, ByteBuffer dst) {
+        final int position = dst.position();
+        for (int i = 0; i < asciiTemplate.length; i++) {
+            final int field = fields[i];
+            if (field < 0) {
+                dst.put(position + i, asciiTemplate[i]);
+            } else {
+                final int value = valueOf(field, year, month, day, hour, minute, second, milli);
+                dst.put(position + i, (byte) ('0' + value / scales[i] % 10));
+            }
+        }
+        dst.position(position + asciiTemplate.length);
+    }
+
+    String format(int year, int month, int day, int hour, int minute, int second, int milli) {
+        final char[] buffer = new char[template.length];
+        print(year, month, day, hour, minute, second, milli, buffer, 0);
+        return new String(buffer);
+    }
+
+    String format(LocalDateTime localDateTime) {
+        return format(localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+                localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(),
+                localDateTime.getNano() / 1_000_000);
+    }
+
+    String format(LocalDate localDate) {
+        return format(localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth(), 0, 0, 0, 0);
+    }
+
+    String format(LocalTime localTime) {
+        return format(0, 0, 0, localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
+                localTime.getNano() / 1_000_000);
+    }
+
+    /**
+     * 将各字段逐个字符追加到 appendable 中
+     */
+    void printTo(int year, int month, int day, int hour, int minute, int second, int milli,
+                 Appendable appendable) throws IOException {
+        for (int i = 0; i < template.length; i++) {
+            final int field = fields[i];
+            if (field < 0) {
+                appendable.append(template[i]);
+            } else {
+                final int value = valueOf(field, year, month, day, hour, minute, second, milli);
+                appendable.append((char) ('0' + value / scales[i] % 10));
+            }
+        }
+    }
+
+    void printTo(LocalDateTime localDateTime, Appendable appendable) throws IOException {
+        printTo(localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+                localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(),
+                localDateTime.getNano() / 1_000_000, appendable);
+    }
+
+    void printTo(LocalDate localDate, Appendable appendable) throws IOException {
+        printTo(localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth(), 0, 0, 0, 0, appendable);
+    }
+
+    void printTo(LocalTime localTime, Appendable appendable) throws IOException {
+        printTo(0, 0, 0, localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
+                localTime.getNano() / 1_000_000, appendable);
+    }
+
+    private static int valueOf(int field, int year, int month, int day, int hour, int minute, int second, int milli) {
+        switch (field) {
+            case 0:
+                return year;
+            case 1:
+                return month;
+            case 2:
+                return day;
+            case 3:
+                return hour;
+            case 4:
+                return minute;
+            case 5:
+                return second;
+            default:
+                return milli;
+        }
+    }
+
+    private static void printDigits(int value, int width, char[] dst, int offset) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            dst[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    //endregion
+
+    //region 解析
+
+    /**
+     * 从 offset 开始按布局解析 {@link #length()} 个字符，调用方需保证长度足够
+     *
+     * @return 打包后的结果；失败时返回 {@code ~错误位置}
+     */
+    long parse(CharSequence text, int offset) {
+        for (int i = 0; i < template.length; i++) {
+            final char c = text.charAt(offset + i);
+            if (fields[i] >= 0 ? (c < '0' || c > '9') : c != template[i]) {
+                return ~(offset + i);
+            }
+        }
+        return resolve(
+                yearOffset < 0 ? -1 : digits(text, offset + yearOffset, 4),
+                monthOffset < 0 ? -1 : digits(text, offset + monthOffset, 2),
+                dayOffset < 0 ? -1 : digits(text, offset + dayOffset, 2),
+                hourOffset < 0 ? 0 : digits(text, offset + hourOffset, 2),
+                minuteOffset < 0 ? 0 : digits(text, offset + minuteOffset, 2),
+                secondOffset < 0 ? 0 : digits(text, offset + secondOffset, 2),
+                milliOffset < 0 ? 0 : digits(text, offset + milliOffset, 3),
+                offset);
+    }
+
+    /**
+     * {@link #parse(CharSequence, int)} 失败后，{@link java.time.format.DateTimeFormatter} 按 SMART 规则是否仍可能接受该文本：
+     * 字符与布局不符（例如超过四位的年份）、日为 29 到 31 但超出当月的天数、小时为 24 时返回 true；
+     * 其他超出范围的字段值（例如 13 月、60 分）DateTimeFormatter 同样会拒绝，返回 false
+     *
+     * @param text       文本
+     * @param offset     解析的开始位置
+     * @param errorIndex 解析返回的错误位置
+     * @return 是否需要回退到 DateTimeFormatter
+     */
+    boolean isLenient(CharSequence text, int offset, int errorIndex) {
+        final int i = errorIndex - offset;
+        final char c = text.charAt(errorIndex);
+        if (fields[i] < 0 || c < '0' || c > '9') {
+            return true;
+        }
+        if (i == dayOffset) {
+            final int day = digits(text, errorIndex, 2);
+            return day >= 29 && day <= 31;
+        }
+        return i == hourOffset && digits(text, errorIndex, 2) == 24;
+    }
+
+    /**
+     * 从 offset 开始按布局解析 {@link #length()} 个 ASCII 字节，调用方需保证布局为 ASCII 且长度足够
+     *
+     * @return 打包后的结果；失败时返回 {@code ~错误位置}
+     */
+    long parse(byte[] src, int offset) {
+        for (int i = 0; i < asciiTemplate.length; i++) {
+            final byte expected = asciiTemplate[i];
+            final byte b = src[offset + i];
+            if (fields[i] >= 0 ? (b < '0' || b > '9') : b != expected) {
+                return ~(offset + i);
+            }
+        }
+        return resolve(
+                yearOffset < 0 ? -1 : digits(src, offset + yearOffset, 4),
+                monthOffset < 0 ? -1 : digits(src, offset + monthOffset, 2),
+                dayOffset < 0 ? -1 : digits(src, offset + dayOffset, 2),
+                hourOffset < 0 ? 0 : digits(src, offset + hourOffset, 2),
+                minuteOffset < 0 ? 0 : digits(src, offset + minuteOffset, 2),
+                secondOffset < 0 ? 0 : digits(src, offset + secondOffset, 2),
+                milliOffset < 0 ? 0 : digits(src, offset + milliOffset, 3),
+                offset);
+    }
+
+    /**
+     * 从绝对位置 index 开始按布局解析 {@link #length()} 个 ASCII 字节，不修改 position，
+     * 调用方需保证布局为 ASCII 且长度足够
+     *
+     * @return 打包后的结果；失败时返回 {@code ~错误位置}
+     */
+    long parse(ByteBuffer src, int index) {
+        for (int i = 0; i < asciiTemplate.length; i++) {
+            final byte expected = asciiTemplate[i];
+            final byte b = src.get(index + i);
+            if (fields[i] >= 0 ? (b < '0' || b > '9') : b != expected) {
+                return ~(index + i);
+            }
+        }
+        return resolve(
+                yearOffset < 0 ? -1 : digits(src, index + yearOffset, 4),
+                monthOffset < 0 ? -1 : digits(src, index + monthOffset, 2),
+                dayOffset < 0 ? -1 : digits(src, index + dayOffset, 2),
+                hourOffset < 0 ? 0 : digits(src, index + hourOffset, 2),
+                minuteOffset < 0 ? 0 : digits(src, index + minuteOffset, 2),
+                secondOffset < 0 ? 0 : digits(src, index + secondOffset, 2),
+                milliOffset < 0 ? 0 : digits(src, index + milliOffset, 3),
+                index);
+    }
+
+    private static int digits(byte[] src, int offset, int width) {
+        int value = 0;
+        for (int i = offset; i < offset + width; i++) {
+            value = value * 10 + (src[i] - '0');
+        }
+        return value;
+    }
+
+    private static int digits(ByteBuffer src, int index, int width) {
+        int value = 0;
+        for (int i = index; i < index + width; i++) {
+            value = value * 10 + (src.get(i) - '0');
+        }
+        return value;
+    }
+
+    private static int digits(CharSequence text, int offset, int width) {
+        int value = 0;
+        for (int i = offset; i < offset + width; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 校验字段范围并打包，缺失的年份取 {@link java.time.Instant#EPOCH} 在系统默认时区的年份，缺失的月、日取 1
+     */
+    private long resolve(int year, int month, int day, int hour, int minute, int second, int milli, int offset) {
+        if (yearOffset >= 0 && year < 1) {
+            return ~(offset + yearOffset);
+        }
+        if (month < 0) {
+            month = 1;
+        } else if (month < 1 || month > 12) {
+            return ~(offset + monthOffset);
+        }
+        if (day < 0) {
+            day = 1;
+        }
+        if (yearOffset < 0) {
+            year = defaultYear();
+        }
+        if (day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return ~(offset + (dayOffset >= 0 ? dayOffset : monthOffset));
+        }
+        if (hour > 23) {
+            return ~(offset + hourOffset);
+        }
+        if (minute > 59) {
+            return ~(offset + minuteOffset);
+        }
+        if (second > 59) {
+            return ~(offset + secondOffset);
+        }
+        return pack(year, month, day, hour, minute, second, milli);
+    }
+
+    private static int defaultYear() {
+        return ZoneContext.system().epochDate().getYear();
+    }
+
+    static long pack(int year, int month, int day, int hour, int minute, int second, int milli) {
+        return ((long) year << YEAR_SHIFT) | ((long) month << MONTH_SHIFT) | ((long) day << DAY_SHIFT)
+                | ((long) hour << HOUR_SHIFT) | ((long) minute << MINUTE_SHIFT) | ((long) second << SECOND_SHIFT)
+                | ((long) milli << MILLI_SHIFT);
+    }
+
+    static long pack(LocalDateTime localDateTime) {
+        return pack(localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+                localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(), localDateTime.getNano() / 1_000_000);
+    }
+
+    static int year(long packed) {
+        return (int) (packed >> YEAR_SHIFT);
+    }
+
+    static int month(long packed) {
+        return (int) (packed >>> MONTH_SHIFT) & 0xF;
+    }
+
+    static int day(long packed) {
+        return (int) (packed >>> DAY_SHIFT) & 0x1F;
+    }
+
+    static int hour(long packed) {
+        return (int) (packed >>> HOUR_SHIFT) & 0x1F;
+    }
+
+    static int minute(long packed) {
+        return (int) (packed >>> MINUTE_SHIFT) & 0x3F;
+    }
+
+    static int second(long packed) {
+        return (int) (packed >>> SECOND_SHIFT) & 0x3F;
+    }
+
+    static int milli(long packed) {
+        return (int) (packed >>> MILLI_SHIFT) & 0x3FF;
+    }
+
+    static LocalDate toLocalDate(long packed) {
+        return LocalDate.of(year(packed), month(packed), day(packed));
+    }
+
+    static LocalTime toLocalTime(long packed) {
+        return LocalTime.of(hour(packed), minute(packed), second(packed), milli(packed) * 1_000_000);
+    }
+
+    static LocalDateTime toLocalDateTime(long packed) {
+        return LocalDateTime.of(year(packed), month(packed), day(packed),
+                hour(packed), minute(packed), second(packed), milli(packed) * 1_000_000);
+    }
+
+    //endregion
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -1,15 +1,30 @@
 package io.github.lostblackknight.core.date.format;
 
+import io.github.lostblackknight.core.date.ZoneContext;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalField;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 import static java.lang.Math.toIntExact;
-import static java.time.Instant.EPOCH;
-import static java.time.ZoneId.systemDefault;
 import static java.time.temporal.ChronoField.*;
 
 /**
@@ -20,6 +35,11 @@ import static java.time.temporal.ChronoField.*;
  */
 public class DateParser {
 
+    /**
+     * 定长布局发现了 {@link DateTimeFormatter} 同样会拒绝的字段值，不需要再回退
+     */
+    private static final long REJECTED = Long.MIN_VALUE;
+
     /**
      * 解析 {@link LocalDate}
      *
@@ -28,10 +48,7 @@ public class DateParser {
      * @return {@link LocalDate}
      */
     public static LocalDate parseLocalDate(CharSequence text, DateTimeFormatter formatter) {
-        int year = new ParseHandler(formatter.parse(text), YEAR).handle();
-        int month = new ParseHandler(formatter.parse(text), MONTH_OF_YEAR).handle();
-        int dayOfMonth = new ParseHandler(formatter.parse(text), DAY_OF_MONTH).handle();
-        return LocalDate.of(year, month, dayOfMonth);
+        return new ParseHandler(formatter.parse(text)).toLocalDate();
     }
 
     /**
@@ -42,44 +59,881 @@ public class DateParser {
      * @return {@link LocalTime}
      */
     public static LocalTime parseLocalTime(CharSequence text, DateTimeFormatter formatter) {
-        int hour = new ParseHandler(formatter.parse(text), HOUR_OF_DAY).handle();
-        int minute = new ParseHandler(formatter.parse(text), MINUTE_OF_HOUR).handle();
-        int second = new ParseHandler(formatter.parse(text), SECOND_OF_MINUTE).handle();
-        int nanoOfSecond = new ParseHandler(formatter.parse(text), NANO_OF_SECOND).handle();
-        return LocalTime.of(hour, minute, second, nanoOfSecond);
+        return new ParseHandler(formatter.parse(text)).toLocalTime();
     }
 
     /**
      * 解析 {@link LocalDateTime}
+     * <p>文本只解析一次，日期和时间部分都从同一个解析结果中获取
      *
      * @param text      文本
      * @param formatter {@link DateTimeFormatter}
      * @return {@link LocalDateTime}
      */
     public static LocalDateTime parseLocalDateTime(CharSequence text, DateTimeFormatter formatter) {
-        return LocalDateTime.of(parseLocalDate(text, formatter), parseLocalTime(text, formatter));
+        return new ParseHandler(formatter.parse(text)).toLocalDateTime();
+    }
+
+    /**
+     * 按内置格式解析 {@link LocalDate}，文本符合定长布局时直接读取数字，否则交给 {@link DateTimeFormatter} 处理
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return {@link LocalDate}
+     */
+    public static LocalDate parseLocalDate(CharSequence text, DatePattern datePattern) {
+        final long packed = parseFixed(text, DateLayout.of(datePattern));
+        if (packed >= 0) {
+            return DateLayout.toLocalDate(packed);
+        }
+        return parseLocalDate(text, DateFormatter.ofDatePattern(datePattern));
+    }
+
+    /**
+     * 解析 {@link LocalDate}，与内置格式相同的 pattern 按定长布局解析
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return {@link LocalDate}
+     */
+    public static LocalDate parseLocalDate(CharSequence text, String pattern) {
+        final long packed = parseFixed(text, DateLayout.of(pattern));
+        if (packed >= 0) {
+            return DateLayout.toLocalDate(packed);
+        }
+        return parseLocalDate(text, DateFormatter.ofPattern(pattern));
+    }
+
+    /**
+     * 按内置格式解析 {@link LocalTime}，文本符合定长布局时直接读取数字，否则交给 {@link DateTimeFormatter} 处理
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return {@link LocalTime}
+     */
+    public static LocalTime parseLocalTime(CharSequence text, DatePattern datePattern) {
+        final long packed = parseFixed(text, DateLayout.of(datePattern));
+        if (packed >= 0) {
+            return DateLayout.toLocalTime(packed);
+        }
+        return parseLocalTime(text, DateFormatter.ofDatePattern(datePattern));
+    }
+
+    /**
+     * 解析 {@link LocalTime}，与内置格式相同的 pattern 按定长布局解析
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return {@link LocalTime}
+     */
+    public static LocalTime parseLocalTime(CharSequence text, String pattern) {
+        final long packed = parseFixed(text, DateLayout.of(pattern));
+        if (packed >= 0) {
+            return DateLayout.toLocalTime(packed);
+        }
+        return parseLocalTime(text, DateFormatter.ofPattern(pattern));
+    }
+
+    /**
+     * 按内置格式解析 {@link LocalDateTime}，文本符合定长布局时直接读取数字，否则交给 {@link DateTimeFormatter} 处理
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return {@link LocalDateTime}
+     */
+    public static LocalDateTime parseLocalDateTime(CharSequence text, DatePattern datePattern) {
+        final long packed = parseFixed(text, DateLayout.of(datePattern));
+        if (packed >= 0) {
+            return DateLayout.toLocalDateTime(packed);
+        }
+        return parseLocalDateTime(text, DateFormatter.ofDatePattern(datePattern));
+    }
+
+    /**
+     * 解析 {@link LocalDateTime}，与内置格式相同的 pattern 按定长布局解析
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return {@link LocalDateTime}
+     */
+    public static LocalDateTime parseLocalDateTime(CharSequence text, String pattern) {
+        final long packed = parseFixed(text, DateLayout.of(pattern));
+        if (packed >= 0) {
+            return DateLayout.toLocalDateTime(packed);
+        }
+        return parseLocalDateTime(text, DateFormatter.ofPattern(pattern));
+    }
+
+    /**
+     * 按内置格式解析打包的日期时间，文本符合定长布局时直接读取数字，不会创建 {@link LocalDateTime}
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return 打包的日期时间
+     * @see io.github.lostblackknight.core.date.PackedDateTimeUtils
+     */
+    public static long parsePackedDateTime(CharSequence text, DatePattern datePattern) {
+        final long packed = parseFixed(text, DateLayout.of(datePattern));
+        if (packed >= 0) {
+            return packed;
+        }
+        return DateLayout.pack(parseLocalDateTime(text, DateFormatter.ofDatePattern(datePattern)));
+    }
+
+    /**
+     * 解析打包的日期时间，与内置格式相同的 pattern 按定长布局解析
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return 打包的日期时间
+     * @see io.github.lostblackknight.core.date.PackedDateTimeUtils
+     */
+    public static long parsePackedDateTime(CharSequence text, String pattern) {
+        final long packed = parseFixed(text, DateLayout.of(pattern));
+        if (packed >= 0) {
+            return packed;
+        }
+        return DateLayout.pack(parseLocalDateTime(text, DateFormatter.ofPattern(pattern)));
+    }
+
+    /**
+     * 从字节数组中解析 {@link LocalDateTime}，字节按 ASCII 解释
+     * <p>只支持 ASCII 格式，即 NORMAL_* 和 SIMPLE_* 格式。符合定长布局时直接读取字节，不会创建中间的字符串
+     *
+     * @param src         字节数组
+     * @param offset      起始位置
+     * @param length      长度
+     * @param datePattern 格式
+     * @return {@link LocalDateTime}
+     * @throws IllegalArgumentException 格式包含非 ASCII 字符时抛出
+     */
+    public static LocalDateTime parseLocalDateTime(byte[] src, int offset, int length, DatePattern datePattern) {
+        final DateLayout layout = DateFormatter.asciiLayout(datePattern);
+        if (offset < 0 || length < 0 || offset > src.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + src.length);
+        }
+        if (length == layout.length()) {
+            final long packed = layout.parse(src, offset);
+            if (packed >= 0) {
+                return DateLayout.toLocalDateTime(packed);
+            }
+        }
+        return parseLocalDateTime(new String(src, offset, length, StandardCharsets.US_ASCII), DateFormatter.ofDatePattern(datePattern));
+    }
+
+    /**
+     * 从 {@link ByteBuffer} 的绝对位置 index 开始解析 {@link LocalDateTime}，字节按 ASCII 解释，不修改 position
+     * <p>只支持 ASCII 格式，即 NORMAL_* 和 SIMPLE_* 格式，堆内和直接内存的 {@link ByteBuffer} 都可以使用。
+     * 符合定长布局时直接读取字节，不会创建中间的字符串
+     *
+     * @param src         字节缓冲区
+     * @param index       起始位置
+     * @param length      长度
+     * @param datePattern 格式
+     * @return {@link LocalDateTime}
+     * @throws IllegalArgumentException 格式包含非 ASCII 字符时抛出
+     */
+    public static LocalDateTime parseLocalDateTime(ByteBuffer src, int index, int length, DatePattern datePattern) {
+        final DateLayout layout = DateFormatter.asciiLayout(datePattern);
+        if (index < 0 || length < 0 || index > src.limit() - length) {
+            throw new IndexOutOfBoundsException("index: " + index + ", length: " + length + ", limit: " + src.limit());
+        }
+        if (length == layout.length()) {
+            final long packed = layout.parse(src, index);
+            if (packed >= 0) {
+                return DateLayout.toLocalDateTime(packed);
+            }
+        }
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = src.get(index + i);
+        }
+        return parseLocalDateTime(new String(bytes, StandardCharsets.US_ASCII), DateFormatter.ofDatePattern(datePattern));
+    }
+
+    /**
+     * 从字节数组中解析毫秒时间戳，字节按 ASCII 解释，使用系统默认的时区
+     *
+     * @param src         字节数组
+     * @param offset      起始位置
+     * @param length      长度
+     * @param datePattern 格式
+     * @return 毫秒
+     * @throws IllegalArgumentException 格式包含非 ASCII 字符时抛出
+     * @see #parseLocalDateTime(byte[], int, int, DatePattern)
+     */
+    public static long parseEpochMilli(byte[] src, int offset, int length, DatePattern datePattern) {
+        return toEpochMilli(parseLocalDateTime(src, offset, length, datePattern));
+    }
+
+    /**
+     * 从 {@link ByteBuffer} 的绝对位置 index 开始解析毫秒时间戳，字节按 ASCII 解释，不修改 position，使用系统默认的时区
+     *
+     * @param src         字节缓冲区
+     * @param index       起始位置
+     * @param length      长度
+     * @param datePattern 格式
+     * @return 毫秒
+     * @throws IllegalArgumentException 格式包含非 ASCII 字符时抛出
+     * @see #parseLocalDateTime(ByteBuffer, int, int, DatePattern)
+     */
+    public static long parseEpochMilli(ByteBuffer src, int index, int length, DatePattern datePattern) {
+        return toEpochMilli(parseLocalDateTime(src, index, length, datePattern));
+    }
+
+    /**
+     * 批量解析毫秒时间戳，结果写入 dst 的相同下标处，使用系统默认的时区
+     * <p>无效的行（包括 null）不会抛出异常，而是记录在返回的 {@link BitSet} 中，dst 对应的位置保持不变。
+     * 行数超过阈值时在 {@link ForkJoinPool#commonPool()} 中并行解析
+     *
+     * @param src         文本
+     * @param datePattern 格式
+     * @param dst         结果，长度不能小于 src
+     * @return 无效行的下标
+     */
+    public static BitSet parseEpochMillis(CharSequence[] src, DatePattern datePattern, long[] dst) {
+        return parseEpochMillis(i -> src[i], src.length, DateLayout.of(datePattern), DateFormatter.ofDatePattern(datePattern), dst);
+    }
+
+    /**
+     * 批量解析毫秒时间戳，结果写入 dst 的相同下标处，使用系统默认的时区
+     *
+     * @param src     文本
+     * @param pattern 格式
+     * @param dst     结果，长度不能小于 src
+     * @return 无效行的下标
+     * @see #parseEpochMillis(CharSequence[], DatePattern, long[])
+     */
+    public static BitSet parseEpochMillis(CharSequence[] src, String pattern, long[] dst) {
+        return parseEpochMillis(i -> src[i], src.length, DateLayout.compile(pattern), DateFormatter.ofPattern(pattern), dst);
+    }
+
+    /**
+     * 批量解析毫秒时间戳，结果写入 dst 的相同下标处，使用系统默认的时区
+     * <p>不支持随机访问的 {@link List} 会先复制为数组
+     *
+     * @param src         文本
+     * @param datePattern 格式
+     * @param dst         结果，长度不能小于 src
+     * @return 无效行的下标
+     * @see #parseEpochMillis(CharSequence[], DatePattern, long[])
+     */
+    public static BitSet parseEpochMillis(List<? extends CharSequence> src, DatePattern datePattern, long[] dst) {
+        return parseEpochMillis(accessor(src), src.size(), DateLayout.of(datePattern), DateFormatter.ofDatePattern(datePattern), dst);
+    }
+
+    /**
+     * 批量解析毫秒时间戳，结果写入 dst 的相同下标处，使用系统默认的时区
+     * <p>不支持随机访问的 {@link List} 会先复制为数组
+     *
+     * @param src     文本
+     * @param pattern 格式
+     * @param dst     结果，长度不能小于 src
+     * @return 无效行的下标
+     * @see #parseEpochMillis(CharSequence[], DatePattern, long[])
+     */
+    public static BitSet parseEpochMillis(List<? extends CharSequence> src, String pattern, long[] dst) {
+        return parseEpochMillis(accessor(src), src.size(), DateLayout.compile(pattern), DateFormatter.ofPattern(pattern), dst);
+    }
+
+    private static IntFunction<? extends CharSequence> accessor(List<? extends CharSequence> src) {
+        if (src instanceof RandomAccess) {
+            return src::get;
+        }
+        final CharSequence[] array = src.toArray(new CharSequence[0]);
+        return i -> array[i];
+    }
+
+    private static BitSet parseEpochMillis(IntFunction<? extends CharSequence> source, int size, DateLayout layout,
+                                           DateTimeFormatter formatter, long[] dst) {
+        if (dst.length < size) {
+            throw new IllegalArgumentException("dst length " + dst.length + " is less than " + size);
+        }
+        final BulkParseTask task = new BulkParseTask(source, layout, formatter, ZoneContext.system(), dst, 0, size);
+        final BitSet bad = size <= BulkParseTask.THRESHOLD ? task.parseRange() : ForkJoinPool.commonPool().invoke(task);
+        return bad == null ? new BitSet() : bad;
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析 {@link LocalDate}，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，允许后面还有其他文本；
+     * 失败时 index 保持不变，errorIndex 设置为出错的位置
+     *
+     * @param text        文本
+     * @param position    解析位置
+     * @param datePattern 格式
+     * @return {@link LocalDate}，解析失败时返回 null
+     */
+    public static LocalDate tryParseLocalDate(CharSequence text, ParsePosition position, DatePattern datePattern) {
+        final int index = position.getIndex();
+        final long packed = tryParseFixed(text, position, DateLayout.of(datePattern));
+        if (packed >= 0) {
+            return DateLayout.toLocalDate(packed);
+        }
+        if (packed == REJECTED) {
+            return null;
+        }
+        return tryResolve(tryParse(text, position, DateFormatter.ofDatePattern(datePattern), true), index, position, ParseHandler::toLocalDate);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析 {@link LocalDate}，解析失败时返回 null，不会抛出异常
+     *
+     * @param text     文本
+     * @param position 解析位置
+     * @param pattern  格式
+     * @return {@link LocalDate}，解析失败时返回 null
+     * @see #tryParseLocalDate(CharSequence, ParsePosition, DatePattern)
+     */
+    public static LocalDate tryParseLocalDate(CharSequence text, ParsePosition position, String pattern) {
+        final int index = position.getIndex();
+        final DateLayout layout = DateLayout.of(pattern);
+        final long packed = tryParseFixed(text, position, layout);
+        if (packed >= 0) {
+            return DateLayout.toLocalDate(packed);
+        }
+        if (packed == REJECTED) {
+            return null;
+        }
+        return tryResolve(tryParse(text, position, DateFormatter.ofPattern(pattern), layout != null), index, position, ParseHandler::toLocalDate);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析 {@link LocalDate}，解析失败时返回 null，不会抛出异常
+     *
+     * @param text      文本
+     * @param position  解析位置
+     * @param formatter {@link DateTimeFormatter}
+     * @return {@link LocalDate}，解析失败时返回 null
+     * @see #tryParseLocalDate(CharSequence, ParsePosition, DatePattern)
+     */
+    public static LocalDate tryParseLocalDate(CharSequence text, ParsePosition position, DateTimeFormatter formatter) {
+        final int index = position.getIndex();
+        return tryResolve(tryParse(text, position, formatter, false), index, position, ParseHandler::toLocalDate);
+    }
+
+    /**
+     * 尝试解析整个文本为 {@link LocalDate}，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return {@link LocalDate}，解析失败时返回 null
+     */
+    public static LocalDate tryParseLocalDate(CharSequence text, DatePattern datePattern) {
+        final ParsePosition position = new ParsePosition(0);
+        final LocalDate result = tryParseLocalDate(text, position, datePattern);
+        return position.getIndex() == text.length() ? result : null;
+    }
+
+    /**
+     * 尝试解析整个文本为 {@link LocalDate}，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return {@link LocalDate}，解析失败时返回 null
+     */
+    public static LocalDate tryParseLocalDate(CharSequence text, String pattern) {
+        final ParsePosition position = new ParsePosition(0);
+        final LocalDate result = tryParseLocalDate(text, position, pattern);
+        return position.getIndex() == text.length() ? result : null;
+    }
+
+    /**
+     * 尝试解析整个文本为 {@link LocalDate}，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text      文本
+     * @param formatter {@link DateTimeFormatter}
+     * @return {@link LocalDate}，解析失败时返回 null
+     */
+    public static LocalDate tryParseLocalDate(CharSequence text, DateTimeFormatter formatter) {
+        final ParsePosition position = new ParsePosition(0);
+        final LocalDate result = tryParseLocalDate(text, position, formatter);
+        return position.getIndex() == text.length() ? result : null;
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析 {@link LocalTime}，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，允许后面还有其他文本；
+     * 失败时 index 保持不变，errorIndex 设置为出错的位置
+     *
+     * @param text        文本
+     * @param position    解析位置
+     * @param datePattern 格式
+     * @return {@link LocalTime}，解析失败时返回 null
+     */
+    public static LocalTime tryParseLocalTime(CharSequence text, ParsePosition position, DatePattern datePattern) {
+        final int index = position.getIndex();
+        final long packed = tryParseFixed(text, position, DateLayout.of(datePattern));
+        if (packed >= 0) {
+            return DateLayout.toLocalTime(packed);
+        }
+        if (packed == REJECTED) {
+            return null;
+        }
+        return tryResolve(tryParse(text, position, DateFormatter.ofDatePattern(datePattern), true), index, position, ParseHandler::toLocalTime);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析 {@link LocalTime}，解析失败时返回 null，不会抛出异常
+     *
+     * @param text     文本
+     * @param position 解析位置
+     * @param pattern  格式
+     * @return {@link LocalTime}，解析失败时返回 null
+     * @see #tryParseLocalTime(CharSequence, ParsePosition, DatePattern)
+     */
+    public static LocalTime tryParseLocalTime(CharSequence text, ParsePosition position, String pattern) {
+        final int index = position.getIndex();
+        final DateLayout layout = DateLayout.of(pattern);
+        final long packed = tryParseFixed(text, position, layout);
+        if (packed >= 0) {
+            return DateLayout.toLocalTime(packed);
+        }
+        if (packed == REJECTED) {
+            return null;
+        }
+        return tryResolve(tryParse(text, position, DateFormatter.ofPattern(pattern), layout != null), index, position, ParseHandler::toLocalTime);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析 {@link LocalTime}，解析失败时返回 null，不会抛出异常
+     *
+     * @param text      文本
+     * @param position  解析位置
+     * @param formatter {@link DateTimeFormatter}
+     * @return {@link LocalTime}，解析失败时返回 null
+     * @see #tryParseLocalTime(CharSequence, ParsePosition, DatePattern)
+     */
+    public static LocalTime tryParseLocalTime(CharSequence text, ParsePosition position, DateTimeFormatter formatter) {
+        final int index = position.getIndex();
+        return tryResolve(tryParse(text, position, formatter, false), index, position, ParseHandler::toLocalTime);
+    }
+
+    /**
+     * 尝试解析整个文本为 {@link LocalTime}，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return {@link LocalTime}，解析失败时返回 null
+     */
+    public static LocalTime tryParseLocalTime(CharSequence text, DatePattern datePattern) {
+        final ParsePosition position = new ParsePosition(0);
+        final LocalTime result = tryParseLocalTime(text, position, datePattern);
+        return position.getIndex() == text.length() ? result : null;
+    }
+
+    /**
+     * 尝试解析整个文本为 {@link LocalTime}，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return {@link LocalTime}，解析失败时返回 null
+     */
+    public static LocalTime tryParseLocalTime(CharSequence text, String pattern) {
+        final ParsePosition position = new ParsePosition(0);
+        final LocalTime result = tryParseLocalTime(text, position, pattern);
+        return position.getIndex() == text.length() ? result : null;
+    }
+
+    /**
+     * 尝试解析整个文本为 {@link LocalTime}，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text      文本
+     * @param formatter {@link DateTimeFormatter}
+     * @return {@link LocalTime}，解析失败时返回 null
+     */
+    public static LocalTime tryParseLocalTime(CharSequence text, DateTimeFormatter formatter) {
+        final ParsePosition position = new ParsePosition(0);
+        final LocalTime result = tryParseLocalTime(text, position, formatter);
+        return position.getIndex() == text.length() ? result : null;
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析 {@link LocalDateTime}，解析失败时返回 null，不会抛出异常
+     * <p>成功时 position 的 index 移动到解析结束的位置，允许后面还有其他文本；
+     * 失败时 index 保持不变，errorIndex 设置为出错的位置
+     *
+     * @param text        文本
+     * @param position    解析位置
+     * @param datePattern 格式
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     */
+    public static LocalDateTime tryParseLocalDateTime(CharSequence text, ParsePosition position, DatePattern datePattern) {
+        final int index = position.getIndex();
+        final long packed = tryParseFixed(text, position, DateLayout.of(datePattern));
+        if (packed >= 0) {
+            return DateLayout.toLocalDateTime(packed);
+        }
+        if (packed == REJECTED) {
+            return null;
+        }
+        return tryResolve(tryParse(text, position, DateFormatter.ofDatePattern(datePattern), true), index, position, ParseHandler::toLocalDateTime);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析 {@link LocalDateTime}，解析失败时返回 null，不会抛出异常
+     *
+     * @param text     文本
+     * @param position 解析位置
+     * @param pattern  格式
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     * @see #tryParseLocalDateTime(CharSequence, ParsePosition, DatePattern)
+     */
+    public static LocalDateTime tryParseLocalDateTime(CharSequence text, ParsePosition position, String pattern) {
+        final int index = position.getIndex();
+        final DateLayout layout = DateLayout.of(pattern);
+        final long packed = tryParseFixed(text, position, layout);
+        if (packed >= 0) {
+            return DateLayout.toLocalDateTime(packed);
+        }
+        if (packed == REJECTED) {
+            return null;
+        }
+        return tryResolve(tryParse(text, position, DateFormatter.ofPattern(pattern), layout != null), index, position, ParseHandler::toLocalDateTime);
+    }
+
+    /**
+     * 尝试从 position 的位置开始解析 {@link LocalDateTime}，解析失败时返回 null，不会抛出异常
+     *
+     * @param text      文本
+     * @param position  解析位置
+     * @param formatter {@link DateTimeFormatter}
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     * @see #tryParseLocalDateTime(CharSequence, ParsePosition, DatePattern)
+     */
+    public static LocalDateTime tryParseLocalDateTime(CharSequence text, ParsePosition position, DateTimeFormatter formatter) {
+        final int index = position.getIndex();
+        return tryResolve(tryParse(text, position, formatter, false), index, position, ParseHandler::toLocalDateTime);
+    }
+
+    /**
+     * 尝试解析整个文本为 {@link LocalDateTime}，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text        文本
+     * @param datePattern 格式
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     */
+    public static LocalDateTime tryParseLocalDateTime(CharSequence text, DatePattern datePattern) {
+        final ParsePosition position = new ParsePosition(0);
+        final LocalDateTime result = tryParseLocalDateTime(text, position, datePattern);
+        return position.getIndex() == text.length() ? result : null;
+    }
+
+    /**
+     * 尝试解析整个文本为 {@link LocalDateTime}，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text    文本
+     * @param pattern 格式
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     */
+    public static LocalDateTime tryParseLocalDateTime(CharSequence text, String pattern) {
+        final ParsePosition position = new ParsePosition(0);
+        final LocalDateTime result = tryParseLocalDateTime(text, position, pattern);
+        return position.getIndex() == text.length() ? result : null;
+    }
+
+    /**
+     * 尝试解析整个文本为 {@link LocalDateTime}，解析失败或有多余的文本时返回 null，不会抛出异常
+     *
+     * @param text      文本
+     * @param formatter {@link DateTimeFormatter}
+     * @return {@link LocalDateTime}，解析失败时返回 null
+     */
+    public static LocalDateTime tryParseLocalDateTime(CharSequence text, DateTimeFormatter formatter) {
+        final ParsePosition position = new ParsePosition(0);
+        final LocalDateTime result = tryParseLocalDateTime(text, position, formatter);
+        return position.getIndex() == text.length() ? result : null;
+    }
+
+    /**
+     * 自动识别格式并解析 {@link LocalDateTime}，支持 {@link DatePattern} 中的所有格式以及注册到
+     * {@link AutoDateParser#getDefault()} 的格式
+     *
+     * @param text 文本
+     * @return {@link LocalDateTime}
+     * @throws DateTimeParseException 没有匹配的格式时抛出
+     * @see AutoDateParser
+     */
+    public static LocalDateTime parseAuto(CharSequence text) {
+        return AutoDateParser.getDefault().parse(text);
+    }
+
+    /**
+     * 自动识别格式并解析 {@link LocalDateTime}，没有匹配的格式时返回 null，不会抛出异常
+     *
+     * @param text 文本
+     * @return {@link LocalDateTime}，没有匹配的格式时返回 null
+     * @see AutoDateParser
+     */
+    public static LocalDateTime tryParseAuto(CharSequence text) {
+        return AutoDateParser.getDefault().tryParse(text);
     }
 
+    /**
+     * 使用定长布局和与之对应的 {@link DateTimeFormatter} 解析整个文本，供批量解析在定长布局失败后调用
+     *
+     * @param text      文本
+     * @param layout    布局，可以为 null
+     * @param formatter 与布局相同格式的 {@link DateTimeFormatter}
+     * @return {@link LocalDateTime}，解析失败或有多余的文本时返回 null
+     */
+    static LocalDateTime tryParseLocalDateTime(CharSequence text, DateLayout layout, DateTimeFormatter formatter) {
+        final ParsePosition position = new ParsePosition(0);
+        final long packed = tryParseFixed(text, position, layout);
+        if (packed == REJECTED) {
+            return null;
+        }
+        final LocalDateTime result = packed >= 0 ? DateLayout.toLocalDateTime(packed)
+                : tryResolve(tryParse(text, position, formatter, layout != null), 0, position, ParseHandler::toLocalDateTime);
+        return position.getIndex() == text.length() ? result : null;
+    }
+
+    /**
+     * 按定长布局从 position 的位置开始解析，成功时移动 index
+     *
+     * @return 打包后的结果；布局为空、长度不足或需要回退到 {@link DateTimeFormatter} 时返回 -1；
+     * 字段值超出范围且 {@link DateTimeFormatter} 同样会拒绝时设置 errorIndex 并返回 {@link #REJECTED}
+     */
+    private static long tryParseFixed(CharSequence text, ParsePosition position, DateLayout layout) {
+        final int index = position.getIndex();
+        if (layout == null || index < 0 || text.length() - index < layout.length()) {
+            return -1;
+        }
+        final long packed = layout.parse(text, index);
+        if (packed >= 0) {
+            position.setIndex(index + layout.length());
+            return packed;
+        }
+        if (layout.isLenient(text, index, (int) ~packed)) {
+            return -1;
+        }
+        position.setErrorIndex((int) ~packed);
+        return REJECTED;
+    }
+
+    /**
+     * 使用 {@link DateTimeFormatter} 从 position 的位置开始解析，失败时恢复 index 并设置 errorIndex
+     * <p>直接在 CharSequence 上调用 {@link DateTimeFormatter#parseUnresolved}，不会复制文本，文本格式不符时也不会创建异常。
+     * simple 为 true 表示格式只包含 yyyy、MM、dd、HH、mm、ss、SSS（即存在对应的 {@link DateLayout}），
+     * 此时按 SMART 规则直接换算字段；否则只把匹配的部分交给 {@link DateTimeFormatter#parse(CharSequence)} 解析字段
+     */
+    private static TemporalAccessor tryParse(CharSequence text, ParsePosition position, DateTimeFormatter formatter, boolean simple) {
+        final int index = position.getIndex();
+        if (index < 0 || index > text.length()) {
+            position.setErrorIndex(index);
+            return null;
+        }
+        final TemporalAccessor unresolved = formatter.parseUnresolved(text, position);
+        if (unresolved == null) {
+            return null;
+        }
+        if (simple) {
+            final TemporalAccessor resolved = SmartFields.resolve(unresolved);
+            if (resolved == null) {
+                position.setIndex(index);
+                position.setErrorIndex(index);
+            }
+            return resolved;
+        }
+        try {
+            return formatter.parse(text.subSequence(index, position.getIndex()));
+        } catch (DateTimeException e) {
+            position.setIndex(index);
+            position.setErrorIndex(index);
+            return null;
+        }
+    }
+
+    /**
+     * 将解析结果转换为目标类型，转换失败时恢复 index 并设置 errorIndex
+     */
+    private static <T> T tryResolve(TemporalAccessor parsed, int index, ParsePosition position, Function<ParseHandler, T> resolver) {
+        if (parsed == null) {
+            return null;
+        }
+        try {
+            return resolver.apply(new ParseHandler(parsed));
+        } catch (DateTimeException e) {
+            position.setIndex(index);
+            position.setErrorIndex(index);
+            return null;
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime localDateTime) {
+        return ZoneContext.system().toEpochMilli(localDateTime);
+    }
+
+    /**
+     * 按定长布局解析整个文本
+     *
+     * @return 打包后的结果，布局为空或文本不符合布局时返回负数
+     */
+    private static long parseFixed(CharSequence text, DateLayout layout) {
+        if (layout == null || text.length() != layout.length()) {
+            return -1;
+        }
+        return layout.parse(text, 0);
+    }
+
+    /**
+     * 从解析结果中获取字段的值，缺失的字段使用默认值：年份取 {@link java.time.Instant#EPOCH} 在系统默认时区的年份，
+     * 其他字段取该字段的最小值
+     */
     public static class ParseHandler {
 
         private final TemporalAccessor parsed;
 
         private final TemporalField field;
 
+        /**
+         * 创建一个处理整个解析结果的 ParseHandler
+         *
+         * @param parsed 解析结果
+         */
+        public ParseHandler(TemporalAccessor parsed) {
+            this(parsed, null);
+        }
+
         public ParseHandler(TemporalAccessor parsed, TemporalField field) {
             this.parsed = parsed;
             this.field = field;
         }
 
         public int handle() {
+            return handle(field);
+        }
+
+        /**
+         * 获取指定字段的值
+         *
+         * @param field 字段
+         * @return 值
+         */
+        public int handle(TemporalField field) {
             if (parsed.isSupported(field)) {
                 return parsed.get(field);
             } else {
                 if (field.equals(YEAR)) {
-                    return EPOCH.atZone(systemDefault()).getYear();
+                    return ZoneContext.system().epochDate().getYear();
                 }
                 return toIntExact(field.range().getMinimum());
             }
         }
+
+        /**
+         * 将解析结果转换为 {@link LocalDate}
+         *
+         * @return {@link LocalDate}
+         */
+        public LocalDate toLocalDate() {
+            return LocalDate.of(handle(YEAR), handle(MONTH_OF_YEAR), handle(DAY_OF_MONTH));
+        }
+
+        /**
+         * 将解析结果转换为 {@link LocalTime}
+         *
+         * @return {@link LocalTime}
+         */
+        public LocalTime toLocalTime() {
+            return LocalTime.of(handle(HOUR_OF_DAY), handle(MINUTE_OF_HOUR), handle(SECOND_OF_MINUTE), handle(NANO_OF_SECOND));
+        }
+
+        /**
+         * 将解析结果转换为 {@link LocalDateTime}
+         *
+         * @return {@link LocalDateTime}
+         */
+        public LocalDateTime toLocalDateTime() {
+            return LocalDateTime.of(toLocalDate(), toLocalTime());
+        }
+    }
+
+    /**
+     * 只包含 yyyy、MM、dd、HH、mm、ss、SSS 的解析结果按 SMART 规则换算后的字段，与 {@link DateTimeFormatter} 的结果相同：
+     * 日为 29 到 31 但超出当月的天数时取当月的最后一天，24:00:00 为第二天的 00:00
+     */
+    private static final class SmartFields implements TemporalAccessor {
+
+        private static final ChronoField[] FIELDS = {YEAR, MONTH_OF_YEAR, DAY_OF_MONTH, HOUR_OF_DAY, MINUTE_OF_HOUR,
+                SECOND_OF_MINUTE, NANO_OF_SECOND};
+
+        private final long[] values = new long[FIELDS.length];
+
+        private final boolean[] present = new boolean[FIELDS.length];
+
+        /**
+         * @return 换算后的字段，字段值无效时返回 null
+         */
+        static SmartFields resolve(TemporalAccessor unresolved) {
+            final SmartFields fields = new SmartFields();
+            for (int i = 1; i < FIELDS.length; i++) {
+                fields.copy(unresolved, FIELDS[i], i);
+            }
+            if (unresolved.isSupported(YEAR_OF_ERA)) {
+                final long yearOfEra = unresolved.getLong(YEAR_OF_ERA);
+                if (!YEAR_OF_ERA.range().isValidValue(yearOfEra)) {
+                    return null;
+                }
+                fields.set(0, yearOfEra);
+            }
+            final boolean hasDate = fields.present[0] && fields.present[1] && fields.present[2];
+            if (hasDate) {
+                final long month = fields.values[1];
+                final long day = fields.values[2];
+                if (!MONTH_OF_YEAR.range().isValidValue(month) || !DAY_OF_MONTH.range().isValidValue(day)
+                        || !YEAR.range().isValidValue(fields.values[0])) {
+                    return null;
+                }
+                final int length = Month.of((int) month).length(Year.isLeap(fields.values[0]));
+                fields.values[2] = Math.min(day, length);
+            }
+            if (fields.present[3] && fields.values[3] == 24
+                    && fields.values[4] == 0 && fields.values[5] == 0 && fields.values[6] == 0) {
+                fields.values[3] = 0;
+                if (hasDate) {
+                    final LocalDate next = LocalDate.of((int) fields.values[0], (int) fields.values[1], (int) fields.values[2]).plusDays(1);
+                    fields.values[0] = next.getYear();
+                    fields.values[1] = next.getMonthValue();
+                    fields.values[2] = next.getDayOfMonth();
+                }
+            }
+            return fields;
+        }
+
+        private void copy(TemporalAccessor unresolved, ChronoField field, int i) {
+            if (unresolved.isSupported(field)) {
+                set(i, unresolved.getLong(field));
+            }
+        }
+
+        private void set(int i, long value) {
+            values[i] = value;
+            present[i] = true;
+        }
+
+        private int indexOf(TemporalField field) {
+            for (int i = 0; i < FIELDS.length; i++) {
+                if (FIELDS[i] == field) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean isSupported(TemporalField field) {
+            final int i = indexOf(field);
+            return i >= 0 && present[i];
+        }
+
+        @Override
+        public long getLong(TemporalField field) {
+            final int i = indexOf(field);
+            if (i < 0 || !present[i]) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            return values[i];
+        }
     }
 }
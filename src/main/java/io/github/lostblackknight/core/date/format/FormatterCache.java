@@ -0,0 +1,217 @@
+package io.github.lostblackknight.core.date.format;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link DateTimeFormatter} 缓存
+ * <p>以 pattern + zone + locale 为键缓存编译后的 {@link DateTimeFormatter}，命中时无锁读取。
+ * 缓存有固定的容量上限，超出后按 CLOCK (second chance) 策略淘汰最近未被访问的条目，
+ * 避免大量不同的 pattern 输入导致内存无限增长。
+ *
+ * @author chensixiang (chensixiang1234@gmail.com) 2026/10/18 10:12
+ * @version 1.0.0
+ */
+public final class FormatterCache {
+
+    /**
+     * 默认的容量上限
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final ConcurrentHashMap<Key, Entry> entries;
+
+    private final int maximumSize;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * 创建一个缓存
+     *
+     * @param maximumSize 容量上限，必须大于 0
+     */
+    public FormatterCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 64) * 2);
+    }
+
+    /**
+     * 获取 pattern 对应的 {@link DateTimeFormatter}，未命中时编译并放入缓存
+     *
+     * @param pattern 格式
+     * @param zone    时区
+     * @param locale  区域
+     * @return {@link DateTimeFormatter}
+     * @throws IllegalArgumentException pattern 无效时抛出，无效的 pattern 不会进入缓存
+     */
+    public DateTimeFormatter get(String pattern, ZoneId zone, Locale locale) {
+        final Key key = new Key(pattern, zone, locale);
+        final Entry entry = entries.get(key);
+        if (entry != null) {
+            // 先读后写，避免每次命中都写同一缓存行
+            if (!entry.visited) {
+                entry.visited = true;
+            }
+            hitCount.increment();
+            return entry.formatter;
+        }
+        missCount.increment();
+        final Entry created = new Entry(DateTimeFormatter.ofPattern(pattern).withZone(zone).withLocale(locale));
+        final Entry existing = entries.putIfAbsent(key, created);
+        if (existing != null) {
+            existing.visited = true;
+            return existing.formatter;
+        }
+        if (entries.size() > maximumSize) {
+            evict();
+        }
+        return created.formatter;
+    }
+
+    /**
+     * 淘汰条目直到不超过容量上限，同一时刻只有一个线程执行淘汰，其余线程直接返回
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            // 最多扫描两轮：第一轮清除访问标记，第二轮必然能找到可淘汰的条目
+            for (int round = 0; round < 2 && entries.size() > maximumSize; round++) {
+                final Iterator<Entry> iterator = entries.values().iterator();
+                while (iterator.hasNext() && entries.size() > maximumSize) {
+                    final Entry entry = iterator.next();
+                    if (entry.visited) {
+                        entry.visited = false;
+                    } else {
+                        iterator.remove();
+                        evictionCount.increment();
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 清空缓存，统计信息保持不变
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 获取当前缓存的条目数
+     *
+     * @return 条目数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 获取容量上限
+     *
+     * @return 容量上限
+     */
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 命中次数
+     */
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 未命中次数
+     */
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 获取淘汰次数
+     *
+     * @return 淘汰次数
+     */
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "FormatterCache{size=" + size() + ", maximumSize=" + maximumSize
+                + ", hitCount=" + hitCount() + ", missCount=" + missCount()
+                + ", evictionCount=" + evictionCount() + '}';
+    }
+
+    private static final class Key {
+
+        private final String pattern;
+
+        private final ZoneId zone;
+
+        private final Locale locale;
+
+        private final int hash;
+
+        private Key(String pattern, ZoneId zone, Locale locale) {
+            this.pattern = Objects.requireNonNull(pattern, "pattern");
+            this.zone = Objects.requireNonNull(zone, "zone");
+            this.locale = Objects.requireNonNull(locale, "locale");
+            this.hash = (pattern.hashCode() * 31 + zone.hashCode()) * 31 + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return hash == other.hash && pattern.equals(other.pattern)
+                    && zone.equals(other.zone) && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+
+        private final DateTimeFormatter formatter;
+
+        private volatile boolean visited;
+
+        private Entry(DateTimeFormatter formatter) {
+            this.formatter = formatter;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.lostblackknight.core.date;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BusinessCalendar} 与按天循环判断的对比，计算 2022-01-01 之后的第 200 个工作日
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 15:50
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessCalendarBenchmark {
+
+    private final BusinessCalendar calendar = BusinessCalendar.loadResource("business-calendar-2022.txt");
+
+    private final LocalDate begin = LocalDate.of(2022, 1, 1);
+
+    private final LocalDate end = LocalDate.of(2022, 12, 31);
+
+    @Benchmark
+    public LocalDate plusByLoop() {
+        LocalDate date = begin;
+        for (int i = 0; i < 200; i++) {
+            do {
+                date = LocalDateUtils.plusDays(date, 1);
+            } while (!calendar.isBusinessDay(date));
+        }
+        return date;
+    }
+
+    @Benchmark
+    public LocalDate plusBusinessDays() {
+        return calendar.plusBusinessDays(begin, 200);
+    }
+
+    @Benchmark
+    public long betweenByLoop() {
+        long count = 0;
+        for (LocalDate date = begin; date.isBefore(end); date = LocalDateUtils.plusDays(date, 1)) {
+            if (calendar.isBusinessDay(date)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long businessDaysBetween() {
+        return calendar.businessDaysBetween(begin, end);
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.lostblackknight.core.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 15:40
+ */
+class BusinessCalendarTest {
+
+    private final BusinessCalendar calendar = BusinessCalendar.loadResource("business-calendar-2022.txt");
+
+    @Test
+    void isBusinessDay() {
+        assertEquals(2022, calendar.firstYear());
+        assertEquals(2022, calendar.lastYear());
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2022, 10, 1)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2022, 10, 3)));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2022, 10, 8)));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2022, 10, 10)));
+        assertTrue(calendar.isHoliday(LocalDate.of(2022, 10, 15)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2022, 6, 3)));
+        // 位图之外只看星期
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2023, 1, 2)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2021, 12, 25)));
+        assertFalse(BusinessCalendar.weekdays().isBusinessDay(LocalDate.of(2022, 8, 21)));
+        assertTrue(BusinessCalendar.weekdays().isBusinessDay(LocalDate.of(2022, 8, 22)));
+    }
+
+    @Test
+    void businessDaysBetween() {
+        assertEquals(249, calendar.businessDaysBetween(LocalDate.of(2022, 1, 1), LocalDate.of(2023, 1, 1)));
+        assertEquals(2, calendar.businessDaysBetween(LocalDate.of(2022, 9, 30), LocalDate.of(2022, 10, 9)));
+        assertEquals(2, calendar.businessDaysBetween(LocalDate.of(2022, 10, 9), LocalDate.of(2022, 9, 30)));
+        assertEquals(-2, calendar.businessDaysBetween(LocalDate.of(2022, 10, 9), LocalDate.of(2022, 9, 30), false));
+        assertEquals(0, calendar.businessDaysBetween(LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 1)));
+        assertEquals(260, BusinessCalendar.weekdays().businessDaysBetween(LocalDate.of(2022, 1, 1), LocalDate.of(2023, 1, 1)));
+    }
+
+    @Test
+    void plusBusinessDays() {
+        assertEquals(LocalDate.of(2022, 10, 8), calendar.nextBusinessDay(LocalDate.of(2022, 9, 30)));
+        assertEquals(LocalDate.of(2022, 10, 10), calendar.plusBusinessDays(LocalDate.of(2022, 9, 30), 3));
+        assertEquals(LocalDate.of(2022, 9, 30), calendar.previousBusinessDay(LocalDate.of(2022, 10, 8)));
+        assertEquals(LocalDate.of(2022, 9, 29), calendar.minusBusinessDays(LocalDate.of(2022, 10, 5), 2));
+        assertEquals(LocalDate.of(2022, 10, 3), calendar.plusBusinessDays(LocalDate.of(2022, 10, 3), 0));
+        // 跨出位图
+        assertEquals(LocalDate.of(2023, 1, 2), calendar.nextBusinessDay(LocalDate.of(2022, 12, 30)));
+        assertEquals(LocalDate.of(2021, 12, 31), calendar.previousBusinessDay(LocalDate.of(2022, 1, 4)));
+        assertEquals(LocalDate.of(2023, 1, 9), calendar.plusBusinessDays(LocalDate.of(2022, 12, 30), 6));
+    }
+
+    @Test
+    void randomAgainstLoop() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long from = LocalDate.of(2021, 6, 1).toEpochDay();
+        for (int i = 0; i < 2000; i++) {
+            final LocalDate begin = LocalDate.ofEpochDay(from + random.nextInt(900));
+            final LocalDate end = LocalDate.ofEpochDay(from + random.nextInt(900));
+            long expected = 0;
+            for (LocalDate date = begin; date.isBefore(end); date = date.plusDays(1)) {
+                if (calendar.isBusinessDay(date)) {
+                    expected++;
+                }
+            }
+            for (LocalDate date = end; date.isBefore(begin); date = date.plusDays(1)) {
+                if (calendar.isBusinessDay(date)) {
+                    expected--;
+                }
+            }
+            assertEquals(expected, calendar.businessDaysBetween(begin, end, false), begin + " " + end);
+
+            final int n = random.nextInt(-300, 300);
+            LocalDate date = begin;
+            for (int k = 0; k < Math.abs(n); k++) {
+                do {
+                    date = date.plusDays(n > 0 ? 1 : -1);
+                } while (!calendar.isBusinessDay(date));
+            }
+            assertEquals(date, calendar.plusBusinessDays(begin, n), begin + " " + n);
+        }
+    }
+
+    @Test
+    void weekdays() {
+        final BusinessCalendar weekdays = BusinessCalendar.weekdays();
+        LocalDate date = LocalDate.of(1969, 12, 1);
+        for (int i = 0; i < 400; i++) {
+            final DayOfWeek dayOfWeek = date.getDayOfWeek();
+            assertEquals(dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY, weekdays.isBusinessDay(date));
+            final LocalDate next = weekdays.nextBusinessDay(date);
+            assertTrue(weekdays.isBusinessDay(next));
+            assertEquals(1, weekdays.businessDaysBetween(date.plusDays(1), next.plusDays(1)));
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test
+    void builder() {
+        final BusinessCalendar built = BusinessCalendar.builder()
+                .years(2020, 2024)
+                .holidays(LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 7))
+                .workday(LocalDate.of(2022, 10, 8))
+                .holiday(LocalDate.of(2022, 10, 10))
+                .build();
+        assertEquals(2020, built.firstYear());
+        assertEquals(2024, built.lastYear());
+        assertEquals(LocalDate.of(2022, 10, 11), built.plusBusinessDays(LocalDate.of(2022, 9, 30), 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> BusinessCalendar.builder().holidays(LocalDate.of(2022, 10, 7), LocalDate.of(2022, 10, 1)));
+        assertThrows(IllegalArgumentException.class, () -> BusinessCalendar.builder().years(1, 20000));
+    }
+
+    @Test
+    void load() throws Exception {
+        final Path file = Files.createTempFile("business-calendar", ".txt");
+        try {
+            Files.write(file, "# 国庆节\nholiday 2023-09-29 2023-10-06\n\nworkday 2023-10-07 # 周六\n".getBytes("UTF-8"));
+            final BusinessCalendar loaded = BusinessCalendar.load(file);
+            assertEquals(LocalDate.of(2023, 10, 7), loaded.nextBusinessDay(LocalDate.of(2023, 9, 28)));
+        } finally {
+            Files.delete(file);
+        }
+        assertThrows(UncheckedIOException.class, () -> BusinessCalendar.load(Paths.get("not-exists.txt")));
+        assertThrows(IllegalArgumentException.class, () -> BusinessCalendar.loadResource("not-exists.txt"));
+
+        final BusinessCalendar.Builder builder = BusinessCalendar.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.load(new StringReader("vacation 2022-10-01")));
+        assertThrows(IllegalArgumentException.class, () -> builder.load(new StringReader("holiday")));
+        assertThrows(IllegalArgumentException.class, () -> builder.load(new StringReader("holiday 2022/10/01")));
+        assertThrows(IllegalArgumentException.class, () -> builder.load(new StringReader("holiday 2022-10-01 2022-10-02 x")));
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.lostblackknight.core.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 16:50
+ */
+class BusinessHoursTest {
+
+    private final BusinessHours hours = BusinessHours.of(BusinessCalendar.loadResource("business-calendar-2022.txt"),
+            "13:30-18:00", "09:00-12:00");
+
+    @Test
+    void isWorkingTime() {
+        assertEquals(27_000_000L, hours.millisPerDay());
+        assertTrue(hours.isWorkingTime(LocalDateTime.of(2022, 9, 29, 9, 0)));
+        assertTrue(hours.isWorkingTime(LocalDateTime.of(2022, 9, 29, 11, 59)));
+        assertFalse(hours.isWorkingTime(LocalDateTime.of(2022, 9, 29, 12, 0)));
+        assertTrue(hours.isWorkingTime(LocalDateTime.of(2022, 9, 29, 13, 30)));
+        assertFalse(hours.isWorkingTime(LocalDateTime.of(2022, 9, 29, 8, 59)));
+        assertFalse(hours.isWorkingTime(LocalDateTime.of(2022, 10, 1, 10, 0)));
+        assertTrue(hours.isWorkingTime(LocalDateTime.of(2022, 10, 8, 10, 0)));
+    }
+
+    @Test
+    void between() {
+        assertEquals(120, hours.betweenMinutes(LocalDateTime.of(2022, 9, 30, 17, 0), LocalDateTime.of(2022, 10, 8, 10, 0)));
+        assertEquals(15, hours.betweenMinutes(LocalDateTime.of(2022, 9, 29, 12, 15), LocalDateTime.of(2022, 9, 29, 13, 45)));
+        assertEquals(-2, hours.betweenHours(LocalDateTime.of(2022, 10, 8, 10, 0), LocalDateTime.of(2022, 9, 30, 17, 0), false));
+        assertEquals(0, hours.betweenMillis(LocalDateTime.of(2022, 10, 1, 10, 0), LocalDateTime.of(2022, 10, 7, 10, 0)));
+        assertEquals(6 * 27_000, hours.betweenSeconds(LocalDateTime.of(2022, 9, 24, 0, 0), LocalDateTime.of(2022, 10, 9, 0, 0)));
+    }
+
+    @Test
+    void plus() {
+        assertEquals(LocalDateTime.of(2022, 10, 9, 10, 0), hours.plusHours(LocalDateTime.of(2022, 9, 30, 9, 0), 16));
+        assertEquals(LocalDateTime.of(2022, 9, 29, 12, 0), hours.plusHours(LocalDateTime.of(2022, 9, 29, 9, 0), 3));
+        assertEquals(LocalDateTime.of(2022, 9, 29, 14, 30), hours.plusHours(LocalDateTime.of(2022, 9, 29, 12, 30), 1));
+        assertEquals(LocalDateTime.of(2022, 9, 29, 18, 0), hours.plusMinutes(LocalDateTime.of(2022, 9, 29, 9, 0), 450));
+        assertEquals(LocalDateTime.of(2022, 10, 8, 9, 30), hours.plusMinutes(LocalDateTime.of(2022, 9, 30, 17, 30), 60));
+        assertEquals(LocalDateTime.of(2022, 9, 30, 17, 0), hours.plusHours(LocalDateTime.of(2022, 10, 8, 10, 0), -2));
+        assertEquals(LocalDateTime.of(2022, 9, 29, 13, 30), hours.plusHours(LocalDateTime.of(2022, 9, 29, 14, 30), -1));
+        assertEquals(LocalDateTime.of(2022, 9, 29, 9, 0, 1), hours.plusSeconds(LocalDateTime.of(2022, 9, 28, 20, 0), 1));
+        final LocalDateTime holiday = LocalDateTime.of(2022, 10, 3, 10, 0);
+        assertSame(holiday, hours.plusMillis(holiday, 0));
+        // 位图之外按周一到周五计算
+        assertEquals(LocalDateTime.of(2023, 1, 2, 10, 0), hours.plusHours(LocalDateTime.of(2022, 12, 30, 17, 0), 2));
+    }
+
+    @Test
+    void nextWorkingTime() {
+        assertEquals(LocalDateTime.of(2022, 10, 8, 9, 0), hours.nextWorkingTime(LocalDateTime.of(2022, 9, 30, 18, 0)));
+        assertEquals(LocalDateTime.of(2022, 9, 29, 13, 30), hours.nextWorkingTime(LocalDateTime.of(2022, 9, 29, 12, 10)));
+        final LocalDateTime working = LocalDateTime.of(2022, 9, 29, 10, 0, 0, 123);
+        assertSame(working, hours.nextWorkingTime(working));
+    }
+
+    @Test
+    void randomAgainstLoop() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final LocalDateTime origin = LocalDateTime.of(2022, 9, 1, 0, 0);
+        for (int i = 0; i < 300; i++) {
+            final LocalDateTime begin = origin.plusMinutes(random.nextInt(60 * 1440));
+            final LocalDateTime end = origin.plusMinutes(random.nextInt(60 * 1440));
+            long expected = 0;
+            for (LocalDateTime time = begin; time.isBefore(end); time = time.plusMinutes(1)) {
+                expected += hours.isWorkingTime(time) ? 1 : 0;
+            }
+            for (LocalDateTime time = end; time.isBefore(begin); time = time.plusMinutes(1)) {
+                expected -= hours.isWorkingTime(time) ? 1 : 0;
+            }
+            assertEquals(expected, hours.betweenMinutes(begin, end, false), begin + " " + end);
+
+            final int minutes = random.nextInt(-3000, 3000);
+            LocalDateTime time = begin;
+            for (int k = 0; k < minutes; ) {
+                k += hours.isWorkingTime(time) ? 1 : 0;
+                time = time.plusMinutes(1);
+            }
+            for (int k = 0; k < -minutes; ) {
+                time = time.minusMinutes(1);
+                k += hours.isWorkingTime(time) ? 1 : 0;
+            }
+            assertEquals(time, hours.plusMinutes(begin, minutes), begin + " " + minutes);
+        }
+    }
+
+    @Test
+    void builder() {
+        final BusinessCalendar calendar = BusinessCalendar.weekdays();
+        assertThrows(IllegalArgumentException.class, () -> BusinessHours.of(calendar, "09:00-12:00", "11:00-14:00"));
+        assertThrows(IllegalArgumentException.class, () -> BusinessHours.of(calendar, "09:00"));
+        assertThrows(IllegalArgumentException.class, () -> BusinessHours.of(calendar, "9-12"));
+        assertThrows(IllegalArgumentException.class, () -> BusinessHours.of(calendar));
+        assertThrows(IllegalArgumentException.class,
+                () -> BusinessHours.builder(calendar).window(LocalTime.of(12, 0), LocalTime.of(9, 0)));
+        final BusinessHours allDay = BusinessHours.builder(calendar).window(LocalTime.MIN, LocalTime.MAX).build();
+        assertEquals(LocalDateTime.of(2022, 8, 20, 0, 0), allDay.plusHours(LocalDateTime.of(2022, 8, 19, 23, 0), 1));
+        assertEquals(LocalDateTime.of(2022, 8, 22, 0, 30), allDay.plusMinutes(LocalDateTime.of(2022, 8, 19, 23, 30), 60));
+        assertEquals(24, allDay.betweenHours(LocalDateTime.of(2022, 8, 19, 0, 0), LocalDateTime.of(2022, 8, 22, 0, 0)));
+
+        // 24:00 与 LocalTime.MAX 相同，表示到 24 点
+        final BusinessHours evening = BusinessHours.of(calendar, "18:00-24:00");
+        assertEquals(BusinessHours.builder(calendar).window(LocalTime.of(18, 0), LocalTime.MAX).build().toString(), evening.toString());
+        assertEquals(6 * 3_600_000L, evening.millisPerDay());
+        assertTrue(evening.isWorkingTime(LocalDateTime.of(2022, 8, 19, 23, 59, 59, 999_000_000)));
+        assertEquals(LocalDateTime.of(2022, 8, 22, 18, 30), evening.plusHours(LocalDateTime.of(2022, 8, 19, 23, 30), 1));
+        assertThrows(IllegalArgumentException.class, () -> BusinessHours.of(calendar, "24:00-18:00"));
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.lostblackknight.core.date;
+
+import io.github.lostblackknight.core.date.format.CurrentTimeFormatter;
+import io.github.lostblackknight.core.date.format.DatePattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 9:20
+ */
+class ClockProviderTest {
+
+    private final LocalDateTime localDateTime = LocalDateTime.of(2022, 8, 21, 16, 54, 30, 123_000_000);
+
+    private final long epochMilli = ZoneContext.system().toEpochMilli(localDateTime);
+
+    @AfterEach
+    void reset() {
+        ClockProvider.reset();
+    }
+
+    @Test
+    void fixed() {
+        assertTrue(ClockProvider.isSystem());
+        ClockProvider.set(Clock.fixed(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC));
+        assertFalse(ClockProvider.isSystem());
+        assertEquals(epochMilli, ClockProvider.millis());
+
+        assertEquals(localDateTime, LocalDateTimeUtils.current());
+        assertEquals(localDateTime.toLocalDate(), LocalDateUtils.current());
+        assertEquals(localDateTime.toLocalTime(), LocalTimeUtils.current());
+        assertEquals(epochMilli, DateUtils.current().getTime());
+        assertEquals(epochMilli, EpochMillisUtils.current());
+        assertEquals(PackedDateTimeUtils.of(localDateTime), PackedDateTimeUtils.current());
+        assertEquals("2022-08-21 16:54:30.123", CurrentTimeFormatter.of(DatePattern.NORMAL_DATE_TIME_MILLI).format());
+
+        assertEquals(2022, LocalDateTimeUtils.currentYear());
+        assertEquals(8, DateUtils.currentMonth());
+        assertEquals(21, LocalDateUtils.currentDayOfMonth());
+        assertEquals(7, DateUtils.currentDayOfWeek());
+        assertTrue(LocalDateUtils.currentIsWeekend());
+        assertEquals(16, LocalTimeUtils.currentHourOf24());
+        assertTrue(LocalTimeUtils.currentIsPM());
+        assertEquals(123, DateUtils.currentMilli());
+    }
+
+    @Test
+    void offset() {
+        ClockProvider.set(Clock.offset(Clock.systemUTC(), Duration.ofDays(-1)));
+        long expected = System.currentTimeMillis() - 86_400_000L;
+        assertTrue(Math.abs(EpochMillisUtils.current() - expected) < 1000);
+        ClockProvider.reset();
+        assertTrue(ClockProvider.isSystem());
+        assertTrue(Math.abs(EpochMillisUtils.current() - System.currentTimeMillis()) < 1000);
+        assertThrows(NullPointerException.class, () -> ClockProvider.set(null));
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.lostblackknight.core.date;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 使用系统时钟与 {@link CoarseClock} 时 current* 方法的对比
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 10:05
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoarseClockBenchmark {
+
+    @Param({"system", "coarse"})
+    private String clock;
+
+    private CoarseClock coarseClock;
+
+    @Setup
+    public void setup() {
+        if ("coarse".equals(clock)) {
+            coarseClock = CoarseClock.start();
+            ClockProvider.set(coarseClock);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ClockProvider.reset();
+        if (coarseClock != null) {
+            coarseClock.close();
+        }
+    }
+
+    @Benchmark
+    public LocalDateTime current() {
+        return LocalDateTimeUtils.current();
+    }
+
+    @Benchmark
+    public int currentDayOfWeek() {
+        return LocalDateUtils.currentDayOfWeek();
+    }
+
+    @Benchmark
+    public long currentEpochMilli() {
+        return EpochMillisUtils.current();
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.lostblackknight.core.date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 10:05
+ */
+class CoarseClockTest {
+
+    @AfterEach
+    void reset() {
+        ClockProvider.reset();
+    }
+
+    @Test
+    void snapshot() {
+        try (CoarseClock clock = CoarseClock.start()) {
+            assertTrue(clock.isRunning());
+            assertEquals(1, clock.periodMillis());
+            CoarseClock.Snapshot snapshot = clock.snapshot();
+            long epochMilli = snapshot.epochMilli();
+            assertTrue(Math.abs(System.currentTimeMillis() - epochMilli) < 1000);
+            assertEquals(ZoneContext.system().toLocalDateTime(epochMilli), snapshot.localDateTime());
+            assertEquals(snapshot.localDateTime().toLocalDate(), snapshot.localDate());
+            assertEquals(snapshot.localDateTime().toLocalTime(), snapshot.localTime());
+            assertEquals(snapshot.localDate().getDayOfWeek().getValue(), snapshot.dayOfWeek());
+            assertEquals(EpochMillisUtils.beginOfDay(epochMilli), snapshot.beginOfDay());
+            assertEquals(EpochMillisUtils.endOfDay(epochMilli), snapshot.endOfDay());
+            assertEquals(ZoneContext.system().zone(), snapshot.zone());
+        }
+    }
+
+    @Test
+    void ticks() throws InterruptedException {
+        try (CoarseClock clock = CoarseClock.start(2)) {
+            long first = clock.millis();
+            TimeUnit.MILLISECONDS.sleep(50);
+            long second = clock.millis();
+            assertTrue(second > first, first + " " + second);
+            assertTrue(Math.abs(System.currentTimeMillis() - second) < 1000);
+        }
+    }
+
+    @Test
+    void installed() {
+        try (CoarseClock clock = CoarseClock.start(60_000)) {
+            ClockProvider.set(clock);
+            CoarseClock.Snapshot snapshot = clock.snapshot();
+            assertSame(snapshot.localDateTime(), LocalDateTimeUtils.current());
+            assertSame(snapshot.localDate(), LocalDateUtils.current());
+            assertSame(snapshot.localTime(), LocalTimeUtils.current());
+            assertEquals(snapshot.epochMilli(), EpochMillisUtils.current());
+            assertEquals(snapshot.epochMilli(), DateUtils.current().getTime());
+            assertEquals(snapshot.dayOfWeek(), LocalDateTimeUtils.currentDayOfWeek());
+        }
+    }
+
+    @Test
+    void close() {
+        CoarseClock clock = CoarseClock.start(60_000);
+        CoarseClock other = clock.withZone(ZoneId.of("Asia/Shanghai"));
+        assertSame(clock, clock.withZone(ZoneOffset.UTC));
+        assertEquals(ZoneId.of("Asia/Shanghai"), other.getZone());
+        clock.close();
+        assertFalse(clock.isRunning());
+        assertFalse(other.isRunning());
+        // 停止后实时读取系统时间
+        LocalDateTime before = ZoneContext.system().toLocalDateTime(System.currentTimeMillis());
+        LocalDateTime current = clock.snapshot().localDateTime();
+        assertFalse(current.isBefore(before));
+        assertTrue(Math.abs(System.currentTimeMillis() - other.millis()) < 1000);
+        assertThrows(IllegalArgumentException.class, () -> CoarseClock.start(0));
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.lostblackknight.core.date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 11:30
+ */
+class CurrentBoundariesTest {
+
+    @AfterEach
+    void reset() {
+        ClockProvider.reset();
+    }
+
+    private void setClock(LocalDateTime localDateTime) {
+        ClockProvider.set(Clock.fixed(Instant.ofEpochMilli(LocalDateTimeUtils.toEpochMilli(localDateTime)), ZoneOffset.UTC));
+    }
+
+    @Test
+    void get() {
+        LocalDateTime now = LocalDateTime.of(2022, 8, 21, 16, 54, 30);
+        setClock(now);
+        CurrentBoundaries boundaries = CurrentBoundaries.get();
+        assertEquals(LocalDateTimeUtils.beginOfDay(now), boundaries.day().beginLocalDateTime());
+        assertEquals(LocalDateTimeUtils.endOfDay(now), boundaries.day().endLocalDateTime());
+        assertEquals(LocalDateTimeUtils.beginOfDay(LocalDateTimeUtils.beginOfWeek(now)), boundaries.week().beginLocalDateTime());
+        assertEquals(LocalDateTimeUtils.endOfDay(LocalDateTimeUtils.endOfWeek(now)), boundaries.week().endLocalDateTime());
+        assertEquals(LocalDateTime.of(2022, 8, 1, 0, 0), boundaries.month().beginLocalDateTime());
+        assertEquals(LocalDateTime.of(2022, 8, 31, 23, 59, 59, 999_999_999), boundaries.month().endLocalDateTime());
+        assertEquals(LocalDateTime.of(2022, 1, 1, 0, 0), boundaries.year().beginLocalDateTime());
+        assertEquals(LocalDateTime.of(2022, 12, 31, 23, 59, 59, 999_999_999), boundaries.year().endLocalDateTime());
+
+        assertEquals(DateUtils.beginOfDay(DateUtils.current()).getTime(), boundaries.day().begin());
+        assertEquals(DateUtils.endOfDay(DateUtils.current()), boundaries.day().endDate());
+        assertEquals(EpochMillisUtils.beginOfMonth(EpochMillisUtils.beginOfDay(EpochMillisUtils.current())), boundaries.month().begin());
+        assertEquals(boundaries.month().begin(), boundaries.month().beginDate().getTime());
+        assertTrue(boundaries.day().contains(EpochMillisUtils.current()));
+        assertTrue(boundaries.week().contains(now));
+        assertFalse(boundaries.day().contains(now.plusDays(1)));
+        assertTrue(boundaries.year().contains(DateUtils.current()));
+        assertEquals(ZoneId.systemDefault(), boundaries.zone());
+    }
+
+    @Test
+    void rollover() {
+        LocalDateTime lastMilli = LocalDateTime.of(2022, 8, 31, 23, 59, 59, 999_000_000);
+        setClock(LocalDateTime.of(2022, 8, 31, 0, 0));
+        CurrentBoundaries first = CurrentBoundaries.get();
+        setClock(lastMilli);
+        assertSame(first, CurrentBoundaries.get());
+        setClock(lastMilli.plusNanos(1_000_000));
+        CurrentBoundaries second = CurrentBoundaries.get();
+        assertNotSame(first, second);
+        assertEquals(LocalDate.of(2022, 9, 1), second.day().beginLocalDateTime().toLocalDate());
+        assertEquals(LocalDate.of(2022, 9, 1), second.month().beginLocalDateTime().toLocalDate());
+        assertEquals(first.year().begin(), second.year().begin());
+        assertEquals(first.month().end() + 1, second.month().begin());
+        // 时钟回拨
+        setClock(lastMilli);
+        assertEquals(first.day().begin(), CurrentBoundaries.get().day().begin());
+    }
+
+    @Test
+    void of() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        // 夏令时开始的那一天只有 23 小时
+        CurrentBoundaries boundaries = CurrentBoundaries.of(EpochMillisUtils.of(2022, 3, 13, 12, 0, newYork), newYork);
+        assertEquals(23 * 3_600_000L - 1, boundaries.day().end() - boundaries.day().begin());
+        assertEquals(EpochMillisUtils.of(2022, 3, 7, newYork), boundaries.week().begin());
+        assertEquals(newYork, boundaries.zone());
+    }
+}
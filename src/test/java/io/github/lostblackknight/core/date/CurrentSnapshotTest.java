@@ -0,0 +1,97 @@
+package io.github.lostblackknight.core.date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 10:50
+ */
+class CurrentSnapshotTest {
+
+    private final ZoneId shanghai = ZoneId.of("Asia/Shanghai");
+
+    @AfterEach
+    void reset() {
+        ClockProvider.reset();
+    }
+
+    @Test
+    void now() {
+        // 2022-12-31 23:59:59.999，下一毫秒跨年
+        long epochMilli = LocalDateTimeUtils.toEpochMilli(LocalDateTime.of(2022, 12, 31, 23, 59, 59, 999_000_000));
+        ClockProvider.set(Clock.fixed(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC));
+        CurrentSnapshot now = CurrentSnapshot.now();
+        ClockProvider.set(Clock.fixed(Instant.ofEpochMilli(epochMilli + 1), ZoneOffset.UTC));
+        assertEquals(2022, now.year());
+        assertEquals(12, now.month());
+        assertEquals(31, now.dayOfMonth());
+        assertEquals(999, now.milli());
+        assertEquals(2023, LocalDateTimeUtils.currentYear());
+        assertEquals(epochMilli, now.epochMilli());
+        assertEquals(epochMilli, now.date().getTime());
+        assertEquals(ZoneId.systemDefault(), now.zone());
+        assertEquals(CurrentSnapshot.of(epochMilli), now);
+        assertNotEquals(CurrentSnapshot.now(), now);
+        assertEquals(2023, CurrentSnapshot.now(ZoneOffset.UTC).localDate().getYear());
+    }
+
+    @Test
+    void coarse() {
+        try (CoarseClock clock = CoarseClock.start(60_000)) {
+            ClockProvider.set(clock);
+            CoarseClock.Snapshot snapshot = clock.snapshot();
+            CurrentSnapshot now = CurrentSnapshot.now();
+            assertEquals(snapshot.epochMilli(), now.epochMilli());
+            assertSame(snapshot.localDateTime(), now.localDateTime());
+            assertEquals(snapshot.localDate().getYear(), now.year());
+            assertEquals(snapshot.dayOfWeek(), now.dayOfWeek());
+        }
+    }
+
+    @Test
+    void memoized() {
+        CurrentSnapshot now = CurrentSnapshot.of(1661072070123L, shanghai);
+        assertSame(now.localDateTime(), now.localDateTime());
+        assertSame(now.localDate(), now.localDate());
+        assertSame(now.localTime(), now.localTime());
+        assertNotSame(now.date(), now.date());
+        assertEquals(LocalDateTime.of(2022, 8, 21, 16, 54, 30, 123_000_000), now.localDateTime());
+        assertEquals("CurrentSnapshot{2022-08-21T16:54:30.123, Asia/Shanghai}", now.toString());
+    }
+
+    @Test
+    void equivalentToLocalDateTime() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10000; i++) {
+            long epochMilli = random.nextLong(-5_000_000_000_000L, 5_000_000_000_000L);
+            CurrentSnapshot now = CurrentSnapshot.of(epochMilli, shanghai);
+            LocalDateTime local = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), shanghai);
+            String message = local.toString();
+            assertEquals(local, now.localDateTime(), message);
+            assertEquals(LocalDateTimeUtils.year(local), now.year(), message);
+            assertEquals(LocalDateTimeUtils.month(local), now.month(), message);
+            assertEquals(LocalDateTimeUtils.weekOfYear(local), now.weekOfYear(), message);
+            assertEquals(LocalDateTimeUtils.dayOfYear(local), now.dayOfYear(), message);
+            assertEquals(LocalDateTimeUtils.weekOfMonth(local), now.weekOfMonth(), message);
+            assertEquals(LocalDateTimeUtils.dayOfMonth(local), now.dayOfMonth(), message);
+            assertEquals(LocalDateTimeUtils.dayOfWeek(local), now.dayOfWeek(), message);
+            assertEquals(LocalDateTimeUtils.hourOf24(local), now.hourOf24(), message);
+            assertEquals(LocalDateTimeUtils.hourOf12(local), now.hourOf12(), message);
+            assertEquals(LocalDateTimeUtils.minute(local), now.minute(), message);
+            assertEquals(LocalDateTimeUtils.second(local), now.second(), message);
+            assertEquals(LocalDateTimeUtils.milli(local), now.milli(), message);
+            assertEquals(LocalDateTimeUtils.isLeapYear(local), now.isLeapYear(), message);
+            assertEquals(LocalDateTimeUtils.isWeekend(local), now.isWeekend(), message);
+            assertEquals(LocalDateTimeUtils.isAM(local), now.isAM(), message);
+            assertEquals(LocalDateTimeUtils.isPM(local), now.isPM(), message);
+            assertEquals(LocalDateTimeUtils.lengthOfYear(local), now.lengthOfYear(), message);
+            assertEquals(LocalDateTimeUtils.lengthOfMonth(local), now.lengthOfMonth(), message);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package io.github.lostblackknight.core.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 14:30
+ */
+class DateRangeTest {
+
+    @Test
+    void localDate() {
+        DateRange<LocalDate> days = DateRange.of(LocalDate.of(2022, 8, 21), LocalDate.of(2022, 9, 3));
+        assertEquals(14, days.size());
+        assertEquals(LocalDate.of(2022, 8, 21), days.first());
+        assertEquals(LocalDate.of(2022, 9, 3), days.last());
+        assertEquals(LocalDate.of(2022, 8, 31), days.get(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> days.get(14));
+
+        DateRange<LocalDate> months = DateRange.of(LocalDate.of(2022, 1, 31), LocalDate.of(2022, 5, 30), 1, ChronoUnit.MONTHS);
+        assertEquals(Arrays.asList(LocalDate.of(2022, 1, 31), LocalDate.of(2022, 2, 28), LocalDate.of(2022, 3, 31),
+                LocalDate.of(2022, 4, 30)), months.toList());
+        // 2 月 28 日不早于结束日期，LocalDate.until 得到的月数为 0
+        assertEquals(2, DateRange.of(LocalDate.of(2022, 1, 31), LocalDate.of(2022, 2, 28), 1, ChronoUnit.MONTHS).size());
+
+        DateRange<LocalDate> weeks = DateRange.ofPeriods(LocalDate.of(2022, 8, 21), LocalDate.of(2022, 9, 5), ChronoUnit.WEEKS);
+        assertEquals(Arrays.asList(LocalDate.of(2022, 8, 21), LocalDate.of(2022, 8, 22), LocalDate.of(2022, 8, 29),
+                LocalDate.of(2022, 9, 5)), weeks.toList());
+
+        DateRange<LocalDate> empty = DateRange.of(LocalDate.of(2022, 8, 21), LocalDate.of(2022, 8, 20));
+        assertTrue(empty.isEmpty());
+        assertFalse(empty.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, empty::first);
+        assertEquals("DateRange[]", empty.toString());
+        assertThrows(IllegalArgumentException.class, () -> DateRange.of(LocalDate.MIN, LocalDate.MAX, 1, ChronoUnit.HOURS));
+        assertThrows(IllegalArgumentException.class, () -> DateRange.of(LocalDate.MIN, LocalDate.MAX, 0, ChronoUnit.DAYS));
+        assertEquals(2, DateRange.of(LocalDate.MAX.minusDays(1), LocalDate.MAX).size());
+    }
+
+    @Test
+    void localDateTime() {
+        LocalDateTime start = LocalDateTime.of(2022, 8, 21, 16, 54, 30);
+        DateRange<LocalDateTime> hours = DateRange.of(start, start.plusDays(1), 90, ChronoUnit.MINUTES);
+        assertEquals(17, hours.size());
+        assertEquals(start.plusMinutes(90 * 16), hours.last());
+
+        DateRange<LocalDateTime> periods = DateRange.ofPeriods(start, LocalDateTime.of(2022, 8, 21, 19, 0), ChronoUnit.HOURS);
+        assertEquals(Arrays.asList(start, LocalDateTime.of(2022, 8, 21, 17, 0), LocalDateTime.of(2022, 8, 21, 18, 0),
+                LocalDateTime.of(2022, 8, 21, 19, 0)), periods.toList());
+        DateRange<LocalDateTime> years = DateRange.ofPeriods(start, LocalDateTime.of(2025, 1, 1, 0, 0), ChronoUnit.YEARS);
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), years.last());
+        assertEquals(4, years.size());
+    }
+
+    @Test
+    void dateAndEpochMilli() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        long start = EpochMillisUtils.of(2022, 3, 12, 12, 0, newYork);
+        long end = EpochMillisUtils.of(2022, 3, 15, 12, 0, newYork);
+        DateRange<Long> days = DateRange.ofEpochMillis(start, end, 1, ChronoUnit.DAYS, newYork);
+        assertEquals(4, days.size());
+        for (int i = 0; i < days.size(); i++) {
+            assertEquals(EpochMillisUtils.plusDays(start, i, newYork), days.get(i));
+        }
+        DateRange<Long> periods = DateRange.ofEpochMilliPeriods(start, end, ChronoUnit.DAYS, newYork);
+        assertEquals(EpochMillisUtils.beginOfNextDay(start, newYork), periods.get(1));
+        assertEquals(EpochMillisUtils.beginOfDay(end, newYork), periods.last());
+
+        Date date = DateUtils.current();
+        DateRange<Date> dates = DateRange.of(date, DateUtils.plusMonths(date, 3), 1, ChronoUnit.MONTHS);
+        assertEquals(4, dates.size());
+        assertEquals(DateUtils.plusMonths(date, 2), dates.get(2));
+        DateRange<Date> datePeriods = DateRange.ofPeriods(date, DateUtils.plusMonths(date, 3), ChronoUnit.MONTHS);
+        assertEquals(DateUtils.beginOfDay(DateUtils.beginOfNextMonth(date)), datePeriods.get(1));
+        assertEquals(4, DateRange.ofEpochMillis(0, 3, 1, ChronoUnit.MILLIS).size());
+        assertEquals(2, DateRange.ofEpochMilliPeriods(0, 1000, ChronoUnit.SECONDS).size());
+    }
+
+    @Test
+    void daylightSavingTime() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        // 夏令时开始：本地时间 02:00-03:00 不存在，30 分钟步进时相邻元素仍相差 30 分钟，不会重复
+        long gapStart = EpochMillisUtils.of(2022, 3, 13, 1, 0, newYork);
+        long gapEnd = EpochMillisUtils.of(2022, 3, 13, 4, 0, newYork);
+        DateRange<Long> gap = DateRange.ofEpochMillis(gapStart, gapEnd, 30, ChronoUnit.MINUTES, newYork);
+        assertEquals(5, gap.size());
+        assertEquals(Arrays.asList("01:00", "01:30", "03:00", "03:30", "04:00"),
+                gap.stream().map(t -> LocalTimeUtils.format(Instant.ofEpochMilli(t).atZone(newYork).toLocalTime(), "HH:mm"))
+                        .collect(Collectors.toList()));
+        assertEquals(gapEnd, gap.last());
+        assertEquals(gap.toList(), DateRange.ofEpochMillis(gapStart, gapEnd, 1800, ChronoUnit.SECONDS, newYork).toList());
+        // 夏令时结束：本地时间 01:00-02:00 重复，两次都会被遍历
+        long overlapStart = EpochMillisUtils.of(2022, 11, 6, 0, 0, newYork);
+        long overlapEnd = EpochMillisUtils.of(2022, 11, 6, 3, 0, newYork);
+        DateRange<Long> overlap = DateRange.ofEpochMillis(overlapStart, overlapEnd, 1, ChronoUnit.HOURS, newYork);
+        assertEquals(5, overlap.size());
+        for (int i = 0; i < overlap.size(); i++) {
+            assertEquals(overlapStart + i * 3_600_000L, overlap.get(i));
+        }
+        DateRange<Long> hours = DateRange.ofEpochMilliPeriods(overlapStart + 1_800_000L, overlapEnd, ChronoUnit.HOURS, newYork);
+        assertEquals(5, hours.size());
+        assertEquals(overlapStart + 1_800_000L, hours.first());
+        assertEquals(overlapStart + 3_600_000L, hours.get(1));
+        assertEquals(overlapEnd, hours.last());
+        // DAYS 及以上按本地时间步进，落在间隙中的 02:30 向后推移为 03:30
+        long daily = EpochMillisUtils.of(2022, 3, 12, 2, 30, newYork);
+        DateRange<Long> days = DateRange.ofEpochMillis(daily, daily + 3 * 86_400_000L, 1, ChronoUnit.DAYS, newYork);
+        assertEquals(EpochMillisUtils.of(2022, 3, 13, 3, 30, newYork), days.get(1));
+        assertEquals(EpochMillisUtils.of(2022, 3, 14, 2, 30, newYork), days.get(2));
+
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone(newYork));
+            ZoneContext.refresh();
+            DateRange<Date> gapDates = DateRange.of(new Date(gapStart), new Date(gapEnd), 30, ChronoUnit.MINUTES);
+            assertEquals(gap.map(Date::new).toList(), gapDates.toList());
+            DateRange<Date> overlapDates = DateRange.of(new Date(overlapStart), new Date(overlapEnd), 1, ChronoUnit.HOURS);
+            assertEquals(overlap.map(Date::new).toList(), overlapDates.toList());
+            assertEquals(hours.map(Date::new).toList(),
+                    DateRange.ofPeriods(new Date(overlapStart + 1_800_000L), new Date(overlapEnd), ChronoUnit.HOURS).toList());
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+            ZoneContext.refresh();
+        }
+        assertThrows(IllegalArgumentException.class, () -> DateRange.ofEpochMillis(0, 1, 1, ChronoUnit.MICROS));
+        assertThrows(IllegalArgumentException.class, () -> DateRange.ofEpochMillis(0, 1, 0, ChronoUnit.MILLIS));
+        assertEquals(0, DateRange.ofEpochMillis(1, 0, 1, ChronoUnit.MILLIS).size());
+    }
+
+    @Test
+    void spliterator() {
+        DateRange<LocalDate> range = DateRange.of(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 12, 31));
+        Spliterator<LocalDate> spliterator = range.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        // 调用方的转换函数可能返回 null
+        Spliterator<LocalDate> mapped = range.map(day -> day.getDayOfMonth() == 1 ? null : day).spliterator();
+        assertFalse(mapped.hasCharacteristics(Spliterator.NONNULL));
+        assertTrue(mapped.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertFalse(mapped.trySplit().hasCharacteristics(Spliterator.NONNULL));
+        assertTrue(DateRange.ofEpochMillis(0, 3, 1, ChronoUnit.MILLIS).spliterator().hasCharacteristics(Spliterator.NONNULL));
+        assertTrue(DateRange.of(new Date(0), new Date(3), 1, ChronoUnit.MILLIS).spliterator().hasCharacteristics(Spliterator.NONNULL));
+        assertEquals(range.size(), spliterator.getExactSizeIfKnown());
+        Spliterator<LocalDate> prefix = spliterator.trySplit();
+        assertEquals(range.size(), prefix.estimateSize() + spliterator.estimateSize());
+
+        List<LocalDate> expected = new ArrayList<>();
+        for (LocalDate day = LocalDate.of(1900, 1, 1); !day.isAfter(LocalDate.of(2100, 12, 31)); day = day.plusDays(1)) {
+            expected.add(day);
+        }
+        assertEquals(expected, range.parallelStream().collect(Collectors.toList()));
+        assertEquals(expected, range.toList());
+        List<LocalDate> iterated = new ArrayList<>();
+        range.iterator().forEachRemaining(iterated::add);
+        assertEquals(expected, iterated);
+        assertEquals(expected.size(), range.stream().count());
+        assertEquals(range.stream().filter(LocalDateUtils::isWeekend).count(),
+                range.parallelStream().filter(LocalDateUtils::isWeekend).count());
+    }
+
+    @Test
+    void sizeMatchesLoop() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ChronoUnit[] units = {ChronoUnit.DAYS, ChronoUnit.WEEKS, ChronoUnit.MONTHS, ChronoUnit.YEARS};
+        for (int i = 0; i < 2000; i++) {
+            LocalDate start = LocalDate.ofEpochDay(random.nextInt(-50000, 50000));
+            LocalDate end = start.plusDays(random.nextInt(-10, 3000));
+            ChronoUnit unit = units[random.nextInt(units.length)];
+            int amount = random.nextInt(1, 4);
+            long expected = 0;
+            while (!start.plus(expected * amount, unit).isAfter(end)) {
+                expected++;
+            }
+            assertEquals(expected, DateRange.of(start, end, amount, unit).size(), start + " " + end + " " + amount + unit);
+            LocalDate base = unit == ChronoUnit.DAYS ? start : unit == ChronoUnit.WEEKS ? LocalDateUtils.beginOfWeek(start)
+                    : unit == ChronoUnit.MONTHS ? LocalDateUtils.beginOfMonth(start) : LocalDateUtils.beginOfYear(start);
+            long periods = start.isAfter(end) ? 0 : 1;
+            while (periods > 0 && !base.plus(periods, unit).isAfter(end)) {
+                periods++;
+            }
+            assertEquals(periods, DateRange.ofPeriods(start, end, unit).size(), start + " " + end + " " + unit);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.lostblackknight.core.date;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.Math.*;
+import static java.time.temporal.ChronoUnit.HOURS;
+
+/**
+ * {@link DateUtils} 的基准测试
+ * <p>legacy* 为经过 {@link LocalDateTime} 转换的旧实现（复制在 {@link Legacy} 中），其余为基于 {@link Date#getTime()} 的实现
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 20:50
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    private final Date date = new Date(1661072070123L);
+
+    private final Date other = new Date(1661172070456L);
+
+    @Benchmark
+    public int legacyYear() {
+        return Legacy.year(date);
+    }
+
+    @Benchmark
+    public int year() {
+        return DateUtils.year(date);
+    }
+
+    @Benchmark
+    public Date legacyPlusDays() {
+        return Legacy.plusDays(date, 3);
+    }
+
+    @Benchmark
+    public Date plusDays() {
+        return DateUtils.plusDays(date, 3);
+    }
+
+    @Benchmark
+    public Date legacyPlusMonths() {
+        return Legacy.plusMonths(date, 3);
+    }
+
+    @Benchmark
+    public Date plusMonths() {
+        return DateUtils.plusMonths(date, 3);
+    }
+
+    @Benchmark
+    public Date legacyBeginOfDay() {
+        return Legacy.beginOfDay(date);
+    }
+
+    @Benchmark
+    public Date beginOfDay() {
+        return DateUtils.beginOfDay(date);
+    }
+
+    @Benchmark
+    public long legacyBetweenHours() {
+        return Legacy.betweenHours(date, other, true);
+    }
+
+    @Benchmark
+    public long betweenHours() {
+        return DateUtils.betweenHours(date, other, true);
+    }
+
+    @Benchmark
+    public boolean legacyIsIn() {
+        return Legacy.isIn(date, other, date);
+    }
+
+    @Benchmark
+    public boolean isIn() {
+        return DateUtils.isIn(date, other, date);
+    }
+
+    /**
+     * 旧实现
+     */
+    static final class Legacy {
+
+        static LocalDateTime toLocalDateTime(Date date) {
+            return LocalDateTime.from(date.toInstant().atZone(ZoneId.systemDefault()));
+        }
+
+        static Date toDate(LocalDateTime localDateTime) {
+            return Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
+        }
+
+        static long toEpochMilli(LocalDateTime localDateTime) {
+            return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+
+        static int year(Date date) {
+            return toLocalDateTime(date).getYear();
+        }
+
+        static Date plusDays(Date date, int days) {
+            return toDate(toLocalDateTime(date).plusDays(days));
+        }
+
+        static Date plusMonths(Date date, int months) {
+            return toDate(toLocalDateTime(date).plusMonths(months));
+        }
+
+        static Date beginOfDay(Date date) {
+            return toDate(LocalDateTime.of(toLocalDateTime(date).toLocalDate(), LocalTime.MIN));
+        }
+
+        static long betweenHours(Date begin, Date end, boolean isAbs) {
+            final long between = toLocalDateTime(begin).until(toLocalDateTime(end), HOURS);
+            return isAbs ? abs(between) : between;
+        }
+
+        static boolean isIn(Date date, Date begin, Date end) {
+            final long beginEpochMilli = toEpochMilli(toLocalDateTime(begin));
+            final long endEpochMilli = toEpochMilli(toLocalDateTime(end));
+            final long epochMilli = toEpochMilli(toLocalDateTime(date));
+            return epochMilli >= min(beginEpochMilli, endEpochMilli) && epochMilli <= max(beginEpochMilli, endEpochMilli);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DateUtilsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
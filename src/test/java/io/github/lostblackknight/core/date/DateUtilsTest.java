@@ -6,9 +6,20 @@ import io.github.lostblackknight.core.date.format.DatePattern;
 import org.junit.jupiter.api.Test;
 
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
  * @author chensixiang (chensixiang1234@gmail.com) 2022/8/21 10:26
@@ -1164,4 +1175,137 @@ class DateUtilsTest {
         System.out.println(DateUtils.parseDate("2022-04-30"));
         System.out.println(DateUtils.parseTime("12:30:59"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void formatTo() {
+        StringBuilder builder = new StringBuilder();
+        DateUtils.formatTo(date, DatePattern.NORMAL_DATE_TIME_MILLI, builder);
+        System.out.println(builder);
+        assertEquals(DateUtils.format(date, DatePattern.NORMAL_DATE_TIME_MILLI), builder.toString());
+    }
+
+
+    @Test
+    void tryParse() {
+        assertEquals(DateUtils.parse("2022-08-21 16:54:30"), DateUtils.tryParse("2022-08-21 16:54:30"));
+        assertNull(DateUtils.tryParse("2022-08-21 16:54:3"));
+        assertNull(DateUtils.tryParse("2022-08-21", new ParsePosition(0), "yyyy-MM-dd HH"));
+    }
+
+
+    @Test
+    void parseAuto() {
+        assertEquals(DateUtils.parse("2022-08-21 16:54:30"), DateUtils.parseAuto("2022年08月21日16时54分30秒"));
+        assertNull(DateUtils.tryParseAuto("2022-08-21 16:54:3"));
+    }
+
+
+    @Test
+    void equivalentToLocalDateTime() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            for (String zoneId : new String[]{"UTC", "Asia/Shanghai", "America/New_York", "Australia/Lord_Howe", "America/Sao_Paulo"}) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zoneId));
+                ZoneContext.refresh();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long epochMilli = random.nextLong(-1_000_000_000_000L, 3_000_000_000_000L);
+                for (int i = 0; i < 5000; i++) {
+                    // 以 7 分钟的整数倍前进，覆盖夏令时的间隙和重叠
+                    epochMilli = random.nextInt(20) == 0 ? random.nextLong(-1_000_000_000_000L, 3_000_000_000_000L)
+                            : epochMilli + 420_000L * random.nextInt(1, 50) + random.nextInt(1000);
+                    Date date = new Date(epochMilli);
+                    Date other = new Date(epochMilli + random.nextLong(-400L * 86_400_000L, 400L * 86_400_000L));
+                    assertEquivalent(zoneId, date, other, random.nextInt(-30, 30));
+                }
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+            ZoneContext.refresh();
+        }
+    }
+
+    private void assertEquivalent(String zoneId, Date date, Date other, int amount) {
+        LocalDateTime local = LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+        LocalDateTime otherLocal = LocalDateTime.ofInstant(other.toInstant(), ZoneId.systemDefault());
+        String message = zoneId + " " + date.getTime() + " " + other.getTime();
+        assertEquals(LocalDateTimeUtils.year(local), DateUtils.year(date), message);
+        assertEquals(LocalDateTimeUtils.month(local), DateUtils.month(date), message);
+        assertEquals(LocalDateTimeUtils.weekOfYear(local), DateUtils.weekOfYear(date), message);
+        assertEquals(LocalDateTimeUtils.dayOfYear(local), DateUtils.dayOfYear(date), message);
+        assertEquals(LocalDateTimeUtils.weekOfMonth(local), DateUtils.weekOfMonth(date), message);
+        assertEquals(LocalDateTimeUtils.dayOfMonth(local), DateUtils.dayOfMonth(date), message);
+        assertEquals(LocalDateTimeUtils.dayOfWeek(local), DateUtils.dayOfWeek(date), message);
+        assertEquals(LocalDateTimeUtils.hourOf24(local), DateUtils.hourOf24(date), message);
+        assertEquals(LocalDateTimeUtils.hourOf12(local), DateUtils.hourOf12(date), message);
+        assertEquals(LocalDateTimeUtils.minute(local), DateUtils.minute(date), message);
+        assertEquals(LocalDateTimeUtils.second(local), DateUtils.second(date), message);
+        assertEquals(LocalDateTimeUtils.milli(local), DateUtils.milli(date), message);
+        assertEquals(LocalDateTimeUtils.isWeekend(local), DateUtils.isWeekend(date), message);
+        assertEquals(LocalDateTimeUtils.isAM(local), DateUtils.isAM(date), message);
+        assertEquals(LocalDateTimeUtils.lengthOfMonth(local), DateUtils.lengthOfMonth(date), message);
+
+        List<UnaryOperator<LocalDateTime>> expected = Arrays.asList(
+                t -> LocalDateTimeUtils.plusYears(t, amount), t -> LocalDateTimeUtils.plusMonths(t, amount),
+                t -> LocalDateTimeUtils.plusWeeks(t, amount), t -> LocalDateTimeUtils.plusDays(t, amount),
+                t -> LocalDateTimeUtils.plusHours(t, amount), t -> LocalDateTimeUtils.plusMinutes(t, amount),
+                t -> LocalDateTimeUtils.plusSeconds(t, amount), t -> LocalDateTimeUtils.plusMillis(t, amount),
+                t -> LocalDateTimeUtils.minusYears(t, amount), t -> LocalDateTimeUtils.minusMonths(t, amount),
+                t -> LocalDateTimeUtils.minusWeeks(t, amount), t -> LocalDateTimeUtils.minusDays(t, amount),
+                t -> LocalDateTimeUtils.minusHours(t, amount), t -> LocalDateTimeUtils.minusMinutes(t, amount),
+                t -> LocalDateTimeUtils.minusSeconds(t, amount), t -> LocalDateTimeUtils.minusMillis(t, amount),
+                LocalDateTimeUtils::beginOfYear, LocalDateTimeUtils::endOfYear, LocalDateTimeUtils::beginOfNextYear,
+                LocalDateTimeUtils::endOfNextYear, LocalDateTimeUtils::beginOfPrevYear, LocalDateTimeUtils::endOfPrevYear,
+                LocalDateTimeUtils::beginOfMonth, LocalDateTimeUtils::endOfMonth, LocalDateTimeUtils::beginOfNextMonth,
+                LocalDateTimeUtils::endOfNextMonth, LocalDateTimeUtils::beginOfPrevMonth, LocalDateTimeUtils::endOfPrevMonth,
+                LocalDateTimeUtils::beginOfWeek, LocalDateTimeUtils::endOfWeek, LocalDateTimeUtils::beginOfNextWeek,
+                LocalDateTimeUtils::endOfNextWeek, LocalDateTimeUtils::beginOfPrevWeek, LocalDateTimeUtils::endOfPrevWeek,
+                LocalDateTimeUtils::beginOfDay, LocalDateTimeUtils::endOfDay, LocalDateTimeUtils::beginOfNextDay,
+                LocalDateTimeUtils::endOfNextDay, LocalDateTimeUtils::beginOfPrevDay, LocalDateTimeUtils::endOfPrevDay,
+                LocalDateTimeUtils::beginOfHour, LocalDateTimeUtils::endOfHour, LocalDateTimeUtils::beginOfMinute,
+                LocalDateTimeUtils::endOfMinute, LocalDateTimeUtils::beginOfSecond, LocalDateTimeUtils::endOfSecond);
+        List<UnaryOperator<Date>> actual = Arrays.asList(
+                t -> DateUtils.plusYears(t, amount), t -> DateUtils.plusMonths(t, amount),
+                t -> DateUtils.plusWeeks(t, amount), t -> DateUtils.plusDays(t, amount),
+                t -> DateUtils.plusHours(t, amount), t -> DateUtils.plusMinutes(t, amount),
+                t -> DateUtils.plusSeconds(t, amount), t -> DateUtils.plusMillis(t, amount),
+                t -> DateUtils.minusYears(t, amount), t -> DateUtils.minusMonths(t, amount),
+                t -> DateUtils.minusWeeks(t, amount), t -> DateUtils.minusDays(t, amount),
+                t -> DateUtils.minusHours(t, amount), t -> DateUtils.minusMinutes(t, amount),
+                t -> DateUtils.minusSeconds(t, amount), t -> DateUtils.minusMillis(t, amount),
+                DateUtils::beginOfYear, DateUtils::endOfYear, DateUtils::beginOfNextYear,
+                DateUtils::endOfNextYear, DateUtils::beginOfPrevYear, DateUtils::endOfPrevYear,
+                DateUtils::beginOfMonth, DateUtils::endOfMonth, DateUtils::beginOfNextMonth,
+                DateUtils::endOfNextMonth, DateUtils::beginOfPrevMonth, DateUtils::endOfPrevMonth,
+                DateUtils::beginOfWeek, DateUtils::endOfWeek, DateUtils::beginOfNextWeek,
+                DateUtils::endOfNextWeek, DateUtils::beginOfPrevWeek, DateUtils::endOfPrevWeek,
+                DateUtils::beginOfDay, DateUtils::endOfDay, DateUtils::beginOfNextDay,
+                DateUtils::endOfNextDay, DateUtils::beginOfPrevDay, DateUtils::endOfPrevDay,
+                DateUtils::beginOfHour, DateUtils::endOfHour, DateUtils::beginOfMinute,
+                DateUtils::endOfMinute, DateUtils::beginOfSecond, DateUtils::endOfSecond);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(Date.from(expected.get(i).apply(local).atZone(ZoneId.systemDefault()).toInstant()), actual.get(i).apply(date), message + " #" + i);
+        }
+
+        assertEquals(LocalDateTimeUtils.betweenYears(local, otherLocal, false), DateUtils.betweenYears(date, other, false), message);
+        assertEquals(LocalDateTimeUtils.betweenMonths(local, otherLocal, false), DateUtils.betweenMonths(date, other, false), message);
+        assertEquals(LocalDateTimeUtils.betweenWeeks(local, otherLocal, false), DateUtils.betweenWeeks(date, other, false), message);
+        assertEquals(LocalDateTimeUtils.betweenDays(local, otherLocal, false), DateUtils.betweenDays(date, other, false), message);
+        assertEquals(LocalDateTimeUtils.betweenHours(local, otherLocal), DateUtils.betweenHours(date, other), message);
+        assertEquals(LocalDateTimeUtils.betweenMinutes(local, otherLocal, false), DateUtils.betweenMinutes(date, other, false), message);
+        assertEquals(LocalDateTimeUtils.betweenSeconds(local, otherLocal, false), DateUtils.betweenSeconds(date, other, false), message);
+        assertEquals(LocalDateTimeUtils.betweenMillis(local, otherLocal, false), DateUtils.betweenMillis(date, other, false), message);
+        assertEquals(Integer.signum(LocalDateTimeUtils.compare(local, otherLocal)), Integer.signum(DateUtils.compare(date, other)), message);
+        assertEquals(LocalDateTimeUtils.isAfter(local, otherLocal), DateUtils.isAfter(date, other), message);
+        assertEquals(LocalDateTimeUtils.isBefore(local, otherLocal), DateUtils.isBefore(date, other), message);
+        assertEquals(LocalDateTimeUtils.isEqual(local, otherLocal), DateUtils.isEqual(date, other), message);
+        assertEquals(LocalDateTimeUtils.isEqualYear(local, otherLocal), DateUtils.isEqualYear(date, other), message);
+        assertEquals(LocalDateTimeUtils.isEqualMonth(local, otherLocal), DateUtils.isEqualMonth(date, other), message);
+        assertEquals(LocalDateTimeUtils.isEqualWeek(local, otherLocal), DateUtils.isEqualWeek(date, other), message);
+        assertEquals(LocalDateTimeUtils.isEqualDay(local, otherLocal), DateUtils.isEqualDay(date, other), message);
+        assertEquals(LocalDateTimeUtils.isEqualHour(local, otherLocal), DateUtils.isEqualHour(date, other), message);
+        assertEquals(LocalDateTimeUtils.isEqualMinute(local, otherLocal), DateUtils.isEqualMinute(date, other), message);
+        assertEquals(LocalDateTimeUtils.isIn(local, otherLocal, local.plusHours(1)), DateUtils.isIn(date, other, DateUtils.plusHours(date, 1)), message);
+        assertEquals(LocalDateTimeUtils.isOverlap(local, otherLocal, local.plusHours(1), otherLocal.plusHours(2)),
+                DateUtils.isOverlap(date, other, DateUtils.plusHours(date, 1), DateUtils.plusHours(other, 2)), message);
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.lostblackknight.core.date;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EpochDayUtils} 的基准测试，每次操作换算 4096 个天数
+ * <p>legacy* 为之前使用的 Howard Hinnant 的 civil_from_days 算法（复制在 {@link #legacyPacked(long)} 中）
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 22:55
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EpochDayUtilsBenchmark {
+
+    private final int[] epochDays = new int[4096];
+
+    private final int[] dst = new int[4096];
+
+    @Setup
+    public void setup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = random.nextInt(-50_000, 50_000);
+        }
+    }
+
+    @Benchmark
+    public int[] localDate() {
+        for (int i = 0; i < epochDays.length; i++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDays[i]);
+            dst[i] = EpochDayUtils.pack(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public int[] legacy() {
+        for (int i = 0; i < epochDays.length; i++) {
+            dst[i] = legacyPacked(epochDays[i]);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public int[] toPackedDates() {
+        LocalDateUtils.toPackedDates(epochDays, dst);
+        return dst;
+    }
+
+    @Benchmark
+    public int[] endOfMonths() {
+        LocalDateUtils.endOfMonths(epochDays, dst);
+        return dst;
+    }
+
+    @Benchmark
+    public int[] localDateEndOfMonths() {
+        for (int i = 0; i < epochDays.length; i++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDays[i]);
+            dst[i] = (int) date.withDayOfMonth(date.lengthOfMonth()).toEpochDay();
+        }
+        return dst;
+    }
+
+    private static int legacyPacked(long epochDay) {
+        final long z = epochDay + 719468;
+        final long era = Math.floorDiv(z, 146097);
+        final long dayOfEra = z - era * 146097;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long mp = (5 * dayOfYear + 2) / 153;
+        final int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        final int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        final int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        return EpochDayUtils.pack(year, month, day);
+    }
+}
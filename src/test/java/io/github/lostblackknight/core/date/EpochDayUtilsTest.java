@@ -0,0 +1,106 @@
+package io.github.lostblackknight.core.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.WeekFields;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 22:40
+ */
+class EpochDayUtilsTest {
+
+    private final WeekFields weekFields = WeekFields.of(MONDAY, 1);
+
+    @Test
+    void toPackedDate() {
+        for (int epochDay = (int) LocalDate.of(-1000, 1, 1).toEpochDay(); epochDay <= LocalDate.of(3000, 12, 31).toEpochDay(); epochDay++) {
+            assertEquivalent(epochDay);
+        }
+    }
+
+    @Test
+    void range() {
+        int min = (int) LocalDate.of(EpochDayUtils.MIN_YEAR, 1, 1).toEpochDay();
+        int max = (int) LocalDate.of(EpochDayUtils.MAX_YEAR, 12, 31).toEpochDay();
+        for (int i = 0; i < 1000; i++) {
+            assertEquivalent(min + i);
+            assertEquivalent(max - i);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 200_000; i++) {
+            assertEquivalent(random.nextInt(min, max + 1));
+        }
+    }
+
+    @Test
+    void dayOfWeek() {
+        for (int epochDay : new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -1, 0, 1, Integer.MAX_VALUE - 1, Integer.MAX_VALUE}) {
+            assertEquals(LocalDate.ofEpochDay(epochDay).getDayOfWeek().getValue(), EpochDayUtils.dayOfWeek(epochDay));
+        }
+    }
+
+    @Test
+    void isLeapYear() {
+        for (int year = -2000; year <= 2400; year++) {
+            assertEquals(LocalDate.of(year, 1, 1).isLeapYear(), EpochDayUtils.isLeapYear(year), String.valueOf(year));
+        }
+    }
+
+    @Test
+    void plusMonths() {
+        int epochDay = (int) LocalDate.of(2020, 1, 31).toEpochDay();
+        for (int months = -100; months <= 100; months++) {
+            assertEquals(LocalDate.of(2020, 1, 31).plusMonths(months).toEpochDay(), EpochDayUtils.plusMonths(epochDay, months));
+        }
+        int leapDay = (int) LocalDate.of(2020, 2, 29).toEpochDay();
+        for (int years = -10; years <= 10; years++) {
+            assertEquals(LocalDate.of(2020, 2, 29).plusYears(years).toEpochDay(), EpochDayUtils.plusYears(leapDay, years));
+        }
+    }
+
+    @Test
+    void pack() {
+        int packedDate = EpochDayUtils.pack(2022, 8, 21);
+        assertEquals(2022, EpochDayUtils.unpackYear(packedDate));
+        assertEquals(8, EpochDayUtils.unpackMonth(packedDate));
+        assertEquals(21, EpochDayUtils.unpackDayOfMonth(packedDate));
+        assertEquals(LocalDate.of(2022, 8, 21).toEpochDay(), EpochDayUtils.toEpochDay(packedDate));
+        // 打包后的大小顺序与日期的先后顺序一致
+        int previous = EpochDayUtils.toPackedDate(-800_000);
+        for (int epochDay = -799_999; epochDay < 800_000; epochDay += 13) {
+            int current = EpochDayUtils.toPackedDate(epochDay);
+            assertEquals(-1, Integer.compare(previous, current));
+            previous = current;
+        }
+    }
+
+    private void assertEquivalent(int epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        String message = date.toString();
+        int packedDate = EpochDayUtils.toPackedDate(epochDay);
+        assertEquals(date.getYear(), EpochDayUtils.unpackYear(packedDate), message);
+        assertEquals(date.getMonthValue(), EpochDayUtils.unpackMonth(packedDate), message);
+        assertEquals(date.getDayOfMonth(), EpochDayUtils.unpackDayOfMonth(packedDate), message);
+        assertEquals(epochDay, EpochDayUtils.toEpochDay(packedDate), message);
+        assertEquals(epochDay, EpochDayUtils.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()), message);
+        assertEquals(date.getDayOfYear(), EpochDayUtils.dayOfYear(epochDay), message);
+        assertEquals(date.getDayOfWeek().getValue(), EpochDayUtils.dayOfWeek(epochDay), message);
+        assertEquals(date.lengthOfMonth(), EpochDayUtils.lengthOfMonth(epochDay), message);
+        assertEquals(date.get(weekFields.weekOfYear()), EpochDayUtils.weekOfYear(epochDay), message);
+        assertEquals(date.get(weekFields.weekOfMonth()), EpochDayUtils.weekOfMonth(epochDay), message);
+        assertEquals(date.with(TemporalAdjusters.firstDayOfYear()).toEpochDay(), EpochDayUtils.beginOfYear(epochDay), message);
+        assertEquals(date.with(TemporalAdjusters.lastDayOfYear()).toEpochDay(), EpochDayUtils.endOfYear(epochDay), message);
+        assertEquals(date.with(TemporalAdjusters.firstDayOfMonth()).toEpochDay(), EpochDayUtils.beginOfMonth(epochDay), message);
+        assertEquals(date.with(TemporalAdjusters.lastDayOfMonth()).toEpochDay(), EpochDayUtils.endOfMonth(epochDay), message);
+        assertEquals(date.with(MONDAY).toEpochDay(), EpochDayUtils.beginOfWeek(epochDay), message);
+        assertEquals(date.with(SUNDAY).toEpochDay(), EpochDayUtils.endOfWeek(epochDay), message);
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.lostblackknight.core.date;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EpochMillisUtils} 与先转换为 {@link LocalDateTime} 再调用 {@link LocalDateTimeUtils} 的对比
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 21:55
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EpochMillisUtilsBenchmark {
+
+    private final ZoneId zone = ZoneId.of("America/New_York");
+
+    private long epochMilli = 1661072070123L;
+
+    private final long other = 1671172070456L;
+
+    /**
+     * 按时间递增的 4096 个时间戳，间隔约 10 分钟
+     */
+    private final long[] sorted = new long[4096];
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = epochMilli + i * 600_000L + i % 1000;
+        }
+    }
+
+    @Benchmark
+    public int localDateTimeDayOfWeek() {
+        return LocalDateTimeUtils.dayOfWeek(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), zone));
+    }
+
+    @Benchmark
+    public int dayOfWeek() {
+        return EpochMillisUtils.dayOfWeek(epochMilli, zone);
+    }
+
+    @Benchmark
+    public long localDateTimeEndOfMonth() {
+        return LocalDateTimeUtils.toEpochMilli(LocalDateTimeUtils.endOfMonth(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), zone)), zone);
+    }
+
+    @Benchmark
+    public long endOfMonth() {
+        return EpochMillisUtils.endOfMonth(epochMilli, zone);
+    }
+
+    @Benchmark
+    public long localDateTimeBetweenMonths() {
+        return LocalDateTimeUtils.betweenMonths(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), zone),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(other), zone));
+    }
+
+    @Benchmark
+    public long betweenMonths() {
+        return EpochMillisUtils.betweenMonths(epochMilli, other, zone);
+    }
+
+
+    @Benchmark
+    public long[] loopBeginOfMonth() {
+        final long[] array = sorted.clone();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = EpochMillisUtils.beginOfMonth(array[i], zone);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public long[] beginOfMonths() {
+        final long[] array = sorted.clone();
+        EpochMillisUtils.beginOfMonths(array, 0, array.length, zone);
+        return array;
+    }
+
+    @Benchmark
+    public long[] loopBeginOfHour() {
+        final long[] array = sorted.clone();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = EpochMillisUtils.beginOfHour(array[i], zone);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public long[] beginOfHours() {
+        final long[] array = sorted.clone();
+        EpochMillisUtils.beginOfHours(array, 0, array.length, zone);
+        return array;
+    }
+}
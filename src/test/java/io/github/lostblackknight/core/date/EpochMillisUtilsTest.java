@@ -0,0 +1,187 @@
+package io.github.lostblackknight.core.date;
+
+import io.github.lostblackknight.core.date.format.DateFormatter;
+import io.github.lostblackknight.core.date.format.DatePattern;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongBiFunction;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 21:40
+ */
+class EpochMillisUtilsTest {
+
+    private static final String[] ZONES = {"UTC", "Asia/Shanghai", "America/New_York", "Australia/Lord_Howe",
+            "America/Sao_Paulo", "Pacific/Apia", "+05:30"};
+
+    private final ZoneId shanghai = ZoneId.of("Asia/Shanghai");
+
+    private final long epochMilli = 1661072070123L;
+
+    @Test
+    void of() {
+        assertEquals(LocalDateTimeUtils.toEpochMilli(LocalDateTime.of(2022, 8, 21, 0, 0), shanghai),
+                EpochMillisUtils.of(2022, 8, 21, shanghai));
+        assertEquals(LocalDateTimeUtils.toEpochMilli(LocalDateTime.of(2022, 8, 21, 14, 24), shanghai),
+                EpochMillisUtils.of(2022, 8, 21, 14, 24, shanghai));
+        assertEquals(LocalDateTimeUtils.toEpochMilli(LocalDateTime.of(2022, 8, 21, 14, 24, 32)),
+                EpochMillisUtils.of(2022, 8, 21, 14, 24, 32));
+        assertThrows(DateTimeException.class, () -> EpochMillisUtils.of(2022, 2, 29));
+        assertThrows(DateTimeException.class, () -> EpochMillisUtils.of(2022, 8, 21, 24, 0));
+    }
+
+    @Test
+    void field() {
+        assertEquals(2022, EpochMillisUtils.year(epochMilli, shanghai));
+        assertEquals(8, EpochMillisUtils.month(epochMilli, shanghai));
+        assertEquals(21, EpochMillisUtils.dayOfMonth(epochMilli, shanghai));
+        assertEquals(7, EpochMillisUtils.dayOfWeek(epochMilli, shanghai));
+        assertEquals(16, EpochMillisUtils.hourOf24(epochMilli, shanghai));
+        assertEquals(54, EpochMillisUtils.minute(epochMilli, shanghai));
+        assertEquals(30, EpochMillisUtils.second(epochMilli, shanghai));
+        assertEquals(123, EpochMillisUtils.milli(epochMilli, shanghai));
+        assertTrue(EpochMillisUtils.isWeekend(epochMilli, shanghai));
+        assertEquals(8, EpochMillisUtils.hourOf24(epochMilli, ZoneId.of("UTC")));
+    }
+
+    @Test
+    void formatAndParse() {
+        assertEquals("2022-08-21 16:54:30", EpochMillisUtils.format(epochMilli, shanghai));
+        assertEquals("2022-08-21 16:54:30.123", EpochMillisUtils.format(epochMilli, DatePattern.NORMAL_DATE_TIME_MILLI, shanghai));
+        assertEquals("2022/08/21", EpochMillisUtils.format(epochMilli, "yyyy/MM/dd", shanghai));
+        assertEquals("2022年08月21日", EpochMillisUtils.format(epochMilli, DateFormatter.CHINESE_DATE, shanghai));
+        assertEquals(epochMilli, EpochMillisUtils.parse("2022-08-21 16:54:30.123", DatePattern.NORMAL_DATE_TIME_MILLI, shanghai));
+        assertEquals(epochMilli - 123, EpochMillisUtils.parse("2022-08-21 16:54:30", shanghai));
+        assertEquals(epochMilli - 123, EpochMillisUtils.parse("20220821165430", "yyyyMMddHHmmss", shanghai));
+        long now = EpochMillisUtils.current() / 1000 * 1000;
+        assertEquals(now, EpochMillisUtils.parse(EpochMillisUtils.format(now)));
+    }
+
+    @Test
+    void equivalentToLocalDateTime() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            long epochMilli = random.nextLong(-1_000_000_000_000L, 3_000_000_000_000L);
+            for (int i = 0; i < 5000; i++) {
+                // 以 7 分钟的整数倍前进，覆盖夏令时的间隙和重叠
+                epochMilli = random.nextInt(20) == 0 ? random.nextLong(-1_000_000_000_000L, 3_000_000_000_000L)
+                        : epochMilli + 420_000L * random.nextInt(1, 50) + random.nextInt(1000);
+                long other = epochMilli + random.nextLong(-800L * 86_400_000L, 800L * 86_400_000L);
+                assertEquivalent(zone, epochMilli, other, random.nextInt(-30, 30));
+            }
+        }
+    }
+
+    private void assertEquivalent(ZoneId zone, long epochMilli, long other, int amount) {
+        LocalDateTime local = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), zone);
+        LocalDateTime otherLocal = LocalDateTime.ofInstant(Instant.ofEpochMilli(other), zone);
+        String message = zone + " " + epochMilli + " " + other;
+        assertEquals(LocalDateTimeUtils.year(local), EpochMillisUtils.year(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.month(local), EpochMillisUtils.month(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.weekOfYear(local), EpochMillisUtils.weekOfYear(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.dayOfYear(local), EpochMillisUtils.dayOfYear(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.weekOfMonth(local), EpochMillisUtils.weekOfMonth(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.dayOfMonth(local), EpochMillisUtils.dayOfMonth(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.dayOfWeek(local), EpochMillisUtils.dayOfWeek(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.hourOf12(local), EpochMillisUtils.hourOf12(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.minute(local), EpochMillisUtils.minute(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.second(local), EpochMillisUtils.second(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.milli(local), EpochMillisUtils.milli(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.isLeapYear(local), EpochMillisUtils.isLeapYear(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.isPM(local), EpochMillisUtils.isPM(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.lengthOfYear(local), EpochMillisUtils.lengthOfYear(epochMilli, zone), message);
+        assertEquals(LocalDateTimeUtils.lengthOfMonth(local), EpochMillisUtils.lengthOfMonth(epochMilli, zone), message);
+
+        List<UnaryOperator<LocalDateTime>> expected = Arrays.asList(
+                t -> LocalDateTimeUtils.plusYears(t, amount), t -> LocalDateTimeUtils.plusMonths(t, amount),
+                t -> LocalDateTimeUtils.minusWeeks(t, amount), t -> LocalDateTimeUtils.minusDays(t, amount),
+                t -> LocalDateTimeUtils.plusHours(t, amount), t -> LocalDateTimeUtils.minusMinutes(t, amount),
+                LocalDateTimeUtils::beginOfNextYear, LocalDateTimeUtils::endOfPrevYear,
+                LocalDateTimeUtils::beginOfMonth, LocalDateTimeUtils::endOfNextMonth,
+                LocalDateTimeUtils::beginOfPrevWeek, LocalDateTimeUtils::endOfWeek,
+                LocalDateTimeUtils::beginOfDay, LocalDateTimeUtils::endOfNextDay,
+                LocalDateTimeUtils::beginOfHour, LocalDateTimeUtils::endOfSecond);
+        List<LongUnaryOperator> actual = Arrays.asList(
+                t -> EpochMillisUtils.plusYears(t, amount, zone), t -> EpochMillisUtils.plusMonths(t, amount, zone),
+                t -> EpochMillisUtils.minusWeeks(t, amount, zone), t -> EpochMillisUtils.minusDays(t, amount, zone),
+                t -> EpochMillisUtils.plusHours(t, amount, zone), t -> EpochMillisUtils.minusMinutes(t, amount, zone),
+                t -> EpochMillisUtils.beginOfNextYear(t, zone), t -> EpochMillisUtils.endOfPrevYear(t, zone),
+                t -> EpochMillisUtils.beginOfMonth(t, zone), t -> EpochMillisUtils.endOfNextMonth(t, zone),
+                t -> EpochMillisUtils.beginOfPrevWeek(t, zone), t -> EpochMillisUtils.endOfWeek(t, zone),
+                t -> EpochMillisUtils.beginOfDay(t, zone), t -> EpochMillisUtils.endOfNextDay(t, zone),
+                t -> EpochMillisUtils.beginOfHour(t, zone), t -> EpochMillisUtils.endOfSecond(t, zone));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(LocalDateTimeUtils.toEpochMilli(expected.get(i).apply(local), zone),
+                    actual.get(i).applyAsLong(epochMilli), message + " #" + i);
+        }
+
+        assertEquals(LocalDateTimeUtils.betweenYears(local, otherLocal, false), EpochMillisUtils.betweenYears(epochMilli, other, false, zone), message);
+        assertEquals(LocalDateTimeUtils.betweenMonths(local, otherLocal, false), EpochMillisUtils.betweenMonths(epochMilli, other, false, zone), message);
+        assertEquals(LocalDateTimeUtils.betweenWeeks(local, otherLocal), EpochMillisUtils.betweenWeeks(epochMilli, other, zone), message);
+        assertEquals(LocalDateTimeUtils.betweenDays(local, otherLocal, false), EpochMillisUtils.betweenDays(epochMilli, other, false, zone), message);
+        assertEquals(LocalDateTimeUtils.betweenHours(local, otherLocal, false), EpochMillisUtils.betweenHours(epochMilli, other, false, zone), message);
+        assertEquals(LocalDateTimeUtils.betweenMillis(local, otherLocal), EpochMillisUtils.betweenMillis(epochMilli, other, zone), message);
+        assertEquals(Integer.signum(LocalDateTimeUtils.compare(local, otherLocal)), Integer.signum(EpochMillisUtils.compare(epochMilli, other, zone)), message);
+        assertEquals(LocalDateTimeUtils.isEqualMonth(local, otherLocal), EpochMillisUtils.isEqualMonth(epochMilli, other, zone), message);
+        assertEquals(LocalDateTimeUtils.isEqualDay(local, otherLocal), EpochMillisUtils.isEqualDay(epochMilli, other, zone), message);
+        assertEquals(LocalDateTimeUtils.isIn(local, otherLocal, otherLocal.plusDays(amount)),
+                EpochMillisUtils.isIn(epochMilli, other, EpochMillisUtils.plusDays(other, amount, zone), zone), message);
+    }
+
+
+    @Test
+    void bulkTruncate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<BiConsumer<long[], ZoneId>> bulk = Arrays.asList(
+                (a, z) -> EpochMillisUtils.beginOfYears(a, 1, a.length - 1, z), (a, z) -> EpochMillisUtils.endOfYears(a, 1, a.length - 1, z),
+                (a, z) -> EpochMillisUtils.beginOfMonths(a, 1, a.length - 1, z), (a, z) -> EpochMillisUtils.endOfMonths(a, 1, a.length - 1, z),
+                (a, z) -> EpochMillisUtils.beginOfWeeks(a, 1, a.length - 1, z), (a, z) -> EpochMillisUtils.endOfWeeks(a, 1, a.length - 1, z),
+                (a, z) -> EpochMillisUtils.beginOfDays(a, 1, a.length - 1, z), (a, z) -> EpochMillisUtils.endOfDays(a, 1, a.length - 1, z),
+                (a, z) -> EpochMillisUtils.beginOfHours(a, 1, a.length - 1, z), (a, z) -> EpochMillisUtils.endOfHours(a, 1, a.length - 1, z),
+                (a, z) -> EpochMillisUtils.beginOfMinutes(a, 1, a.length - 1, z), (a, z) -> EpochMillisUtils.endOfMinutes(a, 1, a.length - 1, z),
+                (a, z) -> EpochMillisUtils.beginOfSeconds(a, 1, a.length - 1, z), (a, z) -> EpochMillisUtils.endOfSeconds(a, 1, a.length - 1, z));
+        List<ToLongBiFunction<Long, ZoneId>> single = Arrays.asList(
+                EpochMillisUtils::beginOfYear, EpochMillisUtils::endOfYear, EpochMillisUtils::beginOfMonth, EpochMillisUtils::endOfMonth,
+                EpochMillisUtils::beginOfWeek, EpochMillisUtils::endOfWeek, EpochMillisUtils::beginOfDay, EpochMillisUtils::endOfDay,
+                EpochMillisUtils::beginOfHour, EpochMillisUtils::endOfHour, EpochMillisUtils::beginOfMinute, EpochMillisUtils::endOfMinute,
+                EpochMillisUtils::beginOfSecond, EpochMillisUtils::endOfSecond);
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            long[] source = new long[2000];
+            long epochMilli = random.nextLong(-1_000_000_000_000L, 3_000_000_000_000L);
+            for (int i = 0; i < source.length; i++) {
+                // 前一半递增，落在同一周期的概率较大，后一半随机
+                epochMilli = i < source.length / 2 ? epochMilli + random.nextLong(0, 4 * 86_400_000L)
+                        : random.nextLong(-1_000_000_000_000L, 3_000_000_000_000L);
+                source[i] = epochMilli;
+            }
+            for (int k = 0; k < bulk.size(); k++) {
+                long[] actual = source.clone();
+                bulk.get(k).accept(actual, zone);
+                assertEquals(source[0], actual[0]);
+                assertEquals(source[source.length - 1], actual[source.length - 1]);
+                for (int i = 1; i < source.length - 1; i++) {
+                    assertEquals(single.get(k).applyAsLong(source[i], zone), actual[i], zone + " " + source[i] + " #" + k);
+                }
+            }
+        }
+        long[] array = new long[4];
+        assertThrows(IllegalArgumentException.class, () -> EpochMillisUtils.beginOfDays(array, 3, 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> EpochMillisUtils.beginOfDays(array, -1, 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> EpochMillisUtils.endOfMonths(array, 0, 5));
+    }
+}
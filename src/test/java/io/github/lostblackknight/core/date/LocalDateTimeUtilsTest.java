@@ -2,14 +2,19 @@ package io.github.lostblackknight.core.date;
 
 import cn.hutool.core.date.DateField;
 import cn.hutool.core.date.DateUtil;
+import io.github.lostblackknight.core.date.format.DatePattern;
 import org.junit.jupiter.api.Test;
 
+import java.text.ParsePosition;
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 import static cn.hutool.core.date.DateField.WEEK_OF_MONTH;
 import static java.time.LocalDateTime.now;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
  * @author chensixiang (chensixiang1234@gmail.com)
@@ -1267,4 +1272,43 @@ class LocalDateTimeUtilsTest {
     void of() {
         System.out.println(LocalDateTimeUtils.of(Clock.systemDefaultZone().millis()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void formatTo() {
+        StringBuilder builder = new StringBuilder("time=");
+        LocalDateTimeUtils.formatTo(customLocalDateTime, builder).append(", date=");
+        LocalDateTimeUtils.formatDateOfChineseTo(customLocalDateTime, builder);
+        System.out.println(builder);
+        assertEquals("time=2020-02-28 12:05:30, date=2020年02月28日", builder.toString());
+        assertEquals("20200228120530", LocalDateTimeUtils.formatOfSimpleTo(customLocalDateTime, new StringBuilder()).toString());
+        assertEquals("2020/02/28", LocalDateTimeUtils.formatTo(customLocalDateTime, "yyyy/MM/dd", new StringBuilder()).toString());
+    }
+
+
+    @Test
+    void formatCurrent() {
+        System.out.println(LocalDateTimeUtils.formatCurrent());
+        System.out.println(LocalDateTimeUtils.formatCurrent(DatePattern.CHINESE_DATE_TIME_MILLI));
+        assertEquals(19, LocalDateTimeUtils.formatCurrent().length());
+    }
+
+
+    @Test
+    void tryParse() {
+        assertEquals(LocalDateTime.of(2022, 8, 21, 16, 54, 30), LocalDateTimeUtils.tryParse("2022-08-21 16:54:30"));
+        assertNull(LocalDateTimeUtils.tryParse("2022-08-21 16:54:30?"));
+        assertNull(LocalDateTimeUtils.tryParse("?"));
+        ParsePosition position = new ParsePosition(1);
+        assertEquals(LocalDateTime.of(2022, 8, 21, 16, 54, 30), LocalDateTimeUtils.tryParse("[2022-08-21 16:54:30]", position, DatePattern.NORMAL_DATE_TIME_SECOND));
+        assertEquals(20, position.getIndex());
+        System.out.println(LocalDateTimeUtils.tryParse("2022-08-21 16:54:30", DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    }
+
+
+    @Test
+    void parseAuto() {
+        assertEquals(LocalDateTime.of(2022, 8, 21, 16, 54, 30), LocalDateTimeUtils.parseAuto("2022-08-21 16:54:30"));
+        assertEquals(LocalDateTime.of(2022, 8, 21, 16, 54, 30), LocalDateTimeUtils.parseAuto("20220821165430"));
+        assertNull(LocalDateTimeUtils.tryParseAuto("2022-08-21 16:54:3"));
+    }
+}
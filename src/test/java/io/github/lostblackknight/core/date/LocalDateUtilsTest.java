@@ -4,10 +4,17 @@ import cn.hutool.core.date.DateUtil;
 import io.github.lostblackknight.core.date.format.DatePattern;
 import org.junit.jupiter.api.Test;
 
+import java.text.ParsePosition;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.WeekFields;
 import java.util.Date;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 /**
  * @author chensixiang (chensixiang1234@gmail.com) 2022/8/22 9:36
  * @version 1.0.0
@@ -532,4 +539,59 @@ class LocalDateUtilsTest {
     void isEqualDay() {
         System.out.println(LocalDateUtils.isEqualDay(localDate, localDate.plusDays(1)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void formatTo() {
+        StringBuilder builder = new StringBuilder();
+        LocalDateUtils.formatOfSimpleTo(localDate, builder);
+        System.out.println(builder);
+        assertEquals(LocalDateUtils.formatOfSimple(localDate), builder.toString());
+    }
+
+
+    @Test
+    void tryParse() {
+        assertEquals(LocalDate.of(2022, 8, 21), LocalDateUtils.tryParse("2022-08-21"));
+        assertNull(LocalDateUtils.tryParse("2022-08-21?"));
+        assertNull(LocalDateUtils.tryParse("?"));
+        ParsePosition position = new ParsePosition(1);
+        assertEquals(LocalDate.of(2022, 8, 21), LocalDateUtils.tryParse("[2022-08-21]", position, DatePattern.NORMAL_DATE));
+        assertEquals(11, position.getIndex());
+        System.out.println(LocalDateUtils.tryParse("2022-08-21", DateTimeFormatter.ISO_LOCAL_DATE));
+    }
+
+
+    @Test
+    void bulk() {
+        LocalDate[] dates = new LocalDate[1000];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = LocalDate.of(1900, 1, 1).plusDays(i * 97L);
+        }
+        int[] epochDays = new int[dates.length];
+        LocalDateUtils.toEpochDays(dates, epochDays);
+        int[] years = new int[dates.length];
+        int[] daysOfWeek = new int[dates.length];
+        int[] endOfMonths = new int[dates.length];
+        LocalDate[] restored = new LocalDate[dates.length];
+        LocalDateUtils.years(epochDays, years);
+        LocalDateUtils.daysOfWeek(epochDays, daysOfWeek);
+        LocalDateUtils.endOfMonths(epochDays, endOfMonths);
+        LocalDateUtils.ofEpochDays(epochDays, restored);
+        for (int i = 0; i < dates.length; i++) {
+            assertEquals(dates[i], restored[i]);
+            assertEquals(dates[i].getYear(), years[i]);
+            assertEquals(dates[i].getDayOfWeek().getValue(), daysOfWeek[i]);
+            assertEquals(LocalDateUtils.endOfMonth(dates[i]).toEpochDay(), endOfMonths[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> LocalDateUtils.months(epochDays, new int[10]));
+    }
+
+    @Test
+    void weekOfYearEquivalent() {
+        WeekFields weekFields = WeekFields.of(DayOfWeek.MONDAY, 1);
+        for (LocalDate date : new LocalDate[]{LocalDate.MIN, LocalDate.MAX, LocalDate.of(2022, 1, 1), LocalDate.of(2021, 5, 31)}) {
+            assertEquals(date.get(weekFields.weekOfYear()), LocalDateUtils.weekOfYear(date));
+            assertEquals(date.get(weekFields.weekOfMonth()), LocalDateUtils.weekOfMonth(date));
+        }
+    }
+}
@@ -3,11 +3,14 @@ package io.github.lostblackknight.core.date;
 import io.github.lostblackknight.core.date.format.DatePattern;
 import org.junit.jupiter.api.Test;
 
+import java.text.ParsePosition;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
  * @author chensixiang (chensixiang1234@gmail.com) 2022/8/22 13:47
@@ -454,4 +457,24 @@ class LocalTimeUtilsTest {
     void parseTimeOfChinese() {
         System.out.println(LocalTimeUtils.parseOfSimple("165323"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void formatTo() {
+        StringBuilder builder = new StringBuilder();
+        LocalTimeUtils.formatOfChineseTo(localTime, builder);
+        System.out.println(builder);
+        assertEquals(LocalTimeUtils.formatOfChinese(localTime), builder.toString());
+    }
+
+
+    @Test
+    void tryParse() {
+        assertEquals(LocalTime.of(16, 54, 30), LocalTimeUtils.tryParse("16:54:30"));
+        assertNull(LocalTimeUtils.tryParse("16:54:30?"));
+        assertNull(LocalTimeUtils.tryParse("?"));
+        ParsePosition position = new ParsePosition(1);
+        assertEquals(LocalTime.of(16, 54, 30), LocalTimeUtils.tryParse("[16:54:30]", position, DatePattern.NORMAL_TIME));
+        assertEquals(9, position.getIndex());
+        System.out.println(LocalTimeUtils.tryParse("16:54:30", DateTimeFormatter.ISO_LOCAL_TIME));
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.lostblackknight.core.date;
+
+import cn.hutool.core.date.ChineseDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LunarDateUtils} 与 hutool {@link ChineseDate} 的对比，1024 个 1900 到 2099 年之间的随机日期
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 18:10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LunarDateUtilsBenchmark {
+
+    private final int[] epochDays = new int[1024];
+
+    private final LocalDate[] localDates = new LocalDate[1024];
+
+    private final int[] lunars = new int[1024];
+
+    @Setup
+    public void setup() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = (int) LocalDate.of(1900, 2, 1).toEpochDay();
+        final int last = (int) LocalDate.of(2099, 12, 31).toEpochDay();
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = random.nextInt(first, last);
+            localDates[i] = LocalDate.ofEpochDay(epochDays[i]);
+            lunars[i] = LunarDateUtils.toLunar(epochDays[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int toLunar() {
+        int result = 0;
+        for (int epochDay : epochDays) {
+            result ^= LunarDateUtils.toLunar(epochDay);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int toEpochDay() {
+        int result = 0;
+        for (int lunar : lunars) {
+            result ^= LunarDateUtils.toEpochDay(lunar);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int hutoolChineseDate() {
+        int result = 0;
+        for (LocalDate localDate : localDates) {
+            result ^= new ChineseDate(localDate).getDay();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.lostblackknight.core.date;
+
+import cn.hutool.core.date.ChineseDate;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 18:00
+ */
+class LunarDateUtilsTest {
+
+    @Test
+    void toLunar() {
+        final int lunar = LunarDateUtils.toLunar(LocalDate.of(2023, 4, 1));
+        assertEquals(2023, LunarDateUtils.unpackYear(lunar));
+        assertEquals(2, LunarDateUtils.unpackMonth(lunar));
+        assertEquals(11, LunarDateUtils.unpackDay(lunar));
+        assertTrue(LunarDateUtils.isLeapMonth(lunar));
+        assertEquals("癸卯年闰二月十一", LunarDateUtils.format(lunar));
+        assertEquals("壬寅年正月初一", LunarDateUtils.format(LunarDateUtils.toLunar(LocalDate.of(2022, 2, 1))));
+        assertEquals("辛丑年腊月廿九", LunarDateUtils.format(LunarDateUtils.toLunar(LocalDate.of(2022, 1, 31))));
+        assertEquals(LunarDateUtils.pack(1900, 1, 1, false), LunarDateUtils.toLunar(LocalDate.of(1900, 1, 31)));
+        assertEquals(LunarDateUtils.pack(2099, 12, 30, false), LunarDateUtils.toLunar(LocalDate.of(2100, 2, 8)));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toLunar(LocalDate.of(1900, 1, 30)));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toLunar(LocalDate.of(2100, 2, 9)));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toLunar(LocalDate.of(1800, 1, 1)));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toLunar(LocalDate.of(2200, 1, 1)));
+        // 支持范围的两端
+        final int first = (int) LocalDate.of(1900, 1, 31).toEpochDay();
+        final int end = LunarDateUtils.newYearEpochDay(LunarDateUtils.MAX_YEAR) + LunarDateUtils.lengthOfYear(LunarDateUtils.MAX_YEAR);
+        assertEquals(LocalDate.of(2100, 2, 9).toEpochDay(), end);
+        assertEquals(LunarDateUtils.pack(1900, 1, 1, false), LunarDateUtils.toLunar(first));
+        assertEquals(LunarDateUtils.pack(2099, 12, 30, false), LunarDateUtils.toLunar(end - 1));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toLunar(first - 1));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toLunar(end));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toLunar(Integer.MIN_VALUE + 47_000));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toLunar(Integer.MAX_VALUE));
+        // 闰月排在同名的月份之后
+        assertTrue(LunarDateUtils.pack(2023, 2, 30, false) < LunarDateUtils.pack(2023, 2, 1, true));
+        assertTrue(LunarDateUtils.pack(2023, 2, 29, true) < LunarDateUtils.pack(2023, 3, 1, false));
+    }
+
+    @Test
+    void toLocalDate() {
+        assertEquals(LocalDate.of(2023, 3, 22), LunarDateUtils.toLocalDate(2023, 2, 1, true));
+        assertEquals(LocalDate.of(2023, 2, 20), LunarDateUtils.toLocalDate(2023, 2, 1, false));
+        assertEquals(LocalDate.of(2022, 9, 10), LunarDateUtils.toLocalDate(2022, 8, 15, false));
+        assertEquals(LocalDate.of(2022, 2, 1), LunarDateUtils.toLocalDate(LunarDateUtils.pack(2022, 1, 1, false)));
+        assertEquals(LunarDateUtils.newYearEpochDay(2022), LocalDate.of(2022, 2, 1).toEpochDay());
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toEpochDay(2022, 2, 1, true));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toEpochDay(2022, 13, 1, false));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toEpochDay(2022, 1, 0, false));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toEpochDay(2022, 1, 31, false));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.toEpochDay(2100, 1, 1, false));
+    }
+
+    @Test
+    void yearInfo() {
+        assertEquals(2, LunarDateUtils.leapMonth(2023));
+        assertEquals(0, LunarDateUtils.leapMonth(2022));
+        assertEquals(384, LunarDateUtils.lengthOfYear(2023));
+        assertEquals(355, LunarDateUtils.lengthOfYear(2022));
+        assertEquals(29, LunarDateUtils.lengthOfMonth(2023, 2, true));
+        assertEquals(30, LunarDateUtils.lengthOfMonth(2099, 12, false));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.lengthOfMonth(1899, 1, false));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.lengthOfMonth(2100, 1, false));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.lengthOfMonth(2022, 13, false));
+        assertEquals("壬寅", LunarDateUtils.ganZhiYear(2022));
+        assertEquals("甲子", LunarDateUtils.ganZhiYear(1984));
+        assertEquals("虎", LunarDateUtils.zodiac(2022));
+        assertEquals("鼠", LunarDateUtils.zodiac(1984));
+    }
+
+    @Test
+    void names() {
+        assertEquals("正月", LunarDateUtils.monthName(1, false));
+        assertEquals("冬月", LunarDateUtils.monthName(11, false));
+        assertEquals("闰腊月", LunarDateUtils.monthName(12, true));
+        assertEquals("初一", LunarDateUtils.dayName(1));
+        assertEquals("初十", LunarDateUtils.dayName(10));
+        assertEquals("十五", LunarDateUtils.dayName(15));
+        assertEquals("二十", LunarDateUtils.dayName(20));
+        assertEquals("廿一", LunarDateUtils.dayName(21));
+        assertEquals("三十", LunarDateUtils.dayName(30));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.dayName(0));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.dayName(31));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.monthName(0, false));
+        assertThrows(DateTimeException.class, () -> LunarDateUtils.monthName(13, false));
+    }
+
+    @Test
+    void everyDayAgainstHutool() {
+        final int first = (int) LocalDate.of(1900, 1, 31).toEpochDay();
+        final int last = (int) LocalDate.of(2100, 2, 8).toEpochDay();
+        for (int epochDay = first; epochDay <= last; epochDay++) {
+            final LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+            final ChineseDate expected = new ChineseDate(localDate);
+            final int lunar = LunarDateUtils.toLunar(epochDay);
+            final String message = localDate.toString();
+            assertEquals(expected.getChineseYear(), LunarDateUtils.unpackYear(lunar), message);
+            assertEquals(expected.isLeapMonth(), LunarDateUtils.isLeapMonth(lunar), message);
+            // hutool 的闰月为同名月份加 1
+            assertEquals(expected.isLeapMonth() ? expected.getMonth() - 1 : expected.getMonth(),
+                    LunarDateUtils.unpackMonth(lunar), message);
+            assertEquals(expected.getDay(), LunarDateUtils.unpackDay(lunar), message);
+            // hutool 把十月称为寒月
+            assertEquals(expected.getChineseMonth(true).replace("寒月", "十月"), LunarDateUtils.monthName(
+                    LunarDateUtils.unpackMonth(lunar), LunarDateUtils.isLeapMonth(lunar)), message);
+            assertEquals(expected.getChineseDay(), LunarDateUtils.dayName(LunarDateUtils.unpackDay(lunar)), message);
+            assertEquals(epochDay, LunarDateUtils.toEpochDay(lunar), message);
+        }
+        for (int year = LunarDateUtils.MIN_YEAR; year <= LunarDateUtils.MAX_YEAR; year++) {
+            final ChineseDate expected = new ChineseDate(LunarDateUtils.toLocalDate(year, 6, 1, false));
+            assertEquals(expected.getCyclical(), LunarDateUtils.ganZhiYear(year));
+            assertEquals(expected.getChineseZodiac(), LunarDateUtils.zodiac(year));
+        }
+    }
+}
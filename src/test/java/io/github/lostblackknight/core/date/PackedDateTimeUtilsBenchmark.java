@@ -0,0 +1,85 @@
+package io.github.lostblackknight.core.date;
+
+import io.github.lostblackknight.core.date.format.DatePattern;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PackedDateTimeUtils} 与 {@link LocalDateTime} 的对比，排序使用 4096 个随机的日期时间
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 23:10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedDateTimeUtilsBenchmark {
+
+    private final LocalDateTime localDateTime = LocalDateTime.of(2022, 8, 21, 16, 54, 30, 123_000_000);
+
+    private final long packed = PackedDateTimeUtils.of(localDateTime);
+
+    private final LocalDateTime[] localDateTimes = new LocalDateTime[4096];
+
+    private final long[] packedDateTimes = new long[4096];
+
+    @Setup
+    public void setup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < localDateTimes.length; i++) {
+            localDateTimes[i] = localDateTime.plusSeconds(random.nextLong(-500_000_000L, 500_000_000L));
+            packedDateTimes[i] = PackedDateTimeUtils.of(localDateTimes[i]);
+        }
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTimePlusMonths() {
+        return LocalDateTimeUtils.plusMonths(localDateTime, 7);
+    }
+
+    @Benchmark
+    public long plusMonths() {
+        return PackedDateTimeUtils.plusMonths(packed, 7);
+    }
+
+    @Benchmark
+    public long localDateTimeBetweenDays() {
+        return LocalDateTimeUtils.betweenDays(localDateTime, localDateTimes[0]);
+    }
+
+    @Benchmark
+    public long betweenDays() {
+        return PackedDateTimeUtils.betweenDays(packed, packedDateTimes[0]);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTimeParse() {
+        return LocalDateTimeUtils.parse("2022-08-21 16:54:30", DatePattern.NORMAL_DATE_TIME_SECOND);
+    }
+
+    @Benchmark
+    public long parse() {
+        return PackedDateTimeUtils.parse("2022-08-21 16:54:30", DatePattern.NORMAL_DATE_TIME_SECOND);
+    }
+
+    @Benchmark
+    public LocalDateTime[] localDateTimeSort() {
+        LocalDateTime[] copy = localDateTimes.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public long[] sort() {
+        long[] copy = packedDateTimes.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
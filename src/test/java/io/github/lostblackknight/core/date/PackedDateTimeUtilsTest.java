@@ -0,0 +1,161 @@
+package io.github.lostblackknight.core.date;
+
+import io.github.lostblackknight.core.date.format.DateFormatter;
+import io.github.lostblackknight.core.date.format.DatePattern;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongUnaryOperator;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 23:10
+ */
+class PackedDateTimeUtilsTest {
+
+    private final LocalDateTime localDateTime = LocalDateTime.of(2022, 8, 21, 16, 54, 30, 123_000_000);
+
+    private final long packed = PackedDateTimeUtils.of(2022, 8, 21, 16, 54, 30, 123);
+
+    @Test
+    void of() {
+        assertEquals(packed, PackedDateTimeUtils.of(localDateTime));
+        assertEquals(localDateTime, PackedDateTimeUtils.toLocalDateTime(packed));
+        assertEquals(PackedDateTimeUtils.of(2022, 8, 21, 16, 54, 30, 0), PackedDateTimeUtils.of(2022, 8, 21, 16, 54, 30));
+        assertEquals(PackedDateTimeUtils.of(2022, 8, 21, 0, 0), PackedDateTimeUtils.of(2022, 8, 21));
+        assertThrows(DateTimeException.class, () -> PackedDateTimeUtils.of(2022, 2, 29));
+        assertThrows(DateTimeException.class, () -> PackedDateTimeUtils.of(2022, 13, 1));
+        assertThrows(DateTimeException.class, () -> PackedDateTimeUtils.of(2022, 8, 21, 24, 0));
+        assertThrows(DateTimeException.class, () -> PackedDateTimeUtils.of(2022, 8, 21, 16, 54, 30, 1000));
+
+        LocalDateTime bc = LocalDateTime.of(-44, 3, 15, 12, 0);
+        assertEquals(bc, PackedDateTimeUtils.toLocalDateTime(PackedDateTimeUtils.of(bc)));
+        assertEquals(-44, PackedDateTimeUtils.year(PackedDateTimeUtils.of(bc)));
+    }
+
+    @Test
+    void epochMilli() {
+        ZoneId shanghai = ZoneId.of("Asia/Shanghai");
+        long epochMilli = 1661072070123L;
+        assertEquals(packed, PackedDateTimeUtils.ofEpochMilli(epochMilli, shanghai));
+        assertEquals(epochMilli, PackedDateTimeUtils.toEpochMilli(packed, shanghai));
+        assertEquals(LocalDateTimeUtils.toEpochMilli(localDateTime), PackedDateTimeUtils.toEpochMilli(packed));
+        long now = System.currentTimeMillis();
+        assertEquals(now, PackedDateTimeUtils.toEpochMilli(PackedDateTimeUtils.ofEpochMilli(now)));
+    }
+
+    @Test
+    void order() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10000; i++) {
+            LocalDateTime first = randomLocalDateTime(random);
+            LocalDateTime second = random.nextBoolean() ? randomLocalDateTime(random) : first.plusNanos(random.nextLong(-100_000L, 100_000L) * 1_000_000);
+            assertEquals(Integer.signum(first.compareTo(second)),
+                    Long.signum(PackedDateTimeUtils.compare(PackedDateTimeUtils.of(first), PackedDateTimeUtils.of(second))),
+                    first + " " + second);
+        }
+    }
+
+    @Test
+    void formatAndParse() {
+        assertEquals("2022-08-21 16:54:30", PackedDateTimeUtils.format(packed));
+        assertEquals("2022-08-21 16:54:30.123", PackedDateTimeUtils.format(packed, DatePattern.NORMAL_DATE_TIME_MILLI));
+        assertEquals("2022/08/21", PackedDateTimeUtils.format(packed, "yyyy/MM/dd"));
+        assertEquals("2022年08月21日", PackedDateTimeUtils.format(packed, DateFormatter.CHINESE_DATE));
+        assertEquals(packed, PackedDateTimeUtils.parse("2022-08-21 16:54:30.123", DatePattern.NORMAL_DATE_TIME_MILLI));
+        assertEquals(PackedDateTimeUtils.beginOfSecond(packed), PackedDateTimeUtils.parse("2022-08-21 16:54:30"));
+        assertEquals(PackedDateTimeUtils.beginOfSecond(packed), PackedDateTimeUtils.parse("20220821165430", "yyyyMMddHHmmss"));
+        assertEquals(PackedDateTimeUtils.beginOfDay(packed), PackedDateTimeUtils.parse("2022年08月21日", DateFormatter.CHINESE_DATE));
+        assertEquals(PackedDateTimeUtils.beginOfMinute(packed), PackedDateTimeUtils.parse("2022/8/21 16:54", "yyyy/M/d HH:mm"));
+
+        long bc = PackedDateTimeUtils.of(-44, 3, 15, 12, 0);
+        assertEquals(bc, PackedDateTimeUtils.parse(PackedDateTimeUtils.format(bc, "uuuu-MM-dd HH:mm"), "uuuu-MM-dd HH:mm"));
+        assertEquals(LocalDateTimeUtils.format(PackedDateTimeUtils.toLocalDateTime(bc)), PackedDateTimeUtils.format(bc));
+        // 内置格式的年份超出四位时由 DateTimeFormatter 格式化
+        assertEquals(LocalDateTimeUtils.format(PackedDateTimeUtils.toLocalDateTime(bc), "yyyy-MM-dd HH:mm"),
+                PackedDateTimeUtils.format(bc, "yyyy-MM-dd HH:mm"));
+    }
+
+    @Test
+    void equivalentToLocalDateTime() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 20000; i++) {
+            LocalDateTime local = randomLocalDateTime(random);
+            LocalDateTime other = random.nextBoolean() ? randomLocalDateTime(random) : local.plusMinutes(random.nextLong(-800L * 1440, 800L * 1440));
+            assertEquivalent(local, other, random.nextInt(-30, 30));
+        }
+    }
+
+    private LocalDateTime randomLocalDateTime(ThreadLocalRandom random) {
+        return LocalDateTime.of(random.nextInt(-500, 3000), random.nextInt(1, 13), random.nextInt(1, 29),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000) * 1_000_000)
+                .plusDays(random.nextInt(4));
+    }
+
+    private void assertEquivalent(LocalDateTime local, LocalDateTime otherLocal, int amount) {
+        long packed = PackedDateTimeUtils.of(local);
+        long other = PackedDateTimeUtils.of(otherLocal);
+        String message = local + " " + otherLocal;
+        assertEquals(LocalDateTimeUtils.year(local), PackedDateTimeUtils.year(packed), message);
+        assertEquals(LocalDateTimeUtils.month(local), PackedDateTimeUtils.month(packed), message);
+        assertEquals(LocalDateTimeUtils.weekOfYear(local), PackedDateTimeUtils.weekOfYear(packed), message);
+        assertEquals(LocalDateTimeUtils.dayOfYear(local), PackedDateTimeUtils.dayOfYear(packed), message);
+        assertEquals(LocalDateTimeUtils.weekOfMonth(local), PackedDateTimeUtils.weekOfMonth(packed), message);
+        assertEquals(LocalDateTimeUtils.dayOfMonth(local), PackedDateTimeUtils.dayOfMonth(packed), message);
+        assertEquals(LocalDateTimeUtils.dayOfWeek(local), PackedDateTimeUtils.dayOfWeek(packed), message);
+        assertEquals(LocalDateTimeUtils.hourOf12(local), PackedDateTimeUtils.hourOf12(packed), message);
+        assertEquals(LocalDateTimeUtils.minute(local), PackedDateTimeUtils.minute(packed), message);
+        assertEquals(LocalDateTimeUtils.second(local), PackedDateTimeUtils.second(packed), message);
+        assertEquals(LocalDateTimeUtils.milli(local), PackedDateTimeUtils.milli(packed), message);
+        assertEquals(LocalDateTimeUtils.isLeapYear(local), PackedDateTimeUtils.isLeapYear(packed), message);
+        assertEquals(LocalDateTimeUtils.isPM(local), PackedDateTimeUtils.isPM(packed), message);
+        assertEquals(LocalDateTimeUtils.lengthOfYear(local), PackedDateTimeUtils.lengthOfYear(packed), message);
+        assertEquals(LocalDateTimeUtils.lengthOfMonth(local), PackedDateTimeUtils.lengthOfMonth(packed), message);
+
+        List<UnaryOperator<LocalDateTime>> expected = Arrays.asList(
+                t -> LocalDateTimeUtils.plusYears(t, amount), t -> LocalDateTimeUtils.minusMonths(t, amount),
+                t -> LocalDateTimeUtils.plusWeeks(t, amount), t -> LocalDateTimeUtils.minusDays(t, amount),
+                t -> LocalDateTimeUtils.plusHours(t, amount), t -> LocalDateTimeUtils.minusMinutes(t, amount),
+                t -> LocalDateTimeUtils.plusSeconds(t, amount), t -> LocalDateTimeUtils.minusMillis(t, amount),
+                LocalDateTimeUtils::beginOfNextYear, LocalDateTimeUtils::endOfPrevYear,
+                LocalDateTimeUtils::beginOfMonth, LocalDateTimeUtils::endOfNextMonth,
+                LocalDateTimeUtils::beginOfPrevWeek, LocalDateTimeUtils::endOfWeek,
+                LocalDateTimeUtils::beginOfDay, LocalDateTimeUtils::endOfNextDay,
+                LocalDateTimeUtils::beginOfHour, LocalDateTimeUtils::endOfMinute, LocalDateTimeUtils::endOfSecond);
+        List<LongUnaryOperator> actual = Arrays.asList(
+                t -> PackedDateTimeUtils.plusYears(t, amount), t -> PackedDateTimeUtils.minusMonths(t, amount),
+                t -> PackedDateTimeUtils.plusWeeks(t, amount), t -> PackedDateTimeUtils.minusDays(t, amount),
+                t -> PackedDateTimeUtils.plusHours(t, amount), t -> PackedDateTimeUtils.minusMinutes(t, amount),
+                t -> PackedDateTimeUtils.plusSeconds(t, amount), t -> PackedDateTimeUtils.minusMillis(t, amount),
+                PackedDateTimeUtils::beginOfNextYear, PackedDateTimeUtils::endOfPrevYear,
+                PackedDateTimeUtils::beginOfMonth, PackedDateTimeUtils::endOfNextMonth,
+                PackedDateTimeUtils::beginOfPrevWeek, PackedDateTimeUtils::endOfWeek,
+                PackedDateTimeUtils::beginOfDay, PackedDateTimeUtils::endOfNextDay,
+                PackedDateTimeUtils::beginOfHour, PackedDateTimeUtils::endOfMinute, PackedDateTimeUtils::endOfSecond);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(PackedDateTimeUtils.of(expected.get(i).apply(local)), actual.get(i).applyAsLong(packed), message + " #" + i);
+        }
+
+        assertEquals(LocalDateTimeUtils.betweenYears(local, otherLocal, false), PackedDateTimeUtils.betweenYears(packed, other, false), message);
+        assertEquals(LocalDateTimeUtils.betweenMonths(local, otherLocal, false), PackedDateTimeUtils.betweenMonths(packed, other, false), message);
+        assertEquals(LocalDateTimeUtils.betweenWeeks(local, otherLocal), PackedDateTimeUtils.betweenWeeks(packed, other), message);
+        assertEquals(LocalDateTimeUtils.betweenDays(local, otherLocal, false), PackedDateTimeUtils.betweenDays(packed, other, false), message);
+        assertEquals(LocalDateTimeUtils.betweenHours(local, otherLocal, false), PackedDateTimeUtils.betweenHours(packed, other, false), message);
+        assertEquals(LocalDateTimeUtils.betweenSeconds(local, otherLocal, false), PackedDateTimeUtils.betweenSeconds(packed, other, false), message);
+        assertEquals(LocalDateTimeUtils.betweenMillis(local, otherLocal), PackedDateTimeUtils.betweenMillis(packed, other), message);
+        assertEquals(LocalDateTimeUtils.isAfter(local, otherLocal), PackedDateTimeUtils.isAfter(packed, other), message);
+        assertEquals(LocalDateTimeUtils.isEqualMonth(local, otherLocal), PackedDateTimeUtils.isEqualMonth(packed, other), message);
+        assertEquals(LocalDateTimeUtils.isEqualDay(local, otherLocal), PackedDateTimeUtils.isEqualDay(packed, other), message);
+        assertEquals(LocalDateTimeUtils.isEqualHour(local, otherLocal), PackedDateTimeUtils.isEqualHour(packed, other), message);
+        assertEquals(LocalDateTimeUtils.isIn(local, otherLocal, otherLocal.plusDays(amount)),
+                PackedDateTimeUtils.isIn(packed, other, PackedDateTimeUtils.plusDays(other, amount)), message);
+    }
+}
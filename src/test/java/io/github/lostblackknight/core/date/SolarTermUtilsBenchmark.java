@@ -0,0 +1,39 @@
+package io.github.lostblackknight.core.date;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 标注 2022 年全年每天所在的节气：逐天调用 {@link SolarTermUtils#termOf(int)} 与一次遍历的 {@link SolarTermUtils#termsOf(int, SolarTerm[])}
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 19:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolarTermUtilsBenchmark {
+
+    private final int from = (int) LocalDate.of(2022, 1, 1).toEpochDay();
+
+    private final SolarTerm[] terms = new SolarTerm[365];
+
+    @Benchmark
+    public SolarTerm[] termOfEachDay() {
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = SolarTermUtils.termOf(from + i);
+        }
+        return terms;
+    }
+
+    @Benchmark
+    public SolarTerm[] termsOf() {
+        SolarTermUtils.termsOf(from, terms);
+        return terms;
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.lostblackknight.core.date;
+
+import cn.hutool.core.date.chinese.SolarTerms;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 19:20
+ */
+class SolarTermUtilsTest {
+
+    @Test
+    void dateOf() {
+        assertEquals(LocalDate.of(2022, 4, 5), SolarTermUtils.dateOf(2022, SolarTerm.QING_MING));
+        assertEquals(LocalDate.of(2022, 12, 22), SolarTermUtils.dateOf(2022, SolarTerm.DONG_ZHI));
+        assertEquals(LocalDate.of(1900, 1, 6), SolarTermUtils.dateOf(1900, SolarTerm.XIAO_HAN));
+        assertThrows(DateTimeException.class, () -> SolarTermUtils.dateOf(1899, SolarTerm.QING_MING));
+        assertThrows(DateTimeException.class, () -> SolarTermUtils.dateOf(2101, SolarTerm.QING_MING));
+        for (int year = SolarTermUtils.MIN_YEAR; year <= SolarTermUtils.MAX_YEAR; year++) {
+            for (SolarTerm term : SolarTerm.values()) {
+                final LocalDate localDate = SolarTermUtils.dateOf(year, term);
+                assertEquals(term.month(), localDate.getMonthValue());
+                assertEquals(SolarTerms.getTerm(year, term.ordinal() + 1), localDate.getDayOfMonth(), year + " " + term);
+                assertEquals(SolarTerms.getTerm(localDate), term.chineseName());
+            }
+        }
+    }
+
+    @Test
+    void nextAndPrevious() {
+        assertEquals(LocalDate.of(2022, 4, 5), SolarTermUtils.next(LocalDate.of(2022, 4, 4), SolarTerm.QING_MING));
+        assertEquals(LocalDate.of(2023, 4, 5), SolarTermUtils.next(LocalDate.of(2022, 4, 5), SolarTerm.QING_MING));
+        assertEquals(LocalDate.of(2022, 12, 22), SolarTermUtils.next(LocalDate.of(2022, 1, 1), SolarTerm.DONG_ZHI));
+        assertEquals(LocalDate.of(2021, 4, 4), SolarTermUtils.previous(LocalDate.of(2022, 4, 5), SolarTerm.QING_MING));
+        assertEquals(LocalDate.of(2022, 4, 5), SolarTermUtils.previous(LocalDate.of(2022, 4, 6), SolarTerm.QING_MING));
+        assertThrows(DateTimeException.class, () -> SolarTermUtils.next(LocalDate.of(2100, 12, 31), SolarTerm.QING_MING));
+    }
+
+    @Test
+    void termOfEveryDay() {
+        assertEquals(SolarTerm.QING_MING, SolarTermUtils.termOn(LocalDate.of(2022, 4, 5)));
+        assertNull(SolarTermUtils.termOn(LocalDate.of(2022, 4, 6)));
+        assertEquals(SolarTerm.QING_MING, SolarTermUtils.termOf(LocalDate.of(2022, 4, 19)));
+        assertEquals(SolarTerm.GU_YU, SolarTermUtils.termOf(LocalDate.of(2022, 4, 20)));
+        assertEquals(SolarTerm.DONG_ZHI, SolarTermUtils.termOf(LocalDate.of(2022, 1, 4)));
+        assertThrows(DateTimeException.class, () -> SolarTermUtils.termOf(LocalDate.of(1900, 1, 5)));
+        assertThrows(DateTimeException.class, () -> SolarTermUtils.termOf(LocalDate.of(2101, 1, 1)));
+
+        final LocalDate first = LocalDate.of(1900, 1, 6);
+        final LocalDate last = LocalDate.of(2100, 12, 31);
+        final SolarTerm[] terms = SolarTermUtils.termsOf(first, last);
+        SolarTerm expected = null;
+        int i = 0;
+        for (LocalDate localDate = first; !localDate.isAfter(last); localDate = localDate.plusDays(1), i++) {
+            final String name = SolarTerms.getTerm(localDate);
+            final SolarTerm on = SolarTermUtils.termOn(localDate);
+            assertEquals(name, on == null ? "" : on.chineseName(), localDate.toString());
+            if (on != null) {
+                expected = on;
+            }
+            assertEquals(expected, SolarTermUtils.termOf(localDate), localDate.toString());
+            assertEquals(expected, terms[i], localDate.toString());
+        }
+        assertEquals(i, terms.length);
+    }
+
+    @Test
+    void termsOf() {
+        final SolarTerm[] terms = new SolarTerm[40];
+        SolarTermUtils.termsOf((int) LocalDate.of(2021, 12, 15).toEpochDay(), terms);
+        assertEquals(SolarTerm.DA_XUE, terms[0]);
+        assertEquals(SolarTerm.DONG_ZHI, terms[6]);
+        assertEquals(SolarTerm.XIAO_HAN, terms[21]);
+        assertEquals(SolarTerm.DA_HAN, terms[36]);
+
+        final SolarTerm[] january = new SolarTerm[30];
+        SolarTermUtils.termsOf((int) LocalDate.of(2022, 1, 2).toEpochDay(), january);
+        assertEquals(SolarTerm.DONG_ZHI, january[0]);
+        assertEquals(SolarTerm.XIAO_HAN, january[3]);
+
+        assertEquals(0, SolarTermUtils.termsOf(LocalDate.of(2022, 1, 2), LocalDate.of(2022, 1, 1)).length);
+        assertThrows(DateTimeException.class, () -> SolarTermUtils.termsOf(LocalDate.of(2100, 12, 1), LocalDate.of(2101, 1, 1)));
+
+        final List<LocalDate> days = new ArrayList<>();
+        SolarTermUtils.forEach(LocalDate.of(2022, 4, 4), LocalDate.of(2022, 4, 6), (localDate, term) -> {
+            days.add(localDate);
+            assertEquals(localDate.getDayOfMonth() < 5 ? SolarTerm.CHUN_FEN : SolarTerm.QING_MING, term);
+        });
+        assertEquals(3, days.size());
+    }
+
+    @Test
+    void solarTerm() {
+        assertEquals(SolarTerm.QING_MING, SolarTerm.of("清明"));
+        assertEquals(SolarTerm.DONG_ZHI, SolarTerm.of(23));
+        assertEquals(4, SolarTerm.QING_MING.month());
+        assertEquals("清明", SolarTerm.QING_MING.toString());
+        assertThrows(IllegalArgumentException.class, () -> SolarTerm.of("清明节"));
+    }
+}
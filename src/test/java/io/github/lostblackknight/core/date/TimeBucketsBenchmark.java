@@ -0,0 +1,68 @@
+package io.github.lostblackknight.core.date;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TimeBuckets} 与截断为 {@link LocalDateTime} 后放入 HashMap 分组的对比，4096 个一天内的随机时间戳
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 13:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeBucketsBenchmark {
+
+    private final ZoneId zone = ZoneId.of("Asia/Shanghai");
+
+    private final long origin = 1661011200000L;
+
+    private final long[] epochMillis = new long[4096];
+
+    private final long[] values = new long[4096];
+
+    private final TimeBuckets buckets = TimeBuckets.of(origin, ChronoUnit.HOURS, zone);
+
+    @Setup
+    public void setup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = origin + random.nextLong(86_400_000L);
+            values[i] = random.nextLong(1000);
+        }
+    }
+
+    @Benchmark
+    public Map<LocalDateTime, long[]> hashMap() {
+        final Map<LocalDateTime, long[]> sums = new HashMap<>();
+        for (int i = 0; i < epochMillis.length; i++) {
+            final LocalDateTime hour = LocalDateTimeUtils.beginOfHour(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis[i]), zone));
+            final long[] sum = sums.computeIfAbsent(hour, k -> new long[2]);
+            sum[0]++;
+            sum[1] += values[i];
+        }
+        return sums;
+    }
+
+    @Benchmark
+    public TimeBuckets.Aggregation aggregate() {
+        return buckets.aggregate(epochMillis, values, 24);
+    }
+
+    @Benchmark
+    public long[] count() {
+        return buckets.count(epochMillis, 24);
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.lostblackknight.core.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/19 13:20
+ */
+class TimeBucketsTest {
+
+    private static final ChronoUnit[] UNITS = {ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS, ChronoUnit.WEEKS,
+            ChronoUnit.MONTHS, ChronoUnit.YEARS};
+
+    private static final String[] ZONES = {"UTC", "Asia/Shanghai", "America/New_York", "Australia/Lord_Howe", "+05:30"};
+
+    private final ZoneId shanghai = ZoneId.of("Asia/Shanghai");
+
+    private final long origin = EpochMillisUtils.of(2022, 8, 21, 16, 54, 30, shanghai);
+
+    @Test
+    void of() {
+        TimeBuckets days = TimeBuckets.of(origin, ChronoUnit.DAYS, shanghai);
+        assertEquals(LocalDateTime.of(2022, 8, 21, 0, 0), days.beginLocalDateTime(0));
+        assertEquals(LocalDateTime.of(2022, 8, 22, 0, 0), days.beginLocalDateTime(1));
+        assertEquals(0, days.index(origin));
+        assertEquals(-1, days.index(EpochMillisUtils.of(2022, 8, 20, 23, 59, 59, shanghai)));
+        assertEquals(EpochMillisUtils.beginOfDay(origin, shanghai), days.begin(0));
+        assertEquals(EpochMillisUtils.endOfDay(origin, shanghai), days.end(0));
+        assertEquals(ChronoUnit.DAYS, days.unit());
+        assertEquals(shanghai, days.zone());
+
+        TimeBuckets weeks = TimeBuckets.of(origin, ChronoUnit.WEEKS, shanghai);
+        assertEquals(LocalDateTime.of(2022, 8, 15, 0, 0), weeks.beginLocalDateTime(0));
+        TimeBuckets months = TimeBuckets.of(origin, ChronoUnit.MONTHS, shanghai);
+        assertEquals(LocalDateTime.of(2022, 10, 1, 0, 0), months.beginLocalDateTime(2));
+        assertEquals(EpochMillisUtils.of(2022, 10, 31, 23, 59, 59, shanghai) + 999, months.end(2));
+        TimeBuckets years = TimeBuckets.of(origin, ChronoUnit.YEARS, shanghai);
+        assertEquals(LocalDateTime.of(2021, 1, 1, 0, 0), years.beginLocalDateTime(-1));
+        assertThrows(IllegalArgumentException.class, () -> TimeBuckets.of(origin, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void dayAligned() {
+        // 15:30 落在从 00:00 开始的周桶、月桶中，与 beginOfDay(beginOfWeek(..)) 一致，而不是 beginOfWeek(..) 保留的 15:30
+        LocalDateTime afternoon = LocalDateTime.of(2022, 8, 24, 15, 30);
+        long epochMilli = afternoon.atZone(shanghai).toInstant().toEpochMilli();
+        TimeBuckets weeks = TimeBuckets.of(epochMilli, ChronoUnit.WEEKS, shanghai);
+        assertEquals(LocalDateTime.of(2022, 8, 22, 0, 0), weeks.beginLocalDateTime(0));
+        assertEquals(LocalDateTimeUtils.beginOfDay(LocalDateTimeUtils.beginOfWeek(afternoon)), weeks.beginLocalDateTime(0));
+        assertNotEquals(LocalDateTimeUtils.beginOfWeek(afternoon), weeks.beginLocalDateTime(0));
+        assertEquals(0, weeks.index(epochMilli));
+        assertEquals(0, weeks.index(EpochMillisUtils.of(2022, 8, 22, 0, 0, 0, shanghai)));
+        assertEquals(-1, weeks.index(EpochMillisUtils.of(2022, 8, 21, 23, 59, 59, shanghai)));
+
+        TimeBuckets months = TimeBuckets.of(epochMilli, ChronoUnit.MONTHS, shanghai);
+        assertEquals(LocalDateTime.of(2022, 8, 1, 0, 0), months.beginLocalDateTime(0));
+        assertEquals(LocalDateTimeUtils.beginOfDay(LocalDateTimeUtils.beginOfMonth(afternoon)), months.beginLocalDateTime(0));
+        assertNotEquals(LocalDateTimeUtils.beginOfMonth(afternoon), months.beginLocalDateTime(0));
+        assertEquals(0, months.index(EpochMillisUtils.of(2022, 8, 1, 0, 0, 0, shanghai)));
+        assertEquals(EpochMillisUtils.of(2022, 8, 1, 0, 0, 0, shanghai), months.begin(0));
+    }
+
+    @Test
+    void equivalentToLocalDateTime() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            for (ChronoUnit unit : UNITS) {
+                long origin = random.nextLong(0, 3_000_000_000_000L);
+                TimeBuckets buckets = TimeBuckets.of(origin, unit, zone);
+                UnaryOperator<LocalDateTime> truncate = truncate(unit);
+                LocalDateTime originLocal = truncate.apply(LocalDateTime.ofInstant(Instant.ofEpochMilli(origin), zone));
+                long span = unit == ChronoUnit.MINUTES ? 86_400_000L : unit == ChronoUnit.HOURS ? 30 * 86_400_000L : 3000 * 86_400_000L;
+                long[] epochMillis = new long[3000];
+                long epochMilli = origin - span / 2;
+                for (int i = 0; i < epochMillis.length; i++) {
+                    epochMilli = i % 2 == 0 ? epochMilli + random.nextLong(0, span / 1000) : origin + random.nextLong(-span, span);
+                    epochMillis[i] = epochMilli;
+                }
+                int[] indexes = new int[epochMillis.length];
+                buckets.indexes(epochMillis, indexes);
+                for (int i = 0; i < epochMillis.length; i++) {
+                    LocalDateTime local = truncate.apply(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis[i]), zone));
+                    long expected = unit.between(originLocal, local);
+                    String message = zone + " " + unit + " " + origin + " " + epochMillis[i];
+                    assertEquals(expected, indexes[i], message);
+                    assertEquals(expected, buckets.index(epochMillis[i]), message);
+                    assertEquals(local, buckets.beginLocalDateTime(indexes[i]), message);
+                    assertTrue(buckets.begin(indexes[i]) <= epochMillis[i] && epochMillis[i] <= buckets.end(indexes[i]), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void aggregate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        TimeBuckets buckets = TimeBuckets.of(origin, ChronoUnit.HOURS, shanghai);
+        long[] epochMillis = new long[10000];
+        long[] values = new long[epochMillis.length];
+        Map<LocalDateTime, long[]> expected = new HashMap<>();
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = origin + random.nextLong(-3_600_000L, 48 * 3_600_000L);
+            values[i] = random.nextLong(-1000, 1000);
+            LocalDateTime hour = LocalDateTimeUtils.beginOfHour(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis[i]), shanghai));
+            long[] stat = expected.computeIfAbsent(hour, k -> new long[]{0, 0, Long.MAX_VALUE, Long.MIN_VALUE});
+            stat[0]++;
+            stat[1] += values[i];
+            stat[2] = Math.min(stat[2], values[i]);
+            stat[3] = Math.max(stat[3], values[i]);
+        }
+        int bucketCount = 24;
+        long[] counts = buckets.count(epochMillis, bucketCount);
+        TimeBuckets.Aggregation aggregation = buckets.aggregate(epochMillis, values, bucketCount);
+        // 分两段统计后合并，结果相同
+        TimeBuckets.Aggregation merged = buckets.aggregate(epochMillis, values, 0, 5000, new TimeBuckets.Aggregation(bucketCount))
+                .merge(buckets.aggregate(epochMillis, values, 5000, epochMillis.length, new TimeBuckets.Aggregation(bucketCount)));
+        long inRange = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            long[] stat = expected.getOrDefault(buckets.beginLocalDateTime(i), new long[]{0, 0, Long.MAX_VALUE, Long.MIN_VALUE});
+            for (TimeBuckets.Aggregation a : new TimeBuckets.Aggregation[]{aggregation, merged}) {
+                assertEquals(stat[0], a.count(i));
+                assertEquals(stat[1], a.sum(i));
+                assertEquals(stat[2], a.min(i));
+                assertEquals(stat[3], a.max(i));
+            }
+            assertEquals(stat[0], counts[i]);
+            inRange += stat[0];
+        }
+        assertEquals(epochMillis.length - inRange, aggregation.dropped());
+        assertEquals(aggregation.dropped(), merged.dropped());
+        assertEquals(bucketCount, merged.bucketCount());
+        assertThrows(IllegalArgumentException.class, () -> aggregation.merge(new TimeBuckets.Aggregation(1)));
+        assertTrue(Double.isNaN(new TimeBuckets.Aggregation(1).average(0)));
+    }
+
+    @Test
+    void parallelAggregate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] epochMillis = new long[1_000_000];
+        long[] values = new long[epochMillis.length];
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = origin + random.nextLong(-86_400_000L, 400 * 86_400_000L);
+            values[i] = random.nextLong(-1000, 1000);
+        }
+        for (ChronoUnit unit : UNITS) {
+            TimeBuckets buckets = TimeBuckets.of(origin, unit, shanghai);
+            int bucketCount = 200;
+            TimeBuckets.Aggregation expected = buckets.aggregate(epochMillis, values, bucketCount);
+            TimeBuckets.Aggregation actual = buckets.parallelAggregate(epochMillis, values, bucketCount);
+            long[] counts = buckets.parallelCount(epochMillis, bucketCount);
+            assertArrayEquals(buckets.count(epochMillis, bucketCount), counts);
+            for (int i = 0; i < bucketCount; i++) {
+                assertEquals(expected.count(i), actual.count(i));
+                assertEquals(expected.sum(i), actual.sum(i));
+                assertEquals(expected.min(i), actual.min(i));
+                assertEquals(expected.max(i), actual.max(i));
+                assertEquals(expected.count(i), counts[i]);
+            }
+            assertEquals(expected.dropped(), actual.dropped());
+        }
+        assertThrows(IllegalArgumentException.class, () -> TimeBuckets.of(origin, ChronoUnit.DAYS, shanghai)
+                .parallelAggregate(epochMillis, new long[1], 10));
+    }
+
+    private UnaryOperator<LocalDateTime> truncate(ChronoUnit unit) {
+        switch (unit) {
+            case MINUTES:
+                return LocalDateTimeUtils::beginOfMinute;
+            case HOURS:
+                return LocalDateTimeUtils::beginOfHour;
+            case DAYS:
+                return LocalDateTimeUtils::beginOfDay;
+            case WEEKS:
+                return t -> LocalDateTimeUtils.beginOfDay(LocalDateTimeUtils.beginOfWeek(t));
+            case MONTHS:
+                return t -> LocalDateTimeUtils.beginOfDay(LocalDateTimeUtils.beginOfMonth(t));
+            default:
+                return t -> LocalDateTimeUtils.beginOfDay(LocalDateTimeUtils.beginOfYear(t));
+        }
+    }
+}
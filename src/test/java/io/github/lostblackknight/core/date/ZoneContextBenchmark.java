@@ -0,0 +1,68 @@
+package io.github.lostblackknight.core.date;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ZoneContext} 的基准测试
+ * <p>legacy* 为每次调用 {@link ZoneId#systemDefault()} 并创建 ZonedDateTime 的旧实现，context* 为通过 {@link ZoneContext} 的换算，
+ * newYork* 为有夏令时的时区
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 19:55
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneContextBenchmark {
+
+    private final LocalDateTime localDateTime = LocalDateTime.of(2022, 8, 21, 16, 54, 30);
+
+    private final Date date = new Date(1661072070000L);
+
+    private final ZoneId newYork = ZoneId.of("America/New_York");
+
+    @Benchmark
+    public long legacyToEpochMilli() {
+        return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Benchmark
+    public long contextToEpochMilli() {
+        return LocalDateTimeUtils.toEpochMilli(localDateTime);
+    }
+
+    @Benchmark
+    public long newYorkLegacyToEpochMilli() {
+        return localDateTime.atZone(newYork).toInstant().toEpochMilli();
+    }
+
+    @Benchmark
+    public long newYorkContextToEpochMilli() {
+        return LocalDateTimeUtils.toEpochMilli(localDateTime, newYork);
+    }
+
+    @Benchmark
+    public LocalDateTime legacyToLocalDateTime() {
+        return LocalDateTime.from(date.toInstant().atZone(ZoneId.systemDefault()));
+    }
+
+    @Benchmark
+    public LocalDateTime contextToLocalDateTime() {
+        return LocalDateTimeUtils.toLocalDateTime(date);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ZoneContextBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.lostblackknight.core.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 19:40
+ */
+class ZoneContextTest {
+
+    private static final String[] ZONES = {"UTC", "Asia/Shanghai", "America/New_York", "Europe/London",
+            "Australia/Lord_Howe", "America/Sao_Paulo", "Pacific/Apia", "+05:30"};
+
+    @Test
+    void of() {
+        assertSame(ZoneContext.of(ZoneId.of("Asia/Shanghai")), ZoneContext.of(ZoneId.of("Asia/Shanghai")));
+        assertTrue(ZoneContext.of(ZoneOffset.ofHours(8)).isFixedOffset());
+        assertFalse(ZoneContext.of(ZoneId.of("America/New_York")).isFixedOffset());
+        assertEquals(ZoneId.systemDefault(), ZoneContext.system().zone());
+        assertEquals(LocalDate.of(1969, 12, 31), ZoneContext.of(ZoneId.of("America/New_York")).epochDate());
+        System.out.println(ZoneContext.system());
+    }
+
+    @Test
+    void toLocal() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneContext context = ZoneContext.of(zone);
+            long epochMilli = random.nextLong(-2_000_000_000_000L, 4_000_000_000_000L);
+            for (int i = 0; i < 20000; i++) {
+                // 大部分是小步前进，偶尔随机跳转，覆盖区间命中和区间重建
+                epochMilli = random.nextInt(50) == 0 ? random.nextLong(-2_000_000_000_000L, 4_000_000_000_000L)
+                        : epochMilli + random.nextLong(0, 6 * 3_600_000L);
+                LocalDateTime expected = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), zone);
+                assertEquals(expected, context.toLocalDateTime(epochMilli), id);
+                assertEquals(expected.toLocalDate(), context.toLocalDate(epochMilli), id);
+                assertEquals(expected.toLocalTime(), context.toLocalTime(epochMilli), id);
+                assertEquals(zone.getRules().getOffset(Instant.ofEpochMilli(epochMilli)), context.offsetOf(epochMilli), id);
+            }
+        }
+    }
+
+    @Test
+    void toEpochMilli() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneContext context = ZoneContext.of(zone);
+            LocalDateTime localDateTime = LocalDateTime.of(1950, 1, 1, 0, 0);
+            for (int i = 0; i < 20000; i++) {
+                // 步长为 7 分钟的整数倍，会落入夏令时的间隙和重叠
+                localDateTime = random.nextInt(50) == 0
+                        ? LocalDateTime.of(random.nextInt(1900, 2100), random.nextInt(1, 13), random.nextInt(1, 29), random.nextInt(24), random.nextInt(60))
+                        : localDateTime.plusMinutes(7L * random.nextInt(1, 60)).withNano(random.nextInt(1000) * 1_000_000);
+                assertEquals(localDateTime.atZone(zone).toInstant().toEpochMilli(), context.toEpochMilli(localDateTime), id + " " + localDateTime);
+                assertEquals(localDateTime.toLocalDate().atStartOfDay().atZone(zone).toInstant().toEpochMilli(),
+                        context.toEpochMilli(localDateTime.toLocalDate()), id);
+            }
+        }
+    }
+
+    @Test
+    void gapAndOverlap() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        ZoneContext context = ZoneContext.of(zone);
+        LocalDateTime gap = LocalDateTime.of(2022, 3, 13, 2, 30);
+        LocalDateTime overlap = LocalDateTime.of(2022, 11, 6, 1, 30);
+        assertEquals(gap.atZone(zone).toInstant().toEpochMilli(), context.toEpochMilli(gap));
+        assertEquals(overlap.atZone(zone).toInstant().toEpochMilli(), context.toEpochMilli(overlap));
+        assertEquals(overlap.plusHours(1).atZone(zone).toInstant().toEpochMilli(), context.toEpochMilli(overlap.plusHours(1)));
+    }
+
+    @Test
+    void baseUtils() {
+        ZoneId zone = ZoneId.of("Asia/Tokyo");
+        LocalDateTime localDateTime = LocalDateTime.of(2022, 8, 21, 16, 54, 30, 123_000_000);
+        assertEquals(localDateTime.atZone(zone).toInstant().toEpochMilli(), LocalDateTimeUtils.toEpochMilli(localDateTime, zone));
+        assertEquals(localDateTime, LocalDateTimeUtils.toLocalDateTime(LocalDateTimeUtils.toDate(localDateTime, zone), zone));
+        assertEquals(localDateTime, LocalDateTimeUtils.of(localDateTime.atZone(zone).toInstant().toEpochMilli(), zone));
+        assertEquals(localDateTime.toLocalDate(), LocalDateUtils.of(localDateTime.atZone(zone).toInstant().toEpochMilli(), zone));
+        assertEquals(localDateTime.toLocalTime(), LocalTimeUtils.of(localDateTime.atZone(zone).toInstant().toEpochMilli(), zone));
+        assertEquals(LocalDate.of(1970, 1, 1), LocalDateTimeUtils.toLocalDate(LocalTime.NOON, zone));
+    }
+}
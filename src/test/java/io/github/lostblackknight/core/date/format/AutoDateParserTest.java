@@ -0,0 +1,70 @@
+package io.github.lostblackknight.core.date.format;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 17:45
+ */
+class AutoDateParserTest {
+
+    @Test
+    void parseAllPatterns() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime localDateTime = LocalDateTime.of(random.nextInt(1000, 10000), random.nextInt(1, 13), random.nextInt(1, 29),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000) * 1_000_000);
+            for (DatePattern datePattern : DatePattern.values()) {
+                String text = DateFormatter.format(localDateTime, datePattern);
+                String detected = AutoDateParser.getDefault().detect(text);
+                assertNotNull(detected, text);
+                assertEquals(DateParser.parseLocalDateTime(text, detected), DateParser.parseAuto(text), text);
+            }
+        }
+    }
+
+    @Test
+    void ambiguous() {
+        assertEquals("yyyyMM", AutoDateParser.getDefault().detect("202208"));
+        assertEquals(LocalDateTime.of(2022, 8, 1, 0, 0), DateParser.parseAuto("202208"));
+        assertEquals("HHmmss", AutoDateParser.getDefault().detect("235959"));
+        assertEquals(23, DateParser.parseAuto("235959").getHour());
+        System.out.println(DateParser.parseAuto("2022年08月21日 16时54分30秒".replace(" ", "")));
+    }
+
+    @Test
+    void smartResolve() {
+        assertEquals(LocalDateTime.of(2022, 2, 28, 0, 0), DateParser.parseAuto("2022-02-30"));
+        assertNull(DateParser.tryParseAuto("2022-13-01"));
+    }
+
+    @Test
+    void invalid() {
+        assertNull(DateParser.tryParseAuto(""));
+        assertNull(DateParser.tryParseAuto("2022/08/21"));
+        assertNull(DateParser.tryParseAuto("2022-08-21T16:54:30"));
+        assertThrows(DateTimeParseException.class, () -> DateParser.parseAuto("abc"));
+    }
+
+    @Test
+    void register() {
+        AutoDateParser parser = new AutoDateParser()
+                .register("yyyy/MM/dd")
+                .register("yyyy/M/d HH:mm")
+                .register("yyyy/MM/dd");
+        assertEquals(LocalDateTime.of(2022, 8, 21, 0, 0), parser.parse("2022/08/21"));
+        assertEquals(LocalDateTime.of(2022, 8, 1, 9, 5), parser.parse("2022/8/1 09:05"));
+        assertEquals("yyyy/M/d HH:mm", parser.detect("2022/8/1 09:05"));
+        assertEquals(LocalDateTime.of(2022, 8, 21, 16, 54), parser.parse("2022-08-21 16:54"));
+        assertEquals(1, parser.patterns().stream().filter("yyyy/MM/dd"::equals).count());
+        assertNull(AutoDateParser.getDefault().tryParse("2022/08/21"));
+        assertThrows(IllegalArgumentException.class, () -> parser.register("yyyy-MM-dd {"));
+        System.out.println(parser.patterns());
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.lostblackknight.core.date.format;
+
+import io.github.lostblackknight.core.date.LocalDateTimeUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DateParser#parseEpochMillis(CharSequence[], DatePattern, long[])} 的基准测试
+ * <p>perRow 为逐行解析为 {@link LocalDateTime} 后再转换为毫秒，bulk 为批量解析
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 18:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkParseBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    private final String[] src = new String[SIZE];
+
+    private final long[] dst = new long[SIZE];
+
+    @Setup
+    public void setup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long base = LocalDateTime.of(2022, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        for (int i = 0; i < SIZE; i++) {
+            src[i] = DateFormatter.format(LocalDateTime.ofEpochSecond(base + i * 30L + random.nextInt(30), 0, ZoneOffset.UTC),
+                    DatePattern.NORMAL_DATE_TIME_SECOND);
+        }
+    }
+
+    @Benchmark
+    public long[] perRow() {
+        ZoneId zone = ZoneId.systemDefault();
+        for (int i = 0; i < SIZE; i++) {
+            dst[i] = LocalDateTimeUtils.parse(src[i]).atZone(zone).toInstant().toEpochMilli();
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public BitSet bulk() {
+        return DateParser.parseEpochMillis(src, DatePattern.NORMAL_DATE_TIME_SECOND, dst);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BulkParseBenchmark.class.getSimpleName()).build()).run();
+    }
+}
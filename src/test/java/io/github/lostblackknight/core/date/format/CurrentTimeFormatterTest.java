@@ -0,0 +1,74 @@
+package io.github.lostblackknight.core.date.format;
+
+import io.github.lostblackknight.core.date.ClockProvider;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 16:05
+ */
+class CurrentTimeFormatterTest {
+
+    @Test
+    void format() {
+        for (DatePattern datePattern : new DatePattern[]{DatePattern.NORMAL_DATE_TIME_MILLI, DatePattern.CHINESE_DATE_TIME_MILLI}) {
+            String text = CurrentTimeFormatter.of(datePattern).format();
+            assertEquals(DateLayout.of(datePattern).length(), text.length());
+            long epochMilli = DateParser.parseLocalDateTime(text, datePattern).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            assertTrue(Math.abs(ClockProvider.millis() - epochMilli) < 1000, text);
+        }
+        assertSame(CurrentTimeFormatter.of(DatePattern.NORMAL_DATE_TIME_SECOND), CurrentTimeFormatter.of(DatePattern.NORMAL_DATE_TIME_SECOND));
+    }
+
+    @Test
+    void formatEpochMilli() {
+        long base = System.currentTimeMillis();
+        for (DatePattern datePattern : DatePattern.values()) {
+            CurrentTimeFormatter formatter = CurrentTimeFormatter.of(datePattern);
+            for (int i = 0; i < 3000; i++) {
+                long epochMilli = base + ThreadLocalRandom.current().nextInt(-2000, 2000);
+                String expected = DateFormatter.ofDatePattern(datePattern)
+                        .format(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault()));
+                assertEquals(expected, formatter.format(epochMilli));
+            }
+        }
+    }
+
+    @Test
+    void concurrent() throws InterruptedException {
+        CurrentTimeFormatter formatter = CurrentTimeFormatter.of(DatePattern.NORMAL_DATE_TIME_MILLI);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 20000; i++) {
+                        long epochMilli = System.currentTimeMillis() + i;
+                        assertEquals(DateFormatter.ofDatePattern(DatePattern.NORMAL_DATE_TIME_MILLI)
+                                        .format(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault())),
+                                formatter.format(epochMilli));
+                    }
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(errors.isEmpty(), errors.toString());
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.lostblackknight.core.date.format;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 15:10
+ */
+class DateFormatterTest {
+
+    private final LocalDateTime localDateTime = LocalDateTime.of(2022, 8, 21, 9, 43, 5, 7_000_000);
+
+    @Test
+    void formatToBytes() {
+        for (DatePattern datePattern : DatePattern.values()) {
+            if (!datePattern.type().equals("Chinese")) {
+                byte[] dst = new byte[32];
+                int end = DateFormatter.formatTo(localDateTime, datePattern, dst, 3);
+                String text = new String(dst, 3, end - 3, StandardCharsets.US_ASCII);
+                System.out.println(text);
+                assertEquals(DateFormatter.format(localDateTime, datePattern), text);
+            }
+        }
+    }
+
+    @Test
+    void formatToByteBuffer() {
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+            buffer.put((byte) '[');
+            DateFormatter.formatTo(localDateTime, DatePattern.NORMAL_DATE_TIME_MILLI, buffer).put((byte) ']');
+            buffer.flip();
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            assertEquals("[2022-08-21 09:43:05.007]", new String(bytes, StandardCharsets.US_ASCII));
+        }
+        ByteBuffer small = ByteBuffer.allocate(8);
+        assertThrows(BufferOverflowException.class, () -> DateFormatter.formatTo(localDateTime, DatePattern.NORMAL_DATE_TIME_SECOND, small));
+        assertEquals(0, small.position());
+    }
+
+    @Test
+    void formatToEpochMilli() {
+        long epochMilli = localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        byte[] dst = new byte[14];
+        DateFormatter.formatTo(new Date(epochMilli), DatePattern.SIMPLE_DATE_TIME_SECOND, dst, 0);
+        assertEquals("20220821094305", new String(dst, StandardCharsets.US_ASCII));
+        ByteBuffer buffer = ByteBuffer.allocate(23);
+        DateFormatter.formatTo(epochMilli, DatePattern.NORMAL_DATE_TIME_MILLI, buffer);
+        assertEquals("2022-08-21 09:43:05.007", new String(buffer.array(), StandardCharsets.US_ASCII));
+        // 1970 年之前及四位数字之外的年份
+        for (LocalDateTime time : new LocalDateTime[]{LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000),
+                LocalDateTime.of(12022, 8, 21, 9, 43, 5)}) {
+            long millis = time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            byte[] bytes = new byte[32];
+            int end = DateFormatter.formatTo(millis, DatePattern.NORMAL_DATE_TIME_MILLI, bytes, 0);
+            assertEquals(DateFormatter.NORMAL_DATE_TIME_MILLI.format(time), new String(bytes, 0, end, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    void notAscii() {
+        assertThrows(IllegalArgumentException.class, () -> DateFormatter.formatTo(localDateTime, DatePattern.CHINESE_DATE, new byte[32], 0));
+    }
+
+    @Test
+    void parseBytes() {
+        byte[] src = "id=2022-08-21 09:43:05.007;".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(localDateTime, DateParser.parseLocalDateTime(src, 3, 23, DatePattern.NORMAL_DATE_TIME_MILLI));
+        ByteBuffer direct = ByteBuffer.allocateDirect(src.length);
+        direct.put(src);
+        assertEquals(localDateTime, DateParser.parseLocalDateTime(direct, 3, 23, DatePattern.NORMAL_DATE_TIME_MILLI));
+        assertEquals(localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                DateParser.parseEpochMilli(src, 3, 23, DatePattern.NORMAL_DATE_TIME_MILLI));
+        assertThrows(DateTimeParseException.class, () -> DateParser.parseLocalDateTime(src, 0, 23, DatePattern.NORMAL_DATE_TIME_MILLI));
+        assertThrows(IndexOutOfBoundsException.class, () -> DateParser.parseLocalDateTime(src, 10, 23, DatePattern.NORMAL_DATE_TIME_MILLI));
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.lostblackknight.core.date.format;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 13:50
+ */
+class DateLayoutTest {
+
+    private final Random random = new Random(20221018L);
+
+    @Test
+    void format() {
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime localDateTime = randomLocalDateTime();
+            for (DatePattern datePattern : DatePattern.values()) {
+                DateTimeFormatter formatter = DateFormatter.ofDatePattern(datePattern);
+                assertEquals(formatter.format(localDateTime), DateFormatter.format(localDateTime, datePattern));
+                assertEquals(formatter.format(localDateTime), DateFormatter.format(localDateTime, datePattern.pattern()));
+                if (!DateLayout.of(datePattern).hasTime()) {
+                    assertEquals(formatter.format(localDateTime.toLocalDate()),
+                            DateFormatter.format(localDateTime.toLocalDate(), datePattern));
+                }
+                if (!DateLayout.of(datePattern).hasDate()) {
+                    assertEquals(formatter.format(localDateTime.toLocalTime()),
+                            DateFormatter.format(localDateTime.toLocalTime(), datePattern));
+                }
+            }
+        }
+    }
+
+    @Test
+    void parse() {
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime localDateTime = randomLocalDateTime();
+            for (DatePattern datePattern : DatePattern.values()) {
+                DateTimeFormatter formatter = DateFormatter.ofDatePattern(datePattern);
+                String text = formatter.format(localDateTime);
+                assertEquals(DateParser.parseLocalDateTime(text, formatter), DateParser.parseLocalDateTime(text, datePattern));
+                assertEquals(DateParser.parseLocalDate(text, formatter), DateParser.parseLocalDate(text, datePattern));
+                assertEquals(DateParser.parseLocalTime(text, formatter), DateParser.parseLocalTime(text, datePattern));
+            }
+        }
+    }
+
+    @Test
+    void parseFallback() {
+        // 宽松解析规则由 DateTimeFormatter 处理
+        assertEquals(DateParser.parseLocalDate("2022-02-30", DateFormatter.NORMAL_DATE),
+                DateParser.parseLocalDate("2022-02-30", DatePattern.NORMAL_DATE));
+        assertEquals(DateParser.parseLocalDateTime("2022-02-28 24:00:00", DateFormatter.NORMAL_DATE_TIME_SECOND),
+                DateParser.parseLocalDateTime("2022-02-28 24:00:00", DatePattern.NORMAL_DATE_TIME_SECOND));
+        assertThrows(DateTimeParseException.class, () -> DateParser.parseLocalDateTime("2022-13-01 00:00:00", DatePattern.NORMAL_DATE_TIME_SECOND));
+        assertThrows(DateTimeParseException.class, () -> DateParser.parseLocalDate("2022/08/21", DatePattern.NORMAL_DATE));
+        assertThrows(DateTimeParseException.class, () -> DateParser.parseLocalDate("2022-08-21 ", DatePattern.NORMAL_DATE));
+    }
+
+    @Test
+    void parseErrorIndex() {
+        assertEquals(~4, DateLayout.of(DatePattern.NORMAL_DATE).parse("2022/08/21", 0));
+        assertEquals(~5, DateLayout.of(DatePattern.NORMAL_DATE).parse("2022-13-21", 0));
+        assertEquals(~8, DateLayout.of(DatePattern.CHINESE_DATE).parse("2022年02月30日", 0));
+        assertTrue(DateLayout.of(DatePattern.CHINESE_DATE_TIME_MILLI).parse("2022年08月21日16时54分30秒123毫秒", 0) >= 0);
+    }
+
+    @Test
+    void isLenient() {
+        DateLayout date = DateLayout.of(DatePattern.NORMAL_DATE);
+        assertTrue(date.isLenient("2022/08/21", 0, ~(int) date.parse("2022/08/21", 0)));
+        assertTrue(date.isLenient("2022-02-30", 0, ~(int) date.parse("2022-02-30", 0)));
+        assertFalse(date.isLenient("2022-13-21", 0, ~(int) date.parse("2022-13-21", 0)));
+        assertFalse(date.isLenient("2022-02-32", 0, ~(int) date.parse("2022-02-32", 0)));
+        assertFalse(date.isLenient("0000-02-01", 0, ~(int) date.parse("0000-02-01", 0)));
+        DateLayout time = DateLayout.of(DatePattern.NORMAL_TIME);
+        assertTrue(time.isLenient("[24:00:00]", 1, ~(int) time.parse("[24:00:00]", 1)));
+        assertFalse(time.isLenient("[25:00:00]", 1, ~(int) time.parse("[25:00:00]", 1)));
+        assertFalse(time.isLenient("[23:60:00]", 1, ~(int) time.parse("[23:60:00]", 1)));
+    }
+
+    @Test
+    void compile() {
+        assertNotNull(DateLayout.compile("yyyy/MM/dd HH:mm"));
+        assertNull(DateLayout.compile("yyyy-MMM-dd"));
+        assertNull(DateLayout.compile("yy-MM-dd"));
+        assertNull(DateLayout.compile("yyyy-MM-dd'T'HH:mm"));
+        assertNull(DateLayout.compile("yyyy0MM"));
+    }
+
+    @Test
+    void formatOutOfRange() {
+        LocalDateTime localDateTime = LocalDateTime.of(12022, 8, 21, 16, 54, 30);
+        assertEquals(DateFormatter.NORMAL_DATE.format(localDateTime), DateFormatter.format(localDateTime, DatePattern.NORMAL_DATE));
+    }
+
+    @Test
+    void formatTo() {
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime localDateTime = randomLocalDateTime();
+            for (DatePattern datePattern : DatePattern.values()) {
+                String expected = DateFormatter.ofDatePattern(datePattern).format(localDateTime);
+                assertEquals(expected, DateFormatter.formatTo(localDateTime, datePattern, new StringBuilder()).toString());
+                assertEquals(expected, DateFormatter.formatTo(localDateTime, datePattern, new StringWriter()).toString());
+            }
+        }
+    }
+
+    private LocalDateTime randomLocalDateTime() {
+        return LocalDateTime.of(1 + random.nextInt(9999), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+    }
+}
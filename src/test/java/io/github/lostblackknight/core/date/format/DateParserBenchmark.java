@@ -0,0 +1,100 @@
+package io.github.lostblackknight.core.date.format;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import static java.time.temporal.ChronoField.*;
+
+/**
+ * {@link DateParser#parseLocalDateTime(CharSequence, DateTimeFormatter)} 的基准测试
+ * <p>multiParse 为逐个字段重复解析文本的旧实现，singleParse 为只解析一次的实现，fixedParse 为内置格式的定长解析；
+ * invalidParse 和 invalidTryParse 比较无效文本抛出异常与返回 null 的开销；
+ * loopParse 和 autoParse 比较逐个尝试格式并捕获异常与自动识别格式的开销
+ *
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 11:05
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParserBenchmark {
+
+    private final DateTimeFormatter formatter = DateFormatter.NORMAL_DATE_TIME_SECOND;
+
+    private final String text = "2022-08-21 16:54:30";
+
+    private final String invalidText = "2022-08-21 16:5x:30";
+
+    private final String chineseText = "2022年08月21日16时54分30秒";
+
+    @Benchmark
+    public LocalDateTime multiParse() {
+        int year = new DateParser.ParseHandler(formatter.parse(text), YEAR).handle();
+        int month = new DateParser.ParseHandler(formatter.parse(text), MONTH_OF_YEAR).handle();
+        int dayOfMonth = new DateParser.ParseHandler(formatter.parse(text), DAY_OF_MONTH).handle();
+        int hour = new DateParser.ParseHandler(formatter.parse(text), HOUR_OF_DAY).handle();
+        int minute = new DateParser.ParseHandler(formatter.parse(text), MINUTE_OF_HOUR).handle();
+        int second = new DateParser.ParseHandler(formatter.parse(text), SECOND_OF_MINUTE).handle();
+        int nanoOfSecond = new DateParser.ParseHandler(formatter.parse(text), NANO_OF_SECOND).handle();
+        return LocalDateTime.of(LocalDate.of(year, month, dayOfMonth), LocalTime.of(hour, minute, second, nanoOfSecond));
+    }
+
+    @Benchmark
+    public LocalDateTime singleParse() {
+        return DateParser.parseLocalDateTime(text, formatter);
+    }
+
+    @Benchmark
+    public LocalDateTime fixedParse() {
+        return DateParser.parseLocalDateTime(text, DatePattern.NORMAL_DATE_TIME_SECOND);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DateParserBenchmark.class.getSimpleName()).build()).run();
+    }
+
+
+    @Benchmark
+    public LocalDateTime invalidParse() {
+        try {
+            return DateParser.parseLocalDateTime(invalidText, DatePattern.NORMAL_DATE_TIME_SECOND);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public LocalDateTime invalidTryParse() {
+        return DateParser.tryParseLocalDateTime(invalidText, DatePattern.NORMAL_DATE_TIME_SECOND);
+    }
+
+
+    @Benchmark
+    public LocalDateTime loopParse() {
+        for (DatePattern datePattern : DatePattern.values()) {
+            try {
+                return DateParser.parseLocalDateTime(chineseText, datePattern);
+            } catch (DateTimeException e) {
+                // 尝试下一个格式
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public LocalDateTime autoParse() {
+        return DateParser.parseAuto(chineseText);
+    }
+}
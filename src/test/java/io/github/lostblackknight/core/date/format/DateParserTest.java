@@ -0,0 +1,253 @@
+package io.github.lostblackknight.core.date.format;
+
+import io.github.lostblackknight.core.date.ZoneContext;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.time.temporal.ChronoField.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 11:20
+ */
+class DateParserTest {
+
+    private final LocalDateTime localDateTime = LocalDateTime.of(2022, 8, 21, 16, 54, 30, 123_000_000);
+
+    @Test
+    void parseLocalDateTime() {
+        for (DatePattern datePattern : DatePattern.values()) {
+            DateTimeFormatter formatter = DateFormatter.ofDatePattern(datePattern);
+            String text = formatter.format(datePattern.pattern().contains("y") ? localDateTime : localDateTime.toLocalTime());
+            assertEquals(parseField(text, formatter), DateParser.parseLocalDateTime(text, formatter), datePattern.name());
+        }
+    }
+
+    @Test
+    void parseLocalDate() {
+        System.out.println(DateParser.parseLocalDate("2022-08", DateFormatter.NORMAL_MONTH));
+        assertEquals(LocalDate.of(2022, 8, 1), DateParser.parseLocalDate("2022-08", DateFormatter.NORMAL_MONTH));
+    }
+
+    @Test
+    void parseLocalTime() {
+        System.out.println(DateParser.parseLocalTime("2022-08-21 16:54", DateFormatter.NORMAL_DATE_TIME_MINUTE));
+        assertEquals(LocalTime.of(16, 54), DateParser.parseLocalTime("2022-08-21 16:54", DateFormatter.NORMAL_DATE_TIME_MINUTE));
+    }
+
+    /**
+     * 逐个字段解析的实现，作为对照
+     */
+    private static LocalDateTime parseField(CharSequence text, DateTimeFormatter formatter) {
+        int year = new DateParser.ParseHandler(formatter.parse(text), YEAR).handle();
+        int month = new DateParser.ParseHandler(formatter.parse(text), MONTH_OF_YEAR).handle();
+        int dayOfMonth = new DateParser.ParseHandler(formatter.parse(text), DAY_OF_MONTH).handle();
+        int hour = new DateParser.ParseHandler(formatter.parse(text), HOUR_OF_DAY).handle();
+        int minute = new DateParser.ParseHandler(formatter.parse(text), MINUTE_OF_HOUR).handle();
+        int second = new DateParser.ParseHandler(formatter.parse(text), SECOND_OF_MINUTE).handle();
+        int nanoOfSecond = new DateParser.ParseHandler(formatter.parse(text), NANO_OF_SECOND).handle();
+        return LocalDateTime.of(year, month, dayOfMonth, hour, minute, second, nanoOfSecond);
+    }
+
+
+    @Test
+    void tryParseEquivalent() {
+        String[] samples = {"2022-08-21 16:54:30", "2022-02-30 10:00:00", "2022-13-01 10:00:00", "2022-08-21 24:00:00",
+                "2022-08-21", "16:54:30", "20220821165430", "2022年08月21日 16时54分30秒", "", "abc", "2022-08-21 16:54:30x"};
+        for (DatePattern datePattern : DatePattern.values()) {
+            for (String sample : samples) {
+                LocalDateTime expected;
+                try {
+                    expected = DateParser.parseLocalDateTime(sample, datePattern);
+                } catch (DateTimeException e) {
+                    expected = null;
+                }
+                assertEquals(expected, DateParser.tryParseLocalDateTime(sample, datePattern), datePattern + " " + sample);
+                assertEquals(expected, DateParser.tryParseLocalDateTime(sample, datePattern.pattern()), datePattern + " " + sample);
+            }
+        }
+    }
+
+    @Test
+    void tryParseMatchesDateTimeFormatter() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (DatePattern datePattern : DatePattern.values()) {
+            DateTimeFormatter formatter = DateFormatter.ofDatePattern(datePattern);
+            for (int i = 0; i < 2000; i++) {
+                String text = randomText(datePattern.pattern(), random);
+                LocalDateTime expected;
+                try {
+                    expected = DateParser.parseLocalDateTime(text, formatter);
+                } catch (DateTimeException e) {
+                    expected = null;
+                }
+                assertEquals(expected, DateParser.tryParseLocalDateTime(new StringBuilder(text), datePattern), datePattern + " " + text);
+                assertEquals(expected, DateParser.tryParseLocalDateTime(new StringBuilder(text), formatter), datePattern + " " + text);
+                // 在更长的 CharSequence 中间解析
+                StringBuilder line = new StringBuilder("[").append(text).append("]");
+                ParsePosition position = new ParsePosition(1);
+                assertEquals(expected, DateParser.tryParseLocalDateTime(line, position, datePattern), datePattern + " " + text);
+                assertEquals(expected == null ? 1 : text.length() + 1, position.getIndex(), datePattern + " " + text);
+            }
+        }
+        // SMART 规则：日超出当月的天数时取月末，24:00:00 为第二天的 00:00
+        assertEquals(LocalDateTime.of(2022, 2, 28, 0, 0), DateParser.tryParseLocalDateTime(new StringBuilder("2022-02-30"), DatePattern.NORMAL_DATE));
+        assertEquals(LocalDateTime.of(2024, 2, 29, 0, 0), DateParser.tryParseLocalDateTime(new StringBuilder("2024年02月31日"), DatePattern.CHINESE_DATE));
+        assertEquals(LocalDateTime.of(2023, 1, 1, 0, 0), DateParser.tryParseLocalDateTime(new StringBuilder("2022-12-31 24:00:00"), DatePattern.NORMAL_DATE_TIME_SECOND));
+        assertEquals(LocalTime.MIDNIGHT, DateParser.tryParseLocalTime(new StringBuilder("240000"), DatePattern.SIMPLE_TIME));
+        assertNull(DateParser.tryParseLocalDateTime(new StringBuilder("2022-12-31 24:00:01"), DatePattern.NORMAL_DATE_TIME_SECOND));
+        assertNull(DateParser.tryParseLocalDate(new StringBuilder("2022-02-32"), DatePattern.NORMAL_DATE));
+    }
+
+    /**
+     * 按格式生成文本，字段值可能超出范围
+     */
+    private static String randomText(String pattern, ThreadLocalRandom random) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < pattern.length(); ) {
+            char c = pattern.charAt(i);
+            int end = i;
+            while (end < pattern.length() && pattern.charAt(end) == c) {
+                end++;
+            }
+            int width = end - i;
+            int bound;
+            switch (c) {
+                case 'y':
+                    bound = random.nextInt(10) == 0 ? 10 : 10000;
+                    break;
+                case 'M':
+                    bound = 14;
+                    break;
+                case 'd':
+                    bound = 33;
+                    break;
+                case 'H':
+                    bound = 26;
+                    break;
+                case 'm':
+                case 's':
+                    bound = random.nextInt(4) == 0 ? 62 : 60;
+                    break;
+                case 'S':
+                    bound = 1000;
+                    break;
+                default:
+                    text.append(pattern, i, end);
+                    i = end;
+                    continue;
+            }
+            // 小时为 24 时多半让分、秒为 0，覆盖 24:00:00
+            int value = c != 'y' && c != 'S' && text.length() > 0 && random.nextInt(3) == 0 ? 0 : random.nextInt(bound);
+            if (c == 'H' && random.nextInt(4) == 0) {
+                value = 24;
+            }
+            String digits = String.valueOf(value);
+            for (int j = digits.length(); j < width; j++) {
+                text.append('0');
+            }
+            text.append(digits);
+            i = end;
+        }
+        return text.toString();
+    }
+
+    @Test
+    void tryParsePosition() {
+        String text = "2022-08-21 16:54:30,2022-13-21 16:54:30,2022-08-22 08:00:00";
+        ParsePosition position = new ParsePosition(0);
+        assertEquals(LocalDateTime.of(2022, 8, 21, 16, 54, 30), DateParser.tryParseLocalDateTime(text, position, DatePattern.NORMAL_DATE_TIME_SECOND));
+        assertEquals(19, position.getIndex());
+        position.setIndex(20);
+        assertNull(DateParser.tryParseLocalDateTime(text, position, DatePattern.NORMAL_DATE_TIME_SECOND));
+        assertEquals(20, position.getIndex());
+        // 13 月由定长布局直接拒绝，errorIndex 为月份的位置
+        assertEquals(25, position.getErrorIndex());
+        position = new ParsePosition(40);
+        assertEquals(LocalDate.of(2022, 8, 22), DateParser.tryParseLocalDate(text, position, DatePattern.NORMAL_DATE));
+        assertEquals(50, position.getIndex());
+        assertEquals(LocalTime.of(8, 0), DateParser.tryParseLocalTime(text, new ParsePosition(51), DatePattern.NORMAL_TIME));
+
+        position = new ParsePosition(0);
+        assertNull(DateParser.tryParseLocalDateTime("2022-08-21 16:5x:30", position, DatePattern.NORMAL_DATE_TIME_SECOND));
+        assertEquals(0, position.getIndex());
+        assertEquals(14, position.getErrorIndex());
+
+        position = new ParsePosition(100);
+        assertNull(DateParser.tryParseLocalDate(text, position, DateFormatter.NORMAL_DATE));
+        assertEquals(100, position.getErrorIndex());
+    }
+
+    @Test
+    void tryParseFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy/M/d");
+        assertEquals(LocalDate.of(2022, 8, 1), DateParser.tryParseLocalDate("2022/8/1", formatter));
+        assertNull(DateParser.tryParseLocalDate("2022/8/1/", formatter));
+        assertNull(DateParser.tryParseLocalDate("2022/18/1", formatter));
+        assertNull(DateParser.tryParseLocalDate("02-29", DateTimeFormatter.ofPattern("MM-dd")));
+    }
+
+
+    @Test
+    void parseEpochMillis() {
+        List<String> src = Arrays.asList("2022-08-21 16:54:30", null, "2022-13-21 16:54:30", "2022-02-30 00:00:00", "", "2022-08-21 16:54:30.123");
+        long[] dst = new long[src.size()];
+        BitSet bad = DateParser.parseEpochMillis(src, DatePattern.NORMAL_DATE_TIME_SECOND, dst);
+        assertEquals("{1, 2, 4, 5}", bad.toString());
+        assertEquals(LocalDateTime.of(2022, 8, 21, 16, 54, 30).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), dst[0]);
+        assertEquals(LocalDateTime.of(2022, 2, 28, 0, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), dst[3]);
+        assertThrows(IllegalArgumentException.class, () -> DateParser.parseEpochMillis(src, DatePattern.NORMAL_DATE, new long[1]));
+        bad = DateParser.parseEpochMillis(new LinkedList<>(src), "yyyy-MM-dd HH:mm:ss.SSS", dst);
+        assertEquals("{0, 1, 2, 3, 4}", bad.toString());
+        assertEquals(LocalDateTime.of(2022, 8, 21, 16, 54, 30, 123_000_000).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), dst[5]);
+    }
+
+    @Test
+    void parseEpochMillisParallel() {
+        for (String zoneId : new String[]{"America/New_York", "Europe/London", "Asia/Shanghai", "Australia/Lord_Howe", "UTC"}) {
+            ZoneId zone = ZoneId.of(zoneId);
+            int size = BulkParseTask.THRESHOLD * 10 + 7;
+            String[] src = new String[size];
+            long[] expected = new long[size];
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long base = LocalDateTime.of(2000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+            for (int i = 0; i < size; i++) {
+                // 按时间排序的数据包含夏令时切换的间隙和重叠
+                LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(base + i * 1800L + random.nextInt(1800), random.nextInt(1000) * 1_000_000, ZoneOffset.UTC);
+                if (random.nextInt(100) == 0) {
+                    src[i] = "bad";
+                    expected[i] = -1;
+                } else {
+                    src[i] = DateFormatter.format(localDateTime, DatePattern.NORMAL_DATE_TIME_MILLI);
+                    expected[i] = localDateTime.atZone(zone).toInstant().toEpochMilli();
+                }
+            }
+            long[] dst = new long[size];
+            Arrays.fill(dst, -1);
+            BitSet bad = new ForkJoinPool(4).invoke(new BulkParseTask(i -> src[i], DateLayout.of(DatePattern.NORMAL_DATE_TIME_MILLI),
+                    DateFormatter.NORMAL_DATE_TIME_MILLI, ZoneContext.of(zone), dst, 0, size));
+            assertArrayEquals(expected, dst, zoneId);
+            for (int i = 0; i < size; i++) {
+                assertEquals(expected[i] == -1, bad.get(i));
+            }
+        }
+    }
+}
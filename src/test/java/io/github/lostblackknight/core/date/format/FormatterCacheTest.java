@@ -0,0 +1,66 @@
+package io.github.lostblackknight.core.date.format;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author chensixiang (chensixiang1234@gmail.com)
+ * @since 2026/10/18 10:40
+ */
+class FormatterCacheTest {
+
+    private final ZoneId zone = ZoneId.of("Asia/Shanghai");
+
+    @Test
+    void get() {
+        FormatterCache cache = new FormatterCache(16);
+        DateTimeFormatter first = cache.get("yyyy-MM-dd", zone, Locale.CHINA);
+        DateTimeFormatter second = cache.get("yyyy-MM-dd", zone, Locale.CHINA);
+        assertSame(first, second);
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.hitCount());
+        assertEquals("2022-08-21", first.format(LocalDateTime.of(2022, 8, 21, 9, 43)));
+        System.out.println(cache);
+    }
+
+    @Test
+    void differentZoneAndLocale() {
+        FormatterCache cache = new FormatterCache(16);
+        DateTimeFormatter shanghai = cache.get("yyyy-MM-dd", zone, Locale.CHINA);
+        DateTimeFormatter utc = cache.get("yyyy-MM-dd", ZoneId.of("UTC"), Locale.CHINA);
+        DateTimeFormatter us = cache.get("yyyy-MM-dd", zone, Locale.US);
+        assertNotSame(shanghai, utc);
+        assertNotSame(shanghai, us);
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void evict() {
+        FormatterCache cache = new FormatterCache(8);
+        for (int i = 0; i < 1000; i++) {
+            cache.get("yyyy-MM-dd '" + i + "'", zone, Locale.CHINA);
+        }
+        assertTrue(cache.size() <= cache.maximumSize());
+        assertTrue(cache.evictionCount() >= 1000 - 8);
+        System.out.println(cache);
+    }
+
+    @Test
+    void invalidPattern() {
+        FormatterCache cache = new FormatterCache(8);
+        assertThrows(IllegalArgumentException.class, () -> cache.get("yyyy-MM-dd {", zone, Locale.CHINA));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void ofPattern() {
+        assertSame(DateFormatter.ofPattern("yyyy/MM/dd"), DateFormatter.ofPattern("yyyy/MM/dd"));
+        System.out.println(DateFormatter.cache());
+    }
+}